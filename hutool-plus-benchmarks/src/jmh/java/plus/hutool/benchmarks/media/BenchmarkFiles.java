@@ -0,0 +1,180 @@
+package plus.hutool.benchmarks.media;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.util.StrUtil;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import plus.hutool.core.io.TempScope;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.media.image.ImageUtils;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+
+/**
+ * 基准测试的输入文件
+ * <p>
+ * 样例文件直接使用媒体模块单元测试的测试文件（目录由系统属性 {@link #TEST_FILES_DIR_PROPERTY} 指定，
+ * 默认按照在项目根目录下运行时的相对路径查找），大文件则在基准测试开始前生成到临时文件作用域中。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public abstract class BenchmarkFiles {
+
+    /**
+     * 指定测试文件根目录的系统属性
+     */
+    public static final String TEST_FILES_DIR_PROPERTY = "hutool.plus.benchmarks.test-files-dir";
+
+    private static final String DEFAULT_TEST_FILES_DIR =
+            "hutool-plus-media/src/test/resources/test-files-for-unit-test";
+
+    private static final String FILE_CATEGORY_DOCUMENT = "document";
+    private static final String FILE_CATEGORY_IMAGE = "image";
+
+    /**
+     * 生成随机内容时使用固定的种子，保证每次运行的输入相同
+     */
+    private static final long RANDOM_SEED = 20261017L;
+
+    private BenchmarkFiles() {}
+
+    /**
+     * 获取文档类样例文件（如 pdf、docx 等）
+     *
+     * @param fileExtension 文件扩展名
+     * @return 样例文件
+     */
+    public static File documentSample(String fileExtension) {
+        return resolveSampleFile(FILE_CATEGORY_DOCUMENT, fileExtension);
+    }
+
+    /**
+     * 获取图片类样例文件（如 jpg、png 等）
+     *
+     * @param fileExtension 文件扩展名
+     * @return 样例文件
+     */
+    public static File imageSample(String fileExtension) {
+        return resolveSampleFile(FILE_CATEGORY_IMAGE, fileExtension);
+    }
+
+    /**
+     * 生成大尺寸的 PNG 图片（渐变背景叠加随机色块，避免被过度压缩）
+     *
+     * @param scope  临时文件作用域
+     * @param width  图片宽度
+     * @param height 图片高度
+     * @return 生成的图片文件
+     */
+    public static File generateLargeImage(TempScope scope, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setPaint(new GradientPaint(0, 0, Color.WHITE, width, height, Color.DARK_GRAY));
+            g.fillRect(0, 0, width, height);
+
+            Random random = new Random(RANDOM_SEED);
+            int blockSize = Math.max(8, Math.min(width, height) / 64);
+            for (int i = 0; i < 4096; i++) {
+                g.setColor(new Color(random.nextInt(0xFFFFFF)));
+                g.fillRect(random.nextInt(width), random.nextInt(height), blockSize, blockSize);
+            }
+        } finally {
+            g.dispose();
+        }
+
+        File imageFile = scope.newFile(StrUtil.format("large_{}x{}.png", width, height));
+        ImageUtils.writeImageToFile(image, "png", imageFile);
+        return imageFile;
+    }
+
+    /**
+     * 生成多页的 PDF 文件（每页若干行文本）
+     *
+     * @param scope     临时文件作用域
+     * @param pageCount 页数
+     * @return 生成的 PDF 文件
+     */
+    public static File generateLargePdf(TempScope scope, int pageCount) {
+        File pdfFile = scope.newFile(StrUtil.format("large_{}_pages.pdf", pageCount));
+        try (PDDocument document = new PDDocument()) {
+            for (int pageNumber = 1; pageNumber <= pageCount; pageNumber++) {
+                PDPage page = new PDPage(PDRectangle.A4);
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 11);
+                    content.setLeading(14);
+                    content.newLineAtOffset(50, 780);
+                    for (int line = 1; line <= 50; line++) {
+                        content.showText(StrUtil.format("Page {} line {}: The quick brown fox jumps over the lazy dog.",
+                                pageNumber, line));
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(pdfFile);
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+        return pdfFile;
+    }
+
+    /**
+     * 生成大数据量的 XLSX 文件（单个工作表，数字和文本混合）
+     *
+     * @param scope       临时文件作用域
+     * @param rowCount    行数
+     * @param columnCount 列数
+     * @return 生成的 XLSX 文件
+     */
+    public static File generateLargeXlsx(TempScope scope, int rowCount, int columnCount) {
+        File xlsxFile = scope.newFile(StrUtil.format("large_{}_rows.xlsx", rowCount));
+        Random random = new Random(RANDOM_SEED);
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100); OutputStream out = FileUtil.getOutputStream(xlsxFile)) {
+            Sheet sheet = workbook.createSheet("data");
+            for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+                Row row = sheet.createRow(rowIndex);
+                for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+                    if (rowIndex == 0) {
+                        row.createCell(columnIndex).setCellValue("column_" + columnIndex);
+                    } else if (columnIndex % 2 == 0) {
+                        row.createCell(columnIndex).setCellValue(random.nextInt(1_000_000));
+                    } else {
+                        row.createCell(columnIndex).setCellValue("text_" + rowIndex + "_" + columnIndex);
+                    }
+                }
+            }
+            workbook.write(out);
+            workbook.dispose();
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+        return xlsxFile;
+    }
+
+    private static File resolveSampleFile(String fileCategory, String fileExtension) {
+        String testFilesDir = System.getProperty(TEST_FILES_DIR_PROPERTY, DEFAULT_TEST_FILES_DIR);
+        File sampleFile = FileUtil.file(testFilesDir, fileCategory, fileExtension, "test." + fileExtension);
+        Asserts.isTrue(sampleFile.isFile(), "基准测试的样例文件不存在: {}", sampleFile.getAbsolutePath());
+        return sampleFile;
+    }
+}
@@ -0,0 +1,72 @@
+package plus.hutool.benchmarks.media;
+
+import cn.hutool.core.io.FileUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import plus.hutool.core.io.TempScope;
+import plus.hutool.core.io.TempSpaceManager;
+import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.converter.file.FileConvertUtils;
+import plus.hutool.media.converter.file.impl.pdf.MsOfficeExcelAndPowerpointToPdfConverter;
+import plus.hutool.media.converter.file.impl.pdf.SpreadsheetToPdfMode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+
+/**
+ * 文件转换为 PDF 的基准测试（{@link FileConvertUtils#convertToPdf(java.io.InputStream, String, java.io.OutputStream,
+ * FileConvertConfig)}）
+ * <p>
+ * 来源文件预先读入内存，转换结果写入内存中的输出流，基准测试只统计转换本身的开销（不启用结果缓存）。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class FileConversionBenchmark {
+
+    @Param({"sample:docx", "sample:xlsx", "sample:ofd", "sample:txt", "generated-xlsx:20000"})
+    private String input;
+
+    private TempScope inputScope;
+    private String srcFilename;
+    private byte[] srcBytes;
+    private FileConvertConfig config;
+
+    @Setup
+    public void setUp() {
+        inputScope = TempSpaceManager.getDefault().openScope("benchmark-conversion-input");
+        config = new FileConvertConfig(false);
+
+        String[] parts = input.split(":");
+        File srcFile;
+        if ("sample".equals(parts[0])) {
+            srcFile = BenchmarkFiles.documentSample(parts[1]);
+        } else {
+            srcFile = BenchmarkFiles.generateLargeXlsx(inputScope, Integer.parseInt(parts[1]), 12);
+            config.addCustomConfig(MsOfficeExcelAndPowerpointToPdfConverter.CONFIG_KEY_SPREADSHEET_MODE,
+                    SpreadsheetToPdfMode.STREAMING);
+        }
+        srcFilename = srcFile.getName();
+        srcBytes = FileUtil.readBytes(srcFile);
+    }
+
+    @TearDown
+    public void tearDown() {
+        inputScope.close();
+    }
+
+    @Benchmark
+    public byte[] convertToPdf() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(srcBytes.length);
+        FileConvertUtils.convertToPdf(new ByteArrayInputStream(srcBytes), srcFilename, out, config);
+        return out.toByteArray();
+    }
+}
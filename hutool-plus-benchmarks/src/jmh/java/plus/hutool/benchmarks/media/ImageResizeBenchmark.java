@@ -0,0 +1,71 @@
+package plus.hutool.benchmarks.media;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import plus.hutool.core.io.TempScope;
+import plus.hutool.core.io.TempSpaceManager;
+import plus.hutool.media.image.ImageUtils;
+
+import java.io.File;
+
+/**
+ * 图片缩放的基准测试（{@link ImageUtils#resizeImage(File, Integer, TempScope)}）
+ * <p>
+ * 输入包括单元测试中的样例图片和生成的大尺寸图片；缩放结果写入每轮迭代独立的临时文件作用域，迭代结束后删除。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class ImageResizeBenchmark {
+
+    @Param({"sample:jpg", "sample:png", "generated:4000x3000"})
+    private String input;
+
+    @Param({"256", "1024"})
+    private int targetSize;
+
+    private TempScope inputScope;
+    private TempScope outputScope;
+    private File imageFile;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        inputScope = TempSpaceManager.getDefault().openScope("benchmark-image-input");
+        String[] parts = input.split(":");
+        if ("sample".equals(parts[0])) {
+            imageFile = BenchmarkFiles.imageSample(parts[1]);
+        } else {
+            String[] size = parts[1].split("x");
+            imageFile = BenchmarkFiles.generateLargeImage(inputScope,
+                    Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        outputScope = TempSpaceManager.getDefault().openScope("benchmark-image-output");
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() {
+        outputScope.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        inputScope.close();
+    }
+
+    @Benchmark
+    public File resizeImage() {
+        return ImageUtils.resizeImage(imageFile, targetSize, outputScope);
+    }
+}
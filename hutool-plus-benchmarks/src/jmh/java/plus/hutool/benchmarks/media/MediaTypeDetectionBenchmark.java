@@ -0,0 +1,48 @@
+package plus.hutool.benchmarks.media;
+
+import cn.hutool.core.io.FileUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.content.type.MediaTypeUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+
+/**
+ * 媒体类型探测的基准测试（{@link MediaTypeUtils#detectMediaType}）
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class MediaTypeDetectionBenchmark {
+
+    @Param({"document:pdf", "document:docx", "document:xlsx", "document:ofd", "document:txt", "image:jpg", "image:png"})
+    private String sample;
+
+    private File sampleFile;
+    private byte[] sampleBytes;
+
+    @Setup
+    public void setUp() {
+        String[] parts = sample.split(":");
+        sampleFile = "image".equals(parts[0])
+                ? BenchmarkFiles.imageSample(parts[1]) : BenchmarkFiles.documentSample(parts[1]);
+        sampleBytes = FileUtil.readBytes(sampleFile);
+    }
+
+    @Benchmark
+    public MediaType detectFromFile() {
+        return MediaTypeUtils.detectMediaType(sampleFile);
+    }
+
+    @Benchmark
+    public MediaType detectFromStream() {
+        return MediaTypeUtils.detectMediaType(new ByteArrayInputStream(sampleBytes), sampleFile.getName());
+    }
+}
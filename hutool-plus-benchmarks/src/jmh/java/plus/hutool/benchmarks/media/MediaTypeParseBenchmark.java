@@ -0,0 +1,59 @@
+package plus.hutool.benchmarks.media;
+
+import cn.hutool.core.util.ReUtil;
+import cn.hutool.core.util.StrUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.content.type.MediaTypeParser;
+import plus.hutool.media.content.type.internal.MainMediaType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 媒体类型字符串解析的基准测试（{@link MediaTypeParser} 对比原来的 正则 + 小写转换 + 截取子串 的解析方式）
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class MediaTypeParseBenchmark {
+
+    @Param({"application/pdf", "text/plain; charset=UTF-8", "Application/X-GZIP",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document"})
+    private String mediaTypeStr;
+
+    /**
+     * 原来的解析方式使用的 完整媒体类型字符串 到 {@link MediaType} 的缓存
+     */
+    private final Map<String, MediaType> legacyCache = new HashMap<>();
+
+    @Setup
+    public void setUp() {
+        MediaType mediaType = MediaTypeParser.parse(mediaTypeStr);
+        legacyCache.put(legacyNormalize(mediaTypeStr), mediaType);
+    }
+
+    @Benchmark
+    public MediaType singlePassParser() {
+        return MediaTypeParser.parse(mediaTypeStr);
+    }
+
+    @Benchmark
+    public MediaType legacyRegexParser() {
+        String normalized = legacyNormalize(mediaTypeStr);
+        int separatorIndex = normalized.indexOf('/');
+        MainMediaType mainType = MainMediaType.of(normalized.substring(0, separatorIndex));
+        String subType = normalized.substring(separatorIndex + 1);
+        return legacyCache.get(StrUtil.format("{}/{}", mainType.strValue(), subType.toLowerCase()));
+    }
+
+    private static String legacyNormalize(String str) {
+        return ReUtil.delAll("\\s*;.*", str).toLowerCase();
+    }
+}
@@ -0,0 +1,52 @@
+package plus.hutool.benchmarks.media;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import plus.hutool.core.io.TempScope;
+import plus.hutool.core.io.TempSpaceManager;
+import plus.hutool.media.document.pdf.PdfUtils;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * PDF 页面渲染为图片数据的基准测试（{@link PdfUtils#extractPdfPagesToRawImageDataList(File)}）
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class PdfRenderBenchmark {
+
+    @Param({"sample", "generated:20"})
+    private String input;
+
+    private TempScope inputScope;
+    private File pdfFile;
+
+    @Setup
+    public void setUp() {
+        inputScope = TempSpaceManager.getDefault().openScope("benchmark-pdf-input");
+        if ("sample".equals(input)) {
+            pdfFile = BenchmarkFiles.documentSample("pdf");
+        } else {
+            int pageCount = Integer.parseInt(input.substring(input.indexOf(':') + 1));
+            pdfFile = BenchmarkFiles.generateLargePdf(inputScope, pageCount);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        inputScope.close();
+    }
+
+    @Benchmark
+    public List<byte[]> extractPdfPagesToRawImageDataList() {
+        return PdfUtils.extractPdfPagesToRawImageDataList(pdfFile);
+    }
+}
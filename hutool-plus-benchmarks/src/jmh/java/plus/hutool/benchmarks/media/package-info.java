@@ -0,0 +1,9 @@
+/**
+ * 媒体模块（hutool-plus-media）的 JMH 基准测试
+ */
+@NonNullApi
+@NonNullFields
+package plus.hutool.benchmarks.media;
+
+import plus.hutool.core.lang.annotation.NonNullApi;
+import plus.hutool.core.lang.annotation.NonNullFields;
@@ -0,0 +1,106 @@
+package plus.hutool.core.io;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.core.text.string.StrUtils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 临时文件作用域（由 {@link TempSpaceManager#openScope(String)} 创建，配合 try-with-resources 使用）
+ * <p>
+ * 作用域内创建的临时文件共享同一个作用域目录，关闭作用域时整个目录一并删除（可重复关闭）。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public final class TempScope implements Closeable {
+
+    private final TempSpaceManager manager;
+    private final File dir;
+    private final AtomicInteger subDirCounter = new AtomicInteger();
+
+    private volatile boolean closed = false;
+
+    TempScope(TempSpaceManager manager, File dir) {
+        this.manager = manager;
+        this.dir = dir;
+    }
+
+    /**
+     * 在作用域中创建指定名称的文件（同名文件已存在时，创建在作用域目录下的编号子目录中）
+     *
+     * @param filename 文件名
+     * @return 创建的文件
+     */
+    public File newFile(String filename) {
+        checkNotClosed();
+        manager.checkQuota();
+        File file = new File(dir, filename);
+        while (file.exists()) {
+            file = new File(new File(dir, String.valueOf(subDirCounter.incrementAndGet())), filename);
+        }
+        return FileUtil.touch(file);
+    }
+
+    /**
+     * 在作用域中创建随机命名的文件
+     *
+     * @param fileExtension 文件扩展名（不含点号，可为空）
+     * @return 创建的文件
+     */
+    public File newRandomNamedFile(@Nullable String fileExtension) {
+        String filename = RandomUtil.randomString(TempSpaceManager.RANDOM_NAME_LENGTH);
+        if (StrUtil.isNotBlank(fileExtension)) {
+            filename += StrUtils.DOT + fileExtension;
+        }
+        return newFile(filename);
+    }
+
+    /**
+     * 在作用域中创建指定名称的目录
+     *
+     * @param dirname 目录名
+     * @return 创建的目录
+     */
+    public File newDir(String dirname) {
+        checkNotClosed();
+        manager.checkQuota();
+        return FileUtil.mkdir(new File(dir, dirname));
+    }
+
+    /**
+     * 获取作用域目录
+     *
+     * @return 作用域目录
+     */
+    public File getDir() {
+        return dir;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 关闭作用域并删除作用域目录中的全部文件
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            manager.releaseScope(dir);
+        }
+    }
+
+    private void checkNotClosed() {
+        Asserts.isTrue(!closed, "临时文件作用域已关闭: {}", dir.getAbsolutePath());
+    }
+}
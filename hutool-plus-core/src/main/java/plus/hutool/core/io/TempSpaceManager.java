@@ -0,0 +1,445 @@
+package plus.hutool.core.io;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.SystemPropsUtil;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.core.measure.util.FileSizeUtils;
+import plus.hutool.core.text.string.StrUtils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 临时空间管理器
+ * <p>
+ * 所有临时文件和目录都创建在管理器的根目录（{@code <基础目录>/hutool-plus-temp}）下，并提供以下能力：
+ * <ul>
+ *     <li>作用域：通过 {@link #openScope(String)} 打开的 {@link TempScope} 在关闭时删除其中的全部临时文件，
+ *     一组相关的临时文件共享一个目录（位于根目录下的 {@link #SCOPES_DIRNAME} 子目录中），避免为每个文件单独创建随机目录</li>
+ *     <li>配额：创建临时文件前检查根目录的总占用，超出配额时先清理孤儿作用域，仍然超出则抛出异常</li>
+ *     <li>孤儿清理：删除被遗弃的作用域目录，即不属于活动作用域（未关闭且未被垃圾回收的 {@link TempScope}）、
+ *     并且目录中所有条目都超过 {@link #getOrphanMaxAgeMillis()} 未修改的作用域目录（如进程崩溃后遗留的作用域目录）。
+ *     交给调用方的文件（{@code createXxx} 方法创建的文件）由调用方负责删除，永远不会被清理。
+ *     后台定期清理默认不启用，需要在创建管理器时指定清理间隔</li>
+ *     <li>内存盘：基础目录可以使用 {@link #RAM_DISK_DIR} 等基于内存的文件系统，减少小文件的磁盘 IO</li>
+ * </ul>
+ * </p>
+ * <p>
+ * 默认管理器（{@link #getDefault()}）可以通过以下系统属性配置：{@link #PROP_BASE_DIR}、{@link #PROP_QUOTA_BYTES}、
+ * {@link #PROP_USE_RAM_DISK}、{@link #PROP_ORPHAN_MAX_AGE_MILLIS}、{@link #PROP_ORPHAN_CLEANUP_INTERVAL_MILLIS}。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class TempSpaceManager implements Closeable {
+
+    /**
+     * 系统属性: 基础目录（默认为 java.io.tmpdir）
+     */
+    public static final String PROP_BASE_DIR = "hutool.plus.temp.dir";
+
+    /**
+     * 系统属性: 配额（字节数，默认不限制）
+     */
+    public static final String PROP_QUOTA_BYTES = "hutool.plus.temp.quota";
+
+    /**
+     * 系统属性: 是否优先使用内存盘作为基础目录（默认为否）
+     */
+    public static final String PROP_USE_RAM_DISK = "hutool.plus.temp.use-ram-disk";
+
+    /**
+     * 系统属性: 孤儿文件的最长保留时长（毫秒数）
+     */
+    public static final String PROP_ORPHAN_MAX_AGE_MILLIS = "hutool.plus.temp.orphan-max-age";
+
+    /**
+     * 系统属性: 后台孤儿清理的间隔（毫秒数，默认为 0，即不启动后台清理）
+     */
+    public static final String PROP_ORPHAN_CLEANUP_INTERVAL_MILLIS = "hutool.plus.temp.orphan-cleanup-interval";
+
+    /**
+     * 内存盘目录（Linux）
+     */
+    public static final String RAM_DISK_DIR = "/dev/shm";
+
+    /**
+     * 管理器根目录的名称
+     */
+    public static final String ROOT_DIRNAME = "hutool-plus-temp";
+
+    /**
+     * 存放作用域目录的子目录的名称（孤儿清理只处理该子目录中的作用域目录）
+     */
+    public static final String SCOPES_DIRNAME = "scopes";
+
+    /**
+     * 不限制配额
+     */
+    public static final long UNLIMITED_QUOTA = Long.MAX_VALUE;
+
+    /**
+     * 默认的孤儿文件最长保留时长（毫秒数）
+     */
+    public static final long DEFAULT_ORPHAN_MAX_AGE_MILLIS = TimeUnit.HOURS.toMillis(24);
+
+    /**
+     * 不启动后台孤儿清理
+     */
+    public static final long NO_BACKGROUND_CLEANUP = 0;
+
+    /**
+     * 启用后台孤儿清理时建议的清理间隔（毫秒数）
+     */
+    public static final long DEFAULT_CLEANUP_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    /**
+     * 配额检查时根目录占用的统计结果的有效时长（毫秒数，避免每次创建文件都遍历根目录）
+     */
+    static final long USAGE_REFRESH_INTERVAL_MILLIS = 1000;
+
+    static final int RANDOM_NAME_LENGTH = 8;
+
+    @Nullable
+    private static volatile TempSpaceManager defaultManager;
+
+    private final File rootDir;
+    private final File scopesDir;
+    private final long quotaBytes;
+    private final long orphanMaxAgeMillis;
+    /**
+     * 作用域目录 到 作用域对象的弱引用 的映射（弱引用被清除说明作用域未关闭就被遗弃了）
+     */
+    private final Map<File, WeakReference<TempScope>> openedScopes = new ConcurrentHashMap<>();
+    @Nullable
+    private final ScheduledExecutorService cleanupExecutor;
+
+    private volatile long usageBytes = -1;
+    private volatile long usageRefreshedAtMillis = 0;
+    private final AtomicLong cleanedOrphanCount = new AtomicLong();
+
+    /**
+     * 创建临时空间管理器（不限制配额，不启动后台孤儿清理）
+     *
+     * @param baseDir 基础目录
+     */
+    public TempSpaceManager(File baseDir) {
+        this(baseDir, UNLIMITED_QUOTA, DEFAULT_ORPHAN_MAX_AGE_MILLIS, NO_BACKGROUND_CLEANUP);
+    }
+
+    /**
+     * 创建临时空间管理器
+     *
+     * @param baseDir               基础目录（管理器的根目录为其下的 {@link #ROOT_DIRNAME} 子目录）
+     * @param quotaBytes            配额（字节数，{@link #UNLIMITED_QUOTA} 表示不限制）
+     * @param orphanMaxAgeMillis    孤儿文件的最长保留时长（毫秒数）
+     * @param cleanupIntervalMillis 后台孤儿清理的间隔（毫秒数，小于等于 0 时不启动后台清理，
+     *                              参见 {@link #NO_BACKGROUND_CLEANUP}、{@link #DEFAULT_CLEANUP_INTERVAL_MILLIS}）
+     */
+    public TempSpaceManager(File baseDir, long quotaBytes, long orphanMaxAgeMillis, long cleanupIntervalMillis) {
+        Asserts.isTrue(quotaBytes > 0, "临时空间配额必须大于 0: {}", quotaBytes);
+        Asserts.isTrue(orphanMaxAgeMillis > 0, "孤儿文件的最长保留时长必须大于 0: {}", orphanMaxAgeMillis);
+
+        this.rootDir = FileUtil.mkdir(new File(baseDir, ROOT_DIRNAME));
+        this.scopesDir = new File(rootDir, SCOPES_DIRNAME);
+        this.quotaBytes = quotaBytes;
+        this.orphanMaxAgeMillis = orphanMaxAgeMillis;
+
+        if (cleanupIntervalMillis > 0) {
+            cleanupExecutor = Executors.newSingleThreadScheduledExecutor(
+                    ThreadFactoryBuilder.create().setNamePrefix("temp-space-cleaner-").setDaemon(true).build());
+            cleanupExecutor.scheduleWithFixedDelay(this::cleanOrphansQuietly, 0, cleanupIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            cleanupExecutor = null;
+        }
+    }
+
+    /**
+     * 获取默认的临时空间管理器（首次调用时根据系统属性创建）
+     *
+     * @return 默认的临时空间管理器
+     */
+    public static TempSpaceManager getDefault() {
+        TempSpaceManager result = defaultManager;
+        if (result == null) {
+            synchronized (TempSpaceManager.class) {
+                result = defaultManager;
+                if (result == null) {
+                    result = createDefault();
+                    defaultManager = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 替换默认的临时空间管理器（原有的管理器不会被关闭）
+     *
+     * @param manager 新的默认临时空间管理器
+     */
+    public static void setDefault(TempSpaceManager manager) {
+        defaultManager = manager;
+    }
+
+    /**
+     * 解析基础目录：优先使用内存盘时，如果 {@link #RAM_DISK_DIR} 存在且可写则使用内存盘，否则使用 java.io.tmpdir
+     *
+     * @param preferRamDisk 是否优先使用内存盘
+     * @return 基础目录
+     */
+    public static File resolveBaseDir(boolean preferRamDisk) {
+        if (preferRamDisk) {
+            File ramDiskDir = new File(RAM_DISK_DIR);
+            if (FileUtils.dirExists(ramDiskDir) && ramDiskDir.canWrite()) {
+                return ramDiskDir;
+            }
+        }
+        return new File(FileUtils.TEMP_DIR);
+    }
+
+    /**
+     * 打开一个临时文件作用域（关闭作用域时删除其中的全部文件）
+     *
+     * @param name 作用域名称（用于作用域目录的命名，便于排查问题）
+     * @return 临时文件作用域
+     */
+    public TempScope openScope(String name) {
+        checkQuota();
+        File scopeDir = FileUtil.mkdir(new File(scopesDir, randomName(name)));
+        TempScope scope = new TempScope(this, scopeDir);
+        openedScopes.put(scopeDir, new WeakReference<>(scope));
+        return scope;
+    }
+
+    /**
+     * 在根目录中的随机命名的子目录中创建指定名称的文件（由调用方负责删除文件及其父目录）
+     *
+     * @param filename 文件名
+     * @return 创建的文件
+     */
+    public File createFileUnderRandomDir(String filename) {
+        return createFileUnderRandomDir(filename, RANDOM_NAME_LENGTH);
+    }
+
+    /**
+     * 在根目录中创建随机命名的临时文件（由调用方负责删除）
+     *
+     * @param fileExtension 文件扩展名（不含点号，可为空）
+     * @param randomNameLength 随机文件名的长度
+     * @return 随机命名的临时文件
+     */
+    public File createRandomNamedFile(@Nullable String fileExtension, int randomNameLength) {
+        checkQuota();
+        String filename = RandomUtil.randomString(randomNameLength);
+        if (StrUtil.isNotBlank(fileExtension)) {
+            filename += StrUtils.DOT + fileExtension;
+        }
+        return FileUtil.touch(new File(rootDir, filename));
+    }
+
+    /**
+     * 在根目录中的随机命名的子目录中创建指定名称的文件（由调用方负责删除文件及其父目录）
+     *
+     * @param filename 文件名
+     * @param randomDirNameLength 随机目录名的长度
+     * @return 创建的文件
+     */
+    public File createFileUnderRandomDir(String filename, int randomDirNameLength) {
+        checkQuota();
+        File randomDir = new File(rootDir, RandomUtil.randomString(randomDirNameLength));
+        return FileUtil.touch(new File(randomDir, filename));
+    }
+
+    /**
+     * 在根目录中的随机命名的子目录中创建指定名称的目录（由调用方负责删除目录及其父目录）
+     *
+     * @param dirname 目录名
+     * @param randomDirNameLength 随机目录名的长度
+     * @return 创建的目录
+     */
+    public File createDirUnderRandomDir(String dirname, int randomDirNameLength) {
+        checkQuota();
+        File randomDir = new File(rootDir, RandomUtil.randomString(randomDirNameLength));
+        return FileUtil.mkdir(new File(randomDir, dirname));
+    }
+
+    /**
+     * 清理孤儿作用域：删除不属于活动作用域、并且目录中所有条目都超过最长保留时长未修改的作用域目录
+     * <p>
+     * 只处理作用域目录（位于 {@link #SCOPES_DIRNAME} 子目录中），{@code createXxx} 方法交给调用方的文件不会被清理。
+     * 修改目录中的文件不会更新目录本身的修改时间，因此以目录中最近修改的条目的修改时间作为作用域目录的修改时间。
+     * </p>
+     *
+     * @return 清理的作用域目录数
+     */
+    public int cleanOrphans() {
+        File[] scopeDirs = scopesDir.listFiles();
+        if (scopeDirs == null) {
+            return 0;
+        }
+
+        long expireBefore = System.currentTimeMillis() - orphanMaxAgeMillis;
+        int cleanedCount = 0;
+        for (File scopeDir : scopeDirs) {
+            if (isActiveScope(scopeDir) || latestModified(scopeDir) >= expireBefore) {
+                continue;
+            }
+            if (FileUtil.del(scopeDir)) {
+                openedScopes.remove(scopeDir);
+                cleanedCount++;
+            }
+        }
+        if (cleanedCount > 0) {
+            cleanedOrphanCount.addAndGet(cleanedCount);
+            usageRefreshedAtMillis = 0;
+        }
+        return cleanedCount;
+    }
+
+    /**
+     * 获取根目录的总占用（字节数，统计结果最多缓存 {@link #USAGE_REFRESH_INTERVAL_MILLIS} 毫秒）
+     *
+     * @return 根目录的总占用
+     */
+    public long getUsageBytes() {
+        long now = System.currentTimeMillis();
+        if (usageBytes < 0 || now - usageRefreshedAtMillis >= USAGE_REFRESH_INTERVAL_MILLIS) {
+            usageBytes = FileUtil.size(rootDir);
+            usageRefreshedAtMillis = now;
+        }
+        return usageBytes;
+    }
+
+    public File getRootDir() {
+        return rootDir;
+    }
+
+    public long getQuotaBytes() {
+        return quotaBytes;
+    }
+
+    public long getOrphanMaxAgeMillis() {
+        return orphanMaxAgeMillis;
+    }
+
+    /**
+     * 获取当前活动的作用域数（未关闭且未被垃圾回收的作用域）
+     *
+     * @return 活动的作用域数
+     */
+    public int getActiveScopeCount() {
+        int count = 0;
+        for (WeakReference<TempScope> scopeRef : openedScopes.values()) {
+            if (scopeRef.get() != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 获取累计清理的孤儿作用域目录数
+     *
+     * @return 累计清理的孤儿作用域目录数
+     */
+    public long getCleanedOrphanCount() {
+        return cleanedOrphanCount.get();
+    }
+
+    /**
+     * 关闭管理器（停止后台清理，不会删除根目录中的文件）
+     */
+    @Override
+    public void close() {
+        if (cleanupExecutor != null) {
+            cleanupExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return StrUtil.format("{}: 占用 = {}, 配额 = {}, 活动作用域 = {}", rootDir.getAbsolutePath(),
+                formatBytes(getUsageBytes()), quotaBytes == UNLIMITED_QUOTA ? "不限" : formatBytes(quotaBytes),
+                getActiveScopeCount());
+    }
+
+    void releaseScope(File scopeDir) {
+        FileUtil.del(scopeDir);
+        openedScopes.remove(scopeDir);
+        usageRefreshedAtMillis = 0;
+    }
+
+    void checkQuota() {
+        if (quotaBytes == UNLIMITED_QUOTA || getUsageBytes() < quotaBytes) {
+            return;
+        }
+
+        cleanOrphans();
+        usageRefreshedAtMillis = 0;
+        if (getUsageBytes() >= quotaBytes) {
+            throw new IORuntimeException(StrUtil.format("临时空间已超出配额: {}", this));
+        }
+    }
+
+    static String randomName(String prefix) {
+        return prefix + "-" + RandomUtil.randomString(RANDOM_NAME_LENGTH);
+    }
+
+    private boolean isActiveScope(File scopeDir) {
+        WeakReference<TempScope> scopeRef = openedScopes.get(scopeDir);
+        return scopeRef != null && scopeRef.get() != null;
+    }
+
+    /**
+     * 获取文件（或者目录及其中所有条目）的最近修改时间
+     */
+    private static long latestModified(File file) {
+        long result = file.lastModified();
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                result = Math.max(result, latestModified(child));
+            }
+        }
+        return result;
+    }
+
+    private void cleanOrphansQuietly() {
+        try {
+            cleanOrphans();
+        } catch (Exception ignored) {
+            // 后台清理失败时等待下次清理
+        }
+    }
+
+    private static String formatBytes(long bytes) {
+        return FileSizeUtils.normalizeFileSizeToStr(bytes, FileSizeUtils.BYTE);
+    }
+
+    private static TempSpaceManager createDefault() {
+        String baseDirPath = SystemPropsUtil.get(PROP_BASE_DIR, null);
+        File baseDir = StrUtil.isNotBlank(baseDirPath) ? new File(baseDirPath)
+                : resolveBaseDir(SystemPropsUtil.getBoolean(PROP_USE_RAM_DISK, false));
+        long quotaBytes = SystemPropsUtil.getLong(PROP_QUOTA_BYTES, UNLIMITED_QUOTA);
+        long orphanMaxAgeMillis = SystemPropsUtil.getLong(PROP_ORPHAN_MAX_AGE_MILLIS, DEFAULT_ORPHAN_MAX_AGE_MILLIS);
+        long cleanupIntervalMillis = SystemPropsUtil.getLong(PROP_ORPHAN_CLEANUP_INTERVAL_MILLIS,
+                NO_BACKGROUND_CLEANUP);
+        return new TempSpaceManager(baseDir, quotaBytes, orphanMaxAgeMillis, cleanupIntervalMillis);
+    }
+}
@@ -0,0 +1,149 @@
+package plus.hutool.core.io;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TempSpaceManagerTest {
+
+    private File baseDir;
+    private TempSpaceManager manager;
+
+    @BeforeEach
+    void setUp() {
+        baseDir = FileUtils.createDirUnderRandomTempDir("temp-space");
+        manager = new TempSpaceManager(baseDir, 1024, 60_000, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.close();
+        FileUtil.del(baseDir.getParentFile());
+    }
+
+    @Test
+    void testScope() {
+        File scopeDir;
+        File file1;
+        File file2;
+        try (TempScope scope = manager.openScope("test")) {
+            scopeDir = scope.getDir();
+            assertThat(scopeDir).isDirectory()
+                    .hasParent(new File(manager.getRootDir(), TempSpaceManager.SCOPES_DIRNAME));
+            assertThat(scopeDir.getName()).startsWith("test-");
+            assertThat(manager.getActiveScopeCount()).isEqualTo(1);
+
+            file1 = scope.newFile("a.txt");
+            file2 = scope.newFile("a.txt");
+            assertThat(file1).isFile().hasParent(scopeDir);
+            assertThat(file2).isFile().hasName("a.txt").isNotEqualTo(file1);
+            assertThat(scope.newRandomNamedFile("png")).isFile().hasExtension("png");
+            assertThat(scope.newDir("sub")).isDirectory();
+        }
+
+        assertThat(scopeDir).doesNotExist();
+        assertThat(manager.getActiveScopeCount()).isZero();
+    }
+
+    @Test
+    void testScope_ClosedScopeRejectsNewFiles() {
+        TempScope scope = manager.openScope("closed");
+        scope.close();
+        scope.close();
+
+        assertThat(scope.isClosed()).isTrue();
+        assertThatThrownBy(() -> scope.newFile("a.txt")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testCreateFiles() {
+        File randomFile = manager.createRandomNamedFile("jpg", 10);
+        assertThat(randomFile).isFile().hasParent(manager.getRootDir()).hasExtension("jpg");
+        assertThat(randomFile.getName()).hasSize(14);
+
+        File file = manager.createFileUnderRandomDir("name.txt");
+        assertThat(file).isFile().hasName("name.txt");
+        assertThat(file.getParentFile()).hasParent(manager.getRootDir());
+
+        File dir = manager.createDirUnderRandomDir("dirname", 6);
+        assertThat(dir).isDirectory().hasName("dirname");
+        assertThat(dir.getParentFile().getName()).hasSize(6);
+    }
+
+    @Test
+    void testCleanOrphans() {
+        long expiredMillis = System.currentTimeMillis() - 120_000;
+        File scopesDir = new File(manager.getRootDir(), TempSpaceManager.SCOPES_DIRNAME);
+
+        // 交给调用方的文件即使很久未修改也不会被清理
+        File callerOwnedFile = manager.createFileUnderRandomDir("caller-owned.txt");
+        assertThat(callerOwnedFile.setLastModified(expiredMillis)).isTrue();
+        assertThat(callerOwnedFile.getParentFile().setLastModified(expiredMillis)).isTrue();
+
+        // 遗留的作用域目录（如进程崩溃后遗留的）会被清理
+        File abandonedScopeDir = FileUtil.mkdir(new File(scopesDir, "abandoned-12345678"));
+        File abandonedFile = FileUtil.touch(new File(abandonedScopeDir, "a.txt"));
+        assertThat(abandonedFile.setLastModified(expiredMillis)).isTrue();
+        assertThat(abandonedScopeDir.setLastModified(expiredMillis)).isTrue();
+
+        // 目录本身很久未修改、但其中的文件最近被修改过的作用域目录不会被清理
+        File recentlyWrittenScopeDir = FileUtil.mkdir(new File(scopesDir, "recent-12345678"));
+        FileUtil.touch(new File(recentlyWrittenScopeDir, "b.txt"));
+        assertThat(recentlyWrittenScopeDir.setLastModified(expiredMillis)).isTrue();
+
+        try (TempScope scope = manager.openScope("active")) {
+            assertThat(scope.getDir().setLastModified(expiredMillis)).isTrue();
+
+            assertThat(manager.cleanOrphans()).isEqualTo(1);
+            assertThat(abandonedScopeDir).doesNotExist();
+            assertThat(callerOwnedFile).exists();
+            assertThat(recentlyWrittenScopeDir).exists();
+            assertThat(scope.getDir()).exists();
+            assertThat(manager.getCleanedOrphanCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testQuota() {
+        File file = manager.createRandomNamedFile("txt", 10);
+        FileUtil.writeString(new String(new char[2048]), file, StandardCharsets.UTF_8);
+
+        assertThat(manager.getUsageBytes()).isGreaterThanOrEqualTo(1024);
+        assertThatThrownBy(() -> manager.openScope("over-quota"))
+                .isInstanceOf(IORuntimeException.class)
+                .hasMessageContaining("临时空间已超出配额");
+
+        FileUtil.del(file);
+        try (TempScope scope = manager.openScope("within-quota")) {
+            assertThat(scope.getDir()).isDirectory();
+        }
+    }
+
+    @Test
+    void testResolveBaseDir() {
+        assertThat(TempSpaceManager.resolveBaseDir(false)).isEqualTo(new File(FileUtils.TEMP_DIR));
+
+        File ramBaseDir = TempSpaceManager.resolveBaseDir(true);
+        assertThat(ramBaseDir).isIn(new File(TempSpaceManager.RAM_DISK_DIR), new File(FileUtils.TEMP_DIR));
+    }
+
+    @Test
+    void testDefault() {
+        TempSpaceManager defaultManager = TempSpaceManager.getDefault();
+        assertThat(defaultManager).isSameAs(TempSpaceManager.getDefault());
+        assertThat(defaultManager.getRootDir()).isDirectory();
+
+        // FileUtils 的临时文件方法不受临时空间管理器管理
+        File file = FileUtils.createFileUnderRandomTempDir("default.txt");
+        assertThat(file.getParentFile()).hasParent(new File(FileUtils.TEMP_DIR));
+        FileUtil.del(file.getParentFile());
+    }
+}
@@ -0,0 +1,48 @@
+package plus.hutool.media.content.extract;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 统计写出字符数的 Writer（不会关闭被包装的 Writer）
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+final class CharCountingWriter extends FilterWriter {
+
+    private long charCount;
+
+    CharCountingWriter(Writer out) {
+        super(out);
+    }
+
+    long getCharCount() {
+        return charCount;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        out.write(c);
+        charCount++;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        out.write(cbuf, off, len);
+        charCount += len;
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        out.write(str, off, len);
+        charCount += len;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.flush();
+    }
+}
@@ -0,0 +1,55 @@
+package plus.hutool.media.content.extract;
+
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.function.Consumer;
+
+/**
+ * 将写入的字符按固定大小分块交给消费者的 Writer
+ * <p>
+ * 分块复用同一个字符缓冲区，交给消费者的 {@link CharSequence} 只在回调期间有效，
+ * 消费者需要保留分块内容时应自行复制（如 {@code chunk.toString()}）。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+final class ChunkingWriter extends Writer {
+
+    private final Consumer<CharSequence> chunkConsumer;
+    private final char[] buffer;
+    private int length;
+
+    ChunkingWriter(Consumer<CharSequence> chunkConsumer, int chunkSize) {
+        this.chunkConsumer = chunkConsumer;
+        this.buffer = new char[chunkSize];
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+        while (len > 0) {
+            int n = Math.min(len, buffer.length - length);
+            System.arraycopy(cbuf, off, buffer, length, n);
+            length += n;
+            off += n;
+            len -= n;
+            if (length == buffer.length) {
+                flush();
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (length > 0) {
+            chunkConsumer.accept(CharBuffer.wrap(buffer, 0, length));
+            length = 0;
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+}
@@ -0,0 +1,44 @@
+package plus.hutool.media.content.extract;
+
+import cn.hutool.core.util.StrUtil;
+
+/**
+ * 流式解析文档的结果（解析出的文本已经写入调用方提供的 Writer 或者 分块消费者，这里只保留统计信息）
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public final class StreamingParseResult {
+
+    private final long charCount;
+    private final boolean truncated;
+
+    StreamingParseResult(long charCount, boolean truncated) {
+        this.charCount = charCount;
+        this.truncated = truncated;
+    }
+
+    /**
+     * 获取写出的字符数
+     *
+     * @return 写出的字符数
+     */
+    public long getCharCount() {
+        return charCount;
+    }
+
+    /**
+     * 是否因为达到字符数上限而提前终止了解析（文档剩余的部分没有被解析）
+     *
+     * @return 是否提前终止了解析
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public String toString() {
+        return StrUtil.format("StreamingParseResult(charCount={}, truncated={})", charCount, truncated);
+    }
+}
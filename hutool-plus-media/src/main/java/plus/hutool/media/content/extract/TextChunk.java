@@ -0,0 +1,82 @@
+package plus.hutool.media.content.extract;
+
+import cn.hutool.core.util.StrUtil;
+
+/**
+ * 文档文本的分块
+ * <p>
+ * 偏移量是分块在文档全部文本（即 {@link TikaUtils#parseTo(java.io.InputStream, java.io.Writer)} 输出的文本）中的位置，
+ * 满足 {@code fullText.substring(startOffset, endOffset).equals(text)}。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public final class TextChunk {
+
+    private final int index;
+    private final int pageNumber;
+    private final long startOffset;
+    private final long endOffset;
+    private final String text;
+
+    TextChunk(int index, int pageNumber, long startOffset, long endOffset, String text) {
+        this.index = index;
+        this.pageNumber = pageNumber;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+        this.text = text;
+    }
+
+    /**
+     * 获取分块的序号（从 0 开始）
+     *
+     * @return 分块的序号
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * 获取分块所在的页码（从 1 开始，没有分页信息的文档为 0）
+     *
+     * @return 分块所在的页码
+     */
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    /**
+     * 获取分块的起始偏移量（包含）
+     *
+     * @return 起始偏移量
+     */
+    public long getStartOffset() {
+        return startOffset;
+    }
+
+    /**
+     * 获取分块的结束偏移量（不包含）
+     *
+     * @return 结束偏移量
+     */
+    public long getEndOffset() {
+        return endOffset;
+    }
+
+    /**
+     * 获取分块的文本（已去除首尾的空白字符，不会为空）
+     *
+     * @return 分块的文本
+     */
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return StrUtil.format("TextChunk(index={}, pageNumber={}, offsets=[{}, {}), text={})",
+                index, pageNumber, startOffset, endOffset, StrUtil.brief(text, 50));
+    }
+}
@@ -0,0 +1,201 @@
+package plus.hutool.media.content.extract;
+
+import cn.hutool.core.util.CharUtil;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+import plus.hutool.core.iterable.collection.CollUtils;
+import plus.hutool.core.lang.Asserts;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 根据 Tika 输出的 XHTML 事件将文本分块的 SAX 处理器
+ * <p>
+ * 分块随解析过程增量产生，同一时间只缓存当前分块的文本（最多 maxChunkLength 个字符）。
+ * 分页信息来自 Tika 为 PDF 的页输出的 {@code <div class="page">} 和为幻灯片输出的 {@code <div class="slide-content">}，
+ * 嵌入文档（{@code <div class="package-entry">} 和 {@code <div class="embedded">} 中的内容）里的分页元素不计入页码。
+ * 当前分块的文本达到 maxChunkLength 时强制拆分（尽量在空白字符处拆分），
+ * 避免没有分页信息的文档（PAGE 方式）或超长的段落一次缓存全部文本。
+ * 偏移量的计算方式与 {@link org.apache.tika.sax.ToTextContentHandler} 输出文本的方式一致
+ * （输出所有字符和可忽略的空白字符，忽略 style 和 script 元素中的内容）。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+final class TextChunkContentHandler extends DefaultHandler {
+
+    private static final Set<String> PAGE_DIV_CLASSES = CollUtils.unmodifiableSet("page", "slide-content");
+    private static final Set<String> EMBEDDED_DIV_CLASSES = CollUtils.unmodifiableSet("package-entry", "embedded");
+    private static final Set<String> PARAGRAPH_ELEMENTS = CollUtils.unmodifiableSet(
+            "p", "h1", "h2", "h3", "h4", "h5", "h6", "li", "dt", "dd", "pre", "blockquote", "td", "th");
+    private static final Set<String> IGNORED_ELEMENTS = CollUtils.unmodifiableSet("style", "script");
+
+    private final TextChunkMode mode;
+    private final int maxChunkLength;
+    private final Consumer<TextChunk> chunkConsumer;
+
+    private final StringBuilder buffer = new StringBuilder();
+    /**
+     * 每个未结束的 div 元素的类型
+     */
+    private final Deque<DivType> divStack = new ArrayDeque<>();
+
+    private int ignoredDepth;
+    private int embeddedDepth;
+    private int pageNumber;
+    private long offset;
+    private long bufferStartOffset;
+    private int bufferPageNumber;
+    private int chunkCount;
+
+    TextChunkContentHandler(TextChunkMode mode, int maxChunkLength, Consumer<TextChunk> chunkConsumer) {
+        Asserts.isTrue(maxChunkLength > 1, "分块的最大字符数必须大于 1: {}", maxChunkLength);
+        this.mode = mode;
+        this.maxChunkLength = maxChunkLength;
+        this.chunkConsumer = chunkConsumer;
+    }
+
+    int getChunkCount() {
+        return chunkCount;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes atts) {
+        String name = elementName(localName, qName);
+        if (IGNORED_ELEMENTS.contains(name)) {
+            ignoredDepth++;
+        } else if ("div".equals(name)) {
+            DivType divType = resolveDivType(String.valueOf(atts.getValue("class")));
+            divStack.push(divType);
+            if (divType == DivType.EMBEDDED) {
+                embeddedDepth++;
+            } else if (divType == DivType.PAGE) {
+                emitChunk();
+                pageNumber++;
+            }
+        } else if (mode == TextChunkMode.PARAGRAPH && PARAGRAPH_ELEMENTS.contains(name)) {
+            emitChunk();
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+        String name = elementName(localName, qName);
+        if (IGNORED_ELEMENTS.contains(name)) {
+            ignoredDepth--;
+        } else if ("div".equals(name)) {
+            DivType divType = divStack.poll();
+            if (divType == DivType.EMBEDDED) {
+                embeddedDepth--;
+            } else if (divType == DivType.PAGE) {
+                emitChunk();
+            }
+        } else if (mode == TextChunkMode.PARAGRAPH && PARAGRAPH_ELEMENTS.contains(name)) {
+            emitChunk();
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (ignoredDepth > 0) {
+            return;
+        }
+        int end = start + length;
+        while (start < end) {
+            if (buffer.length() == 0) {
+                bufferStartOffset = offset;
+                bufferPageNumber = pageNumber;
+            }
+            int count = Math.min(end - start, maxChunkLength - buffer.length());
+            buffer.append(ch, start, count);
+            offset += count;
+            start += count;
+            if (buffer.length() >= maxChunkLength) {
+                emitChunk(resolveSplitLength());
+            }
+        }
+    }
+
+    @Override
+    public void ignorableWhitespace(char[] ch, int start, int length) {
+        characters(ch, start, length);
+    }
+
+    /**
+     * 输出最后一个分块（解析结束后调用）
+     */
+    void finish() {
+        emitChunk();
+    }
+
+    /**
+     * 缓存的文本达到最大字符数时的拆分位置：优先在后半部分的最后一个空白字符之后拆分，不拆开代理对
+     */
+    private int resolveSplitLength() {
+        for (int i = buffer.length() - 1; i >= maxChunkLength / 2; i--) {
+            if (CharUtil.isBlankChar(buffer.charAt(i))) {
+                return i + 1;
+            }
+        }
+        int splitLength = buffer.length();
+        return Character.isHighSurrogate(buffer.charAt(splitLength - 1)) ? splitLength - 1 : splitLength;
+    }
+
+    private void emitChunk() {
+        emitChunk(buffer.length());
+    }
+
+    /**
+     * 将缓存的前 length 个字符去除首尾的空白字符后作为一个分块输出（全部为空白字符时不输出），其余字符继续缓存
+     */
+    private void emitChunk(int length) {
+        int start = 0;
+        int end = length;
+        while (start < end && CharUtil.isBlankChar(buffer.charAt(start))) {
+            start++;
+        }
+        while (end > start && CharUtil.isBlankChar(buffer.charAt(end - 1))) {
+            end--;
+        }
+        if (start < end) {
+            chunkConsumer.accept(new TextChunk(chunkCount++, bufferPageNumber,
+                    bufferStartOffset + start, bufferStartOffset + end, buffer.substring(start, end)));
+        }
+        buffer.delete(0, length);
+        bufferStartOffset += length;
+    }
+
+    private DivType resolveDivType(String divClass) {
+        if (EMBEDDED_DIV_CLASSES.contains(divClass)) {
+            return DivType.EMBEDDED;
+        }
+        return embeddedDepth == 0 && PAGE_DIV_CLASSES.contains(divClass) ? DivType.PAGE : DivType.OTHER;
+    }
+
+    private static String elementName(String localName, String qName) {
+        return localName.isEmpty() ? qName : localName;
+    }
+
+    /**
+     * div 元素的类型
+     */
+    private enum DivType {
+        /**
+         * 分页元素
+         */
+        PAGE,
+        /**
+         * 嵌入文档的容器元素
+         */
+        EMBEDDED,
+        /**
+         * 其他 div 元素
+         */
+        OTHER
+    }
+}
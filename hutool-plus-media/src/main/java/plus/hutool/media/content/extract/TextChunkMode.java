@@ -0,0 +1,19 @@
+package plus.hutool.media.content.extract;
+
+/**
+ * 文本分块的方式
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+public enum TextChunkMode {
+    /**
+     * 按页分块（PDF 的页，PPT/PPTX 的幻灯片；没有分页信息的文档整体作为一个分块）
+     */
+    PAGE,
+    /**
+     * 按段落分块（段落、标题、列表项、表格单元格等块级元素，段落不会跨页）
+     */
+    PARAGRAPH
+}
@@ -2,17 +2,38 @@ package plus.hutool.media.content.extract;
 
 import cn.hutool.core.io.FileUtil;
 import org.apache.tika.Tika;
+import org.apache.tika.config.TikaConfig;
+import org.apache.tika.exception.WriteLimitReachedException;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.parser.Parser;
+import org.apache.tika.sax.BodyContentHandler;
+import org.apache.tika.sax.WriteOutContentHandler;
 import plus.hutool.core.iterable.collection.CollUtils;
+import plus.hutool.core.lang.Asserts;
 import plus.hutool.media.content.type.MediaType;
 import plus.hutool.media.exception.TikaParseException;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.Writer;
 import java.nio.file.Path;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Tika 工具
+ * <p>
+ * Tika 配置和解析器是线程安全的，加载开销也比较大（需要扫描并实例化所有的解析器），因此全局共享同一份实例。
+ * </p>
+ * <p>
+ * {@code parseToString} 系列方法一次性返回文档的全部文本，并且最多只保留 Tika 默认的前 100000 个字符；
+ * 解析大文档时应使用 {@code parseTo} 系列方法，将文本边解析边写入调用方提供的 {@link Writer} 或者 分块消费者，
+ * 内存占用与文档大小无关，并且可以通过字符数上限提前终止解析；
+ * 需要按页或者按段落处理文本时，可以使用 {@code parseToChunks} 系列方法增量地获取带有页码和偏移量的文本分块。
+ * </p>
  *
  * @author bianyun
  * @date 2022/12/08
@@ -49,6 +70,25 @@ public abstract class TikaUtils {
                     MediaType.APPLICATION_XML
             );
 
+    /**
+     * 不限制解析出的字符数
+     */
+    public static final int NO_CHAR_LIMIT = -1;
+
+    /**
+     * 解析到分块消费者时，每个分块的最大字符数
+     */
+    public static final int CHUNK_SIZE = 8192;
+
+    /**
+     * 按页或段落分块时，每个分块默认的最大字符数（超过时强制拆分）
+     */
+    public static final int DEFAULT_MAX_CHUNK_LENGTH = 8192;
+
+    private static final TikaConfig TIKA_CONFIG = TikaConfig.getDefaultConfig();
+    private static final Parser PARSER = new AutoDetectParser(TIKA_CONFIG);
+    private static final Tika TIKA = new Tika(TIKA_CONFIG.getDetector(), PARSER);
+
     private TikaUtils() {
     }
 
@@ -80,9 +120,192 @@ public abstract class TikaUtils {
      */
     public static String parseToString(InputStream stream) {
         try {
-            return new Tika().parseToString(stream);
+            return TIKA.parseToString(stream);
+        } catch (Exception e) {
+            throw new TikaParseException("文档解析出错", e);
+        }
+    }
+
+    /**
+     * 将文档文件解析出的文本写入 {@link Writer}（不会关闭 Writer）
+     *
+     * @param path     文档文件的 {@link Path} 对象
+     * @param writer   写入解析出的文本的 Writer
+     * @param maxChars 最多解析出的字符数（达到上限后立即终止解析），{@link #NO_CHAR_LIMIT} 表示不限制
+     * @return 解析结果
+     */
+    public static StreamingParseResult parseTo(Path path, Writer writer, int maxChars) {
+        return parseTo(FileUtil.getInputStream(path), writer, maxChars);
+    }
+
+    /**
+     * 将文档文件解析出的文本写入 {@link Writer}（不会关闭 Writer）
+     *
+     * @param file     文档文件
+     * @param writer   写入解析出的文本的 Writer
+     * @param maxChars 最多解析出的字符数（达到上限后立即终止解析），{@link #NO_CHAR_LIMIT} 表示不限制
+     * @return 解析结果
+     */
+    public static StreamingParseResult parseTo(File file, Writer writer, int maxChars) {
+        return parseTo(FileUtil.getInputStream(file), writer, maxChars);
+    }
+
+    /**
+     * 将文档文件的 {@link InputStream} 对象解析出的全部文本写入 {@link Writer}（解析完成后会关闭输入流，不会关闭 Writer）
+     *
+     * @param stream 文档文件的 {@link InputStream} 对象
+     * @param writer 写入解析出的文本的 Writer
+     * @return 解析结果
+     */
+    public static StreamingParseResult parseTo(InputStream stream, Writer writer) {
+        return parseTo(stream, writer, NO_CHAR_LIMIT);
+    }
+
+    /**
+     * 将文档文件的 {@link InputStream} 对象解析出的文本写入 {@link Writer}（解析完成后会关闭输入流，不会关闭 Writer）
+     *
+     * @param stream   文档文件的 {@link InputStream} 对象
+     * @param writer   写入解析出的文本的 Writer
+     * @param maxChars 最多解析出的字符数（达到上限后立即终止解析），{@link #NO_CHAR_LIMIT} 表示不限制
+     * @return 解析结果
+     */
+    public static StreamingParseResult parseTo(InputStream stream, Writer writer, int maxChars) {
+        Asserts.isTrue(maxChars >= 0 || maxChars == NO_CHAR_LIMIT, "字符数上限不能小于 0: {}", maxChars);
+
+        CharCountingWriter countingWriter = new CharCountingWriter(writer);
+        boolean truncated = false;
+        try (InputStream in = stream) {
+            PARSER.parse(in, new BodyContentHandler(new WriteOutContentHandler(countingWriter, maxChars)),
+                    new Metadata(), newParseContext());
+        } catch (Exception e) {
+            if (!WriteLimitReachedException.isWriteLimitReached(e)) {
+                throw new TikaParseException("文档解析出错", e);
+            }
+            truncated = true;
+        }
+
+        try {
+            countingWriter.flush();
+        } catch (IOException e) {
+            throw new TikaParseException("文档解析出错", e);
+        }
+        return new StreamingParseResult(countingWriter.getCharCount(), truncated);
+    }
+
+    /**
+     * 将文档文件解析出的文本按分块交给消费者
+     *
+     * @param path          文档文件的 {@link Path} 对象
+     * @param chunkConsumer 分块消费者（分块只在回调期间有效，详见 {@link #parseTo(InputStream, Consumer, int)}）
+     * @param maxChars      最多解析出的字符数（达到上限后立即终止解析），{@link #NO_CHAR_LIMIT} 表示不限制
+     * @return 解析结果
+     */
+    public static StreamingParseResult parseTo(Path path, Consumer<CharSequence> chunkConsumer, int maxChars) {
+        return parseTo(FileUtil.getInputStream(path), chunkConsumer, maxChars);
+    }
+
+    /**
+     * 将文档文件解析出的文本按分块交给消费者
+     *
+     * @param file          文档文件
+     * @param chunkConsumer 分块消费者（分块只在回调期间有效，详见 {@link #parseTo(InputStream, Consumer, int)}）
+     * @param maxChars      最多解析出的字符数（达到上限后立即终止解析），{@link #NO_CHAR_LIMIT} 表示不限制
+     * @return 解析结果
+     */
+    public static StreamingParseResult parseTo(File file, Consumer<CharSequence> chunkConsumer, int maxChars) {
+        return parseTo(FileUtil.getInputStream(file), chunkConsumer, maxChars);
+    }
+
+    /**
+     * 将文档文件的 {@link InputStream} 对象解析出的文本按分块交给消费者（解析完成后会关闭输入流）
+     * <p>
+     * 每个分块最多 {@value #CHUNK_SIZE} 个字符，分块之间没有重叠，按顺序拼接即为解析出的全部文本。
+     * 所有分块复用同一个字符缓冲区，交给消费者的 {@link CharSequence} 只在回调期间有效，
+     * 需要保留分块内容时应自行复制（如 {@code chunk.toString()}）。
+     * </p>
+     *
+     * @param stream        文档文件的 {@link InputStream} 对象
+     * @param chunkConsumer 分块消费者
+     * @param maxChars      最多解析出的字符数（达到上限后立即终止解析），{@link #NO_CHAR_LIMIT} 表示不限制
+     * @return 解析结果
+     */
+    public static StreamingParseResult parseTo(InputStream stream, Consumer<CharSequence> chunkConsumer,
+                                               int maxChars) {
+        return parseTo(stream, new ChunkingWriter(chunkConsumer, CHUNK_SIZE), maxChars);
+    }
+
+    /**
+     * 将文档文件解析出的文本分块后交给消费者
+     *
+     * @param path          文档文件的 {@link Path} 对象
+     * @param mode          分块方式
+     * @param chunkConsumer 分块消费者
+     * @return 输出的分块数
+     */
+    public static int parseToChunks(Path path, TextChunkMode mode, Consumer<TextChunk> chunkConsumer) {
+        return parseToChunks(FileUtil.getInputStream(path), mode, chunkConsumer);
+    }
+
+    /**
+     * 将文档文件解析出的文本分块后交给消费者
+     *
+     * @param file          文档文件
+     * @param mode          分块方式
+     * @param chunkConsumer 分块消费者
+     * @return 输出的分块数
+     */
+    public static int parseToChunks(File file, TextChunkMode mode, Consumer<TextChunk> chunkConsumer) {
+        return parseToChunks(FileUtil.getInputStream(file), mode, chunkConsumer);
+    }
+
+    /**
+     * 将文档文件的 {@link InputStream} 对象解析出的文本分块后交给消费者（解析完成后会关闭输入流）
+     * <p>
+     * 分块根据解析器输出的页和段落等结构增量产生（边解析边输出，同一时间只缓存当前分块的文本），
+     * 每个分块带有序号、所在页码以及在文档全部文本中的偏移量，只包含空白字符的分块不会输出。
+     * 每个分块最多 {@value #DEFAULT_MAX_CHUNK_LENGTH} 个字符，超过时强制拆分。
+     * </p>
+     *
+     * @param stream        文档文件的 {@link InputStream} 对象
+     * @param mode          分块方式
+     * @param chunkConsumer 分块消费者
+     * @return 输出的分块数
+     */
+    public static int parseToChunks(InputStream stream, TextChunkMode mode, Consumer<TextChunk> chunkConsumer) {
+        return parseToChunks(stream, mode, DEFAULT_MAX_CHUNK_LENGTH, chunkConsumer);
+    }
+
+    /**
+     * 将文档文件的 {@link InputStream} 对象解析出的文本分块后交给消费者（解析完成后会关闭输入流）
+     * <p>
+     * 与 {@link #parseToChunks(InputStream, TextChunkMode, Consumer)} 相同，只是可以指定每个分块的最大字符数：
+     * 页或段落的文本超过该字符数时被拆分为多个分块（尽量在空白字符处拆分，拆分出的分块页码相同）。
+     * </p>
+     *
+     * @param stream         文档文件的 {@link InputStream} 对象
+     * @param mode           分块方式
+     * @param maxChunkLength 每个分块的最大字符数（必须大于 1）
+     * @param chunkConsumer  分块消费者
+     * @return 输出的分块数
+     */
+    public static int parseToChunks(InputStream stream, TextChunkMode mode, int maxChunkLength,
+                                    Consumer<TextChunk> chunkConsumer) {
+        TextChunkContentHandler handler = new TextChunkContentHandler(mode, maxChunkLength, chunkConsumer);
+        try (InputStream in = stream) {
+            PARSER.parse(in, new BodyContentHandler(handler), new Metadata(), newParseContext());
         } catch (Exception e) {
             throw new TikaParseException("文档解析出错", e);
         }
+        handler.finish();
+        return handler.getChunkCount();
+    }
+
+    /**
+     * 创建解析上下文（嵌入文档也使用共享的解析器解析）
+     */
+    private static ParseContext newParseContext() {
+        ParseContext context = new ParseContext();
+        context.set(Parser.class, PARSER);
+        return context;
     }
 }
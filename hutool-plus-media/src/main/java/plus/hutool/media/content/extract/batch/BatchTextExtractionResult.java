@@ -0,0 +1,159 @@
+package plus.hutool.media.content.extract.batch;
+
+import cn.hutool.core.util.StrUtil;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.exception.TikaParseException;
+
+/**
+ * 批量文本提取中单个文档的提取结果
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public final class BatchTextExtractionResult {
+
+    /**
+     * 提取状态
+     */
+    public enum Status {
+        /**
+         * 提取成功
+         */
+        SUCCEEDED,
+        /**
+         * 文档的媒体类型不在 {@link plus.hutool.media.content.extract.TikaUtils#SUPPORTED_MEDIA_TYPES_FOR_PARSE_STRING} 中，未提取
+         */
+        SKIPPED,
+        /**
+         * 提取失败
+         */
+        FAILED,
+        /**
+         * 提取超时（已取消）
+         */
+        TIMED_OUT
+    }
+
+    private final BatchTextExtractionSource source;
+    private final Status status;
+    private final long size;
+    private final long elapsedMillis;
+
+    @Nullable
+    private final MediaType mediaType;
+    @Nullable
+    private final String text;
+    private final boolean truncated;
+    @Nullable
+    private final TikaParseException failure;
+
+    private BatchTextExtractionResult(BatchTextExtractionSource source, Status status, long size,
+                                      long elapsedMillis, @Nullable MediaType mediaType, @Nullable String text,
+                                      boolean truncated, @Nullable TikaParseException failure) {
+        this.source = source;
+        this.status = status;
+        this.size = size;
+        this.elapsedMillis = elapsedMillis;
+        this.mediaType = mediaType;
+        this.text = text;
+        this.truncated = truncated;
+        this.failure = failure;
+    }
+
+    static BatchTextExtractionResult succeeded(BatchTextExtractionSource source, long size, long elapsedMillis,
+                                               MediaType mediaType, String text, boolean truncated) {
+        return new BatchTextExtractionResult(source, Status.SUCCEEDED, size, elapsedMillis, mediaType, text,
+                truncated, null);
+    }
+
+    static BatchTextExtractionResult skipped(BatchTextExtractionSource source, long size, long elapsedMillis,
+                                             MediaType mediaType) {
+        return new BatchTextExtractionResult(source, Status.SKIPPED, size, elapsedMillis, mediaType, null,
+                false, null);
+    }
+
+    static BatchTextExtractionResult failed(BatchTextExtractionSource source, long size, long elapsedMillis,
+                                            @Nullable MediaType mediaType, TikaParseException failure) {
+        return new BatchTextExtractionResult(source, Status.FAILED, size, elapsedMillis, mediaType, null,
+                false, failure);
+    }
+
+    static BatchTextExtractionResult timedOut(BatchTextExtractionSource source, long elapsedMillis,
+                                              TikaParseException failure) {
+        return new BatchTextExtractionResult(source, Status.TIMED_OUT, -1, elapsedMillis, null, null,
+                false, failure);
+    }
+
+    public BatchTextExtractionSource getSource() {
+        return source;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isSucceeded() {
+        return status == Status.SUCCEEDED;
+    }
+
+    /**
+     * 获取文档大小（文档文件为文件大小，按需打开输入流的文档为实际读取的字节数，超时的文档为 -1）
+     *
+     * @return 文档大小
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 获取探测出的文档媒体类型
+     *
+     * @return 文档媒体类型（探测失败或者超时时返回 null）
+     */
+    @Nullable
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * 获取提取出的文本
+     *
+     * @return 提取出的文本（提取不成功时返回 null）
+     */
+    @Nullable
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * 提取出的文本是否因为达到字符数上限而被截断
+     *
+     * @return 是否被截断
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * 获取提取失败（包括超时）的原因
+     *
+     * @return 提取失败的原因（没有失败时返回 null）
+     */
+    @Nullable
+    public TikaParseException getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return failure == null
+                ? StrUtil.format("{} ==> {} [{}]", source, status, mediaType)
+                : StrUtil.format("{} ==> {} - {}", source, status, failure);
+    }
+}
@@ -0,0 +1,74 @@
+package plus.hutool.media.content.extract.batch;
+
+import cn.hutool.core.io.FileUtil;
+import plus.hutool.core.lang.annotation.Nullable;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+/**
+ * 批量文本提取中的单个文档（文档文件 或者 按需打开输入流的文档）
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public final class BatchTextExtractionSource {
+
+    private final String name;
+
+    @Nullable
+    private final Path path;
+    private final Supplier<InputStream> streamSupplier;
+
+    private BatchTextExtractionSource(String name, @Nullable Path path, Supplier<InputStream> streamSupplier) {
+        this.name = name;
+        this.path = path;
+        this.streamSupplier = streamSupplier;
+    }
+
+    /**
+     * 创建文档文件的提取源
+     *
+     * @param path 文档文件的 {@link Path} 对象
+     * @return 提取源
+     */
+    public static BatchTextExtractionSource of(Path path) {
+        return new BatchTextExtractionSource(path.toString(), path, () -> FileUtil.getInputStream(path));
+    }
+
+    /**
+     * 创建按需打开输入流的提取源（输入流在工作线程中开始提取时才打开，提取完成后会被关闭）
+     *
+     * @param name           文档名称（需要带有文件名后缀，用于辅助探测文档的媒体类型）
+     * @param streamSupplier 文档的输入流的提供者
+     * @return 提取源
+     */
+    public static BatchTextExtractionSource of(String name, Supplier<InputStream> streamSupplier) {
+        return new BatchTextExtractionSource(name, null, streamSupplier);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 获取文档文件的 {@link Path} 对象
+     *
+     * @return 文档文件的 {@link Path} 对象（按需打开输入流的提取源返回 null）
+     */
+    @Nullable
+    public Path getPath() {
+        return path;
+    }
+
+    InputStream openStream() {
+        return streamSupplier.get();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
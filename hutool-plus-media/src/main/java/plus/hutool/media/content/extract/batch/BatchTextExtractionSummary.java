@@ -0,0 +1,108 @@
+package plus.hutool.media.content.extract.batch;
+
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.StrUtil;
+import plus.hutool.core.datetime.DateTimeUtils;
+import plus.hutool.core.measure.util.FileSizeUtils;
+
+/**
+ * 批量文本提取的汇总结果（不保留单个文档的提取结果，只保留统计信息）
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public final class BatchTextExtractionSummary {
+
+    private final long totalCount;
+    private final long succeededCount;
+    private final long skippedCount;
+    private final long failedCount;
+    private final long timedOutCount;
+    private final long totalBytes;
+    private final long totalChars;
+    private final long elapsedMillis;
+
+    BatchTextExtractionSummary(long totalCount, long succeededCount, long skippedCount, long failedCount,
+                               long timedOutCount, long totalBytes, long totalChars, long elapsedMillis) {
+        this.totalCount = totalCount;
+        this.succeededCount = succeededCount;
+        this.skippedCount = skippedCount;
+        this.failedCount = failedCount;
+        this.timedOutCount = timedOutCount;
+        this.totalBytes = totalBytes;
+        this.totalChars = totalChars;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getSucceededCount() {
+        return succeededCount;
+    }
+
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public long getTimedOutCount() {
+        return timedOutCount;
+    }
+
+    /**
+     * 获取已处理的文档的总字节数（不包括超时的文档）
+     *
+     * @return 总字节数
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * 获取提取出的文本的总字符数
+     *
+     * @return 总字符数
+     */
+    public long getTotalChars() {
+        return totalChars;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 获取吞吐量（每秒处理的文档数，包括跳过、失败和超时的文档）
+     *
+     * @return 每秒处理的文档数
+     */
+    public double getDocsPerSecond() {
+        return elapsedMillis == 0 ? 0 : totalCount * 1000.0 / elapsedMillis;
+    }
+
+    /**
+     * 获取吞吐量（每秒处理的字节数）
+     *
+     * @return 每秒处理的字节数
+     */
+    public double getBytesPerSecond() {
+        return elapsedMillis == 0 ? 0 : totalBytes * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return StrUtil.format("批量文本提取完成: 总数 = {}, 成功 = {}, 跳过 = {}, 失败 = {}, 超时 = {}, 总大小 = {}, "
+                        + "总字符数 = {}, 耗时 = {}, 吞吐量 = {} 个/秒, {}/秒",
+                totalCount, succeededCount, skippedCount, failedCount, timedOutCount,
+                FileSizeUtils.normalizeFileSizeToStr(totalBytes, FileSizeUtils.BYTE), totalChars,
+                DateTimeUtils.millisToMoreReadableFormat(elapsedMillis),
+                NumberUtil.roundStr(getDocsPerSecond(), 2),
+                FileSizeUtils.normalizeFileSizeToStr((long) getBytesPerSecond(), FileSizeUtils.BYTE));
+    }
+}
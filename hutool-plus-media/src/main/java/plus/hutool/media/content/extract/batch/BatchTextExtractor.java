@@ -0,0 +1,548 @@
+package plus.hutool.media.content.extract.batch;
+
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.thread.NamedThreadFactory;
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.StrUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.extra.log.LogUtils;
+import plus.hutool.media.content.extract.StreamingParseResult;
+import plus.hutool.media.content.extract.TikaUtils;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.content.type.MediaTypeUtils;
+import plus.hutool.media.exception.TikaParseException;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 批量文本提取器
+ * <p>
+ * 以指定的并发数并行提取一批文档的文本，适用于建立全文索引等需要处理海量文档的场景：
+ * 只提取媒体类型在 {@link TikaUtils#SUPPORTED_MEDIA_TYPES_FOR_PARSE_STRING} 中的文档（其它文档直接跳过），
+ * 单个文档的提取失败（包括超时）不会中断整个批次，而是作为携带 {@link TikaParseException} 的提取结果返回。
+ * 单个文档的提取结果在提取完成时（按完成的先后顺序）回调给结果监听器，汇总结果只保留统计信息（包括吞吐量）。
+ * </p>
+ * <p>
+ * 每个文档的提取时间不能超过超时时间，超时后会取消提取：关闭文档的输入流、中断工作线程，
+ * 并且在解析器输出下一段文本时终止解析。Tika 的部分解析器既不响应中断，也不会在解析过程中读取输入流或者输出文本，
+ * 此时工作线程无法被立即停止，提取器会放弃等待该线程并由新的工作线程继续处理后面的文档，
+ * 因此单个无法停止的文档不会拖住整个批次。工作线程总数不超过并发数的 {@value #MAX_WORKERS_PER_CONCURRENCY} 倍：
+ * 被放弃而仍未结束的线程占满多出的名额时，提取器暂停提交新的文档，等待被放弃的线程结束；
+ * 在一个超时时间内都没有线程结束时，整个批次以 {@link IllegalStateException} 失败，避免线程数无限增长。
+ * </p>
+ * <p>
+ * 提取过程中抛出的任何异常（包括 {@link Error}）都只会导致当前文档的提取失败（{@link BatchTextExtractionResult.Status#FAILED}）。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class BatchTextExtractor {
+    private static final Logger log = LoggerFactory.getLogger(BatchTextExtractor.class);
+
+    /**
+     * 默认的单个文档提取超时时间（毫秒）
+     */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 60_000;
+
+    /**
+     * 默认的单个文档最多提取的字符数（与 {@link TikaUtils#parseToString(InputStream)} 相同）
+     */
+    public static final int DEFAULT_MAX_CHARS = 100_000;
+
+    /**
+     * 默认每处理多少个文档输出一次进度日志
+     */
+    public static final int DEFAULT_PROGRESS_LOG_INTERVAL = 1000;
+
+    /**
+     * 工作线程总数（包括被放弃的线程）相对于并发数的倍数上限
+     */
+    public static final int MAX_WORKERS_PER_CONCURRENCY = 2;
+
+    private static final String LOG_PREFIX = "【批量文本提取】";
+    private static final String THREAD_NAME_PREFIX = "batch-text-extraction-";
+
+    private final int concurrency;
+
+    private long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+    private int maxChars = DEFAULT_MAX_CHARS;
+    private int progressLogInterval = DEFAULT_PROGRESS_LOG_INTERVAL;
+
+    @Nullable
+    private Consumer<BatchTextExtractionResult> resultListener;
+
+    /**
+     * 创建批量文本提取器（并发数为 CPU 核数）
+     */
+    public BatchTextExtractor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 创建批量文本提取器
+     *
+     * @param concurrency 并发数（同时进行提取的文档数）
+     */
+    public BatchTextExtractor(int concurrency) {
+        Asserts.isTrue(concurrency > 0, "并发数必须大于 0: {}", concurrency);
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * 提取一组文档文件的文本
+     *
+     * @param paths 文档文件的 {@link Path} 对象集合
+     * @return 批量提取的汇总结果
+     */
+    public BatchTextExtractionSummary extractFiles(Collection<Path> paths) {
+        return execute(execution -> paths.forEach(path -> execution.submit(BatchTextExtractionSource.of(path))));
+    }
+
+    /**
+     * 提取一组文档的文本
+     *
+     * @param sources 文档的提取源（可以是文档文件，也可以是按需打开输入流的文档）
+     * @return 批量提取的汇总结果
+     * @see BatchTextExtractionSource#of(Path)
+     * @see BatchTextExtractionSource#of(String, java.util.function.Supplier)
+     */
+    public BatchTextExtractionSummary extract(Iterable<BatchTextExtractionSource> sources) {
+        return execute(execution -> sources.forEach(execution::submit));
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * 设置单个文档的提取超时时间（从提交提取任务开始计时）
+     *
+     * @param timeoutMillis 超时时间（毫秒）
+     */
+    public void setTimeoutMillis(long timeoutMillis) {
+        Asserts.isTrue(timeoutMillis > 0, "超时时间必须大于 0: {}", timeoutMillis);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public int getMaxChars() {
+        return maxChars;
+    }
+
+    /**
+     * 设置单个文档最多提取的字符数（达到上限后立即终止该文档的解析）
+     *
+     * @param maxChars 最多提取的字符数，{@link TikaUtils#NO_CHAR_LIMIT} 表示不限制
+     */
+    public void setMaxChars(int maxChars) {
+        Asserts.isTrue(maxChars >= 0 || maxChars == TikaUtils.NO_CHAR_LIMIT, "字符数上限不能小于 0: {}", maxChars);
+        this.maxChars = maxChars;
+    }
+
+    public int getProgressLogInterval() {
+        return progressLogInterval;
+    }
+
+    public void setProgressLogInterval(int progressLogInterval) {
+        Asserts.isTrue(progressLogInterval > 0, "进度日志的输出间隔必须大于 0: {}", progressLogInterval);
+        this.progressLogInterval = progressLogInterval;
+    }
+
+    /**
+     * 设置单个文档提取结果的监听器（在调用批量提取方法的线程中按完成的先后顺序回调）
+     *
+     * @param resultListener 提取结果的监听器
+     */
+    public void setResultListener(@Nullable Consumer<BatchTextExtractionResult> resultListener) {
+        this.resultListener = resultListener;
+    }
+
+    private BatchTextExtractionSummary execute(Consumer<Execution> taskProducer) {
+        LogUtils.logInfo(log, LOG_PREFIX, "开始提取: 并发数 = {}, 超时时间 = {} 毫秒", concurrency, timeoutMillis);
+
+        // 线程数上限留出被放弃的工作线程的名额：超时后无法停止的线程被放弃时，由其余的线程继续处理后面的文档
+        int maxWorkers = concurrency * MAX_WORKERS_PER_CONCURRENCY;
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxWorkers, maxWorkers, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new NamedThreadFactory(THREAD_NAME_PREFIX, true));
+        executor.allowCoreThreadTimeOut(true);
+        Execution execution = new Execution(executor, maxWorkers);
+        try {
+            taskProducer.accept(execution);
+            execution.awaitAll();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        BatchTextExtractionSummary summary = execution.toSummary();
+        LogUtils.logInfo(log, LOG_PREFIX, "{}", summary);
+        return summary;
+    }
+
+    private void notifyResultListener(BatchTextExtractionResult result) {
+        if (resultListener != null) {
+            try {
+                resultListener.accept(result);
+            } catch (Exception e) {
+                LogUtils.logWarn(log, LOG_PREFIX, "提取结果监听器执行出错: {}", e.toString());
+            }
+        }
+    }
+
+    /**
+     * 一次批量提取的执行过程（提交任务、回收结果、处理超时和聚合统计信息都在调用批量提取方法的线程中进行）
+     */
+    private final class Execution {
+        private final ExecutorService executor;
+        private final int maxWorkers;
+        private final BlockingQueue<Task> completedTasks = new LinkedBlockingQueue<>();
+        /**
+         * 正在提取的任务（所有任务的超时时间相同，因此按提交顺序排列的第一个任务最先超时）
+         */
+        private final Deque<Task> runningTasks = new ArrayDeque<>();
+        private final long startMillis = System.currentTimeMillis();
+        /**
+         * 已超时取消、但工作线程仍未结束的任务数
+         */
+        private int abandonedCount;
+
+        private long handledCount;
+        private long succeededCount;
+        private long skippedCount;
+        private long failedCount;
+        private long timedOutCount;
+        private long totalBytes;
+        private long totalChars;
+
+        private Execution(ExecutorService executor, int maxWorkers) {
+            this.executor = executor;
+            this.maxWorkers = maxWorkers;
+        }
+
+        private void submit(BatchTextExtractionSource source) {
+            while (runningTasks.size() >= concurrency || runningTasks.size() + abandonedCount >= maxWorkers) {
+                handleNext();
+            }
+            Task task = new Task(source, System.currentTimeMillis() + timeoutMillis);
+            runningTasks.addLast(task);
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    completedTasks.add(task);
+                }
+            });
+        }
+
+        private void awaitAll() {
+            while (!runningTasks.isEmpty()) {
+                handleNext();
+            }
+        }
+
+        /**
+         * 等待下一个任务完成或者超时，并处理其结果（没有正在提取的任务时，等待一个被放弃的工作线程结束）
+         */
+        private void handleNext() {
+            Task firstTask = runningTasks.peekFirst();
+            long waitMillis = firstTask == null ? timeoutMillis : firstTask.deadlineMillis - System.currentTimeMillis();
+
+            Task completedTask;
+            try {
+                completedTask = completedTasks.poll(Math.max(waitMillis, 0), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("批量文本提取被中断", e);
+            }
+
+            if (completedTask != null) {
+                // 超时的任务已经从 runningTasks 中移除，其工作线程之后才完成时不会再产生提取结果
+                if (runningTasks.remove(completedTask)) {
+                    // 没有被取消的任务一定已经产生了提取结果（extract() 不会抛出任何异常）
+                    handle(completedTask.result);
+                } else {
+                    abandonedCount--;
+                }
+                return;
+            }
+
+            if (firstTask == null) {
+                throw new IllegalStateException(StrUtil.format(
+                        "被放弃的工作线程数达到上限（{}），并且在 {} 毫秒内都没有结束，终止批量提取", abandonedCount, timeoutMillis));
+            }
+
+            long now = System.currentTimeMillis();
+            while (!runningTasks.isEmpty() && runningTasks.peekFirst().deadlineMillis <= now) {
+                Task timedOutTask = runningTasks.peekFirst();
+                if (!timedOutTask.cancel()) {
+                    // 工作线程恰好已经完成提取，其结果会在下一次处理
+                    break;
+                }
+                runningTasks.removeFirst();
+                abandonedCount++;
+                LogUtils.logWarn(log, LOG_PREFIX, "文档提取超时，已取消: {}", timedOutTask.source);
+                handle(BatchTextExtractionResult.timedOut(timedOutTask.source, now - timedOutTask.startMillis,
+                        new TikaParseException(StrUtil.format("文档解析超时（{} 毫秒）", timeoutMillis),
+                                new TimeoutException())));
+            }
+        }
+
+        private void handle(BatchTextExtractionResult result) {
+            handledCount++;
+            switch (result.getStatus()) {
+                case SUCCEEDED:
+                    succeededCount++;
+                    totalChars += result.getText() == null ? 0 : result.getText().length();
+                    break;
+                case SKIPPED:
+                    skippedCount++;
+                    break;
+                case FAILED:
+                    failedCount++;
+                    LogUtils.logWarn(log, LOG_PREFIX, "文档提取失败: {} - {}", result.getSource(), result.getFailure());
+                    break;
+                default:
+                    timedOutCount++;
+                    break;
+            }
+            totalBytes += Math.max(result.getSize(), 0);
+            notifyResultListener(result);
+
+            if (handledCount % progressLogInterval == 0) {
+                long elapsedMillis = Math.max(System.currentTimeMillis() - startMillis, 1);
+                LogUtils.logInfo(log, LOG_PREFIX, "已处理 {} 个文档 | 吞吐量: {} 个/秒", handledCount,
+                        NumberUtil.roundStr(handledCount * 1000.0 / elapsedMillis, 2));
+            }
+        }
+
+        private BatchTextExtractionSummary toSummary() {
+            return new BatchTextExtractionSummary(handledCount, succeededCount, skippedCount, failedCount,
+                    timedOutCount, totalBytes, totalChars, System.currentTimeMillis() - startMillis);
+        }
+    }
+
+    /**
+     * 单个文档的提取任务
+     */
+    private final class Task {
+        private final BatchTextExtractionSource source;
+        private final long startMillis = System.currentTimeMillis();
+        private final long deadlineMillis;
+        /**
+         * 任务是否已经结束（提取完成 或者 超时取消，先到者决定任务的结果）
+         */
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private volatile boolean cancelled;
+        @Nullable
+        private volatile BatchTextExtractionResult result;
+        @Nullable
+        private Thread worker;
+        @Nullable
+        private InputStream stream;
+
+        private Task(BatchTextExtractionSource source, long deadlineMillis) {
+            this.source = source;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        private void run() {
+            synchronized (this) {
+                worker = Thread.currentThread();
+            }
+            try {
+                BatchTextExtractionResult extracted = extract();
+                if (finished.compareAndSet(false, true)) {
+                    result = extracted;
+                }
+            } finally {
+                synchronized (this) {
+                    worker = null;
+                }
+                // 清除取消任务时设置的中断状态，避免影响该线程执行的下一个任务
+                Thread.interrupted();
+            }
+        }
+
+        /**
+         * 取消超时的任务
+         *
+         * @return 是否取消成功（任务已经完成时返回 false）
+         */
+        private boolean cancel() {
+            if (!finished.compareAndSet(false, true)) {
+                return false;
+            }
+            synchronized (this) {
+                cancelled = true;
+                IoUtil.close(stream);
+                if (worker != null) {
+                    worker.interrupt();
+                }
+            }
+            return true;
+        }
+
+        private synchronized InputStream open() throws InterruptedIOException {
+            if (cancelled) {
+                throw new InterruptedIOException("文档解析已取消");
+            }
+            stream = source.openStream();
+            return stream;
+        }
+
+        private BatchTextExtractionResult extract() {
+            MediaType mediaType = null;
+            CountingInputStream countingStream = null;
+            Path path = source.getPath();
+            try {
+                if (path != null) {
+                    mediaType = MediaTypeUtils.detectMediaType(path.toFile());
+                    if (!TikaUtils.SUPPORTED_MEDIA_TYPES_FOR_PARSE_STRING.contains(mediaType)) {
+                        return BatchTextExtractionResult.skipped(source, path.toFile().length(), elapsedMillis(),
+                                mediaType);
+                    }
+                }
+
+                countingStream = new CountingInputStream(open());
+                InputStream in = new BufferedInputStream(countingStream);
+                if (path == null) {
+                    mediaType = MediaTypeUtils.detectMediaType(in, source.getName());
+                    if (!TikaUtils.SUPPORTED_MEDIA_TYPES_FOR_PARSE_STRING.contains(mediaType)) {
+                        IoUtil.close(in);
+                        return BatchTextExtractionResult.skipped(source, countingStream.count, elapsedMillis(),
+                                mediaType);
+                    }
+                }
+
+                StringWriter writer = new StringWriter();
+                StreamingParseResult parseResult = TikaUtils.parseTo(in, new CancellableWriter(writer, this),
+                        maxChars);
+                return BatchTextExtractionResult.succeeded(source, size(path, countingStream), elapsedMillis(),
+                        mediaType, writer.toString(), parseResult.isTruncated());
+            } catch (TikaParseException e) {
+                return BatchTextExtractionResult.failed(source, size(path, countingStream), elapsedMillis(),
+                        mediaType, e);
+            } catch (Throwable e) {
+                // 包括解析器抛出的 Error（如 StackOverflowError），只影响当前文档
+                IoUtil.close(countingStream);
+                return BatchTextExtractionResult.failed(source, size(path, countingStream), elapsedMillis(),
+                        mediaType, new TikaParseException("文档解析出错", e));
+            }
+        }
+
+        private long elapsedMillis() {
+            return System.currentTimeMillis() - startMillis;
+        }
+
+        private long size(@Nullable Path path, @Nullable CountingInputStream countingStream) {
+            if (path != null) {
+                return path.toFile().length();
+            }
+            return countingStream == null ? -1 : countingStream.count;
+        }
+    }
+
+    /**
+     * 任务被取消后，在解析器输出下一段文本时终止解析的 Writer
+     */
+    private static final class CancellableWriter extends FilterWriter {
+        private final Task task;
+
+        private CancellableWriter(Writer out, Task task) {
+            super(out);
+            this.task = task;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            checkCancelled();
+            out.write(c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            checkCancelled();
+            out.write(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            checkCancelled();
+            out.write(str, off, len);
+        }
+
+        private void checkCancelled() throws InterruptedIOException {
+            if (task.cancelled) {
+                throw new InterruptedIOException("文档解析已取消");
+            }
+        }
+    }
+
+    /**
+     * 统计读取字节数的输入流（用于统计按需打开输入流的文档的大小）
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
@@ -1,22 +1,17 @@
 package plus.hutool.media.content.type;
 
-import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.util.StrUtil;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 import plus.hutool.core.lang.annotation.Nullable;
-import plus.hutool.core.iterable.collection.CollUtils;
 import plus.hutool.core.lang.ObjectUtils;
 import plus.hutool.core.text.string.StrUtils;
 import plus.hutool.media.content.type.internal.MainMediaType;
 
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 
 import static plus.hutool.media.content.type.internal.SubMediaType.*;
 
@@ -30,16 +25,6 @@ import static plus.hutool.media.content.type.internal.SubMediaType.*;
 @SuppressWarnings({"unused", "checkstyle:LineLength", "SpellCheckingInspection", "JavadocDeclaration"})
 @Data
 public class MediaType {
-    /**
-     * internal cache of mapping from fullTypeStr to {@link MediaType}
-     */
-    private static final Map<String, MediaType> LOCAL_CACHE = new LinkedHashMap<>();
-    /**
-     * Partial one-to-one mapping of file extension to {@link MediaType}
-     */
-    private static final Map<String, Set<MediaType>> FILE_EXTENSION_TO_MEDIA_TYPES_MAP = new HashMap<>();
-
-
     // =======================================================================
     //  Media Type Constants - TEXT
     // =======================================================================
@@ -305,11 +290,28 @@ public class MediaType {
 
     private final List<String> fileExtensionList;
 
+    /**
+     * 注册表中的 ID（不是通过注册表创建的对象为 -1）
+     */
+    private final int id;
+
+    @Getter(AccessLevel.NONE)
+    private final String fullTypeStr;
+    @Getter(AccessLevel.NONE)
+    private final int hash;
+
     private MediaType(final MainMediaType mainType, final String subtype, List<String> fileExtensionList) {
+        this(mainType, subtype, fileExtensionList, -1);
+    }
+
+    MediaType(final MainMediaType mainType, final String subtype, List<String> fileExtensionList, int id) {
         this.mainType = mainType;
         this.mainTypeStr = mainType.strValue();
         this.subTypeStr = subtype;
         this.fileExtensionList = fileExtensionList;
+        this.id = id;
+        this.fullTypeStr = mainTypeStr + '/' + subTypeStr;
+        this.hash = Objects.hash(mainTypeStr, subTypeStr);
     }
 
     /**
@@ -321,25 +323,38 @@ public class MediaType {
      * @return {@link MediaType} 对象
      */
     static MediaType of(MainMediaType mainType, String subtype, String... fileExtensions) {
-        String fullType = StrUtil.format("{}/{}", mainType.strValue(), subtype.toLowerCase());
-        MediaType result = LOCAL_CACHE.get(fullType);
-        if (!LOCAL_CACHE.containsKey(fullType)) {
-            List<String> fileExtensionList = fileExtensions.length == 0
-                    ? Collections.emptyList() : CollUtils.unmodifiableList(true, fileExtensions);
-            result = new MediaType(mainType, subtype, fileExtensionList);
-            LOCAL_CACHE.putIfAbsent(fullType, result);
-
-            for (String fileExtension : fileExtensionList) {
-                fileExtension = fileExtension.toLowerCase();
-                if (FILE_EXTENSION_TO_MEDIA_TYPES_MAP.containsKey(fileExtension)) {
-                    Set<MediaType> mediaTypes = FILE_EXTENSION_TO_MEDIA_TYPES_MAP.get(fileExtension);
-                    mediaTypes.add(result);
-                } else {
-                    FILE_EXTENSION_TO_MEDIA_TYPES_MAP.put(fileExtension, CollUtil.newHashSet(result));
-                }
-            }
-        }
-        return result;
+        return MediaTypeRegistry.register(mainType, subtype, fileExtensions);
+    }
+
+    /**
+     * 根据完整的媒体类型字符串（不区分大小写，不能带参数）查询已注册的 {@link MediaType} 对象
+     *
+     * @param fullType 完整的媒体类型字符串（如 application/pdf）
+     * @return {@link MediaType} 对象（未注册时返回 null）
+     */
+    @Nullable
+    public static MediaType lookup(CharSequence fullType) {
+        return MediaTypeRegistry.lookup(fullType);
+    }
+
+    /**
+     * 根据注册表中的 ID 查询已注册的 {@link MediaType} 对象
+     *
+     * @param id 注册表中的 ID（参见 {@link #getId()}）
+     * @return {@link MediaType} 对象（ID 不存在时返回 null）
+     */
+    @Nullable
+    public static MediaType getById(int id) {
+        return MediaTypeRegistry.getById(id);
+    }
+
+    /**
+     * 获取已注册的 {@link MediaType} 对象个数（已注册对象的 ID 取值范围为 [0, 个数)）
+     *
+     * @return 已注册的 {@link MediaType} 对象个数
+     */
+    public static int registeredCount() {
+        return MediaTypeRegistry.size();
     }
 
     public String strValue() {
@@ -381,12 +396,8 @@ public class MediaType {
     public static MediaType getOneByFileExtension(String fileExtension) {
         String fileExtWithoutLeadingDot = StrUtil.removePrefix(fileExtension.toLowerCase(), StrUtils.DOT);
 
-        Set<MediaType> mediaTypes = FILE_EXTENSION_TO_MEDIA_TYPES_MAP.get(fileExtWithoutLeadingDot);
-        if (mediaTypes != null && mediaTypes.size() == 1) {
-            return CollUtil.getFirst(mediaTypes);
-        } else {
-            return null;
-        }
+        List<MediaType> mediaTypes = MediaTypeRegistry.getByFileExtension(fileExtWithoutLeadingDot);
+        return mediaTypes.size() == 1 ? mediaTypes.get(0) : null;
     }
 
     public static MediaType application(String subType, String... fileExtensions) {
@@ -419,7 +430,7 @@ public class MediaType {
 
     @Override
     public String toString() {
-        return StrUtil.format("{}/{}", getMainTypeStr(), getSubTypeStr());
+        return fullTypeStr;
     }
 
     @Override
@@ -431,11 +442,15 @@ public class MediaType {
             return false;
         }
         MediaType mediaType = (MediaType) o;
-        return mainTypeStr.equals(mediaType.mainTypeStr) && subTypeStr.equals(mediaType.subTypeStr);
+        if (id >= 0 && mediaType.id >= 0) {
+            // 注册表保证同一个媒体类型只有一个已注册的对象
+            return false;
+        }
+        return hash == mediaType.hash && mainTypeStr.equals(mediaType.mainTypeStr) && subTypeStr.equals(mediaType.subTypeStr);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(mainTypeStr, subTypeStr);
+        return hash;
     }
 }
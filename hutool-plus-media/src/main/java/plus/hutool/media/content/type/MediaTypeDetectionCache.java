@@ -0,0 +1,188 @@
+package plus.hutool.media.content.type;
+
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.lang.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 媒体类型探测结果缓存（有容量上限，按 LRU 顺序淘汰，缓存项超过有效时长后失效）
+ * <p>
+ * 文件以 规范路径 作为 Key，缓存项同时记录文件的大小和最后修改时间，查询时两者任一发生变化即视为文件已被修改，
+ * 缓存项自动失效。
+ * </p>
+ * <p>
+ * 输入流的探测结果不缓存：输入流没有廉价且可靠的标识，按内容计算 Key 的开销与探测本身相当，
+ * 而只按开头部分内容计算 Key 又可能误命中（如 zip 容器格式的探测依赖文件末尾的中央目录）。
+ * </p>
+ * <p>
+ * 通过 {@link MediaTypeUtils#setDetectionCache(MediaTypeDetectionCache)} 启用后，
+ * 所有经由 {@link MediaTypeUtils} 的媒体类型探测（包括文件转换、图片读取等内部调用）都会使用此缓存。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class MediaTypeDetectionCache {
+
+    /**
+     * 默认的缓存容量（缓存项个数）
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * 默认的缓存项有效时长（毫秒数）
+     */
+    public static final long DEFAULT_TTL_MILLIS = 10 * 60 * 1000L;
+
+    private static final String FILE_KEY_PREFIX = "file:";
+
+    private final int capacity;
+    private final long ttlMillis;
+
+    /**
+     * 缓存项，按访问顺序排序
+     */
+    private final LinkedHashMap<String, CacheEntry> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * 使用默认的容量和有效时长创建媒体类型探测结果缓存
+     */
+    public MediaTypeDetectionCache() {
+        this(DEFAULT_CAPACITY, DEFAULT_TTL_MILLIS);
+    }
+
+    /**
+     * 创建媒体类型探测结果缓存
+     *
+     * @param capacity  缓存容量（缓存项个数）
+     * @param ttlMillis 缓存项有效时长（毫秒数）
+     */
+    public MediaTypeDetectionCache(int capacity, long ttlMillis) {
+        Asserts.isTrue(capacity > 0, "缓存容量必须大于 0: {}", capacity);
+        Asserts.isTrue(ttlMillis > 0, "缓存项有效时长必须大于 0: {}", ttlMillis);
+
+        this.capacity = capacity;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > MediaTypeDetectionCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * 查询文件的媒体类型，未命中时调用探测方法并缓存探测结果
+     *
+     * @param file     文件对象
+     * @param detector 媒体类型探测方法
+     * @return 文件的媒体类型
+     */
+    public MediaType detect(File file, Function<File, MediaType> detector) {
+        String key = FILE_KEY_PREFIX + canonicalPath(file);
+        long size = file.length();
+        long lastModified = file.lastModified();
+
+        MediaType cached = get(key, size, lastModified);
+        if (cached != null) {
+            return cached;
+        }
+
+        MediaType result = detector.apply(file);
+        put(key, new CacheEntry(result, size, lastModified, System.currentTimeMillis()));
+        return result;
+    }
+
+    /**
+     * 使指定文件的缓存项失效
+     *
+     * @param file 文件对象
+     */
+    public synchronized void invalidate(File file) {
+        entries.remove(FILE_KEY_PREFIX + canonicalPath(file));
+    }
+
+    /**
+     * 清空缓存
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    @Nullable
+    private synchronized MediaType get(String key, long size, long lastModified) {
+        CacheEntry entry = entries.get(key);
+        if (entry != null) {
+            boolean expired = System.currentTimeMillis() - entry.createdAtMillis >= ttlMillis;
+            boolean fileChanged = entry.size != size || entry.lastModified != lastModified;
+            if (!expired && !fileChanged) {
+                hitCount.incrementAndGet();
+                return entry.mediaType;
+            }
+            entries.remove(key);
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    private synchronized void put(String key, CacheEntry entry) {
+        entries.put(key, entry);
+    }
+
+    private static String canonicalPath(File file) {
+        try {
+            return file.getCanonicalPath();
+        } catch (IOException e) {
+            return file.getAbsolutePath();
+        }
+    }
+
+    /**
+     * 缓存项
+     */
+    private static final class CacheEntry {
+        private final MediaType mediaType;
+        private final long size;
+        private final long lastModified;
+        private final long createdAtMillis;
+
+        private CacheEntry(MediaType mediaType, long size, long lastModified, long createdAtMillis) {
+            this.mediaType = mediaType;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.createdAtMillis = createdAtMillis;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package plus.hutool.media.content.type;
+
+import plus.hutool.media.content.type.internal.MainMediaType;
+import plus.hutool.media.content.type.internal.MediaTypeAliasMap;
+import plus.hutool.media.exception.IllegalFullMediaTypeStrException;
+
+import java.util.Locale;
+
+/**
+ * 媒体类型字符串解析器
+ * <p>
+ * 解析 {@code type/subtype; param=value} 格式的媒体类型字符串：只扫描一遍字符串确定类型部分的边界，
+ * 然后直接以该区间在已废弃的别名表和 {@link MediaType} 注册表中进行不区分大小写的查找，
+ * 对于已注册的媒体类型，整个解析过程不会截取子串、转换大小写或者编译正则表达式。
+ * 只有第一次遇到未注册的媒体类型时，才会创建字符串并注册新的 {@link MediaType}。
+ * </p>
+ * <p>
+ * 参数部分（如 charset）不参与媒体类型的解析，需要时使用 {@link #parseWithParameters(String)}，参数在第一次访问时才解析。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public abstract class MediaTypeParser {
+    private static final MediaTypeAliasMap DEPRECATED_ALIAS_MAP = MediaTypeAliasMap.INSTANCE
+            .addAlias(MediaType.APPLICATION_GZIP, "application/x-gzip")
+            .addAlias(MediaType.APPLICATION_RAR, "application/x-rar-compressed")
+            .addAlias(MediaType.APPLICATION_TAR, "application/x-gtar")
+            .addAlias(MediaType.APPLICATION_SQL, "text/x-sql")
+            .addAlias(MediaType.TEXT_JAVASCRIPT, "application/javascript")
+            .addAlias(MediaType.TEXT_MARKDOWN, "text/x-web-markdown")
+            .addAlias(MediaType.TEXT_C_SOURCE, "text/x-csrc")
+            .addAlias(MediaType.TEXT_CPP_SOURCE, "text/x-c++src")
+            .addAlias(MediaType.TEXT_C_HEADER, "text/x-chdr")
+            .addAlias(MediaType.IMAGE_PCX, "image/vnd.zbrush.pcx")
+            .addAlias(MediaType.AUDIO_AAC, "audio/x-aac");
+
+    private MediaTypeParser() {}
+
+    /**
+     * 解析媒体类型字符串（忽略参数部分，不区分大小写，已废弃的别名转换为规范的媒体类型）
+     *
+     * @param str 媒体类型字符串（如 text/plain; charset=UTF-8）
+     * @return 媒体类型 {@link MediaType}
+     * @throws IllegalFullMediaTypeStrException 如果媒体类型字符串的格式不正确
+     */
+    public static MediaType parse(CharSequence str) {
+        return resolve(str, true);
+    }
+
+    /**
+     * 解析媒体类型字符串，同时保留参数部分（参数在第一次访问时才解析）
+     *
+     * @param str 媒体类型字符串（如 text/plain; charset=UTF-8）
+     * @return 解析结果
+     * @throws IllegalFullMediaTypeStrException 如果媒体类型字符串的格式不正确
+     */
+    public static ParsedMediaType parseWithParameters(String str) {
+        return new ParsedMediaType(resolve(str, true), str);
+    }
+
+    /**
+     * 解析媒体类型字符串（忽略参数部分，不区分大小写，不转换已废弃的别名）
+     *
+     * @param str 媒体类型字符串
+     * @return 媒体类型 {@link MediaType}
+     * @throws IllegalFullMediaTypeStrException 如果媒体类型字符串的格式不正确
+     */
+    static MediaType parseExact(CharSequence str) {
+        return resolve(str, false);
+    }
+
+    private static MediaType resolve(CharSequence source, boolean resolveAliases) {
+        int length = source.length();
+        int start = 0;
+        while (start < length && isWhitespace(source.charAt(start))) {
+            start++;
+        }
+
+        int separatorIndex = -1;
+        int end = start;
+        for (; end < length; end++) {
+            char c = source.charAt(end);
+            if (c == ';') {
+                break;
+            }
+            if (c == '/' && separatorIndex == -1) {
+                separatorIndex = end;
+            }
+        }
+        while (end > start && isWhitespace(source.charAt(end - 1))) {
+            end--;
+        }
+
+        if (separatorIndex == -1 || separatorIndex == start || separatorIndex >= end - 1) {
+            throw new IllegalFullMediaTypeStrException(source.toString());
+        }
+
+        if (resolveAliases) {
+            MediaType normalized = DEPRECATED_ALIAS_MAP.getNormalizedMediaType(source, start, end);
+            if (normalized != null) {
+                return normalized;
+            }
+        }
+
+        MediaType registered = MediaTypeRegistry.lookup(source, start, end);
+        if (registered != null) {
+            return registered;
+        }
+
+        MainMediaType mainType = MainMediaType.of(source.subSequence(start, separatorIndex).toString());
+        String subTypeStr = source.subSequence(separatorIndex + 1, end).toString().toLowerCase(Locale.ROOT);
+        return MediaType.of(mainType, subTypeStr);
+    }
+
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+    }
+}
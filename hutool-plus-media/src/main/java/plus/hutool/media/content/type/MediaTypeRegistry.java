@@ -0,0 +1,156 @@
+package plus.hutool.media.content.type;
+
+import plus.hutool.core.iterable.collection.CollUtils;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.media.content.type.internal.CaseInsensitiveLookupTable;
+import plus.hutool.media.content.type.internal.MainMediaType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 媒体类型注册表（写时复制）
+ * <p>
+ * 注册表的内容保存在不可变的快照中，查询时直接读取当前快照，不需要加锁；注册新的媒体类型时在锁内复制当前快照、
+ * 添加新的媒体类型后整体发布新快照，因此运行时可以安全地在多个线程中注册和查询。
+ * 每个注册的媒体类型按注册顺序分配一个从 0 开始的连续整数 ID，可用于以数组代替 Map 的场景。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+final class MediaTypeRegistry {
+
+    private static volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private MediaTypeRegistry() {}
+
+    /**
+     * 注册媒体类型（已注册时直接返回已注册的媒体类型，忽略传入的文件名后缀）
+     *
+     * @param mainType       媒体类型主类型
+     * @param subtype        媒体类型子类型
+     * @param fileExtensions 文件名后缀
+     * @return 注册表中的媒体类型
+     */
+    static MediaType register(MainMediaType mainType, String subtype, String... fileExtensions) {
+        String fullTypeKey = mainType.strValue() + '/' + subtype;
+        MediaType result = snapshot.byFullType.get(fullTypeKey);
+        if (result != null) {
+            return result;
+        }
+
+        synchronized (MediaTypeRegistry.class) {
+            Snapshot current = snapshot;
+            result = current.byFullType.get(fullTypeKey);
+            if (result == null) {
+                List<String> fileExtensionList = fileExtensions.length == 0
+                        ? Collections.emptyList() : CollUtils.unmodifiableList(true, fileExtensions);
+                result = new MediaType(mainType, subtype, fileExtensionList, current.byId.length);
+                snapshot = current.with(fullTypeKey, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 根据完整的媒体类型字符串（不区分大小写）查询已注册的媒体类型
+     *
+     * @param fullType 完整的媒体类型字符串（如 application/pdf）
+     * @return 已注册的媒体类型（未注册时返回 null）
+     */
+    @Nullable
+    static MediaType lookup(CharSequence fullType) {
+        return snapshot.byFullType.get(fullType);
+    }
+
+    /**
+     * 以字符序列的指定区间作为完整的媒体类型字符串（不区分大小写）查询已注册的媒体类型（不创建中间对象）
+     *
+     * @param source 字符序列
+     * @param start  完整的媒体类型字符串的起始位置（包含）
+     * @param end    完整的媒体类型字符串的结束位置（不包含）
+     * @return 已注册的媒体类型（未注册时返回 null）
+     */
+    @Nullable
+    static MediaType lookup(CharSequence source, int start, int end) {
+        return snapshot.byFullType.get(source, start, end);
+    }
+
+    /**
+     * 根据 ID 查询已注册的媒体类型
+     *
+     * @param id 媒体类型的 ID
+     * @return 已注册的媒体类型（ID 不存在时返回 null）
+     */
+    @Nullable
+    static MediaType getById(int id) {
+        MediaType[] byId = snapshot.byId;
+        return id >= 0 && id < byId.length ? byId[id] : null;
+    }
+
+    /**
+     * 根据文件名后缀（小写，不含点号）查询已注册的媒体类型
+     *
+     * @param fileExtension 文件名后缀
+     * @return 已注册的媒体类型列表（不可修改，不存在时返回空列表）
+     */
+    static List<MediaType> getByFileExtension(String fileExtension) {
+        List<MediaType> result = snapshot.byFileExtension.get(fileExtension);
+        return result == null ? Collections.emptyList() : result;
+    }
+
+    /**
+     * 获取已注册的媒体类型个数（即下一个注册的媒体类型的 ID）
+     *
+     * @return 已注册的媒体类型个数
+     */
+    static int size() {
+        return snapshot.byId.length;
+    }
+
+    /**
+     * 注册表快照（不可变）
+     */
+    private static final class Snapshot {
+        private static final Snapshot EMPTY =
+                new Snapshot(new MediaType[0], CaseInsensitiveLookupTable.empty(), Collections.emptyMap());
+
+        private final MediaType[] byId;
+        private final CaseInsensitiveLookupTable<MediaType> byFullType;
+        private final Map<String, List<MediaType>> byFileExtension;
+
+        private Snapshot(MediaType[] byId, CaseInsensitiveLookupTable<MediaType> byFullType,
+                         Map<String, List<MediaType>> byFileExtension) {
+            this.byId = byId;
+            this.byFullType = byFullType;
+            this.byFileExtension = byFileExtension;
+        }
+
+        private Snapshot with(String fullTypeKey, MediaType mediaType) {
+            MediaType[] newById = Arrays.copyOf(byId, byId.length + 1);
+            newById[mediaType.getId()] = mediaType;
+
+            CaseInsensitiveLookupTable<MediaType> newByFullType = byFullType.with(fullTypeKey, mediaType);
+
+            Map<String, List<MediaType>> newByFileExtension = new HashMap<>(byFileExtension);
+            for (String fileExtension : mediaType.getFileExtensionList()) {
+                String key = fileExtension.toLowerCase(Locale.ROOT);
+                List<MediaType> mediaTypes = new ArrayList<>(
+                        newByFileExtension.getOrDefault(key, Collections.emptyList()));
+                if (!mediaTypes.contains(mediaType)) {
+                    mediaTypes.add(mediaType);
+                }
+                newByFileExtension.put(key, Collections.unmodifiableList(mediaTypes));
+            }
+
+            return new Snapshot(newById, newByFullType, newByFileExtension);
+        }
+    }
+}
@@ -2,20 +2,25 @@ package plus.hutool.media.content.type;
 
 import cn.hutool.core.io.IORuntimeException;
 import cn.hutool.core.map.MapUtil;
-import cn.hutool.core.util.ReUtil;
 import cn.hutool.core.util.StrUtil;
-import org.apache.tika.Tika;
 import plus.hutool.core.io.FileUtils;
 import plus.hutool.core.lang.Asserts;
 import plus.hutool.core.lang.ExceptionUtils;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.media.content.type.detect.MagicBytesMediaTypeDetector;
+import plus.hutool.media.content.type.detect.MediaTypeDetector;
+import plus.hutool.media.content.type.detect.TikaMediaTypeDetector;
+import plus.hutool.media.content.type.detect.ZipContainerMediaTypeDetector;
 import plus.hutool.media.content.type.internal.MainMediaType;
-import plus.hutool.media.content.type.internal.MediaTypeAliasMap;
 import plus.hutool.media.exception.IllegalFullMediaTypeStrException;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -38,25 +43,18 @@ import static plus.hutool.media.content.type.MediaType.VIDEO_QUICKTIME;
 
 /**
  * 媒体类型工具类
+ * <p>
+ * 媒体类型探测按顺序调用探测器链中的 {@link MediaTypeDetector}，默认先使用基于文件头魔数的
+ * {@link MagicBytesMediaTypeDetector} 快速识别常见格式，再使用只读取 ZIP 中央目录的
+ * {@link ZipContainerMediaTypeDetector} 识别 OFD、OOXML、ODF 等 ZIP 容器格式，仍无法确定时才使用 {@link TikaMediaTypeDetector}；
+ * 探测结果最后统一根据文件名后缀进行修正。
+ * </p>
  *
  * @author bianyun
  * @date 2022/12/08
  */
 @SuppressWarnings({"SpellCheckingInspection", "JavadocDeclaration"})
 public abstract class MediaTypeUtils {
-    private static final MediaTypeAliasMap DEPRECATED_ALIAS_MAP = MediaTypeAliasMap.INSTANCE
-            .addAlias(MediaType.APPLICATION_GZIP, "application/x-gzip")
-            .addAlias(MediaType.APPLICATION_RAR, "application/x-rar-compressed")
-            .addAlias(MediaType.APPLICATION_TAR, "application/x-gtar")
-            .addAlias(MediaType.APPLICATION_SQL, "text/x-sql")
-            .addAlias(MediaType.TEXT_JAVASCRIPT, "application/javascript")
-            .addAlias(MediaType.TEXT_MARKDOWN, "text/x-web-markdown")
-            .addAlias(MediaType.TEXT_C_SOURCE, "text/x-csrc")
-            .addAlias(MediaType.TEXT_CPP_SOURCE, "text/x-c++src")
-            .addAlias(MediaType.TEXT_C_HEADER, "text/x-chdr")
-            .addAlias(MediaType.IMAGE_PCX, "image/vnd.zbrush.pcx")
-            .addAlias(MediaType.AUDIO_AAC, "audio/x-aac");
-
     private static final Map<MediaType, Set<MediaType>> TIKA_FALSE_RESULT_TO_TRUE_TYPES_MAP =
             MapUtil.<MediaType, Set<MediaType>>builder()
                     .put(MULTIPART_RELATED, toSet(APPLICATION_MHTML))
@@ -67,8 +65,71 @@ public abstract class MediaTypeUtils {
                     .put(VIDEO_QUICKTIME, toSet(VIDEO_F4V))
                     .build();
 
+    private static final Set<MediaType> NEED_REVIEWED_DETECTED_MEDIA_TYPES = needReviewedDetectedMediaTypes();
+
+    private static final List<MediaTypeDetector> DEFAULT_DETECTORS = Collections.unmodifiableList(
+            Arrays.asList(MagicBytesMediaTypeDetector.INSTANCE, ZipContainerMediaTypeDetector.INSTANCE,
+                    TikaMediaTypeDetector.INSTANCE));
+
+    private static volatile List<MediaTypeDetector> detectors = DEFAULT_DETECTORS;
+
+    @Nullable
+    private static volatile MediaTypeDetectionCache detectionCache;
+
     private MediaTypeUtils() {}
 
+    /**
+     * 获取当前使用的媒体类型探测器链
+     *
+     * @return 媒体类型探测器链（不可修改）
+     */
+    public static List<MediaTypeDetector> getDetectors() {
+        return detectors;
+    }
+
+    /**
+     * 设置媒体类型探测器链（按顺序调用，第一个返回非 null 结果的探测器决定探测结果）
+     * <p>
+     * 所有探测器都无法确定媒体类型时，探测结果为 {@link MediaType#APPLICATION_OCTET_STREAM}，
+     * 因此通常应当将 {@link TikaMediaTypeDetector#INSTANCE} 放在最后。
+     * </p>
+     *
+     * @param mediaTypeDetectors 媒体类型探测器链
+     */
+    public static void setDetectors(List<MediaTypeDetector> mediaTypeDetectors) {
+        Asserts.notEmpty(mediaTypeDetectors, "媒体类型探测器链不能为空");
+        detectors = Collections.unmodifiableList(new ArrayList<>(mediaTypeDetectors));
+        clearDetectionCache();
+    }
+
+    /**
+     * 恢复默认的媒体类型探测器链（{@link MagicBytesMediaTypeDetector} + {@link ZipContainerMediaTypeDetector}
+     * + {@link TikaMediaTypeDetector}）
+     */
+    public static void resetDetectors() {
+        detectors = DEFAULT_DETECTORS;
+        clearDetectionCache();
+    }
+
+    /**
+     * 获取媒体类型探测结果缓存
+     *
+     * @return 媒体类型探测结果缓存（未启用时返回 null）
+     */
+    @Nullable
+    public static MediaTypeDetectionCache getDetectionCache() {
+        return detectionCache;
+    }
+
+    /**
+     * 设置媒体类型探测结果缓存（默认不启用，传入 null 时停用缓存）
+     *
+     * @param cache 媒体类型探测结果缓存
+     */
+    public static void setDetectionCache(@Nullable MediaTypeDetectionCache cache) {
+        detectionCache = cache;
+    }
+
     /**
      * 探测文件的媒体类型 {@link MediaType}
      *
@@ -76,9 +137,8 @@ public abstract class MediaTypeUtils {
      * @return 文件的媒体类型 {@link MediaType}
      */
     public static MediaType detectMediaType(File file) {
-        String mediaTypeParsedByTika = detectMediaTypeByTika(file);
-        Asserts.notBlank(mediaTypeParsedByTika, "文件的媒体类型不能为空: {}", file.getAbsolutePath());
-        return doDetectMediaType(mediaTypeParsedByTika, file.getName());
+        MediaTypeDetectionCache cache = detectionCache;
+        return cache == null ? doDetectMediaType(file) : cache.detect(file, MediaTypeUtils::doDetectMediaType);
     }
 
     /**
@@ -89,8 +149,38 @@ public abstract class MediaTypeUtils {
      * @return 文件的媒体类型 {@link MediaType}
      */
     public static MediaType detectMediaType(InputStream inputStream, String filename) {
-        String mediaTypeParsedByTika = detectMediaTypeByTika(inputStream, filename);
-        return doDetectMediaType(mediaTypeParsedByTika, filename);
+        InputStream markableStream = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+        return doDetectMediaType(markableStream, filename);
+    }
+
+    private static MediaType doDetectMediaType(File file) {
+        MediaType detectedMediaType = null;
+        try {
+            for (MediaTypeDetector detector : detectors) {
+                detectedMediaType = detector.detect(file);
+                if (detectedMediaType != null) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+        return reviewDetectedMediaType(detectedMediaType, file.getName());
+    }
+
+    private static MediaType doDetectMediaType(InputStream markableStream, String filename) {
+        MediaType detectedMediaType = null;
+        try {
+            for (MediaTypeDetector detector : detectors) {
+                detectedMediaType = detector.detect(markableStream, filename);
+                if (detectedMediaType != null) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+        return reviewDetectedMediaType(detectedMediaType, filename);
     }
 
     /**
@@ -128,6 +218,28 @@ public abstract class MediaTypeUtils {
         }
     }
 
+    /**
+     * 从完整的媒体类型字符串（格式：MainMediaType/SubMediaType，如 application/pdf）解析出媒体类型 {@link MediaType}
+     *
+     * @param fullType 完整的媒体类型字符串
+     * @return 媒体类型 {@link MediaType}
+     * @throws IllegalFullMediaTypeStrException 如果媒体类型字符串的格式不正确
+     */
+    public static MediaType parseMediaType(String fullType) {
+        return MediaTypeParser.parseExact(fullType);
+    }
+
+    /**
+     * 解析探测器（如 Tika）返回的媒体类型字符串：去掉参数部分并统一为小写，已废弃的别名转换为规范的媒体类型
+     *
+     * @param fullMediaTypeStr 探测器返回的媒体类型字符串（如 text/plain; charset=UTF-8）
+     * @return 媒体类型 {@link MediaType}
+     * @throws IllegalFullMediaTypeStrException 如果媒体类型字符串的格式不正确
+     */
+    public static MediaType normalizeMediaType(String fullMediaTypeStr) {
+        return MediaTypeParser.parse(fullMediaTypeStr);
+    }
+
     /**
      * 从完整的媒体类型字符串（格式：MainMediaType/SubMediaType）解析出媒体类型 {@link MediaType}
      *
@@ -135,31 +247,26 @@ public abstract class MediaTypeUtils {
      * @return 媒体类型 {@link MediaType}
      */
     static MediaType parseFromFullTypeStr(String fullType) {
-        int separatorIndex = fullType.indexOf('/');
-        if (separatorIndex == -1 || separatorIndex == 0 || separatorIndex == fullType.length() - 1) {
-            throw new IllegalFullMediaTypeStrException(fullType);
-        } else {
-            String mainTypeStr = fullType.substring(0, separatorIndex);
-            String subTypeStr = fullType.substring(separatorIndex + 1);
-
-            MainMediaType mainType = MainMediaType.of(mainTypeStr);
-            return MediaType.of(mainType, subTypeStr);
-        }
+        return MediaTypeParser.parseExact(fullType);
     }
 
-    private static MediaType doDetectMediaType(String fullMediaTypeStr, String filename) {
-        String normalizedFullMediaTypeStr = ReUtil.delAll("\\s*;.*", fullMediaTypeStr).toLowerCase();
-
-        if (DEPRECATED_ALIAS_MAP.isDeprecated(normalizedFullMediaTypeStr)) {
-            return DEPRECATED_ALIAS_MAP.getNormalizedMediaType(normalizedFullMediaTypeStr);
+    private static void clearDetectionCache() {
+        MediaTypeDetectionCache cache = detectionCache;
+        if (cache != null) {
+            cache.clear();
         }
+    }
 
-        MediaType result = parseFromFullTypeStr(normalizedFullMediaTypeStr);
+    private static Set<MediaType> needReviewedDetectedMediaTypes() {
+        Set<MediaType> result = toSet(TEXT_PLAIN, APPLICATION_OCTET_STREAM);
+        result.addAll(TIKA_FALSE_RESULT_TO_TRUE_TYPES_MAP.keySet());
+        return result;
+    }
 
-        Set<MediaType> needReviewedTikaDetectedMediaTypes = toSet(TEXT_PLAIN, APPLICATION_OCTET_STREAM);
-        needReviewedTikaDetectedMediaTypes.addAll(TIKA_FALSE_RESULT_TO_TRUE_TYPES_MAP.keySet());
+    private static MediaType reviewDetectedMediaType(@Nullable MediaType detectedMediaType, String filename) {
+        MediaType result = detectedMediaType == null ? APPLICATION_OCTET_STREAM : detectedMediaType;
 
-        if (result.isAnyOf(needReviewedTikaDetectedMediaTypes)) {
+        if (result.isAnyOf(NEED_REVIEWED_DETECTED_MEDIA_TYPES)) {
             String fileExtension = FileUtils.getFileExtension(filename);
 
             if (StrUtil.isNotBlank(fileExtension) && !result.containsFileExtension(fileExtension)) {
@@ -189,20 +296,4 @@ public abstract class MediaTypeUtils {
         return result;
     }
 
-    private static String detectMediaTypeByTika(File file) {
-        try {
-            return new Tika().detect(file);
-        } catch (IOException e) {
-            throw new IORuntimeException(e);
-        }
-    }
-
-    private static String detectMediaTypeByTika(InputStream stream, String filename) {
-        try {
-            return new Tika().detect(stream, filename);
-        } catch (IOException e) {
-            throw new IORuntimeException(e);
-        }
-    }
-
 }
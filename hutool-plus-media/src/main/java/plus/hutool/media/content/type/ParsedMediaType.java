@@ -0,0 +1,154 @@
+package plus.hutool.media.content.type;
+
+import plus.hutool.core.lang.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 媒体类型字符串的解析结果（媒体类型 + 参数）
+ * <p>
+ * 参数部分在第一次访问时才解析，参数名统一转换为小写，带引号的参数值会去掉引号并处理转义字符。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public final class ParsedMediaType {
+    private static final String CHARSET = "charset";
+
+    private final MediaType mediaType;
+    private final String source;
+
+    @Nullable
+    private volatile Map<String, String> parameters;
+
+    ParsedMediaType(MediaType mediaType, String source) {
+        this.mediaType = mediaType;
+        this.source = source;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * 获取原始的媒体类型字符串
+     *
+     * @return 原始的媒体类型字符串
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * 获取所有参数
+     *
+     * @return 参数名（小写）到参数值的映射（不可修改，按出现顺序排列）
+     */
+    public Map<String, String> getParameters() {
+        Map<String, String> result = parameters;
+        if (result == null) {
+            result = parseParameters(source);
+            parameters = result;
+        }
+        return result;
+    }
+
+    /**
+     * 获取指定参数的值
+     *
+     * @param name 参数名（不区分大小写）
+     * @return 参数值（不存在时返回 null）
+     */
+    @Nullable
+    public String getParameter(String name) {
+        return getParameters().get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 获取 charset 参数的值
+     *
+     * @return charset 参数的值（不存在时返回 null）
+     */
+    @Nullable
+    public String getCharset() {
+        return getParameter(CHARSET);
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    private static Map<String, String> parseParameters(String source) {
+        int index = source.indexOf(';');
+        if (index == -1) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, String> result = new LinkedHashMap<>();
+        int length = source.length();
+        while (index < length) {
+            // index 指向 ';'，跳过分隔符和空白
+            index++;
+            while (index < length && MediaTypeParser.isWhitespace(source.charAt(index))) {
+                index++;
+            }
+
+            int nameStart = index;
+            while (index < length && source.charAt(index) != '=' && source.charAt(index) != ';') {
+                index++;
+            }
+            int nameEnd = index;
+            while (nameEnd > nameStart && MediaTypeParser.isWhitespace(source.charAt(nameEnd - 1))) {
+                nameEnd--;
+            }
+            if (index >= length || source.charAt(index) == ';') {
+                continue;
+            }
+
+            // index 指向 '='
+            index++;
+            while (index < length && MediaTypeParser.isWhitespace(source.charAt(index))) {
+                index++;
+            }
+
+            String value;
+            if (index < length && source.charAt(index) == '"') {
+                StringBuilder sb = new StringBuilder();
+                index++;
+                while (index < length && source.charAt(index) != '"') {
+                    char c = source.charAt(index);
+                    if (c == '\\' && index + 1 < length) {
+                        c = source.charAt(++index);
+                    }
+                    sb.append(c);
+                    index++;
+                }
+                value = sb.toString();
+                while (index < length && source.charAt(index) != ';') {
+                    index++;
+                }
+            } else {
+                int valueStart = index;
+                while (index < length && source.charAt(index) != ';') {
+                    index++;
+                }
+                int valueEnd = index;
+                while (valueEnd > valueStart && MediaTypeParser.isWhitespace(source.charAt(valueEnd - 1))) {
+                    valueEnd--;
+                }
+                value = source.substring(valueStart, valueEnd);
+            }
+
+            if (nameEnd > nameStart) {
+                result.putIfAbsent(source.substring(nameStart, nameEnd).toLowerCase(Locale.ROOT), value);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+}
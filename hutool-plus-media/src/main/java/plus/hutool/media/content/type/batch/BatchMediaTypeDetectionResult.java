@@ -0,0 +1,80 @@
+package plus.hutool.media.content.type.batch;
+
+import cn.hutool.core.util.StrUtil;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.media.content.type.MediaType;
+
+import java.io.File;
+
+/**
+ * 批量媒体类型探测中单个文件的探测结果
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public final class BatchMediaTypeDetectionResult {
+
+    private final File file;
+    private final long size;
+
+    @Nullable
+    private final MediaType mediaType;
+    @Nullable
+    private final Throwable failure;
+
+    private BatchMediaTypeDetectionResult(File file, long size, @Nullable MediaType mediaType,
+                                          @Nullable Throwable failure) {
+        this.file = file;
+        this.size = size;
+        this.mediaType = mediaType;
+        this.failure = failure;
+    }
+
+    static BatchMediaTypeDetectionResult detected(File file, long size, MediaType mediaType) {
+        return new BatchMediaTypeDetectionResult(file, size, mediaType, null);
+    }
+
+    static BatchMediaTypeDetectionResult failed(File file, long size, Throwable failure) {
+        return new BatchMediaTypeDetectionResult(file, size, null, failure);
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * 获取文件大小（字节数，遍历目录时无法读取文件属性的为 -1）
+     *
+     * @return 文件大小
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * 获取探测出的媒体类型
+     *
+     * @return 探测出的媒体类型（探测失败时返回 null）
+     */
+    @Nullable
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    @Nullable
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return failure == null
+                ? StrUtil.format("{} ==> {}", file.getAbsolutePath(), mediaType)
+                : StrUtil.format("{} ==> FAILED - {}", file.getAbsolutePath(), failure);
+    }
+}
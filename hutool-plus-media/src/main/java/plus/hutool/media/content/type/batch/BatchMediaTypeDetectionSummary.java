@@ -0,0 +1,153 @@
+package plus.hutool.media.content.type.batch;
+
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.StrUtil;
+import plus.hutool.core.datetime.DateTimeUtils;
+import plus.hutool.core.measure.util.FileSizeUtils;
+import plus.hutool.media.content.type.MediaType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 批量媒体类型探测的汇总结果（不保留单个文件的探测结果，只保留按媒体类型聚合的统计信息）
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public final class BatchMediaTypeDetectionSummary {
+
+    private final Map<MediaType, MediaTypeStats> mediaTypeStatsMap;
+    private final long totalCount;
+    private final long failedCount;
+    private final long totalBytes;
+    private final long elapsedMillis;
+
+    BatchMediaTypeDetectionSummary(Map<MediaType, MediaTypeStats> mediaTypeStatsMap, long totalCount,
+                                   long failedCount, long totalBytes, long elapsedMillis) {
+        List<MediaTypeStats> sortedStats = new ArrayList<>(mediaTypeStatsMap.values());
+        sortedStats.sort(Comparator.comparingLong(MediaTypeStats::getCount).reversed()
+                .thenComparing(stats -> stats.getMediaType().toString()));
+        Map<MediaType, MediaTypeStats> sortedMap = new LinkedHashMap<>();
+        sortedStats.forEach(stats -> sortedMap.put(stats.getMediaType(), stats));
+
+        this.mediaTypeStatsMap = Collections.unmodifiableMap(sortedMap);
+        this.totalCount = totalCount;
+        this.failedCount = failedCount;
+        this.totalBytes = totalBytes;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * 获取按媒体类型聚合的统计信息（按文件数从多到少排列）
+     *
+     * @return 媒体类型 到 统计信息 的映射
+     */
+    public Map<MediaType, MediaTypeStats> getMediaTypeStatsMap() {
+        return mediaTypeStatsMap;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getDetectedCount() {
+        return totalCount - failedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * 获取探测成功的文件的总字节数
+     *
+     * @return 探测成功的文件的总字节数
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 获取吞吐量（每秒处理的文件数，包括探测失败的文件）
+     *
+     * @return 每秒处理的文件数
+     */
+    public double getFilesPerSecond() {
+        return elapsedMillis == 0 ? 0 : totalCount * 1000.0 / elapsedMillis;
+    }
+
+    /**
+     * 获取按媒体类型聚合的统计信息的描述（每个媒体类型一行，格式: 媒体类型: 文件数 个, 总大小）
+     *
+     * @return 统计信息的描述
+     */
+    public String getMediaTypeStatsDesc() {
+        StringBuilder sb = new StringBuilder();
+        mediaTypeStatsMap.values().forEach(stats -> sb.append(stats).append(System.lineSeparator()));
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return StrUtil.format("批量媒体类型探测完成: 总数 = {}, 失败 = {}, 媒体类型数 = {}, 总大小 = {}, 耗时 = {}, "
+                        + "吞吐量 = {} 个/秒",
+                totalCount, failedCount, mediaTypeStatsMap.size(),
+                FileSizeUtils.normalizeFileSizeToStr(totalBytes, FileSizeUtils.BYTE),
+                DateTimeUtils.millisToMoreReadableFormat(elapsedMillis),
+                NumberUtil.roundStr(getFilesPerSecond(), 2));
+    }
+
+    /**
+     * 单个媒体类型的统计信息
+     */
+    public static final class MediaTypeStats {
+        private final MediaType mediaType;
+        private long count;
+        private long totalBytes;
+
+        MediaTypeStats(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        void add(long size) {
+            count++;
+            totalBytes += Math.max(size, 0);
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalBytes() {
+            return totalBytes;
+        }
+
+        /**
+         * 获取总大小（单位规范化后的字符串，如 1.5 MB）
+         *
+         * @return 总大小
+         */
+        public String getTotalSizeDesc() {
+            return FileSizeUtils.normalizeFileSizeToStr(totalBytes, FileSizeUtils.BYTE);
+        }
+
+        @Override
+        public String toString() {
+            return StrUtil.format("{}: {} 个, {}", mediaType, count, getTotalSizeDesc());
+        }
+    }
+}
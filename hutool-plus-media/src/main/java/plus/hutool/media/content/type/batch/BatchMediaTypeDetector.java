@@ -0,0 +1,282 @@
+package plus.hutool.media.content.type.batch;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.thread.NamedThreadFactory;
+import cn.hutool.core.util.NumberUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import plus.hutool.core.io.FileUtils;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.extra.log.LogUtils;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.content.type.MediaTypeUtils;
+import plus.hutool.media.content.type.detect.MagicBytesMediaTypeDetector;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 批量媒体类型探测器
+ * <p>
+ * 遍历目录树（或一组文件），以指定的并发数并行探测所有文件的媒体类型，适用于审计海量文件的场景：
+ * 目录树是边遍历边提交探测任务的，同时在途的探测任务数不超过 并发数 × {@link #IN_FLIGHT_TASKS_PER_WORKER}，
+ * 因此内存占用与文件总数无关，同时读取文件头的 I/O 并发数也不会超过并发数。
+ * 单个文件的探测结果在探测完成时（按完成的先后顺序）回调给结果监听器，汇总结果只保留按媒体类型聚合的文件数和总大小。
+ * </p>
+ * <p>
+ * 每个文件都通过 {@link MediaTypeUtils#detectMediaType(File)} 探测（使用当前配置的探测器链和探测结果缓存），
+ * 探测在固定的工作线程中执行，{@link MagicBytesMediaTypeDetector} 读取文件头的缓冲区按线程复用，
+ * 因此每个工作线程只持有一个文件头缓冲区，不会为每个文件分配新的缓冲区。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class BatchMediaTypeDetector {
+    private static final Logger log = LoggerFactory.getLogger(BatchMediaTypeDetector.class);
+
+    /**
+     * 默认每处理多少个文件输出一次进度日志
+     */
+    public static final int DEFAULT_PROGRESS_LOG_INTERVAL = 10_000;
+
+    /**
+     * 每个工作线程最多对应的在途探测任务数（提交的任务数达到上限后，先等待已完成的任务再继续遍历目录树）
+     */
+    public static final int IN_FLIGHT_TASKS_PER_WORKER = 4;
+
+    private static final String LOG_PREFIX = "【批量媒体类型探测】";
+    private static final String THREAD_NAME_PREFIX = "batch-media-type-detection-";
+
+    private final int concurrency;
+
+    private FileFilter fileFilter = file -> true;
+    private int progressLogInterval = DEFAULT_PROGRESS_LOG_INTERVAL;
+
+    @Nullable
+    private Consumer<BatchMediaTypeDetectionResult> resultListener;
+
+    /**
+     * 创建批量媒体类型探测器（并发数为 CPU 核数）
+     */
+    public BatchMediaTypeDetector() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 创建批量媒体类型探测器
+     *
+     * @param concurrency 并发数（同时进行探测的文件数）
+     */
+    public BatchMediaTypeDetector(int concurrency) {
+        Asserts.isTrue(concurrency > 0, "并发数必须大于 0: {}", concurrency);
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * 探测目录树中的所有文件（包括子目录中的文件，不跟随符号链接）
+     *
+     * @param dir 目录
+     * @return 批量探测的汇总结果
+     */
+    public BatchMediaTypeDetectionSummary detectDir(File dir) {
+        Asserts.isTrue(FileUtils.dirExists(dir), "批量探测的目录不存在: {}", dir.getAbsolutePath());
+
+        return execute(execution -> {
+            try {
+                Files.walkFileTree(dir.toPath(), new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(Path path, BasicFileAttributes attrs) {
+                        File file = path.toFile();
+                        if (attrs.isRegularFile() && fileFilter.accept(file)) {
+                            execution.submit(file, attrs.size());
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path path, IOException e) {
+                        execution.handle(BatchMediaTypeDetectionResult.failed(path.toFile(), -1, e));
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                throw new IORuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * 探测一组文件
+     *
+     * @param files 文件集合
+     * @return 批量探测的汇总结果
+     */
+    public BatchMediaTypeDetectionSummary detectFiles(Collection<File> files) {
+        return execute(execution -> files.forEach(file -> execution.submit(file, file.length())));
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public FileFilter getFileFilter() {
+        return fileFilter;
+    }
+
+    /**
+     * 设置文件过滤器（只对探测目录树生效，用于排除不需要探测的文件）
+     *
+     * @param fileFilter 文件过滤器
+     */
+    public void setFileFilter(FileFilter fileFilter) {
+        this.fileFilter = fileFilter;
+    }
+
+    public int getProgressLogInterval() {
+        return progressLogInterval;
+    }
+
+    public void setProgressLogInterval(int progressLogInterval) {
+        Asserts.isTrue(progressLogInterval > 0, "进度日志的输出间隔必须大于 0: {}", progressLogInterval);
+        this.progressLogInterval = progressLogInterval;
+    }
+
+    /**
+     * 设置单个文件探测结果的监听器（在调用批量探测方法的线程中按完成的先后顺序回调）
+     *
+     * @param resultListener 探测结果的监听器
+     */
+    public void setResultListener(@Nullable Consumer<BatchMediaTypeDetectionResult> resultListener) {
+        this.resultListener = resultListener;
+    }
+
+    private BatchMediaTypeDetectionSummary execute(Consumer<Execution> taskProducer) {
+        LogUtils.logInfo(log, LOG_PREFIX, "开始探测: 并发数 = {}", concurrency);
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+                new NamedThreadFactory(THREAD_NAME_PREFIX, true));
+        Execution execution = new Execution(executor);
+        try {
+            taskProducer.accept(execution);
+            execution.awaitAll();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        BatchMediaTypeDetectionSummary summary = execution.toSummary();
+        LogUtils.logInfo(log, LOG_PREFIX, "{}", summary);
+        return summary;
+    }
+
+    private static BatchMediaTypeDetectionResult detectOne(File file, long size) {
+        try {
+            MediaType mediaType = MediaTypeUtils.detectMediaType(file);
+            return BatchMediaTypeDetectionResult.detected(file, size, mediaType);
+        } catch (Throwable e) {
+            // 包括探测器抛出的 Error（如 Tika 解析畸形文件时的 StackOverflowError），只影响当前文件
+            return BatchMediaTypeDetectionResult.failed(file, size, e);
+        }
+    }
+
+    private void notifyResultListener(BatchMediaTypeDetectionResult result) {
+        if (resultListener != null) {
+            try {
+                resultListener.accept(result);
+            } catch (Exception e) {
+                LogUtils.logWarn(log, LOG_PREFIX, "探测结果监听器执行出错: {}", e.toString());
+            }
+        }
+    }
+
+    /**
+     * 一次批量探测的执行过程（提交任务、回收结果和聚合统计信息都在调用批量探测方法的线程中进行）
+     */
+    private final class Execution {
+        private final CompletionService<BatchMediaTypeDetectionResult> completionService;
+        private final int maxInFlightTasks = concurrency * IN_FLIGHT_TASKS_PER_WORKER;
+        private final long startMillis = System.currentTimeMillis();
+        private final Map<MediaType, BatchMediaTypeDetectionSummary.MediaTypeStats> mediaTypeStatsMap =
+                new HashMap<>();
+
+        private int inFlightTasks;
+        private long handledCount;
+        private long failedCount;
+        private long totalBytes;
+
+        private Execution(ExecutorService executor) {
+            this.completionService = new ExecutorCompletionService<>(executor);
+        }
+
+        private void submit(File file, long size) {
+            while (inFlightTasks >= maxInFlightTasks) {
+                handle(take());
+            }
+            completionService.submit(() -> detectOne(file, size));
+            inFlightTasks++;
+        }
+
+        private void awaitAll() {
+            while (inFlightTasks > 0) {
+                handle(take());
+            }
+        }
+
+        private BatchMediaTypeDetectionResult take() {
+            try {
+                BatchMediaTypeDetectionResult result = completionService.take().get();
+                inFlightTasks--;
+                return result;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("批量媒体类型探测被中断", e);
+            } catch (ExecutionException e) {
+                // detectOne 内部已捕获所有 Throwable，不会执行到这里
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        private void handle(BatchMediaTypeDetectionResult result) {
+            handledCount++;
+            MediaType mediaType = result.getMediaType();
+            if (mediaType == null) {
+                failedCount++;
+                LogUtils.logWarn(log, LOG_PREFIX, "媒体类型探测失败: {} - {}",
+                        result.getFile().getAbsolutePath(), result.getFailure());
+            } else {
+                mediaTypeStatsMap.computeIfAbsent(mediaType, BatchMediaTypeDetectionSummary.MediaTypeStats::new)
+                        .add(result.getSize());
+                totalBytes += Math.max(result.getSize(), 0);
+            }
+            notifyResultListener(result);
+
+            if (handledCount % progressLogInterval == 0) {
+                long elapsedMillis = Math.max(System.currentTimeMillis() - startMillis, 1);
+                LogUtils.logInfo(log, LOG_PREFIX, "已探测 {} 个文件 | 吞吐量: {} 个/秒", handledCount,
+                        NumberUtil.roundStr(handledCount * 1000.0 / elapsedMillis, 2));
+            }
+        }
+
+        private BatchMediaTypeDetectionSummary toSummary() {
+            return new BatchMediaTypeDetectionSummary(mediaTypeStatsMap, handledCount, failedCount, totalBytes,
+                    System.currentTimeMillis() - startMillis);
+        }
+    }
+}
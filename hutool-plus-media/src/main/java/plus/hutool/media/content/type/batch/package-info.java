@@ -0,0 +1,6 @@
+@NonNullApi
+@NonNullFields
+package plus.hutool.media.content.type.batch;
+
+import plus.hutool.core.lang.annotation.NonNullApi;
+import plus.hutool.core.lang.annotation.NonNullFields;
@@ -0,0 +1,377 @@
+package plus.hutool.media.content.type.detect;
+
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.media.content.type.MediaType;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 基于文件头魔数的快速媒体类型探测器
+ * <p>
+ * 只读取文件开头的 {@link #SNIFF_LENGTH} 个字节（读取缓冲区按线程复用），根据魔数识别常见的、特征明确的格式：
+ * PDF、PNG、JPEG、GIF、WEBP、WAV、AVI、FLAC、PSD、RTF、7z、RAR、GZIP、BZIP2、XZ，以及 ZIP 容器格式中的
+ * OOXML 文档（解析第一个条目 {@code [Content_Types].xml} 中主文档部件的内容类型）和
+ * ODF/EPUB 文档（读取第一个条目 {@code mimetype} 的内容）。
+ * </p>
+ * <p>
+ * 探测器的判断是保守的：对于可能与其它格式混淆的情形（如 OLE2 复合文档、MP4 容器、普通 ZIP 包、文本文件等），
+ * 以及特征不在读取范围内的文件，均返回 null，交由 Tika 探测。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+public final class MagicBytesMediaTypeDetector implements MediaTypeDetector {
+
+    public static final MagicBytesMediaTypeDetector INSTANCE = new MagicBytesMediaTypeDetector();
+
+    /**
+     * 读取的文件头长度（字节数）
+     */
+    public static final int SNIFF_LENGTH = 4096;
+
+    /**
+     * 解压 {@code [Content_Types].xml} 时最多输出的字节数
+     */
+    private static final int MAX_INFLATED_LENGTH = 16 * 1024;
+
+    private static final ThreadLocal<byte[]> SNIFF_BUFFER = ThreadLocal.withInitial(() -> new byte[SNIFF_LENGTH]);
+    private static final ThreadLocal<byte[]> INFLATE_BUFFER =
+            ThreadLocal.withInitial(() -> new byte[MAX_INFLATED_LENGTH]);
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
+    private static final byte[] PDF = ascii("%PDF-");
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] PNG_ANIMATION_CHUNK = ascii("acTL");
+    private static final byte[] GIF87A = ascii("GIF87a");
+    private static final byte[] GIF89A = ascii("GIF89a");
+    private static final byte[] RIFF = ascii("RIFF");
+    private static final byte[] RIFF_WEBP = ascii("WEBP");
+    private static final byte[] RIFF_WAVE = ascii("WAVE");
+    private static final byte[] RIFF_AVI = ascii("AVI ");
+    private static final byte[] FLAC = ascii("fLaC");
+    private static final byte[] PSD = ascii("8BPS");
+    private static final byte[] RTF = ascii("{\\rtf");
+    private static final byte[] SEVEN_ZIP = {'7', 'z', (byte) 0xBC, (byte) 0xAF, 0x27, 0x1C};
+    private static final byte[] RAR = {'R', 'a', 'r', '!', 0x1A, 0x07};
+    private static final byte[] GZIP = {0x1F, (byte) 0x8B, 0x08};
+    private static final byte[] BZIP2 = ascii("BZh");
+    private static final byte[] XZ = {(byte) 0xFD, '7', 'z', 'X', 'Z', 0x00};
+    private static final byte[] ZIP_LOCAL_FILE_HEADER = {'P', 'K', 0x03, 0x04};
+
+    private static final int ZIP_LOCAL_FILE_HEADER_LENGTH = 30;
+    private static final int ZIP_METHOD_STORED = 0;
+    private static final int ZIP_METHOD_DEFLATED = 8;
+    private static final byte[] ZIP_ENTRY_MIMETYPE = ascii("mimetype");
+    private static final byte[] ZIP_ENTRY_CONTENT_TYPES = ascii("[Content_Types].xml");
+
+    /**
+     * OOXML 主文档部件的内容类型 到 文档媒体类型的映射
+     */
+    private static final Map<byte[], MediaType> OOXML_MAIN_PART_TO_MEDIA_TYPE_MAP = new LinkedHashMap<>();
+
+    /**
+     * ODF/EPUB 文档中 mimetype 条目的内容 到 文档媒体类型的映射
+     */
+    private static final Map<byte[], MediaType> ZIP_MIMETYPE_TO_MEDIA_TYPE_MAP = new LinkedHashMap<>();
+
+    static {
+        addOoxmlMainPart("wordprocessingml.document.main+xml", MediaType.APPLICATION_OOXML_DOCUMENT);
+        addOoxmlMainPart("wordprocessingml.template.main+xml", MediaType.APPLICATION_OOXML_DOCUMENT_TEMPLATE);
+        addOoxmlMainPart("ms-word.document.macroEnabled.main+xml",
+                MediaType.APPLICATION_MS_WORD_MACRO_ENABLED_DOCUMENT);
+        addOoxmlMainPart("ms-word.template.macroEnabledTemplate.main+xml",
+                MediaType.APPLICATION_MS_WORD_MACRO_ENABLED_TEMPLATE);
+        addOoxmlMainPart("spreadsheetml.sheet.main+xml", MediaType.APPLICATION_OOXML_SHEET);
+        addOoxmlMainPart("spreadsheetml.template.main+xml", MediaType.APPLICATION_OOXML_SHEET_TEMPLATE);
+        addOoxmlMainPart("ms-excel.sheet.macroEnabled.main+xml", MediaType.APPLICATION_MS_EXCEL_MACRO_ENABLED_SHEET);
+        addOoxmlMainPart("ms-excel.template.macroEnabled.main+xml",
+                MediaType.APPLICATION_MS_EXCEL_MACRO_ENABLED_TEMPLATE);
+        addOoxmlMainPart("ms-excel.addin.macroEnabled.main+xml", MediaType.APPLICATION_MS_EXCEL_MACRO_ENABLED_ADDIN);
+        addOoxmlMainPart("ms-excel.sheet.binary.macroEnabled.main",
+                MediaType.APPLICATION_MS_EXCEL_MACRO_ENABLED_SHEET_BINARY);
+        addOoxmlMainPart("presentationml.presentation.main+xml", MediaType.APPLICATION_OOXML_PRESENTATION);
+        addOoxmlMainPart("presentationml.template.main+xml", MediaType.APPLICATION_OOXML_PRESENTATION_TEMPLATE);
+        addOoxmlMainPart("presentationml.slideshow.main+xml", MediaType.APPLICATION_OOXML_PRESENTATION_SLIDESHOW);
+        addOoxmlMainPart("ms-powerpoint.presentation.macroEnabled.main+xml",
+                MediaType.APPLICATION_MS_POWERPOINT_MACRO_ENABLED_PRESENTATION);
+        addOoxmlMainPart("ms-powerpoint.template.macroEnabled.main+xml",
+                MediaType.APPLICATION_MS_POWERPOINT_MACRO_ENABLED_TEMPLATE);
+        addOoxmlMainPart("ms-powerpoint.addin.macroEnabled.main+xml",
+                MediaType.APPLICATION_MS_POWERPOINT_MACRO_ENABLED_ADDIN);
+        addOoxmlMainPart("ms-powerpoint.slideshow.macroEnabled.main+xml",
+                MediaType.APPLICATION_MS_POWERPOINT_MACRO_ENABLED_SLIDESHOW);
+
+        addZipMimetype(MediaType.APPLICATION_OPENDOCUMENT_TEXT, MediaType.APPLICATION_OPENDOCUMENT_TEXT_TEMPLATE,
+                MediaType.APPLICATION_OPENDOCUMENT_TEXT_WEB, MediaType.APPLICATION_OPENDOCUMENT_TEXT_MASTER,
+                MediaType.APPLICATION_OPENDOCUMENT_SPREADSHEET, MediaType.APPLICATION_OPENDOCUMENT_SPREADSHEET_TEMPLATE,
+                MediaType.APPLICATION_OPENDOCUMENT_PRESENTATION,
+                MediaType.APPLICATION_OPENDOCUMENT_PRESENTATION_TEMPLATE,
+                MediaType.APPLICATION_OPENDOCUMENT_GRAPHICS, MediaType.APPLICATION_OPENDOCUMENT_GRAPHICS_TEMPLATE,
+                MediaType.APPLICATION_OPENDOCUMENT_IMAGE, MediaType.APPLICATION_OPENDOCUMENT_IMAGE_TEMPLATE,
+                MediaType.APPLICATION_OPENDOCUMENT_FORMULA, MediaType.APPLICATION_OPENDOCUMENT_FORMULA_TEMPLATE,
+                MediaType.APPLICATION_OPENDOCUMENT_CHART, MediaType.APPLICATION_OPENDOCUMENT_CHART_TEMPLATE,
+                MediaType.APPLICATION_OPENDOCUMENT_BASE, MediaType.APPLICATION_EPUB);
+    }
+
+    private MagicBytesMediaTypeDetector() {}
+
+    @Override
+    @Nullable
+    public MediaType detect(File file) throws IOException {
+        byte[] buffer = SNIFF_BUFFER.get();
+        int length;
+        try (InputStream in = new FileInputStream(file)) {
+            length = readAtMost(in, buffer);
+        }
+        return sniff(buffer, length);
+    }
+
+    @Override
+    @Nullable
+    public MediaType detect(InputStream markableStream, String filename) throws IOException {
+        byte[] buffer = SNIFF_BUFFER.get();
+        int length;
+        markableStream.mark(SNIFF_LENGTH);
+        try {
+            length = readAtMost(markableStream, buffer);
+        } finally {
+            markableStream.reset();
+        }
+        return sniff(buffer, length);
+    }
+
+    /**
+     * 根据文件头探测媒体类型
+     *
+     * @param header 文件头
+     * @param length 文件头的有效长度
+     * @return 探测出的媒体类型（无法确定时返回 null）
+     */
+    @Nullable
+    static MediaType sniff(byte[] header, int length) {
+        if (startsWith(header, length, PDF)) {
+            return MediaType.APPLICATION_PDF;
+        }
+        if (startsWith(header, length, PNG)) {
+            // APNG 与 PNG 的文件头相同，含有动画控制块时交由 Tika 判断
+            return indexOf(header, length, PNG_ANIMATION_CHUNK) >= 0 ? null : MediaType.IMAGE_PNG;
+        }
+        if (length >= 3 && header[0] == (byte) 0xFF && header[1] == (byte) 0xD8 && header[2] == (byte) 0xFF) {
+            return MediaType.IMAGE_JPEG;
+        }
+        if (startsWith(header, length, GIF87A) || startsWith(header, length, GIF89A)) {
+            return MediaType.IMAGE_GIF;
+        }
+        if (startsWith(header, length, RIFF)) {
+            return sniffRiff(header, length);
+        }
+        if (startsWith(header, length, ZIP_LOCAL_FILE_HEADER)) {
+            return sniffZip(header, length);
+        }
+        if (startsWith(header, length, FLAC)) {
+            return MediaType.AUDIO_FLAC;
+        }
+        if (startsWith(header, length, PSD)) {
+            return MediaType.IMAGE_PSD;
+        }
+        if (startsWith(header, length, RTF)) {
+            return MediaType.APPLICATION_RTF;
+        }
+        if (startsWith(header, length, SEVEN_ZIP)) {
+            return MediaType.APPLICATION_7Z;
+        }
+        if (startsWith(header, length, RAR)) {
+            return MediaType.APPLICATION_RAR;
+        }
+        if (startsWith(header, length, GZIP)) {
+            return MediaType.APPLICATION_GZIP;
+        }
+        if (startsWith(header, length, BZIP2) && length > BZIP2.length
+                && header[BZIP2.length] >= '1' && header[BZIP2.length] <= '9') {
+            return MediaType.APPLICATION_BZIP2;
+        }
+        if (startsWith(header, length, XZ)) {
+            return MediaType.APPLICATION_XZ;
+        }
+        return null;
+    }
+
+    @Nullable
+    private static MediaType sniffRiff(byte[] header, int length) {
+        if (regionMatches(header, length, 8, RIFF_WEBP)) {
+            return MediaType.IMAGE_WEBP;
+        } else if (regionMatches(header, length, 8, RIFF_WAVE)) {
+            return MediaType.AUDIO_WAV;
+        } else if (regionMatches(header, length, 8, RIFF_AVI)) {
+            return MediaType.VIDEO_AVI;
+        }
+        return null;
+    }
+
+    /**
+     * 根据 ZIP 包的第一个条目探测 OOXML 和 ODF/EPUB 文档，其它 ZIP 包（包括普通 ZIP、JAR、OFD 等）返回 null
+     */
+    @Nullable
+    private static MediaType sniffZip(byte[] header, int length) {
+        if (length < ZIP_LOCAL_FILE_HEADER_LENGTH) {
+            return null;
+        }
+        int method = readUnsignedShort(header, 8);
+        long compressedSize = readUnsignedInt(header, 18);
+        int nameLength = readUnsignedShort(header, 26);
+        int extraLength = readUnsignedShort(header, 28);
+        int dataStart = ZIP_LOCAL_FILE_HEADER_LENGTH + nameLength + extraLength;
+        if (dataStart >= length) {
+            return null;
+        }
+
+        if (regionEquals(header, ZIP_LOCAL_FILE_HEADER_LENGTH, nameLength, ZIP_ENTRY_MIMETYPE)) {
+            if (method != ZIP_METHOD_STORED || dataStart + compressedSize > length) {
+                return null;
+            }
+            return matchZipMimetype(header, dataStart, (int) compressedSize);
+        }
+
+        if (regionEquals(header, ZIP_LOCAL_FILE_HEADER_LENGTH, nameLength, ZIP_ENTRY_CONTENT_TYPES)) {
+            // 条目使用数据描述符时本地文件头中的压缩大小为 0，此时直接使用读取范围内的全部数据（解压到流结束为止）
+            int available = length - dataStart;
+            if (compressedSize > 0 && compressedSize < available) {
+                available = (int) compressedSize;
+            }
+            if (method == ZIP_METHOD_STORED) {
+                return matchOoxmlMainPart(header, dataStart, dataStart + available);
+            } else if (method == ZIP_METHOD_DEFLATED) {
+                byte[] inflated = INFLATE_BUFFER.get();
+                int inflatedLength = inflate(header, dataStart, available, inflated);
+                return matchOoxmlMainPart(inflated, 0, inflatedLength);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 根据 ODF/EPUB 文档中 mimetype 条目的内容匹配文档媒体类型
+     *
+     * @param bytes  字节数组
+     * @param offset mimetype 条目内容的起始位置
+     * @param length mimetype 条目内容的长度
+     * @return 文档媒体类型（无法匹配时返回 null）
+     */
+    @Nullable
+    static MediaType matchZipMimetype(byte[] bytes, int offset, int length) {
+        for (Map.Entry<byte[], MediaType> entry : ZIP_MIMETYPE_TO_MEDIA_TYPE_MAP.entrySet()) {
+            if (regionEquals(bytes, offset, length, entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static int inflate(byte[] input, int offset, int length, byte[] output) {
+        Inflater inflater = INFLATER.get();
+        inflater.reset();
+        inflater.setInput(input, offset, length);
+
+        int outputLength = 0;
+        try {
+            while (outputLength < output.length && !inflater.finished()) {
+                int n = inflater.inflate(output, outputLength, output.length - outputLength);
+                if (n == 0) {
+                    break;
+                }
+                outputLength += n;
+            }
+        } catch (DataFormatException e) {
+            // 数据不完整或已损坏时，使用已经解压出的部分
+        }
+        return outputLength;
+    }
+
+    @Nullable
+    private static MediaType matchOoxmlMainPart(byte[] bytes, int from, int to) {
+        for (Map.Entry<byte[], MediaType> entry : OOXML_MAIN_PART_TO_MEDIA_TYPE_MAP.entrySet()) {
+            if (indexOf(bytes, from, to, entry.getKey()) >= 0) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static int readAtMost(InputStream in, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int n = in.read(buffer, total, buffer.length - total);
+            if (n < 0) {
+                break;
+            }
+            total += n;
+        }
+        return total;
+    }
+
+    private static boolean startsWith(byte[] bytes, int length, byte[] prefix) {
+        return regionMatches(bytes, length, 0, prefix);
+    }
+
+    private static boolean regionMatches(byte[] bytes, int length, int offset, byte[] expected) {
+        if (offset + expected.length > length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (bytes[offset + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionEquals(byte[] bytes, int offset, int regionLength, byte[] expected) {
+        return regionLength == expected.length && regionMatches(bytes, bytes.length, offset, expected);
+    }
+
+    private static int indexOf(byte[] bytes, int length, byte[] target) {
+        return indexOf(bytes, 0, length, target);
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, byte[] target) {
+        int last = to - target.length;
+        for (int i = from; i <= last; i++) {
+            if (regionMatches(bytes, to, i, target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int readUnsignedShort(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8;
+    }
+
+    private static long readUnsignedInt(byte[] bytes, int offset) {
+        return readUnsignedShort(bytes, offset) | (long) readUnsignedShort(bytes, offset + 2) << 16;
+    }
+
+    private static byte[] ascii(String str) {
+        return str.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static void addOoxmlMainPart(String mainPartContentTypeSuffix, MediaType mediaType) {
+        OOXML_MAIN_PART_TO_MEDIA_TYPE_MAP.put(ascii(mainPartContentTypeSuffix), mediaType);
+    }
+
+    private static void addZipMimetype(MediaType... mediaTypes) {
+        for (MediaType mediaType : mediaTypes) {
+            ZIP_MIMETYPE_TO_MEDIA_TYPE_MAP.put(ascii(mediaType.strValue()), mediaType);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package plus.hutool.media.content.type.detect;
+
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.content.type.MediaTypeUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 媒体类型探测器
+ * <p>
+ * {@link MediaTypeUtils} 按顺序调用探测器链（参见 {@link MediaTypeUtils#setDetectors(java.util.List)}），
+ * 第一个返回非 null 结果的探测器决定探测结果，之后再统一根据文件名后缀修正。
+ * 无法确定媒体类型的探测器应当返回 null，交由下一个探测器处理。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+public interface MediaTypeDetector {
+
+    /**
+     * 探测文件的媒体类型
+     *
+     * @param file 文件对象
+     * @return 探测出的媒体类型（无法确定时返回 null）
+     * @throws IOException 读取文件出错时
+     */
+    @Nullable
+    MediaType detect(File file) throws IOException;
+
+    /**
+     * 探测输入流的媒体类型
+     *
+     * @param markableStream 支持 mark/reset 的输入流（探测器读取的内容必须在返回前 reset，不能关闭输入流）
+     * @param filename       文件名（可能为空字符串）
+     * @return 探测出的媒体类型（无法确定时返回 null）
+     * @throws IOException 读取输入流出错时
+     */
+    @Nullable
+    MediaType detect(InputStream markableStream, String filename) throws IOException;
+}
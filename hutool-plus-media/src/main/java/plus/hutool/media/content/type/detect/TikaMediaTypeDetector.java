@@ -0,0 +1,44 @@
+package plus.hutool.media.content.type.detect;
+
+import org.apache.tika.Tika;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.content.type.MediaTypeUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 基于 Tika 的媒体类型探测器（总是能给出结果，通常作为探测器链的最后一个探测器）
+ * <p>
+ * 所有探测共享同一个 {@link Tika} 实例（线程安全），且在首次使用时才创建，
+ * 快速探测器能够确定结果时不会加载 Tika 的探测器配置。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+public final class TikaMediaTypeDetector implements MediaTypeDetector {
+
+    public static final TikaMediaTypeDetector INSTANCE = new TikaMediaTypeDetector();
+
+    private TikaMediaTypeDetector() {}
+
+    @Override
+    public MediaType detect(File file) throws IOException {
+        String mediaTypeParsedByTika = TikaHolder.TIKA.detect(file);
+        Asserts.notBlank(mediaTypeParsedByTika, "文件的媒体类型不能为空: {}", file.getAbsolutePath());
+        return MediaTypeUtils.normalizeMediaType(mediaTypeParsedByTika);
+    }
+
+    @Override
+    public MediaType detect(InputStream markableStream, String filename) throws IOException {
+        return MediaTypeUtils.normalizeMediaType(TikaHolder.TIKA.detect(markableStream, filename));
+    }
+
+    private static final class TikaHolder {
+        private static final Tika TIKA = new Tika();
+    }
+}
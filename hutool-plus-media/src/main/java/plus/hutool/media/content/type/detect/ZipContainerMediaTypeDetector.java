@@ -0,0 +1,497 @@
+package plus.hutool.media.content.type.detect;
+
+import plus.hutool.core.io.FileUtils;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.media.content.type.MediaType;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基于 ZIP 中央目录的容器格式媒体类型探测器
+ * <p>
+ * 探测文件时只读取 ZIP 文件末尾的中央目录结束记录和中央目录（随机访问读取，不读取条目数据，也不解压任何条目），
+ * 根据条目名称识别 ZIP 容器格式的文档，结果与文件名无关：
+ * </p>
+ * <ul>
+ *     <li>OFD: 根目录下存在 {@code OFD.xml}</li>
+ *     <li>OOXML: 存在 {@code [Content_Types].xml}，且存在 {@code word/document.xml}、{@code xl/workbook.xml}、
+ *     {@code xl/workbook.bin} 或 {@code ppt/presentation.xml} 主文档部件（同一类文档的模板、启用宏等变体无法从条目名称区分，
+ *     只有文件名后缀属于同一类文档时才使用文件名后缀对应的变体，否则为 DOCX/XLSX/PPTX）</li>
+ *     <li>ODF/EPUB: 存在未压缩的 {@code mimetype} 条目（直接读取该条目的原始内容）</li>
+ * </ul>
+ * <p>
+ * 与 {@link MagicBytesMediaTypeDetector} 只检查 ZIP 包的第一个条目互补，其它 ZIP 包（普通 ZIP、JAR 等）返回 null，交由 Tika 探测。
+ * </p>
+ * <p>
+ * 输入流没有随机访问能力，探测时按顺序读取各个条目的本地文件头（跳过条目数据，不复制输入流的内容），
+ * 能够确定结果时立即停止读取，最多读取 {@link #MAX_STREAM_LENGTH} 个字节。
+ * 注意：探测结束后需要重置输入流，读取过的内容都保留在输入流的标记缓冲区中（如 {@link java.io.BufferedInputStream}），
+ * 因此特征条目位于 ZIP 包后部的大文件应尽量以文件的方式探测。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+public final class ZipContainerMediaTypeDetector implements MediaTypeDetector {
+
+    public static final ZipContainerMediaTypeDetector INSTANCE = new ZipContainerMediaTypeDetector();
+
+    /**
+     * 读取的中央目录的最大长度（字节数，超过时只解析前面的部分条目）
+     */
+    public static final int MAX_CENTRAL_DIRECTORY_LENGTH = 1024 * 1024;
+
+    /**
+     * 探测输入流时，最多读取的长度（字节数）
+     */
+    public static final int MAX_STREAM_LENGTH = 8 * 1024 * 1024;
+
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+
+    private static final int LOCAL_FILE_HEADER_LENGTH = 30;
+    private static final int CENTRAL_DIRECTORY_HEADER_LENGTH = 46;
+    private static final int END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+    private static final int MAX_END_OF_CENTRAL_DIRECTORY_SEARCH_LENGTH = END_OF_CENTRAL_DIRECTORY_LENGTH + 0xFFFF;
+    /**
+     * 首次读取的文件末尾长度（没有注释的 ZIP 文件，中央目录结束记录就在最后 22 个字节）
+     */
+    private static final int INITIAL_TAIL_LENGTH = 1024;
+    private static final int MAX_MIMETYPE_LENGTH = 128;
+    /**
+     * 需要匹配的条目名称的最大长度（更长的条目名称直接跳过）
+     */
+    private static final int MAX_MATCHED_NAME_LENGTH = 64;
+    private static final int METHOD_STORED = 0;
+    private static final int FLAG_DATA_DESCRIPTOR = 0x08;
+    private static final long ZIP64_SIZE = 0xFFFFFFFFL;
+
+    private static final byte[] ENTRY_OFD = ascii("OFD.xml");
+    private static final byte[] ENTRY_CONTENT_TYPES = ascii("[Content_Types].xml");
+    private static final byte[] ENTRY_MIMETYPE = ascii("mimetype");
+
+    /**
+     * OOXML 主文档部件的条目名称 到 同一类文档的媒体类型列表（第一个为默认的媒体类型）的映射
+     */
+    private static final Map<byte[], List<MediaType>> OOXML_MAIN_PART_TO_MEDIA_TYPES_MAP = new LinkedHashMap<>();
+
+    static {
+        OOXML_MAIN_PART_TO_MEDIA_TYPES_MAP.put(ascii("word/document.xml"), Arrays.asList(
+                MediaType.APPLICATION_OOXML_DOCUMENT, MediaType.APPLICATION_OOXML_DOCUMENT_TEMPLATE,
+                MediaType.APPLICATION_MS_WORD_MACRO_ENABLED_DOCUMENT,
+                MediaType.APPLICATION_MS_WORD_MACRO_ENABLED_TEMPLATE));
+        OOXML_MAIN_PART_TO_MEDIA_TYPES_MAP.put(ascii("xl/workbook.xml"), Arrays.asList(
+                MediaType.APPLICATION_OOXML_SHEET, MediaType.APPLICATION_OOXML_SHEET_TEMPLATE,
+                MediaType.APPLICATION_MS_EXCEL_MACRO_ENABLED_SHEET, MediaType.APPLICATION_MS_EXCEL_MACRO_ENABLED_TEMPLATE,
+                MediaType.APPLICATION_MS_EXCEL_MACRO_ENABLED_ADDIN));
+        OOXML_MAIN_PART_TO_MEDIA_TYPES_MAP.put(ascii("xl/workbook.bin"), Arrays.asList(
+                MediaType.APPLICATION_MS_EXCEL_MACRO_ENABLED_SHEET_BINARY));
+        OOXML_MAIN_PART_TO_MEDIA_TYPES_MAP.put(ascii("ppt/presentation.xml"), Arrays.asList(
+                MediaType.APPLICATION_OOXML_PRESENTATION, MediaType.APPLICATION_OOXML_PRESENTATION_TEMPLATE,
+                MediaType.APPLICATION_OOXML_PRESENTATION_SLIDESHOW,
+                MediaType.APPLICATION_MS_POWERPOINT_MACRO_ENABLED_PRESENTATION,
+                MediaType.APPLICATION_MS_POWERPOINT_MACRO_ENABLED_TEMPLATE,
+                MediaType.APPLICATION_MS_POWERPOINT_MACRO_ENABLED_ADDIN,
+                MediaType.APPLICATION_MS_POWERPOINT_MACRO_ENABLED_SLIDESHOW));
+    }
+
+    private ZipContainerMediaTypeDetector() {}
+
+    @Override
+    @Nullable
+    public MediaType detect(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return detect(new FileChannelSource(channel), file.getName());
+        }
+    }
+
+    @Override
+    @Nullable
+    public MediaType detect(InputStream markableStream, String filename) throws IOException {
+        markableStream.mark(MAX_STREAM_LENGTH);
+        try {
+            return scanLocalFileHeaders(new ScanningInput(markableStream, MAX_STREAM_LENGTH), filename);
+        } finally {
+            markableStream.reset();
+        }
+    }
+
+    @Nullable
+    private static MediaType detect(ZipSource source, String filename) throws IOException {
+        long length = source.length();
+        if (length < LOCAL_FILE_HEADER_LENGTH + END_OF_CENTRAL_DIRECTORY_LENGTH) {
+            return null;
+        }
+
+        byte[] buffer = new byte[(int) Math.min(length, INITIAL_TAIL_LENGTH)];
+        if (source.read(0, buffer, 4) < 4 || readInt(buffer, 0) != LOCAL_FILE_HEADER_SIGNATURE) {
+            return null;
+        }
+
+        // 先读取文件末尾的一小段，找不到中央目录结束记录（ZIP 文件带有较长的注释）时再读取最大的搜索范围
+        int tailLength = buffer.length;
+        if (source.read(length - tailLength, buffer, tailLength) < tailLength) {
+            return null;
+        }
+        int eocdOffset = lastIndexOfEndOfCentralDirectory(buffer, tailLength);
+        if (eocdOffset < 0 && length > tailLength) {
+            tailLength = (int) Math.min(length, MAX_END_OF_CENTRAL_DIRECTORY_SEARCH_LENGTH);
+            buffer = new byte[tailLength];
+            if (source.read(length - tailLength, buffer, tailLength) < tailLength) {
+                return null;
+            }
+            eocdOffset = lastIndexOfEndOfCentralDirectory(buffer, tailLength);
+        }
+        if (eocdOffset < 0) {
+            return null;
+        }
+
+        long centralDirectorySize = readUnsignedInt(buffer, eocdOffset + 12);
+        long centralDirectoryOffset = readUnsignedInt(buffer, eocdOffset + 16);
+        if (centralDirectoryOffset + centralDirectorySize > length) {
+            // ZIP64 或者 ZIP 数据前面附加了其它数据（如自解压程序）
+            return null;
+        }
+
+        int centralDirectoryLength = (int) Math.min(centralDirectorySize, MAX_CENTRAL_DIRECTORY_LENGTH);
+        byte[] centralDirectory = new byte[centralDirectoryLength];
+        if (source.read(centralDirectoryOffset, centralDirectory, centralDirectoryLength) < centralDirectoryLength) {
+            return null;
+        }
+        return detectFromCentralDirectory(source, centralDirectory, centralDirectoryLength, filename);
+    }
+
+    @Nullable
+    private static MediaType detectFromCentralDirectory(ZipSource source, byte[] centralDirectory, int length,
+                                                        String filename) throws IOException {
+        EntryNames entryNames = new EntryNames();
+        long mimetypeLocalHeaderOffset = -1;
+        long mimetypeSize = 0;
+
+        int pos = 0;
+        while (pos + CENTRAL_DIRECTORY_HEADER_LENGTH <= length
+                && readInt(centralDirectory, pos) == CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+            int method = readUnsignedShort(centralDirectory, pos + 10);
+            long compressedSize = readUnsignedInt(centralDirectory, pos + 20);
+            int nameLength = readUnsignedShort(centralDirectory, pos + 28);
+            int extraLength = readUnsignedShort(centralDirectory, pos + 30);
+            int commentLength = readUnsignedShort(centralDirectory, pos + 32);
+            long localHeaderOffset = readUnsignedInt(centralDirectory, pos + 42);
+            int nameStart = pos + CENTRAL_DIRECTORY_HEADER_LENGTH;
+            if (nameStart + nameLength > length) {
+                break;
+            }
+
+            if (entryNames.accept(centralDirectory, nameStart, nameLength)) {
+                if (method == METHOD_STORED && compressedSize <= MAX_MIMETYPE_LENGTH) {
+                    mimetypeLocalHeaderOffset = localHeaderOffset;
+                    mimetypeSize = compressedSize;
+                }
+            } else if (entryNames.ofd) {
+                return MediaType.APPLICATION_OFD;
+            }
+            pos = nameStart + nameLength + extraLength + commentLength;
+        }
+
+        if (entryNames.isOoxml()) {
+            return chooseByFileExtension(entryNames.ooxmlMediaTypes, filename);
+        }
+        if (mimetypeLocalHeaderOffset >= 0) {
+            return readMimetype(source, mimetypeLocalHeaderOffset, (int) mimetypeSize);
+        }
+        return null;
+    }
+
+    /**
+     * 读取未压缩的 mimetype 条目的原始内容，匹配 ODF/EPUB 文档的媒体类型
+     */
+    @Nullable
+    private static MediaType readMimetype(ZipSource source, long localHeaderOffset, int size) throws IOException {
+        byte[] buffer = new byte[Math.max(LOCAL_FILE_HEADER_LENGTH, size)];
+        if (source.read(localHeaderOffset, buffer, LOCAL_FILE_HEADER_LENGTH) < LOCAL_FILE_HEADER_LENGTH
+                || readInt(buffer, 0) != LOCAL_FILE_HEADER_SIGNATURE) {
+            return null;
+        }
+        long dataOffset = localHeaderOffset + LOCAL_FILE_HEADER_LENGTH
+                + readUnsignedShort(buffer, 26) + readUnsignedShort(buffer, 28);
+        if (source.read(dataOffset, buffer, size) < size) {
+            return null;
+        }
+        return MagicBytesMediaTypeDetector.matchZipMimetype(buffer, 0, size);
+    }
+
+    /**
+     * 按顺序读取输入流中各个条目的本地文件头，根据条目名称识别 ZIP 容器格式的文档（能够确定结果时立即返回）
+     */
+    @Nullable
+    private static MediaType scanLocalFileHeaders(ScanningInput input, String filename) throws IOException {
+        byte[] header = new byte[LOCAL_FILE_HEADER_LENGTH + MAX_MATCHED_NAME_LENGTH];
+        if (!input.readFully(header, 0, 4) || readInt(header, 0) != LOCAL_FILE_HEADER_SIGNATURE) {
+            return null;
+        }
+
+        EntryNames entryNames = new EntryNames();
+        while (input.readFully(header, 4, LOCAL_FILE_HEADER_LENGTH - 4)) {
+            int flags = readUnsignedShort(header, 6);
+            int method = readUnsignedShort(header, 8);
+            long compressedSize = readUnsignedInt(header, 18);
+            int nameLength = readUnsignedShort(header, 26);
+            int extraLength = readUnsignedShort(header, 28);
+            if (compressedSize == ZIP64_SIZE) {
+                return null;
+            }
+
+            boolean mimetype = false;
+            if (nameLength <= MAX_MATCHED_NAME_LENGTH) {
+                if (!input.readFully(header, LOCAL_FILE_HEADER_LENGTH, nameLength)) {
+                    return null;
+                }
+                mimetype = entryNames.accept(header, LOCAL_FILE_HEADER_LENGTH, nameLength);
+            } else if (!input.skipFully(nameLength)) {
+                return null;
+            }
+            if (entryNames.ofd) {
+                return MediaType.APPLICATION_OFD;
+            } else if (entryNames.isOoxml()) {
+                return chooseByFileExtension(entryNames.ooxmlMediaTypes, filename);
+            }
+            if (!input.skipFully(extraLength)) {
+                return null;
+            }
+
+            boolean sizeUnknown = (flags & FLAG_DATA_DESCRIPTOR) != 0 && compressedSize == 0;
+            if (mimetype && method == METHOD_STORED && !sizeUnknown && compressedSize <= MAX_MIMETYPE_LENGTH) {
+                int size = (int) compressedSize;
+                return input.readFully(header, 0, size) ? MagicBytesMediaTypeDetector.matchZipMimetype(header, 0, size)
+                        : null;
+            }
+
+            // 条目使用数据描述符时本地文件头中没有压缩大小，只能查找下一个本地文件头（或中央目录）的签名
+            int signature;
+            if (sizeUnknown) {
+                signature = input.skipToSignature();
+            } else {
+                signature = input.skipFully(compressedSize) && input.readFully(header, 0, 4) ? readInt(header, 0) : 0;
+            }
+            if (signature != LOCAL_FILE_HEADER_SIGNATURE) {
+                // 已到达中央目录、输入流末尾或者读取长度上限，后面不再有可读取的条目
+                return null;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static List<MediaType> matchOoxmlMainPart(byte[] bytes, int nameStart, int nameLength) {
+        for (Map.Entry<byte[], List<MediaType>> entry : OOXML_MAIN_PART_TO_MEDIA_TYPES_MAP.entrySet()) {
+            if (regionEquals(bytes, nameStart, nameLength, entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static MediaType chooseByFileExtension(List<MediaType> sameKindMediaTypes, String filename) {
+        String fileExtension = FileUtils.getFileExtension(filename);
+        if (!fileExtension.isEmpty()) {
+            MediaType typeGetByExt = MediaType.getOneByFileExtension(fileExtension);
+            if (typeGetByExt != null && sameKindMediaTypes.contains(typeGetByExt)) {
+                return typeGetByExt;
+            }
+        }
+        return sameKindMediaTypes.get(0);
+    }
+
+    private static int lastIndexOfEndOfCentralDirectory(byte[] bytes, int length) {
+        for (int i = length - END_OF_CENTRAL_DIRECTORY_LENGTH; i >= 0; i--) {
+            if (readInt(bytes, i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionEquals(byte[] bytes, int offset, int regionLength, byte[] expected) {
+        if (regionLength != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < regionLength; i++) {
+            if (bytes[offset + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readUnsignedShort(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return readUnsignedShort(bytes, offset) | readUnsignedShort(bytes, offset + 2) << 16;
+    }
+
+    private static long readUnsignedInt(byte[] bytes, int offset) {
+        return readInt(bytes, offset) & 0xFFFFFFFFL;
+    }
+
+    private static byte[] ascii(String str) {
+        return str.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 可随机访问的 ZIP 数据源
+     */
+    private interface ZipSource {
+        long length() throws IOException;
+
+        /**
+         * 从指定位置读取数据到缓冲区的开头，返回实际读取的字节数（到达末尾时可能小于 length）
+         */
+        int read(long position, byte[] buffer, int length) throws IOException;
+    }
+
+    private static final class FileChannelSource implements ZipSource {
+        private final FileChannel channel;
+
+        private FileChannelSource(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public long length() throws IOException {
+            return channel.size();
+        }
+
+        @Override
+        public int read(long position, byte[] buffer, int length) throws IOException {
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, length);
+            while (byteBuffer.hasRemaining()) {
+                int n = channel.read(byteBuffer, position + byteBuffer.position());
+                if (n < 0) {
+                    break;
+                }
+            }
+            return byteBuffer.position();
+        }
+    }
+
+    /**
+     * 已读取的条目名称中与 ZIP 容器格式相关的特征
+     */
+    private static final class EntryNames {
+        private boolean ofd;
+        private boolean contentTypes;
+        @Nullable
+        private List<MediaType> ooxmlMediaTypes;
+
+        /**
+         * 记录条目名称的特征
+         *
+         * @return 是否为 mimetype 条目
+         */
+        private boolean accept(byte[] bytes, int nameStart, int nameLength) {
+            if (regionEquals(bytes, nameStart, nameLength, ENTRY_OFD)) {
+                ofd = true;
+            } else if (regionEquals(bytes, nameStart, nameLength, ENTRY_CONTENT_TYPES)) {
+                contentTypes = true;
+            } else if (regionEquals(bytes, nameStart, nameLength, ENTRY_MIMETYPE)) {
+                return true;
+            } else if (ooxmlMediaTypes == null) {
+                ooxmlMediaTypes = matchOoxmlMainPart(bytes, nameStart, nameLength);
+            }
+            return false;
+        }
+
+        private boolean isOoxml() {
+            return contentTypes && ooxmlMediaTypes != null;
+        }
+    }
+
+    /**
+     * 顺序读取输入流（记录已读取的长度，达到读取长度上限时视为输入流结束）
+     */
+    private static final class ScanningInput {
+        private final InputStream in;
+        private final byte[] buffer = new byte[8192];
+        private long remaining;
+        private int bufferPos;
+        private int bufferLimit;
+
+        private ScanningInput(InputStream in, long maxLength) {
+            this.in = in;
+            this.remaining = maxLength;
+        }
+
+        private boolean readFully(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (!fill()) {
+                    return false;
+                }
+                int n = Math.min(length, bufferLimit - bufferPos);
+                System.arraycopy(buffer, bufferPos, bytes, offset, n);
+                bufferPos += n;
+                offset += n;
+                length -= n;
+            }
+            return true;
+        }
+
+        private boolean skipFully(long length) throws IOException {
+            while (length > 0) {
+                if (!fill()) {
+                    return false;
+                }
+                int n = (int) Math.min(length, bufferLimit - bufferPos);
+                bufferPos += n;
+                length -= n;
+            }
+            return true;
+        }
+
+        /**
+         * 跳到下一个本地文件头或者中央目录的签名之后
+         *
+         * @return 找到的签名（到达末尾时返回 0）
+         */
+        private int skipToSignature() throws IOException {
+            int window = 0;
+            while (fill()) {
+                window = (window >>> 8) | (buffer[bufferPos++] & 0xFF) << 24;
+                if (window == LOCAL_FILE_HEADER_SIGNATURE || window == CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+                    return window;
+                }
+            }
+            return 0;
+        }
+
+        private boolean fill() throws IOException {
+            if (bufferPos < bufferLimit) {
+                return true;
+            }
+            if (remaining <= 0) {
+                return false;
+            }
+            int n = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (n <= 0) {
+                return false;
+            }
+            remaining -= n;
+            bufferPos = 0;
+            bufferLimit = n;
+            return true;
+        }
+    }
+}
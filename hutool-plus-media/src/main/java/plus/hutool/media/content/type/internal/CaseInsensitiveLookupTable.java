@@ -0,0 +1,157 @@
+package plus.hutool.media.content.type.internal;
+
+import plus.hutool.core.lang.annotation.Nullable;
+
+/**
+ * 不区分大小写的字符串查找表（不可变，开放寻址）
+ * <p>
+ * 可以直接用字符序列的一个区间作为 Key 进行查找，查找过程不创建任何中间对象（不需要截取子串、不需要转换为小写），
+ * 适用于解析媒体类型字符串时的高频查找。添加映射项时返回新的查找表，原查找表保持不变。
+ * </p>
+ *
+ * @param <V> 值的类型
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unchecked", "JavadocDeclaration"})
+public final class CaseInsensitiveLookupTable<V> {
+    private static final CaseInsensitiveLookupTable<?> EMPTY = new CaseInsensitiveLookupTable<>(new String[8], new Object[8], 0);
+
+    /**
+     * 小写的 Key（空槽位为 null）
+     */
+    private final String[] keys;
+    private final Object[] values;
+    private final int size;
+    private final int mask;
+
+    private CaseInsensitiveLookupTable(String[] keys, Object[] values, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.size = size;
+        this.mask = keys.length - 1;
+    }
+
+    /**
+     * 获取空的查找表
+     *
+     * @param <V> 值的类型
+     * @return 空的查找表
+     */
+    public static <V> CaseInsensitiveLookupTable<V> empty() {
+        return (CaseInsensitiveLookupTable<V>) EMPTY;
+    }
+
+    /**
+     * 查找 Key 对应的值
+     *
+     * @param key Key（不区分大小写）
+     * @return Key 对应的值（不存在时返回 null）
+     */
+    @Nullable
+    public V get(CharSequence key) {
+        return get(key, 0, key.length());
+    }
+
+    /**
+     * 以字符序列的指定区间作为 Key 查找对应的值
+     *
+     * @param source 字符序列
+     * @param start  Key 的起始位置（包含）
+     * @param end    Key 的结束位置（不包含）
+     * @return Key 对应的值（不存在时返回 null）
+     */
+    @Nullable
+    public V get(CharSequence source, int start, int end) {
+        int length = end - start;
+        for (int slot = hash(source, start, end) & mask; ; slot = (slot + 1) & mask) {
+            String candidate = keys[slot];
+            if (candidate == null) {
+                return null;
+            }
+            if (candidate.length() == length && matches(candidate, source, start)) {
+                return (V) values[slot];
+            }
+        }
+    }
+
+    /**
+     * 返回添加（或替换）了指定映射项的新查找表
+     *
+     * @param key   Key（不区分大小写）
+     * @param value 值
+     * @return 新的查找表
+     */
+    public CaseInsensitiveLookupTable<V> with(String key, V value) {
+        String lowerCaseKey = toLowerCase(key);
+        int capacity = keys.length;
+        while ((size + 1) * 2 > capacity) {
+            capacity <<= 1;
+        }
+
+        String[] newKeys = new String[capacity];
+        Object[] newValues = new Object[capacity];
+        int newSize = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && !keys[i].equals(lowerCaseKey)) {
+                insert(newKeys, newValues, keys[i], values[i]);
+                newSize++;
+            }
+        }
+        insert(newKeys, newValues, lowerCaseKey, value);
+        return new CaseInsensitiveLookupTable<>(newKeys, newValues, newSize + 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static void insert(String[] keys, Object[] values, String lowerCaseKey, Object value) {
+        int mask = keys.length - 1;
+        int slot = hash(lowerCaseKey, 0, lowerCaseKey.length()) & mask;
+        while (keys[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = lowerCaseKey;
+        values[slot] = value;
+    }
+
+    private static boolean matches(String lowerCaseKey, CharSequence source, int start) {
+        for (int i = 0; i < lowerCaseKey.length(); i++) {
+            if (lowerCaseKey.charAt(i) != toLowerCase(source.charAt(start + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(CharSequence source, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + toLowerCase(source.charAt(i));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static String toLowerCase(String str) {
+        StringBuilder sb = null;
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            char lower = toLowerCase(c);
+            if (c != lower && sb == null) {
+                sb = new StringBuilder(str.length()).append(str, 0, i);
+            }
+            if (sb != null) {
+                sb.append(lower);
+            }
+        }
+        return sb == null ? str : sb.toString();
+    }
+
+    private static char toLowerCase(char c) {
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+}
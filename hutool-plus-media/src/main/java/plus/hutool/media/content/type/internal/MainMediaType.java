@@ -3,6 +3,8 @@ package plus.hutool.media.content.type.internal;
 import plus.hutool.core.lang.Asserts;
 import plus.hutool.media.exception.IllegalMainMediaTypeException;
 
+import java.util.Locale;
+
 /**
  * 媒体类型的主类型
  *
@@ -13,13 +15,19 @@ import plus.hutool.media.exception.IllegalMainMediaTypeException;
 public enum MainMediaType {
     TEXT, IMAGE, AUDIO, VIDEO, APPLICATION, FONT, MULTIPART, MESSAGE, MODEL, EXAMPLE;
 
+    private final String strValue;
+
+    MainMediaType() {
+        this.strValue = name().toLowerCase(Locale.ROOT);
+    }
+
     /**
      * 获取媒体类型主类型的字符串表示
      *
      * @return 媒体类型主类型的字符串表示
      */
     public String strValue() {
-        return name().toLowerCase();
+        return strValue;
     }
 
     /**
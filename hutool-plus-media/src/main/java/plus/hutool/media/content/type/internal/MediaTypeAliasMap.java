@@ -1,5 +1,6 @@
 package plus.hutool.media.content.type.internal;
 
+import plus.hutool.core.lang.annotation.Nullable;
 import plus.hutool.media.content.type.MediaType;
 
 import java.util.HashMap;
@@ -18,6 +19,10 @@ public final class MediaTypeAliasMap {
     public static final MediaTypeAliasMap INSTANCE = new MediaTypeAliasMap();
     private static final Map<MediaType, Set<String>> NORMALIZED_TO_ALIASES_MAP = new HashMap<>();
     private static final Map<String, MediaType> ALIAS_TO_NORMALIZED_MAP = new HashMap<>();
+    /**
+     * 别名到规范媒体类型的查找表（与 ALIAS_TO_NORMALIZED_MAP 内容一致，用于不创建中间对象的区间查找）
+     */
+    private static volatile CaseInsensitiveLookupTable<MediaType> aliasLookupTable = CaseInsensitiveLookupTable.empty();
 
     private MediaTypeAliasMap() {}
 
@@ -29,13 +34,15 @@ public final class MediaTypeAliasMap {
      * @return 媒体类型别名MAP
      */
     @SuppressWarnings("SameReturnValue")
-    public MediaTypeAliasMap addAlias(MediaType normalizedMediaType, String... deprecatedAliases) {
+    public synchronized MediaTypeAliasMap addAlias(MediaType normalizedMediaType, String... deprecatedAliases) {
 
         Set<String> aliasSet = NORMALIZED_TO_ALIASES_MAP.computeIfAbsent(normalizedMediaType, k -> new HashSet<>());
 
         for (String alias : deprecatedAliases) {
             aliasSet.add(alias);
-            ALIAS_TO_NORMALIZED_MAP.putIfAbsent(alias, normalizedMediaType);
+            if (ALIAS_TO_NORMALIZED_MAP.putIfAbsent(alias, normalizedMediaType) == null) {
+                aliasLookupTable = aliasLookupTable.with(alias, normalizedMediaType);
+            }
         }
         return INSTANCE;
     }
@@ -47,4 +54,17 @@ public final class MediaTypeAliasMap {
     public MediaType getNormalizedMediaType(String deprecatedAlias) {
         return ALIAS_TO_NORMALIZED_MAP.get(deprecatedAlias.toLowerCase());
     }
+
+    /**
+     * 以字符序列的指定区间作为别名（不区分大小写）查询对应的规范媒体类型（不创建中间对象）
+     *
+     * @param source 字符序列
+     * @param start  别名的起始位置（包含）
+     * @param end    别名的结束位置（不包含）
+     * @return 规范的媒体类型（不是已废弃的别名时返回 null）
+     */
+    @Nullable
+    public MediaType getNormalizedMediaType(CharSequence source, int start, int end) {
+        return aliasLookupTable.get(source, start, end);
+    }
 }
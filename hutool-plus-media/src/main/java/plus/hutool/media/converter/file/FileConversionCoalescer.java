@@ -0,0 +1,315 @@
+package plus.hutool.media.converter.file;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.StrUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import plus.hutool.core.io.TempScope;
+import plus.hutool.core.io.TempSpaceManager;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.media.exception.FileConversionException;
+import plus.hutool.media.exception.FileConversionTimeoutException;
+
+import java.io.File;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 相同文件转换的合并器（single-flight）
+ * <p>
+ * 以 {@link FileConversionKey} 标识一次转换，同一时刻对相同内容、相同转换器和相同转换配置的多次转换只执行一次：
+ * 第一个到达的调用方执行实际的转换，转换期间到达的其他调用方等待其完成，并各自得到一份复制到自己目标文件路径的转换结果；
+ * 目标文件路径与执行方相同的调用方（如目标文件保存在来源文件的相同目录时）不再复制。
+ * 实际转换失败（包括超时）时，所有等待的调用方都会收到相同的异常；等待可以被中断，等待超时时抛出
+ * {@link FileConversionTimeoutException}（不影响正在执行的转换）。转换完成后对应的 Key 立即移除，不会缓存任何结果，
+ * 因此与 {@link plus.hutool.media.converter.file.cache.FileConversionResultCache} 可以独立使用，也可以同时使用。
+ * </p>
+ * <p>
+ * 有等待方需要复制转换结果时，执行方先将结果复制为一份共享快照，快照位于临时空间管理器的 {@link TempScope} 中，
+ * 由最后一个完成复制（或放弃等待）的等待方关闭。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public abstract class FileConversionCoalescer {
+    private static final Logger log = LoggerFactory.getLogger(FileConversionCoalescer.class);
+
+    private static final Map<FileConversionKey, InFlightConversion> IN_FLIGHT_MAP = new ConcurrentHashMap<>();
+    private static final AtomicLong EXECUTED_COUNT = new AtomicLong();
+    private static final AtomicLong COALESCED_COUNT = new AtomicLong();
+
+    private FileConversionCoalescer() {}
+
+    /**
+     * 执行文件转换（如果已有相同的转换正在执行，则等待其完成并复制其结果）
+     *
+     * @param key        文件转换的 Key
+     * @param destFile   本次调用的目标文件
+     * @param conversion 实际的转换逻辑（将转换结果写入 destFile）
+     * @return 本次调用是否执行了实际的转换（false 表示合并到了其他调用方正在执行的转换）
+     */
+    public static boolean execute(FileConversionKey key, File destFile, Runnable conversion) {
+        return execute(key, destFile, conversion, () -> { });
+    }
+
+    /**
+     * 执行文件转换（如果已有相同的转换正在执行，则等待其完成并复制其结果）
+     *
+     * @param key         文件转换的 Key
+     * @param destFile    本次调用的目标文件
+     * @param conversion  实际的转换逻辑（将转换结果写入 destFile）
+     * @param beforeWait  合并到其他调用方正在执行的转换时，在开始等待之前执行的回调（如开始计时）
+     * @return 本次调用是否执行了实际的转换（false 表示合并到了其他调用方正在执行的转换）
+     */
+    public static boolean execute(FileConversionKey key, File destFile, Runnable conversion, Runnable beforeWait) {
+        return execute(key, destFile, conversion, beforeWait,
+                FileConvertConfig.DEFAULT_COALESCED_CONVERSION_WAIT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * 执行文件转换（如果已有相同的转换正在执行，则等待其完成并复制其结果）
+     *
+     * @param key               文件转换的 Key
+     * @param destFile          本次调用的目标文件
+     * @param conversion        实际的转换逻辑（将转换结果写入 destFile）
+     * @param beforeWait        合并到其他调用方正在执行的转换时，在开始等待之前执行的回调（如开始计时）
+     * @param waitTimeoutMillis 合并到其他调用方正在执行的转换时，等待其完成的超时时长（毫秒）
+     * @return 本次调用是否执行了实际的转换（false 表示合并到了其他调用方正在执行的转换）
+     * @throws FileConversionTimeoutException 等待其他调用方正在执行的转换超时
+     * @throws FileConversionException        等待其他调用方正在执行的转换时被中断（线程的中断状态会被保留）
+     */
+    public static boolean execute(FileConversionKey key, File destFile, Runnable conversion, Runnable beforeWait,
+                                  long waitTimeoutMillis) {
+        return execute(key, destFile, conversion, beforeWait, waitTimeoutMillis, TempSpaceManager.getDefault());
+    }
+
+    /**
+     * 执行文件转换（如果已有相同的转换正在执行，则等待其完成并复制其结果）
+     *
+     * @param key               文件转换的 Key
+     * @param destFile          本次调用的目标文件
+     * @param conversion        实际的转换逻辑（将转换结果写入 destFile）
+     * @param beforeWait        合并到其他调用方正在执行的转换时，在开始等待之前执行的回调（如开始计时）
+     * @param waitTimeoutMillis 合并到其他调用方正在执行的转换时，等待其完成的超时时长（毫秒）
+     * @param tempSpaceManager  本次调用执行实际的转换时，创建共享快照使用的临时空间管理器
+     * @return 本次调用是否执行了实际的转换（false 表示合并到了其他调用方正在执行的转换）
+     * @throws FileConversionTimeoutException 等待其他调用方正在执行的转换超时
+     * @throws FileConversionException        等待其他调用方正在执行的转换时被中断（线程的中断状态会被保留）
+     */
+    public static boolean execute(FileConversionKey key, File destFile, Runnable conversion, Runnable beforeWait,
+                                  long waitTimeoutMillis, TempSpaceManager tempSpaceManager) {
+        while (true) {
+            InFlightConversion created = new InFlightConversion(destFile, tempSpaceManager);
+            InFlightConversion existing = IN_FLIGHT_MAP.putIfAbsent(key, created);
+            if (existing == null) {
+                runAsLeader(key, created, destFile, conversion);
+                return true;
+            }
+            if (existing.join(destFile)) {
+                COALESCED_COUNT.incrementAndGet();
+                log.debug("合并相同的文件转换: {}", key);
+                beforeWait.run();
+                existing.awaitAndCopyTo(destFile, waitTimeoutMillis);
+                return false;
+            }
+            // 正在执行的转换刚好结束，重新尝试
+        }
+    }
+
+    /**
+     * 获取当前正在执行中的转换数
+     *
+     * @return 正在执行中的转换数
+     */
+    public static int getInFlightCount() {
+        return IN_FLIGHT_MAP.size();
+    }
+
+    /**
+     * 获取实际执行的转换次数
+     *
+     * @return 实际执行的转换次数
+     */
+    public static long getExecutedCount() {
+        return EXECUTED_COUNT.get();
+    }
+
+    /**
+     * 获取被合并（没有实际执行）的转换次数
+     *
+     * @return 被合并的转换次数
+     */
+    public static long getCoalescedCount() {
+        return COALESCED_COUNT.get();
+    }
+
+    private static void runAsLeader(FileConversionKey key, InFlightConversion inFlight, File destFile,
+                                    Runnable conversion) {
+        EXECUTED_COUNT.incrementAndGet();
+        try {
+            conversion.run();
+        } catch (RuntimeException | Error e) {
+            IN_FLIGHT_MAP.remove(key, inFlight);
+            inFlight.closeExceptionally(e);
+            throw e;
+        }
+        IN_FLIGHT_MAP.remove(key, inFlight);
+        inFlight.close(destFile);
+    }
+
+    /**
+     * 正在执行中的转换
+     */
+    private static final class InFlightConversion {
+        private final CompletableFuture<File> future = new CompletableFuture<>();
+        private final File leaderDestFile;
+        private final TempSpaceManager tempSpaceManager;
+        /**
+         * 需要复制转换结果的等待方数量（目标文件路径与执行方相同的等待方不计入）
+         */
+        private int waiterCount = 0;
+        private int remainingWaiterCount = 0;
+        private boolean closed = false;
+        @Nullable
+        private TempScope snapshotScope;
+
+        private InFlightConversion(File leaderDestFile, TempSpaceManager tempSpaceManager) {
+            this.leaderDestFile = leaderDestFile.getAbsoluteFile();
+            this.tempSpaceManager = tempSpaceManager;
+        }
+
+        /**
+         * 加入等待（转换已结束时返回 false）
+         */
+        private synchronized boolean join(File destFile) {
+            if (closed) {
+                return false;
+            }
+            if (!isLeaderDestFile(destFile)) {
+                waiterCount++;
+            }
+            return true;
+        }
+
+        private boolean isLeaderDestFile(File destFile) {
+            return leaderDestFile.equals(destFile.getAbsoluteFile());
+        }
+
+        /**
+         * 转换成功：有等待方时，先将结果复制为一份共享快照（执行方的调用者可能在返回后立即删除自己的目标文件），
+         * 由最后一个完成复制（或放弃等待）的等待方删除
+         */
+        private void close(File destFile) {
+            int waiters;
+            synchronized (this) {
+                closed = true;
+                waiters = waiterCount;
+                remainingWaiterCount = waiters;
+            }
+            if (waiters == 0) {
+                future.complete(destFile);
+                return;
+            }
+
+            TempScope createdScope = null;
+            File createdSnapshot;
+            try {
+                createdScope = tempSpaceManager.openScope("coalesced-snapshot");
+                createdSnapshot = createdScope.newFile(destFile.getName());
+                FileUtil.copyFile(destFile, createdSnapshot, StandardCopyOption.REPLACE_EXISTING);
+            } catch (RuntimeException e) {
+                if (createdScope != null) {
+                    createdScope.close();
+                }
+                future.completeExceptionally(e);
+                return;
+            }
+
+            boolean allWaitersGone;
+            synchronized (this) {
+                snapshotScope = createdScope;
+                allWaitersGone = remainingWaiterCount == 0;
+            }
+            future.complete(createdSnapshot);
+            if (allWaitersGone) {
+                createdScope.close();
+            }
+        }
+
+        private void closeExceptionally(Throwable failure) {
+            synchronized (this) {
+                closed = true;
+            }
+            future.completeExceptionally(failure);
+        }
+
+        private void awaitAndCopyTo(File destFile, long waitTimeoutMillis) {
+            boolean sameAsLeader = isLeaderDestFile(destFile);
+            File result;
+            try {
+                result = future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                leave(sameAsLeader);
+                throw propagate(e.getCause());
+            } catch (TimeoutException e) {
+                leave(sameAsLeader);
+                throw new FileConversionTimeoutException(
+                        StrUtil.format("等待合并的文件转换超时（{}ms）", waitTimeoutMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                leave(sameAsLeader);
+                throw new FileConversionException("等待合并的文件转换时被中断", e);
+            }
+
+            if (sameAsLeader) {
+                // 执行方已经将转换结果写入了相同的目标文件
+                return;
+            }
+            try {
+                FileUtil.copyFile(result, destFile, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                leave(false);
+            }
+        }
+
+        /**
+         * 等待方结束等待：转换尚未结束时不再计入等待方，否则由最后一个结束的等待方删除共享快照
+         */
+        private void leave(boolean sameAsLeader) {
+            if (sameAsLeader) {
+                return;
+            }
+            TempScope scopeToClose = null;
+            synchronized (this) {
+                if (!closed) {
+                    waiterCount--;
+                    return;
+                }
+                if (--remainingWaiterCount == 0) {
+                    scopeToClose = snapshotScope;
+                }
+            }
+            if (scopeToClose != null) {
+                scopeToClose.close();
+            }
+        }
+
+        private static RuntimeException propagate(Throwable failure) {
+            if (failure instanceof RuntimeException) {
+                return (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            return new FileConversionException("文件转换出错", failure);
+        }
+    }
+}
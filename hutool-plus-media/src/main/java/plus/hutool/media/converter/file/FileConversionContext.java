@@ -0,0 +1,188 @@
+package plus.hutool.media.converter.file;
+
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.util.StrUtil;
+import plus.hutool.core.datetime.StopWatchUtils;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.core.measure.util.FileSizeUtils;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.content.type.MediaTypeUtils;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 文件转换上下文（单次文件转换请求内共享）
+ * <p>
+ * 在一次文件转换的各个环节之间传递来源文件的媒体类型、大小等信息，
+ * 保证同一次转换中来源文件的媒体类型只探测一次；同时记录各个阶段的耗时，便于诊断性能问题。
+ * </p>
+ * <p>
+ * 注意：本类不是线程安全的，每次文件转换请求应使用独立的上下文对象。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class FileConversionContext {
+
+    /**
+     * 阶段名称: 探测来源文件的媒体类型
+     */
+    public static final String STAGE_DETECT_MEDIA_TYPE = "探测媒体类型";
+
+    /**
+     * 阶段名称: 查询转换结果缓存
+     */
+    public static final String STAGE_LOOKUP_RESULT_CACHE = "查询结果缓存";
+
+    /**
+     * 阶段名称: 执行文件转换
+     */
+    public static final String STAGE_CONVERT = "执行文件转换";
+
+    /**
+     * 阶段名称: 写入转换结果缓存
+     */
+    public static final String STAGE_PUT_RESULT_CACHE = "写入结果缓存";
+
+    /**
+     * 阶段名称: 计算文件转换的 Key（来源文件内容的摘要）
+     */
+    public static final String STAGE_COMPUTE_CONVERSION_KEY = "计算转换Key";
+
+    /**
+     * 阶段名称: 等待合并的相同转换执行完成
+     */
+    public static final String STAGE_WAIT_COALESCED_CONVERSION = "等待合并的转换";
+
+    /**
+     * 阶段名称: 等待内存预算准入
+     */
+    public static final String STAGE_WAIT_ADMISSION = "等待内存预算";
+
+    private final File srcFile;
+    private final long srcSizeInBytes;
+    private final StopWatch stopWatch;
+
+    @Nullable
+    private MediaType srcMediaType;
+
+    private FileConversionContext(File srcFile, @Nullable MediaType srcMediaType) {
+        this.srcFile = srcFile;
+        this.srcSizeInBytes = srcFile.length();
+        this.srcMediaType = srcMediaType;
+        this.stopWatch = new StopWatch(srcFile.getName());
+    }
+
+    /**
+     * 创建文件转换上下文（来源文件的媒体类型在首次获取时探测）
+     *
+     * @param srcFile 来源文件
+     * @return 文件转换上下文
+     */
+    public static FileConversionContext of(File srcFile) {
+        return new FileConversionContext(srcFile, null);
+    }
+
+    /**
+     * 创建文件转换上下文（使用调用方已知的来源文件媒体类型，不再重复探测）
+     *
+     * @param srcFile      来源文件
+     * @param srcMediaType 来源文件的媒体类型
+     * @return 文件转换上下文
+     */
+    public static FileConversionContext of(File srcFile, MediaType srcMediaType) {
+        return new FileConversionContext(srcFile, srcMediaType);
+    }
+
+    /**
+     * 获取来源文件的媒体类型（首次调用时探测并记录耗时，之后直接返回探测结果）
+     *
+     * @return 来源文件的媒体类型
+     */
+    public MediaType getSrcMediaType() {
+        if (srcMediaType == null) {
+            startStage(STAGE_DETECT_MEDIA_TYPE);
+            try {
+                srcMediaType = MediaTypeUtils.detectMediaType(srcFile);
+            } finally {
+                stopStage();
+            }
+        }
+        return srcMediaType;
+    }
+
+    /**
+     * 开始记录指定阶段的耗时（如果上一个阶段还未结束，会先结束上一个阶段）
+     *
+     * @param stageName 阶段名称
+     */
+    public void startStage(String stageName) {
+        StopWatchUtils.safelyStartTask(stopWatch, stageName);
+    }
+
+    /**
+     * 结束记录当前阶段的耗时
+     */
+    public void stopStage() {
+        StopWatchUtils.safelyStop(stopWatch);
+    }
+
+    /**
+     * 获取各个阶段的耗时（毫秒数，按阶段首次出现的顺序排列，同名阶段的耗时会累加）
+     *
+     * @return 各个阶段的耗时
+     */
+    public Map<String, Long> getStageTimeMillis() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        Arrays.stream(stopWatch.getTaskInfo())
+                .forEach(task -> result.merge(task.getTaskName(), task.getTimeMillis(), Long::sum));
+        return result;
+    }
+
+    /**
+     * 获取已记录的所有阶段的总耗时（毫秒数）
+     *
+     * @return 总耗时
+     */
+    public long getTotalTimeMillis() {
+        return stopWatch.getTotalTimeMillis();
+    }
+
+    /**
+     * 获取格式更好的各阶段耗时统计数据（用于诊断日志输出）
+     *
+     * @return 各阶段耗时统计数据
+     */
+    public List<String> getDetailedStats() {
+        stopStage();
+        String summaryTitle = StrUtil.format("【文件转换: {} | {} | {}】- 总计耗时: {}",
+                srcFile.getName(), srcMediaType,
+                FileSizeUtils.normalizeFileSizeToStr(srcSizeInBytes, FileSizeUtils.BYTE),
+                StopWatchUtils.getMoreReadableSummaryTime(stopWatch));
+        return StopWatchUtils.getDetailedStatsWithBetterFormat(stopWatch, summaryTitle);
+    }
+
+    public File getSrcFile() {
+        return srcFile;
+    }
+
+    public long getSrcSizeInBytes() {
+        return srcSizeInBytes;
+    }
+
+    public StopWatch getStopWatch() {
+        return stopWatch;
+    }
+
+    @Override
+    public String toString() {
+        return StrUtil.format("FileConversionContext[srcFile = {}, srcMediaType = {}, srcSize = {}, stages = {}]",
+                srcFile.getAbsolutePath(), srcMediaType, srcSizeInBytes, getStageTimeMillis());
+    }
+}
@@ -0,0 +1,115 @@
+package plus.hutool.media.converter.file;
+
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.crypto.digest.DigestUtil;
+import plus.hutool.media.content.type.MediaType;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * 文件转换的内容寻址 Key
+ * <p>
+ * 由 来源文件内容的 SHA-256 摘要、转换器类名、目标媒体类型 和 转换配置的指纹 共同构成，
+ * 内容相同、转换方式相同的两次转换会得到相等的 Key（与来源文件的路径和文件名无关）。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public final class FileConversionKey {
+    private static final String FIELD_SEPARATOR = "|";
+
+    private final String srcContentHash;
+    private final String converterClassName;
+    private final MediaType destMediaType;
+    private final String configFingerprint;
+
+    private FileConversionKey(String srcContentHash, String converterClassName,
+                              MediaType destMediaType, String configFingerprint) {
+        this.srcContentHash = srcContentHash;
+        this.converterClassName = converterClassName;
+        this.destMediaType = destMediaType;
+        this.configFingerprint = configFingerprint;
+    }
+
+    /**
+     * 根据来源文件、文件转换器和转换配置构建 Key
+     *
+     * @param srcFile   来源文件
+     * @param converter 文件转换器
+     * @param config    文件转换配置
+     * @return 文件转换的 Key
+     */
+    public static FileConversionKey of(File srcFile, FileConverter converter, FileConvertConfig config) {
+        return of(DigestUtil.sha256Hex(srcFile), converter.getClass().getName(),
+                converter.getDestMediaType(), config.fingerprint());
+    }
+
+    /**
+     * 根据各组成部分构建 Key
+     *
+     * @param srcContentHash     来源文件内容的摘要
+     * @param converterClassName 文件转换器的类名
+     * @param destMediaType      目标媒体类型
+     * @param configFingerprint  文件转换配置的指纹
+     * @return 文件转换的 Key
+     */
+    public static FileConversionKey of(String srcContentHash, String converterClassName,
+                                       MediaType destMediaType, String configFingerprint) {
+        return new FileConversionKey(srcContentHash, converterClassName, destMediaType, configFingerprint);
+    }
+
+    /**
+     * 获取 Key 的摘要（十六进制字符串，可安全地用作文件名）
+     *
+     * @return Key 的摘要
+     */
+    public String digest() {
+        return DigestUtil.sha256Hex(StrUtil.join(FIELD_SEPARATOR,
+                srcContentHash, converterClassName, destMediaType, configFingerprint));
+    }
+
+    public String getSrcContentHash() {
+        return srcContentHash;
+    }
+
+    public String getConverterClassName() {
+        return converterClassName;
+    }
+
+    public MediaType getDestMediaType() {
+        return destMediaType;
+    }
+
+    public String getConfigFingerprint() {
+        return configFingerprint;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FileConversionKey)) {
+            return false;
+        }
+        FileConversionKey that = (FileConversionKey) o;
+        return srcContentHash.equals(that.srcContentHash)
+                && converterClassName.equals(that.converterClassName)
+                && destMediaType.equals(that.destMediaType)
+                && configFingerprint.equals(that.configFingerprint);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(srcContentHash, converterClassName, destMediaType, configFingerprint);
+    }
+
+    @Override
+    public String toString() {
+        return StrUtil.format("[{} | {} ==> {} | {}]",
+                srcContentHash, converterClassName, destMediaType, configFingerprint);
+    }
+}
@@ -5,11 +5,18 @@ import cn.hutool.core.util.StrUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import plus.hutool.core.io.FileUtils;
+import plus.hutool.core.io.TempSpaceManager;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.lang.ExceptionUtils;
+import plus.hutool.core.lang.annotation.Nullable;
 import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.converter.file.admission.ConversionAdmissionController;
+import plus.hutool.media.converter.file.cache.FileConversionResultCache;
 
 import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * 文件转换配置
@@ -22,6 +29,11 @@ public class FileConvertConfig {
 
     private static final Logger log = LoggerFactory.getLogger(FileConvertConfig.class);
 
+    /**
+     * 默认的合并转换等待超时时长（毫秒）
+     */
+    public static final long DEFAULT_COALESCED_CONVERSION_WAIT_TIMEOUT_MILLIS = 5 * 60 * 1000L;
+
     /**
      * 是否将转换目标文件存储到来源文件的相同目录下（默认为否）
      */
@@ -32,6 +44,40 @@ public class FileConvertConfig {
      */
     private Map<String, Object> customConfigs = new HashMap<>();
 
+    /**
+     * 文件转换结果缓存（为 null 时不使用缓存）
+     */
+    @Nullable
+    private FileConversionResultCache resultCache;
+
+    /**
+     * 页码选择（为 null 时转换全部页面，仅对转换目标为分页文档的转换器有效）
+     */
+    @Nullable
+    private PageSelection pageSelection;
+
+    /**
+     * 是否合并并发执行的相同转换（默认为否，参见 {@link FileConversionCoalescer}，开启后每次转换需要计算来源文件内容的摘要）
+     */
+    private boolean coalesceConcurrentConversions = false;
+
+    /**
+     * 合并到其他调用方正在执行的相同转换时，等待其完成的超时时长（毫秒）
+     */
+    private long coalescedConversionWaitTimeoutMillis = DEFAULT_COALESCED_CONVERSION_WAIT_TIMEOUT_MILLIS;
+
+    /**
+     * 基于内存预算的转换准入控制器（为 null 时不限制并发转换的内存占用，多个转换请求应共享同一个控制器）
+     */
+    @Nullable
+    private ConversionAdmissionController admissionController;
+
+    /**
+     * 存放目标文件等临时文件的临时空间管理器（为 null 时使用 {@link TempSpaceManager#getDefault()}）
+     */
+    @Nullable
+    private TempSpaceManager tempSpaceManager;
+
     public FileConvertConfig() {}
 
     public FileConvertConfig(boolean saveDestFileInSameDirAsSrcFile) {
@@ -58,7 +104,7 @@ public class FileConvertConfig {
             }
         }
 
-        File result = FileUtils.createFileUnderRandomTempDir(destFilename);
+        File result = getTempSpaceManager().createFileUnderRandomDir(destFilename);
         String destFilePath = result.getAbsolutePath();
         if (needWarn) {
             log.warn("来源文件所在目录没有写入权限，转换后的目标文件改为存放到如下路径: {}", destFilePath);
@@ -87,6 +133,47 @@ public class FileConvertConfig {
         return this.getCustomConfigs().get(key);
     }
 
+    /**
+     * 获取转换配置的指纹（只包含会影响转换结果内容的配置项，用于构建 {@link FileConversionKey}）
+     * <p>
+     * 指纹由页码选择和按 key 排序的自定义配置项逐项构成，每个字段都带有长度前缀，自定义配置项的值还带有类型名，
+     * 不同的配置不会得到相同的指纹。自定义配置项的值只支持字符串、数值、布尔值、字符和枚举
+     * （其他类型的 toString() 结果无法保证与内容一一对应）。
+     * </p>
+     *
+     * @return 转换配置的指纹
+     * @throws IllegalArgumentException 自定义配置项的值类型不支持用于构建指纹时
+     */
+    public String fingerprint() {
+        StringBuilder sb = new StringBuilder();
+        appendFingerprintField(sb, "pages", pageSelection == null ? "all" : pageSelection.toString());
+        new TreeMap<>(getCustomConfigs()).forEach((key, value) -> {
+            appendFingerprintField(sb, "key", key);
+            appendFingerprintField(sb, "type", value == null ? "null" : value.getClass().getName());
+            appendFingerprintField(sb, "value", fingerprintValueOf(key, value));
+        });
+        return sb.toString();
+    }
+
+    private static void appendFingerprintField(StringBuilder sb, String name, String value) {
+        sb.append(name).append('[').append(value.length()).append("]=").append(value).append(';');
+    }
+
+    private static String fingerprintValueOf(String key, @Nullable Object value) {
+        if (value == null) {
+            return StrUtil.EMPTY;
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+        if (value instanceof CharSequence || value instanceof Number
+                || value instanceof Boolean || value instanceof Character) {
+            return value.toString();
+        }
+        throw ExceptionUtils.illegalArgumentException(
+                "自定义配置项 [{}] 的值类型 [{}] 不支持用于构建转换配置的指纹", key, value.getClass().getName());
+    }
+
     public boolean isSaveDestFileInSameDirAsSrcFile() {
         return saveDestFileInSameDirAsSrcFile;
     }
@@ -103,6 +190,68 @@ public class FileConvertConfig {
         this.customConfigs = customConfigs;
     }
 
+    @Nullable
+    public FileConversionResultCache getResultCache() {
+        return resultCache;
+    }
+
+    public void setResultCache(@Nullable FileConversionResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    @Nullable
+    public PageSelection getPageSelection() {
+        return pageSelection;
+    }
+
+    public void setPageSelection(@Nullable PageSelection pageSelection) {
+        this.pageSelection = pageSelection;
+    }
+
+    public boolean isCoalesceConcurrentConversions() {
+        return coalesceConcurrentConversions;
+    }
+
+    public void setCoalesceConcurrentConversions(boolean coalesceConcurrentConversions) {
+        this.coalesceConcurrentConversions = coalesceConcurrentConversions;
+    }
+
+    public long getCoalescedConversionWaitTimeoutMillis() {
+        return coalescedConversionWaitTimeoutMillis;
+    }
+
+    public void setCoalescedConversionWaitTimeoutMillis(long coalescedConversionWaitTimeoutMillis) {
+        Asserts.isTrue(coalescedConversionWaitTimeoutMillis > 0,
+                "合并转换的等待超时时长必须大于 0: {}", coalescedConversionWaitTimeoutMillis);
+        this.coalescedConversionWaitTimeoutMillis = coalescedConversionWaitTimeoutMillis;
+    }
+
+    @Nullable
+    public ConversionAdmissionController getAdmissionController() {
+        return admissionController;
+    }
+
+    public void setAdmissionController(@Nullable ConversionAdmissionController admissionController) {
+        this.admissionController = admissionController;
+    }
+
+    public TempSpaceManager getTempSpaceManager() {
+        return tempSpaceManager != null ? tempSpaceManager : TempSpaceManager.getDefault();
+    }
+
+    public void setTempSpaceManager(@Nullable TempSpaceManager tempSpaceManager) {
+        this.tempSpaceManager = tempSpaceManager;
+    }
+
+    /**
+     * 设置预览模式：只转换前 N 页
+     *
+     * @param pageCount 预览的页数
+     */
+    public void setPreviewPageCount(int pageCount) {
+        this.pageSelection = PageSelection.firstPages(pageCount);
+    }
+
     /**
      * 获取文件转换器目标文件的文件名
      *
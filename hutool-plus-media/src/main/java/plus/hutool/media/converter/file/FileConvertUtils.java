@@ -1,12 +1,30 @@
 package plus.hutool.media.converter.file;
 
 
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
 import plus.hutool.media.content.type.MediaType;
 import plus.hutool.media.content.type.MediaTypeUtils;
+import plus.hutool.media.converter.file.admission.ConversionAdmissionController;
+import plus.hutool.media.converter.file.impl.AbstractFileConverter;
+import plus.hutool.media.converter.file.metrics.FileConversionMetrics;
+import plus.hutool.media.converter.file.metrics.FileConversionMetricsKey;
+import plus.hutool.media.converter.file.route.ConversionRoute;
+import plus.hutool.media.converter.file.route.ConversionRouter;
+import plus.hutool.media.converter.file.route.ConverterLatencyTracker;
 import plus.hutool.media.exception.UnsupportedFileConversionSrcMediaTypeException;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import static plus.hutool.media.converter.file.FileConverterRegistry.getSupportedSrcMediaTypesByDestType;
 
@@ -53,8 +71,40 @@ public abstract class FileConvertUtils {
      * @throws UnsupportedFileConversionSrcMediaTypeException 如果不存在支持来源文件媒体类型的转换器
      */
     public static File convertFileToPdf(File srcFile, FileConvertConfig config) {
-        MediaType srcMediaType = MediaTypeUtils.detectMediaType(srcFile);
-        MediaType destMediaType = MediaType.APPLICATION_PDF;
+        return convertFile(srcFile, MediaType.APPLICATION_PDF, config);
+    }
+
+    /**
+     * 将文件转换为指定媒体类型的文件
+     *
+     * @param srcFile       来源文件
+     * @param destMediaType 目标文件的媒体类型
+     * @param config        文件转换配置
+     * @return 转换后的目标文件
+     * @throws UnsupportedFileConversionSrcMediaTypeException 如果不存在支持来源文件媒体类型的转换器
+     */
+    public static File convertFile(File srcFile, MediaType destMediaType, FileConvertConfig config) {
+        return convertFile(srcFile, destMediaType, config, FileConversionContext.of(srcFile));
+    }
+
+    /**
+     * 将文件转换为指定媒体类型的文件（来源文件的媒体类型只探测一次，各阶段耗时记录在文件转换上下文中）
+     * <p>
+     * 如果不存在直接转换的转换器，会通过 {@link ConversionRouter} 查询经由中间媒体类型的多步转换路径（如 docx ==> pdf ==> png）。
+     * 如果配置了 {@link FileConvertConfig#getAdmissionController() 准入控制器}，转换会在内存预算准入后才开始执行
+     * （多步转换的每一步分别申请准入；命中结果缓存或等待合并转换的结果时不占用内存预算）。
+     * </p>
+     *
+     * @param srcFile       来源文件
+     * @param destMediaType 目标文件的媒体类型
+     * @param config        文件转换配置
+     * @param context       文件转换上下文
+     * @return 转换后的目标文件
+     * @throws UnsupportedFileConversionSrcMediaTypeException 如果不存在支持来源文件媒体类型的转换器
+     */
+    public static File convertFile(File srcFile, MediaType destMediaType, FileConvertConfig config,
+                                   FileConversionContext context) {
+        MediaType srcMediaType = context.getSrcMediaType();
 
         if (srcMediaType.equals(destMediaType)) {
             return srcFile;
@@ -62,11 +112,247 @@ public abstract class FileConvertUtils {
 
         Set<MediaType> supportedSrcMediaTypes = getSupportedSrcMediaTypesByDestType(destMediaType);
         if (!supportedSrcMediaTypes.contains(srcMediaType)) {
-            throw new UnsupportedFileConversionSrcMediaTypeException(srcMediaType, destMediaType);
+            // 不存在直接转换的转换器时，尝试经由中间媒体类型的多步转换
+            ConversionRoute route = ConversionRouter.findRoute(srcMediaType, destMediaType);
+            if (route == null) {
+                throw new UnsupportedFileConversionSrcMediaTypeException(srcMediaType, destMediaType);
+            }
+            context.startStage(FileConversionContext.STAGE_CONVERT);
+            try {
+                return ConversionRouter.convert(srcFile, route, config);
+            } finally {
+                context.stopStage();
+            }
+        }
+
+        FileConverter converter = FileConverterRegistry.lookup(srcMediaType, destMediaType);
+        File destFile = convertWithAdmission(converter, srcFile, srcMediaType, config, context);
+
+        Long convertMillis = context.getStageTimeMillis().get(FileConversionContext.STAGE_CONVERT);
+        if (convertMillis != null) {
+            ConverterLatencyTracker.record(converter.getClass().getName(), convertMillis);
+        }
+        return destFile;
+    }
+
+    /**
+     * 将输入流中的文件内容转换为 PDF，并写入到输出流
+     *
+     * @param srcStream   来源文件的输入流
+     * @param srcFilename 来源文件的文件名（用于辅助探测媒体类型）
+     * @param destStream  目标文件的输出流
+     * @throws UnsupportedFileConversionSrcMediaTypeException 如果不存在支持来源文件媒体类型的转换器
+     */
+    public static void convertToPdf(InputStream srcStream, String srcFilename, OutputStream destStream) {
+        convertToPdf(srcStream, srcFilename, destStream, new FileConvertConfig(false));
+    }
+
+    /**
+     * 将输入流中的文件内容转换为 PDF，并写入到输出流
+     *
+     * @param srcStream   来源文件的输入流
+     * @param srcFilename 来源文件的文件名（用于辅助探测媒体类型）
+     * @param destStream  目标文件的输出流
+     * @param config      文件转换配置
+     * @throws UnsupportedFileConversionSrcMediaTypeException 如果不存在支持来源文件媒体类型的转换器
+     */
+    public static void convertToPdf(InputStream srcStream, String srcFilename, OutputStream destStream,
+                                    FileConvertConfig config) {
+        convert(srcStream, srcFilename, MediaType.APPLICATION_PDF, destStream, config);
+    }
+
+    /**
+     * 将输入流中的文件内容转换为指定媒体类型，并写入到输出流
+     * <p>
+     * 如果对应的文件转换器实现了 {@link StreamFileConverter}，则直接在流之间转换，不会产生临时文件；
+     * 否则会先将输入流的内容写入临时文件，再调用基于文件的转换方法，转换完成后删除临时文件。
+     * 流式转换时如果配置了 {@link FileConvertConfig#getAdmissionController() 准入控制器}，需要知道来源数据的大小才能申请准入，
+     * 来源不是 {@link ByteArrayInputStream} 时会先将输入流的内容写入临时文件。
+     * 两个流均由调用方负责关闭。
+     * </p>
+     *
+     * @param srcStream     来源文件的输入流
+     * @param srcFilename   来源文件的文件名（用于辅助探测媒体类型）
+     * @param destMediaType 目标文件的媒体类型
+     * @param destStream    目标文件的输出流
+     * @param config        文件转换配置
+     * @throws UnsupportedFileConversionSrcMediaTypeException 如果不存在支持来源文件媒体类型的转换器
+     */
+    public static void convert(InputStream srcStream, String srcFilename, MediaType destMediaType,
+                               OutputStream destStream, FileConvertConfig config) {
+        InputStream markableSrcStream = srcStream.markSupported() ? srcStream : new BufferedInputStream(srcStream);
+        MediaType srcMediaType = MediaTypeUtils.detectMediaType(markableSrcStream, srcFilename);
+
+        if (srcMediaType.equals(destMediaType)) {
+            IoUtil.copy(markableSrcStream, destStream);
+            return;
+        }
+
+        Set<MediaType> supportedSrcMediaTypes = getSupportedSrcMediaTypesByDestType(destMediaType);
+        if (!supportedSrcMediaTypes.contains(srcMediaType)) {
+            if (ConversionRouter.findRoute(srcMediaType, destMediaType) == null) {
+                throw new UnsupportedFileConversionSrcMediaTypeException(srcMediaType, destMediaType);
+            }
+            convertViaTempFile(srcTempFile -> convertFile(srcTempFile, destMediaType, config,
+                    FileConversionContext.of(srcTempFile, srcMediaType)), markableSrcStream, srcFilename, destStream, config);
+            return;
         }
 
         FileConverter converter = FileConverterRegistry.lookup(srcMediaType, destMediaType);
-        return converter.convert(srcFile, config);
+        if (converter instanceof StreamFileConverter) {
+            convertStreamWithAdmission((StreamFileConverter) converter, markableSrcStream, srcFilename,
+                    srcMediaType, destMediaType, destStream, config);
+        } else {
+            convertViaTempFile(srcTempFile -> convertWithAdmission(converter, srcTempFile, srcMediaType, config,
+                    FileConversionContext.of(srcTempFile, srcMediaType)), markableSrcStream, srcFilename, destStream, config);
+        }
+    }
+
+    /**
+     * 在配置了准入控制器时，先申请内存预算准入再执行转换，转换结束后归还预算
+     * （{@link AbstractFileConverter} 在实际执行转换时自行申请准入，这里直接调用）
+     */
+    private static File convertWithAdmission(FileConverter converter, File srcFile, MediaType srcMediaType,
+                                             FileConvertConfig config, FileConversionContext context) {
+        ConversionAdmissionController admissionController = config.getAdmissionController();
+        if (admissionController == null || converter instanceof AbstractFileConverter) {
+            return converter.convert(srcFile, config, context);
+        }
+        return admissionController.callAdmitted(srcFile, srcMediaType, context,
+                () -> converter.convert(srcFile, config, context));
+    }
+
+    /**
+     * 在配置了准入控制器时，先按来源数据的大小申请内存预算准入再执行流式转换
+     * （来源数据的大小未知时，先将输入流的内容写入临时文件）
+     */
+    private static void convertStreamWithAdmission(StreamFileConverter converter, InputStream srcStream,
+                                                   String srcFilename, MediaType srcMediaType, MediaType destMediaType,
+                                                   OutputStream destStream, FileConvertConfig config) {
+        ConversionAdmissionController admissionController = config.getAdmissionController();
+        if (admissionController == null) {
+            convertStreamWithMetrics(converter, srcStream, srcMediaType, destMediaType, destStream, config);
+            return;
+        }
+
+        if (srcStream instanceof ByteArrayInputStream) {
+            admissionController.callAdmitted(((ByteArrayInputStream) srcStream).available(), srcMediaType, null, () -> {
+                convertStreamWithMetrics(converter, srcStream, srcMediaType, destMediaType, destStream, config);
+                return null;
+            });
+            return;
+        }
+
+        File srcTempFile = config.getTempSpaceManager().createFileUnderRandomDir(FileUtil.getName(srcFilename));
+        try {
+            FileUtil.writeFromStream(srcStream, srcTempFile, false);
+            admissionController.callAdmitted(srcTempFile, srcMediaType, null, () -> {
+                try (InputStream srcTempFileStream = FileUtil.getInputStream(srcTempFile)) {
+                    convertStreamWithMetrics(converter, srcTempFileStream, srcMediaType, destMediaType,
+                            destStream, config);
+                } catch (IOException e) {
+                    throw new IORuntimeException(e);
+                }
+                return null;
+            });
+        } finally {
+            FileUtil.del(srcTempFile.getParentFile());
+        }
+    }
+
+    private static void convertStreamWithMetrics(StreamFileConverter converter, InputStream srcStream,
+                                                 MediaType srcMediaType, MediaType destMediaType,
+                                                 OutputStream destStream, FileConvertConfig config) {
+        FileConversionMetricsKey metricsKey =
+                FileConversionMetricsKey.of(converter.getClass().getName(), srcMediaType, destMediaType);
+        CountingInputStream countingSrcStream = new CountingInputStream(srcStream);
+        CountingOutputStream countingDestStream = new CountingOutputStream(destStream);
+        long startNanos = System.nanoTime();
+        try {
+            converter.convert(countingSrcStream, srcMediaType, countingDestStream, config);
+        } catch (RuntimeException | Error e) {
+            FileConversionMetrics.recordFailure(metricsKey, System.nanoTime() - startNanos,
+                    countingSrcStream.count, e);
+            throw e;
+        }
+        FileConversionMetrics.recordSuccess(metricsKey, System.nanoTime() - startNanos,
+                countingSrcStream.count, countingDestStream.count);
+    }
+
+    private static void convertViaTempFile(UnaryOperator<File> fileConversion, InputStream srcStream,
+                                           String srcFilename, OutputStream destStream, FileConvertConfig config) {
+        // 来源临时文件与目标文件均位于随机命名的临时目录中，转换完成后整个目录一并删除
+        File srcTempFile = config.getTempSpaceManager().createFileUnderRandomDir(FileUtil.getName(srcFilename));
+        File destFile = null;
+        try {
+            FileUtil.writeFromStream(srcStream, srcTempFile, false);
+            destFile = fileConversion.apply(srcTempFile);
+            FileUtil.writeToStream(destFile, destStream);
+        } finally {
+            FileUtil.del(srcTempFile.getParentFile());
+            if (destFile != null) {
+                FileUtil.del(destFile.getParentFile());
+            }
+        }
+    }
+
+    /**
+     * 统计已读取字节数的输入流（用于记录流式转换的指标）
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count = 0;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+
+    /**
+     * 统计已写入字节数的输出流（用于记录流式转换的指标）
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count = 0;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
     }
 
 }
@@ -34,4 +34,16 @@ public interface FileConverter {
      */
     File convert(File srcFile, FileConvertConfig config);
 
+    /**
+     * 转换文件（使用调用方提供的文件转换上下文，避免重复探测来源文件的媒体类型）
+     *
+     * @param srcFile 来源文件
+     * @param config  文件转换配置
+     * @param context 文件转换上下文
+     * @return 转换后的目标文件
+     */
+    default File convert(File srcFile, FileConvertConfig config, FileConversionContext context) {
+        return convert(srcFile, config);
+    }
+
 }
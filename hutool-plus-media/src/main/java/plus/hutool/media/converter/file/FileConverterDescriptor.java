@@ -0,0 +1,130 @@
+package plus.hutool.media.converter.file;
+
+import cn.hutool.core.util.ClassLoaderUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.StrUtil;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.media.content.type.MediaType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 文件转换器描述符（轻量级，注册时不会加载转换器的实现类）
+ * <p>
+ * 描述符以字符串形式记录转换器的类名，并声明转换器支持的来源媒体类型和目标媒体类型，
+ * 转换器实例在首次调用 {@link #getConverter()} 时才会被创建（线程安全，且只创建一次）。
+ * 这样只使用部分转换器的应用不需要加载其他转换器依赖的重量级第三方库（如 Aspose、pdfOffice 等）。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public final class FileConverterDescriptor {
+
+    private final String converterClassName;
+    private final MediaType destMediaType;
+    private final Set<MediaType> srcMediaTypes;
+
+    @Nullable
+    private volatile FileConverter converter;
+
+    private FileConverterDescriptor(String converterClassName, MediaType destMediaType,
+                                    Set<MediaType> srcMediaTypes, @Nullable FileConverter converter) {
+        Asserts.notBlank(converterClassName, "文件转换器的类名不能为空");
+        Asserts.notEmpty(srcMediaTypes, "文件转换器支持的来源媒体类型不能为空: {}", converterClassName);
+
+        this.converterClassName = converterClassName;
+        this.destMediaType = destMediaType;
+        this.srcMediaTypes = Collections.unmodifiableSet(srcMediaTypes);
+        this.converter = converter;
+    }
+
+    /**
+     * 根据转换器的类名和声明的媒体类型创建描述符（转换器在首次使用时才会实例化）
+     *
+     * @param converterClassName 文件转换器的全限定类名（必须有无参构造方法）
+     * @param destMediaType      目标媒体类型
+     * @param srcMediaTypes      支持的来源媒体类型
+     * @return 文件转换器描述符
+     */
+    public static FileConverterDescriptor of(String converterClassName, MediaType destMediaType,
+                                             MediaType... srcMediaTypes) {
+        return new FileConverterDescriptor(converterClassName, destMediaType,
+                new LinkedHashSet<>(Arrays.asList(srcMediaTypes)), null);
+    }
+
+    /**
+     * 根据已创建的转换器实例创建描述符
+     *
+     * @param converter 文件转换器实例
+     * @return 文件转换器描述符
+     */
+    public static FileConverterDescriptor of(FileConverter converter) {
+        return new FileConverterDescriptor(converter.getClass().getName(), converter.getDestMediaType(),
+                new LinkedHashSet<>(converter.getSupportedSrcMediaTypes()), converter);
+    }
+
+    /**
+     * 获取文件转换器实例（首次调用时加载转换器类并创建实例）
+     *
+     * @return 文件转换器实例
+     */
+    public FileConverter getConverter() {
+        FileConverter result = converter;
+        if (result == null) {
+            synchronized (this) {
+                result = converter;
+                if (result == null) {
+                    result = instantiate();
+                    converter = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 判断文件转换器是否已经实例化
+     *
+     * @return 文件转换器是否已经实例化
+     */
+    public boolean isInstantiated() {
+        return converter != null;
+    }
+
+    public String getConverterClassName() {
+        return converterClassName;
+    }
+
+    public MediaType getDestMediaType() {
+        return destMediaType;
+    }
+
+    public Set<MediaType> getSrcMediaTypes() {
+        return srcMediaTypes;
+    }
+
+    @Override
+    public String toString() {
+        return StrUtil.format("[{} ==> {}]: {}", srcMediaTypes, destMediaType, converterClassName);
+    }
+
+    private FileConverter instantiate() {
+        Class<?> clazz = ClassLoaderUtil.loadClass(converterClassName);
+        Asserts.isTrue(FileConverter.class.isAssignableFrom(clazz),
+                "类 [{}] 没有实现文件转换器接口 [{}]", converterClassName, FileConverter.class.getName());
+
+        FileConverter instance = (FileConverter) ReflectUtil.newInstance(clazz);
+        Asserts.isTrue(instance.getDestMediaType().equals(destMediaType),
+                "文件转换器[{}] 的目标媒体类型 [{}] 与描述符声明的 [{}] 不一致",
+                converterClassName, instance.getDestMediaType(), destMediaType);
+        Asserts.isTrue(instance.getSupportedSrcMediaTypes().containsAll(srcMediaTypes),
+                "文件转换器[{}] 不支持描述符声明的全部来源媒体类型: {}", converterClassName, srcMediaTypes);
+        return instance;
+    }
+}
@@ -0,0 +1,27 @@
+package plus.hutool.media.converter.file;
+
+import java.util.Collection;
+import java.util.ServiceLoader;
+
+/**
+ * 文件转换器提供者（SPI 扩展点）
+ * <p>
+ * 第三方可以实现本接口，并在 {@code META-INF/services/plus.hutool.media.converter.file.FileConverterProvider}
+ * 文件中声明实现类，{@link FileConverterRegistry} 初始化时会通过 {@link ServiceLoader} 加载并注册其提供的转换器。
+ * 提供者只需返回轻量级的 {@link FileConverterDescriptor}，转换器实例在首次使用时才会创建。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+public interface FileConverterProvider {
+
+    /**
+     * 获取本提供者提供的文件转换器描述符
+     *
+     * @return 文件转换器描述符集合
+     */
+    Collection<FileConverterDescriptor> getConverterDescriptors();
+
+}
@@ -1,25 +1,35 @@
 package plus.hutool.media.converter.file;
 
 import cn.hutool.core.lang.Console;
-import cn.hutool.core.util.ClassUtil;
-import cn.hutool.core.util.ReflectUtil;
 import cn.hutool.core.util.StrUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.lang.annotation.Nullable;
 import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.converter.file.impl.BuiltInFileConverterProvider;
 import plus.hutool.media.exception.FileConverterRegistryKeyNotFoundException;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
  * 文件转换器注册表
+ * <p>
+ * 注册表在首次使用时才初始化：先注册 {@link BuiltInFileConverterProvider} 提供的内置转换器，
+ * 再注册通过 {@link ServiceLoader} 加载的 {@link FileConverterProvider} 提供的转换器。
+ * 注册表中保存的是轻量级的 {@link FileConverterDescriptor}，转换器实例在首次被查询到时才会创建，
+ * 不会加载未使用的转换器所依赖的第三方库。运行时也可以通过 {@link #register(FileConverterDescriptor)} 注册自定义转换器。
+ * </p>
  *
  * @author bianyun
  * @date 2023/2/14
@@ -27,20 +37,19 @@ import java.util.stream.Collectors;
 @SuppressWarnings("JavadocDeclaration")
 public abstract class FileConverterRegistry {
     private static final Logger log = LoggerFactory.getLogger(FileConverterRegistry.class);
-    private static final Map<FileConverterRegistryKey, FileConverter> REGISTRY_MAP = new HashMap<>();
-    private static final Map<MediaType, Set<MediaType>> SUPPORTED_SRC_MEDIA_TYPES_MAP = new HashMap<>();
+    private static final Map<FileConverterRegistryKey, FileConverterDescriptor> REGISTRY_MAP = new ConcurrentHashMap<>();
+    private static final Map<MediaType, Set<MediaType>> SUPPORTED_SRC_MEDIA_TYPES_MAP = new ConcurrentHashMap<>();
+    private static final AtomicLong VERSION = new AtomicLong();
 
-    static {
-        init();
-        printRegistryInfo();
-    }
+    private static volatile boolean initialized = false;
+    private static volatile long initTimeNanos = -1;
 
     private FileConverterRegistry() {
 
     }
 
     /**
-     * 查询文件转换器实例
+     * 查询文件转换器实例（首次查询到某个转换器时会创建其实例）
      *
      * @param srcMediaType 文件转换的来源媒体类型
      * @param destMediaType 文件转换的目标媒体类型
@@ -50,18 +59,113 @@ public abstract class FileConverterRegistry {
     public static FileConverter lookup(MediaType srcMediaType, MediaType destMediaType) {
         Asserts.notNull(srcMediaType, "来源媒体类型不能为 null");
         Asserts.notNull(destMediaType, "目标媒体类型不能为 null");
+        ensureInitialized();
 
         FileConverterRegistryKey key = FileConverterRegistryKey.of(srcMediaType, destMediaType);
-        FileConverter result = REGISTRY_MAP.get(key);
-        if (result == null) {
+        FileConverterDescriptor descriptor = REGISTRY_MAP.get(key);
+        if (descriptor == null) {
             throw new FileConverterRegistryKeyNotFoundException(srcMediaType, destMediaType);
         }
 
-        return result;
+        return descriptor.getConverter();
     }
 
+    /**
+     * 根据目标媒体类型获取支持的来源媒体类型集合
+     *
+     * @param destMediaType 文件转换的目标媒体类型
+     * @return 支持的来源媒体类型集合（不存在相应的转换器时返回空集合）
+     */
     public static Set<MediaType> getSupportedSrcMediaTypesByDestType(MediaType destMediaType) {
-        return Collections.unmodifiableSet(SUPPORTED_SRC_MEDIA_TYPES_MAP.get(destMediaType));
+        ensureInitialized();
+        Set<MediaType> srcMediaTypes = SUPPORTED_SRC_MEDIA_TYPES_MAP.get(destMediaType);
+        return srcMediaTypes == null ? Collections.emptySet() : Collections.unmodifiableSet(srcMediaTypes);
+    }
+
+    /**
+     * 查询文件转换器描述符（不会创建转换器实例）
+     *
+     * @param srcMediaType  文件转换的来源媒体类型
+     * @param destMediaType 文件转换的目标媒体类型
+     * @return 查询到的文件转换器描述符（查询不到时返回 null）
+     */
+    @Nullable
+    public static FileConverterDescriptor lookupDescriptor(MediaType srcMediaType, MediaType destMediaType) {
+        ensureInitialized();
+        return REGISTRY_MAP.get(FileConverterRegistryKey.of(srcMediaType, destMediaType));
+    }
+
+    /**
+     * 获取注册表中所有转换器的目标媒体类型集合
+     *
+     * @return 目标媒体类型集合
+     */
+    public static Set<MediaType> getSupportedDestMediaTypes() {
+        ensureInitialized();
+        return Collections.unmodifiableSet(SUPPORTED_SRC_MEDIA_TYPES_MAP.keySet());
+    }
+
+    /**
+     * 获取注册表中所有的文件转换器描述符（去重后）
+     *
+     * @return 文件转换器描述符列表
+     */
+    public static List<FileConverterDescriptor> getConverterDescriptors() {
+        ensureInitialized();
+        return REGISTRY_MAP.values().stream().distinct().collect(Collectors.toList());
+    }
+
+    /**
+     * 注册文件转换器（运行时注册自定义转换器）
+     * <p>
+     * 如果某个 [来源媒体类型 ==> 目标媒体类型] 已经注册了其他转换器，则该组合保持原有的转换器不变，并输出警告信息。
+     * </p>
+     *
+     * @param descriptor 文件转换器描述符
+     */
+    public static void register(FileConverterDescriptor descriptor) {
+        ensureInitialized();
+        doRegister(descriptor);
+    }
+
+    /**
+     * 注册文件转换器（运行时注册已创建的自定义转换器实例）
+     *
+     * @param converter 文件转换器实例
+     */
+    public static void register(FileConverter converter) {
+        register(FileConverterDescriptor.of(converter));
+    }
+
+    /**
+     * 注销文件转换器（只移除注册到该描述符的 [来源媒体类型 ==> 目标媒体类型] 组合）
+     *
+     * @param descriptor 文件转换器描述符
+     * @return 是否移除了至少一个组合
+     */
+    public static boolean unregister(FileConverterDescriptor descriptor) {
+        ensureInitialized();
+        return doUnregister(descriptor);
+    }
+
+    /**
+     * 获取注册表初始化的耗时（毫秒数，注册表尚未初始化时返回 -1）
+     *
+     * @return 注册表初始化的耗时
+     */
+    public static long getInitTimeMillis() {
+        long nanos = initTimeNanos;
+        return nanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * 获取注册表的版本号（每次注册或注销转换器后递增，可用于判断依赖注册表内容的缓存是否已失效）
+     *
+     * @return 注册表的版本号
+     */
+    public static long getVersion() {
+        ensureInitialized();
+        return VERSION.get();
     }
 
     /**
@@ -113,14 +217,33 @@ public abstract class FileConverterRegistry {
         }
     }
 
+    private static void ensureInitialized() {
+        if (!initialized) {
+            synchronized (FileConverterRegistry.class) {
+                if (!initialized) {
+                    long startNanos = System.nanoTime();
+                    init();
+                    initTimeNanos = System.nanoTime() - startNanos;
+                    initialized = true;
+
+                    log.debug("文件转换器注册表初始化完成: 共 {} 个转换器, 耗时 {}ms",
+                            REGISTRY_MAP.values().stream().distinct().count(), getInitTimeMillis());
+                    if (log.isDebugEnabled()) {
+                        printRegistryInfo();
+                    }
+                }
+            }
+        }
+    }
+
     private static void init() {
-        String fileConverterPackageName = FileConverter.class.getPackage().getName();
-        Set<Class<?>> clazzSet = ClassUtil.scanPackageBySuper(fileConverterPackageName, FileConverter.class).stream()
-                .filter(clazz -> !ClassUtil.isAbstractOrInterface(clazz) && !clazz.isAnonymousClass())
-                .collect(Collectors.toSet());
+        List<FileConverterProvider> providers = new ArrayList<>();
+        providers.add(new BuiltInFileConverterProvider());
+        ServiceLoader.load(FileConverterProvider.class, FileConverterRegistry.class.getClassLoader())
+                .forEach(providers::add);
 
-        for (Class<?> clazz : clazzSet) {
-            register((FileConverter) ReflectUtil.newInstance(clazz));
+        for (FileConverterProvider provider : providers) {
+            provider.getConverterDescriptors().forEach(FileConverterRegistry::doRegister);
         }
     }
 
@@ -129,35 +252,50 @@ public abstract class FileConverterRegistry {
         SUPPORTED_SRC_MEDIA_TYPES_MAP.forEach((destMediaType, srcMediaTypes) -> {
             String str = srcMediaTypes.stream().map(srcMediaType -> {
                 FileConverterRegistryKey key = FileConverterRegistryKey.of(srcMediaType, destMediaType);
-                FileConverter converter = REGISTRY_MAP.get(key);
-                return StrUtil.format("\n\t {}: \n\t\t\t {}\n", srcMediaType, converter.getClass().getName());
+                FileConverterDescriptor descriptor = REGISTRY_MAP.get(key);
+                return StrUtil.format("\n\t {}: \n\t\t\t {}\n", srcMediaType, descriptor.getConverterClassName());
             }).sorted().collect(Collectors.joining());
             log.debug("[conversion to {}]: {}\n\n", destMediaType, str);
         });
     }
 
-    /**
-     * 注册文件转换器
-     *
-     * @param converter 文件转换器实例
-     */
-    private static void register(FileConverter converter) {
-        Set<MediaType> srcMediaTypeSet = converter.getSupportedSrcMediaTypes();
-        MediaType destMediaType = converter.getDestMediaType();
+    private static synchronized void doRegister(FileConverterDescriptor descriptor) {
+        Set<MediaType> srcMediaTypeSet = descriptor.getSrcMediaTypes();
+        MediaType destMediaType = descriptor.getDestMediaType();
 
         srcMediaTypeSet.forEach(srcMediaType -> {
             FileConverterRegistryKey key = FileConverterRegistryKey.of(srcMediaType, destMediaType);
-            FileConverter oldValue = REGISTRY_MAP.get(key);
+            FileConverterDescriptor oldValue = REGISTRY_MAP.get(key);
             if (oldValue == null) {
-                REGISTRY_MAP.putIfAbsent(key, converter);
+                REGISTRY_MAP.putIfAbsent(key, descriptor);
 
                 Set<MediaType> supportedSrcMediaTypes =
-                        SUPPORTED_SRC_MEDIA_TYPES_MAP.computeIfAbsent(destMediaType, k -> new HashSet<>());
+                        SUPPORTED_SRC_MEDIA_TYPES_MAP.computeIfAbsent(destMediaType, k -> ConcurrentHashMap.newKeySet());
                 supportedSrcMediaTypes.add(srcMediaType);
-            } else {
+                VERSION.incrementAndGet();
+            } else if (oldValue != descriptor) {
                 Console.error("[警告] 无法将文件转换器[{}] \n\t 注册到 Key: {}, \n\t 原因: 此 Key 在注册表中已经注册了文件转换器 [{}]\n",
-                        converter.getClass().getName(), key, oldValue.getClass().getName());
+                        descriptor.getConverterClassName(), key, oldValue.getConverterClassName());
             }
         });
     }
+
+    private static synchronized boolean doUnregister(FileConverterDescriptor descriptor) {
+        MediaType destMediaType = descriptor.getDestMediaType();
+        boolean removed = false;
+        for (MediaType srcMediaType : descriptor.getSrcMediaTypes()) {
+            if (REGISTRY_MAP.remove(FileConverterRegistryKey.of(srcMediaType, destMediaType), descriptor)) {
+                Set<MediaType> supportedSrcMediaTypes = SUPPORTED_SRC_MEDIA_TYPES_MAP.get(destMediaType);
+                supportedSrcMediaTypes.remove(srcMediaType);
+                if (supportedSrcMediaTypes.isEmpty()) {
+                    SUPPORTED_SRC_MEDIA_TYPES_MAP.remove(destMediaType);
+                }
+                removed = true;
+            }
+        }
+        if (removed) {
+            VERSION.incrementAndGet();
+        }
+        return removed;
+    }
 }
@@ -0,0 +1,219 @@
+package plus.hutool.media.converter.file;
+
+import cn.hutool.core.util.StrUtil;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.lang.ExceptionUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 文件转换的页码选择（页码从 1 开始，用于文档预览等只需要部分页面的场景）
+ * <p>
+ * 支持的表达式格式示例: "1-3"、"1-3,5,8-"（"8-" 表示从第 8 页到最后一页），
+ * 页码区间在创建时会被排序并合并，{@link #toString()} 返回规范化后的表达式。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public final class PageSelection {
+
+    /**
+     * 表示"到最后一页"的结束页码
+     */
+    public static final int LAST_PAGE = Integer.MAX_VALUE;
+
+    private static final String RANGE_SEPARATOR = ",";
+    private static final String FROM_TO_SEPARATOR = "-";
+
+    private final List<Range> ranges;
+
+    private PageSelection(List<Range> ranges) {
+        Asserts.notEmpty(ranges, "页码选择不能为空");
+        this.ranges = Collections.unmodifiableList(mergeRanges(ranges));
+    }
+
+    /**
+     * 选择前 N 页（预览模式）
+     *
+     * @param pageCount 页数
+     * @return 页码选择
+     */
+    public static PageSelection firstPages(int pageCount) {
+        return of(1, pageCount);
+    }
+
+    /**
+     * 选择一个页码区间
+     *
+     * @param fromPageNumber 起始页码（从 1 开始）
+     * @param toPageNumber   结束页码（包含，{@link #LAST_PAGE} 表示到最后一页）
+     * @return 页码选择
+     */
+    public static PageSelection of(int fromPageNumber, int toPageNumber) {
+        return new PageSelection(Collections.singletonList(new Range(fromPageNumber, toPageNumber)));
+    }
+
+    /**
+     * 解析页码选择表达式（如 "1-3,5,8-"）
+     *
+     * @param expression 页码选择表达式
+     * @return 页码选择
+     * @throws IllegalArgumentException 如果表达式的格式不正确
+     */
+    public static PageSelection parse(String expression) {
+        Asserts.notBlank(expression, "页码选择表达式不能为空");
+
+        List<Range> ranges = new ArrayList<>();
+        for (String piece : StrUtil.splitTrim(expression, RANGE_SEPARATOR)) {
+            try {
+                int separatorIndex = piece.indexOf(FROM_TO_SEPARATOR);
+                if (separatorIndex == -1) {
+                    int pageNumber = Integer.parseInt(piece);
+                    ranges.add(new Range(pageNumber, pageNumber));
+                } else {
+                    int from = Integer.parseInt(piece.substring(0, separatorIndex).trim());
+                    String toStr = piece.substring(separatorIndex + 1).trim();
+                    ranges.add(new Range(from, toStr.isEmpty() ? LAST_PAGE : Integer.parseInt(toStr)));
+                }
+            } catch (NumberFormatException e) {
+                throw ExceptionUtils.illegalArgumentException("页码选择表达式的格式不正确: {}", expression);
+            }
+        }
+        return new PageSelection(ranges);
+    }
+
+    /**
+     * 判断是否选择了指定页码
+     *
+     * @param pageNumber 页码（从 1 开始）
+     * @return 是否选择了指定页码
+     */
+    public boolean contains(int pageNumber) {
+        for (Range range : ranges) {
+            if (pageNumber < range.from) {
+                return false;
+            }
+            if (pageNumber <= range.to) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取合并后的页码区间列表（按起始页码升序排列，互不重叠）
+     *
+     * @return 页码区间列表
+     */
+    public List<Range> getRanges() {
+        return ranges;
+    }
+
+    /**
+     * 获取选择的最大页码（选择到最后一页时返回 {@link #LAST_PAGE}）
+     *
+     * @return 选择的最大页码
+     */
+    public int getMaxPageNumber() {
+        return ranges.get(ranges.size() - 1).to;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PageSelection)) {
+            return false;
+        }
+        return ranges.equals(((PageSelection) o).ranges);
+    }
+
+    @Override
+    public int hashCode() {
+        return ranges.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return ranges.stream().map(Range::toString).collect(Collectors.joining(RANGE_SEPARATOR));
+    }
+
+    private static List<Range> mergeRanges(List<Range> ranges) {
+        List<Range> sortedRanges = new ArrayList<>(ranges);
+        sortedRanges.sort(Comparator.comparingInt(Range::getFrom));
+
+        List<Range> result = new ArrayList<>();
+        Range current = sortedRanges.get(0);
+        for (int i = 1; i < sortedRanges.size(); i++) {
+            Range next = sortedRanges.get(i);
+            if (current.to == LAST_PAGE || next.from <= current.to + 1) {
+                current = new Range(current.from, Math.max(current.to, next.to));
+            } else {
+                result.add(current);
+                current = next;
+            }
+        }
+        result.add(current);
+        return result;
+    }
+
+    /**
+     * 页码区间（包含起始页码和结束页码）
+     */
+    public static final class Range {
+        private final int from;
+        private final int to;
+
+        private Range(int from, int to) {
+            Asserts.isTrue(from >= 1, "起始页码必须大于等于 1: {}", from);
+            Asserts.isTrue(to >= from, "结束页码不能小于起始页码: {}-{}", from, to);
+            this.from = from;
+            this.to = to;
+        }
+
+        public int getFrom() {
+            return from;
+        }
+
+        public int getTo() {
+            return to;
+        }
+
+        public boolean isOpenEnded() {
+            return to == LAST_PAGE;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Range)) {
+                return false;
+            }
+            Range that = (Range) o;
+            return from == that.from && to == that.to;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, to);
+        }
+
+        @Override
+        public String toString() {
+            if (isOpenEnded()) {
+                return from + FROM_TO_SEPARATOR;
+            }
+            return from == to ? String.valueOf(from) : from + FROM_TO_SEPARATOR + to;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package plus.hutool.media.converter.file;
+
+
+import plus.hutool.media.content.type.MediaType;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 支持流式转换的文件转换器接口（直接从输入流转换到输出流，不经过临时文件）
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+public interface StreamFileConverter extends FileConverter {
+
+    /**
+     * 将来源文件的输入流转换后写入到目标文件的输出流（两个流均由调用方负责关闭）
+     *
+     * @param srcStream    来源文件的输入流
+     * @param srcMediaType 来源文件的媒体类型
+     * @param destStream   目标文件的输出流
+     * @param config       文件转换配置
+     */
+    void convert(InputStream srcStream, MediaType srcMediaType, OutputStream destStream, FileConvertConfig config);
+
+}
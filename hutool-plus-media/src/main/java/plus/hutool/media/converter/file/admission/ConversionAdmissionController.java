@@ -0,0 +1,413 @@
+package plus.hutool.media.converter.file.admission;
+
+import cn.hutool.core.util.StrUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.core.measure.util.FileSizeUtils;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.converter.file.FileConversionContext;
+import plus.hutool.media.exception.FileConversionRejectedException;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 基于内存预算的文件转换准入控制器
+ * <p>
+ * 每次转换开始前，按 {@link ConversionMemoryEstimator} 估算其内存占用并从全局内存预算中预留，转换结束后归还。
+ * 预算不足时转换排队等待，但后到的小任务只要预算足够就可以直接准入（大任务排队时小任务不受影响）；
+ * 为避免大任务被持续到达的小任务"饿死"，排队最久的任务等待超过 {@link #getStarvationThresholdMillis()} 后，
+ * 其他任务暂停准入，直到该任务被准入为止。估算值超过全部预算的任务会在没有其他转换运行时独占执行。
+ * </p>
+ * <p>
+ * 当某个转换是唯一正在运行的转换时，会采样转换期间垃圾回收后的堆内存使用量（参见 {@link HeapUsageSampler}），
+ * 用于校准估算器的膨胀系数。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class ConversionAdmissionController {
+    private static final Logger log = LoggerFactory.getLogger(ConversionAdmissionController.class);
+
+    /**
+     * 默认的内存预算占最大堆内存的比例
+     */
+    public static final double DEFAULT_BUDGET_RATIO = 0.5;
+
+    /**
+     * 默认的防饿死等待阈值（毫秒数）
+     */
+    public static final long DEFAULT_STARVATION_THRESHOLD_MILLIS = 10_000;
+
+    private final long budgetBytes;
+    private final ConversionMemoryEstimator estimator;
+    private final long starvationThresholdMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+
+    private long reservedBytes = 0;
+    private int admittedCount = 0;
+    @Nullable
+    private Permit samplingPermit;
+
+    private final AtomicLong admittedTotal = new AtomicLong();
+    private final AtomicLong queuedTotal = new AtomicLong();
+    private final AtomicLong rejectedTotal = new AtomicLong();
+
+    /**
+     * 使用默认配置创建准入控制器（内存预算为最大堆内存的 {@link #DEFAULT_BUDGET_RATIO}）
+     */
+    public ConversionAdmissionController() {
+        this(Math.round(Runtime.getRuntime().maxMemory() * DEFAULT_BUDGET_RATIO));
+    }
+
+    /**
+     * 创建准入控制器
+     *
+     * @param budgetBytes 内存预算（字节数）
+     */
+    public ConversionAdmissionController(long budgetBytes) {
+        this(budgetBytes, new ConversionMemoryEstimator(), DEFAULT_STARVATION_THRESHOLD_MILLIS);
+    }
+
+    /**
+     * 创建准入控制器
+     *
+     * @param budgetBytes               内存预算（字节数）
+     * @param estimator                 内存占用估算器
+     * @param starvationThresholdMillis 防饿死等待阈值（毫秒数）
+     */
+    public ConversionAdmissionController(long budgetBytes, ConversionMemoryEstimator estimator,
+                                         long starvationThresholdMillis) {
+        Asserts.isTrue(budgetBytes > 0, "内存预算必须大于 0: {}", budgetBytes);
+        Asserts.isTrue(starvationThresholdMillis > 0, "防饿死等待阈值必须大于 0: {}", starvationThresholdMillis);
+        this.budgetBytes = budgetBytes;
+        this.estimator = estimator;
+        this.starvationThresholdMillis = starvationThresholdMillis;
+    }
+
+    /**
+     * 申请转换准入（预算不足时阻塞等待）
+     *
+     * @param srcFile      来源文件
+     * @param srcMediaType 来源文件的媒体类型
+     * @return 准入许可（转换结束后必须关闭）
+     */
+    public Permit acquire(File srcFile, MediaType srcMediaType) {
+        return acquire(srcFile, srcMediaType, Long.MAX_VALUE);
+    }
+
+    /**
+     * 申请转换准入（预算不足时最多等待指定时长）
+     *
+     * @param srcFile       来源文件
+     * @param srcMediaType  来源文件的媒体类型
+     * @param timeoutMillis 最长等待时长（毫秒数）
+     * @return 准入许可（转换结束后必须关闭）
+     * @throws FileConversionRejectedException 如果等待超时或被中断
+     */
+    public Permit acquire(File srcFile, MediaType srcMediaType, long timeoutMillis) {
+        return doAcquire(srcFile.getName(), srcFile.length(), srcMediaType, timeoutMillis);
+    }
+
+    /**
+     * 按来源数据的字节数申请转换准入（预算不足时阻塞等待），用于来源是输入流、没有对应文件的转换
+     *
+     * @param srcBytes     来源数据的字节数
+     * @param srcMediaType 来源数据的媒体类型
+     * @return 准入许可（转换结束后必须关闭）
+     */
+    public Permit acquire(long srcBytes, MediaType srcMediaType) {
+        return acquire(srcBytes, srcMediaType, Long.MAX_VALUE);
+    }
+
+    /**
+     * 按来源数据的字节数申请转换准入（预算不足时最多等待指定时长），用于来源是输入流、没有对应文件的转换
+     *
+     * @param srcBytes      来源数据的字节数
+     * @param srcMediaType  来源数据的媒体类型
+     * @param timeoutMillis 最长等待时长（毫秒数）
+     * @return 准入许可（转换结束后必须关闭）
+     * @throws FileConversionRejectedException 如果等待超时或被中断
+     */
+    public Permit acquire(long srcBytes, MediaType srcMediaType, long timeoutMillis) {
+        Asserts.isTrue(srcBytes >= 0, "来源数据的字节数不能小于 0: {}", srcBytes);
+        return doAcquire(StrUtil.format("<{} 输入流>", srcMediaType), srcBytes, srcMediaType, timeoutMillis);
+    }
+
+    /**
+     * 申请转换准入后执行转换，转换结束后归还预算
+     * （等待准入的耗时记录在文件转换上下文的 {@link FileConversionContext#STAGE_WAIT_ADMISSION} 阶段）
+     *
+     * @param srcFile      来源文件
+     * @param srcMediaType 来源文件的媒体类型
+     * @param context      文件转换上下文（可以为 null）
+     * @param conversion   转换逻辑
+     * @param <T>          转换结果的类型
+     * @return 转换结果
+     */
+    public <T> T callAdmitted(File srcFile, MediaType srcMediaType, @Nullable FileConversionContext context,
+                              Supplier<T> conversion) {
+        return callAdmitted(() -> acquire(srcFile, srcMediaType), context, conversion);
+    }
+
+    /**
+     * 按来源数据的字节数申请转换准入后执行转换，转换结束后归还预算
+     * （等待准入的耗时记录在文件转换上下文的 {@link FileConversionContext#STAGE_WAIT_ADMISSION} 阶段）
+     *
+     * @param srcBytes     来源数据的字节数
+     * @param srcMediaType 来源数据的媒体类型
+     * @param context      文件转换上下文（可以为 null）
+     * @param conversion   转换逻辑
+     * @param <T>          转换结果的类型
+     * @return 转换结果
+     */
+    public <T> T callAdmitted(long srcBytes, MediaType srcMediaType, @Nullable FileConversionContext context,
+                              Supplier<T> conversion) {
+        return callAdmitted(() -> acquire(srcBytes, srcMediaType), context, conversion);
+    }
+
+    private <T> T callAdmitted(Supplier<Permit> acquisition, @Nullable FileConversionContext context,
+                               Supplier<T> conversion) {
+        Permit permit;
+        if (context != null) {
+            context.startStage(FileConversionContext.STAGE_WAIT_ADMISSION);
+        }
+        try {
+            permit = acquisition.get();
+        } finally {
+            if (context != null) {
+                context.stopStage();
+            }
+        }
+
+        try (Permit ignored = permit) {
+            return conversion.get();
+        }
+    }
+
+    private Permit doAcquire(String srcDesc, long srcFileSize, MediaType srcMediaType, long timeoutMillis) {
+        long estimatedBytes = estimator.estimate(srcMediaType, srcFileSize);
+        long requiredBytes = Math.min(estimatedBytes, budgetBytes);
+
+        lock.lock();
+        try {
+            Waiter waiter = null;
+            long deadlineNanos = timeoutMillis == Long.MAX_VALUE ? Long.MAX_VALUE
+                    : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            try {
+                while (!canAdmit(waiter, requiredBytes)) {
+                    if (waiter == null) {
+                        waiter = new Waiter(System.nanoTime());
+                        waiters.addLast(waiter);
+                        queuedTotal.incrementAndGet();
+                        log.debug("内存预算不足，转换排队等待: {}, 估算占用 = {}, {}", srcDesc,
+                                formatBytes(estimatedBytes), this);
+                    }
+                    if (deadlineNanos == Long.MAX_VALUE) {
+                        released.await();
+                    } else {
+                        long remainingNanos = deadlineNanos - System.nanoTime();
+                        if (remainingNanos <= 0) {
+                            rejectedTotal.incrementAndGet();
+                            throw new FileConversionRejectedException(StrUtil.format(
+                                    "等待内存预算超时: {}, 估算占用 = {}, {}", srcDesc,
+                                    formatBytes(estimatedBytes), this));
+                        }
+                        released.awaitNanos(remainingNanos);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejectedTotal.incrementAndGet();
+                throw new FileConversionRejectedException("等待内存预算时被中断", e);
+            } finally {
+                if (waiter != null) {
+                    waiters.remove(waiter);
+                    // 排队最久的任务离开队列后，其他等待中的任务可能可以准入了
+                    released.signalAll();
+                }
+            }
+
+            Permit permit = new Permit(srcMediaType, srcFileSize, estimatedBytes, requiredBytes);
+            reservedBytes += requiredBytes;
+            if (admittedCount == 0) {
+                permit.heapUsageSample = HeapUsageSampler.start();
+                samplingPermit = permit;
+            } else if (samplingPermit != null) {
+                samplingPermit.sampleInvalidated = true;
+            }
+            admittedCount++;
+            admittedTotal.incrementAndGet();
+            return permit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    public ConversionMemoryEstimator getEstimator() {
+        return estimator;
+    }
+
+    public long getStarvationThresholdMillis() {
+        return starvationThresholdMillis;
+    }
+
+    /**
+     * 获取当前已预留的内存（字节数）
+     *
+     * @return 已预留的内存
+     */
+    public long getReservedBytes() {
+        lock.lock();
+        try {
+            return reservedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 获取当前已准入（正在执行）的转换数
+     *
+     * @return 已准入的转换数
+     */
+    public int getAdmittedCount() {
+        lock.lock();
+        try {
+            return admittedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 获取当前排队等待的转换数
+     *
+     * @return 排队等待的转换数
+     */
+    public int getWaitingCount() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getAdmittedTotal() {
+        return admittedTotal.get();
+    }
+
+    public long getQueuedTotal() {
+        return queuedTotal.get();
+    }
+
+    public long getRejectedTotal() {
+        return rejectedTotal.get();
+    }
+
+    @Override
+    public String toString() {
+        return StrUtil.format("内存预算 = {}, 已预留 = {}, 执行中 = {}, 排队中 = {}", formatBytes(budgetBytes),
+                formatBytes(getReservedBytes()), getAdmittedCount(), getWaitingCount());
+    }
+
+    private boolean canAdmit(@Nullable Waiter waiter, long requiredBytes) {
+        Waiter oldest = waiters.peekFirst();
+        boolean starving = oldest != null && oldest != waiter
+                && System.nanoTime() - oldest.enqueuedAtNanos > TimeUnit.MILLISECONDS.toNanos(starvationThresholdMillis);
+        return !starving && reservedBytes + requiredBytes <= budgetBytes;
+    }
+
+    private void release(Permit permit) {
+        lock.lock();
+        try {
+            reservedBytes -= permit.reservedBytes;
+            admittedCount--;
+            if (samplingPermit == permit) {
+                samplingPermit = null;
+                long observedBytes = permit.heapUsageSample.stop();
+                if (!permit.sampleInvalidated && observedBytes != HeapUsageSampler.UNKNOWN) {
+                    estimator.calibrate(permit.srcMediaType, permit.srcFileSize, observedBytes);
+                }
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String formatBytes(long bytes) {
+        return FileSizeUtils.normalizeFileSizeToStr(bytes, FileSizeUtils.BYTE);
+    }
+
+    /**
+     * 排队等待的任务
+     */
+    private static final class Waiter {
+        private final long enqueuedAtNanos;
+
+        private Waiter(long enqueuedAtNanos) {
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+    }
+
+    /**
+     * 准入许可（关闭时归还预留的内存预算，可重复关闭）
+     */
+    public final class Permit implements AutoCloseable {
+        private final MediaType srcMediaType;
+        private final long srcFileSize;
+        private final long estimatedBytes;
+        private final long reservedBytes;
+
+        @Nullable
+        private HeapUsageSampler.Sample heapUsageSample;
+        private boolean sampleInvalidated = false;
+        private boolean closed = false;
+
+        private Permit(MediaType srcMediaType, long srcFileSize, long estimatedBytes, long reservedBytes) {
+            this.srcMediaType = srcMediaType;
+            this.srcFileSize = srcFileSize;
+            this.estimatedBytes = estimatedBytes;
+            this.reservedBytes = reservedBytes;
+        }
+
+        /**
+         * 获取估算的内存占用（字节数）
+         *
+         * @return 估算的内存占用
+         */
+        public long getEstimatedBytes() {
+            return estimatedBytes;
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            release(this);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package plus.hutool.media.converter.file.admission;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.measure.util.FileSizeUtils;
+import plus.hutool.media.content.type.MediaType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 文件转换的内存占用估算器
+ * <p>
+ * 估算公式: 固定开销 + 来源文件大小 × 媒体类型的膨胀系数。膨胀系数有按经验设置的初始值（如 xlsx 解压并建立单元格模型后
+ * 通常是文件大小的数十倍），并根据实际观测到的内存峰值以指数加权移动平均的方式持续校准。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class ConversionMemoryEstimator {
+    private static final Logger log = LoggerFactory.getLogger(ConversionMemoryEstimator.class);
+
+    /**
+     * 每次转换的固定内存开销（字节数）
+     */
+    public static final long DEFAULT_BASE_OVERHEAD_BYTES = 16L * 1024 * 1024;
+
+    /**
+     * 未设置膨胀系数的媒体类型使用的默认膨胀系数
+     */
+    public static final double DEFAULT_FACTOR = 10;
+
+    /**
+     * 校准时最新观测值的权重
+     */
+    public static final double CALIBRATION_ALPHA = 0.3;
+
+    private static final double MIN_FACTOR = 1;
+    private static final double MAX_FACTOR = 200;
+
+    private static final Map<MediaType, Double> INITIAL_FACTORS = new HashMap<>();
+
+    static {
+        INITIAL_FACTORS.put(MediaType.APPLICATION_XLSX, 40.0);
+        INITIAL_FACTORS.put(MediaType.APPLICATION_XLS, 15.0);
+        INITIAL_FACTORS.put(MediaType.APPLICATION_PPTX, 20.0);
+        INITIAL_FACTORS.put(MediaType.APPLICATION_PPT, 10.0);
+        INITIAL_FACTORS.put(MediaType.APPLICATION_DOCX, 25.0);
+        INITIAL_FACTORS.put(MediaType.APPLICATION_DOC, 10.0);
+        INITIAL_FACTORS.put(MediaType.APPLICATION_OFD, 20.0);
+        INITIAL_FACTORS.put(MediaType.APPLICATION_PDF, 8.0);
+        INITIAL_FACTORS.put(MediaType.TEXT_PLAIN, 6.0);
+    }
+
+    private final long baseOverheadBytes;
+    private final Map<MediaType, Double> factors = new ConcurrentHashMap<>(INITIAL_FACTORS);
+
+    public ConversionMemoryEstimator() {
+        this(DEFAULT_BASE_OVERHEAD_BYTES);
+    }
+
+    /**
+     * 创建内存占用估算器
+     *
+     * @param baseOverheadBytes 每次转换的固定内存开销（字节数）
+     */
+    public ConversionMemoryEstimator(long baseOverheadBytes) {
+        Asserts.isTrue(baseOverheadBytes >= 0, "固定内存开销不能小于 0: {}", baseOverheadBytes);
+        this.baseOverheadBytes = baseOverheadBytes;
+    }
+
+    /**
+     * 估算文件转换的内存占用
+     *
+     * @param srcMediaType 来源文件的媒体类型
+     * @param srcFileSize  来源文件的大小（字节数）
+     * @return 估算的内存占用（字节数）
+     */
+    public long estimate(MediaType srcMediaType, long srcFileSize) {
+        return baseOverheadBytes + Math.round(Math.max(srcFileSize, 0) * getFactor(srcMediaType));
+    }
+
+    /**
+     * 根据实际观测到的内存峰值校准媒体类型的膨胀系数
+     *
+     * @param srcMediaType  来源文件的媒体类型
+     * @param srcFileSize   来源文件的大小（字节数）
+     * @param observedBytes 观测到的转换期间的内存峰值增量（字节数）
+     */
+    public void calibrate(MediaType srcMediaType, long srcFileSize, long observedBytes) {
+        if (srcFileSize <= 0 || observedBytes <= baseOverheadBytes) {
+            return;
+        }
+        double observedFactor = clamp((double) (observedBytes - baseOverheadBytes) / srcFileSize);
+        double newFactor = factors.merge(srcMediaType, observedFactor,
+                (oldValue, observed) -> clamp(oldValue + CALIBRATION_ALPHA * (observed - oldValue)));
+
+        log.debug("校准内存膨胀系数: {}, 文件大小 = {}, 观测峰值 = {}, 新的系数 = {}", srcMediaType,
+                FileSizeUtils.normalizeFileSizeToStr(srcFileSize, FileSizeUtils.BYTE),
+                FileSizeUtils.normalizeFileSizeToStr(observedBytes, FileSizeUtils.BYTE), newFactor);
+    }
+
+    /**
+     * 获取媒体类型的膨胀系数
+     *
+     * @param mediaType 媒体类型
+     * @return 膨胀系数
+     */
+    public double getFactor(MediaType mediaType) {
+        return factors.getOrDefault(mediaType, DEFAULT_FACTOR);
+    }
+
+    /**
+     * 设置媒体类型的膨胀系数（后续仍会被校准）
+     *
+     * @param mediaType 媒体类型
+     * @param factor    膨胀系数
+     */
+    public void setFactor(MediaType mediaType, double factor) {
+        factors.put(mediaType, clamp(factor));
+    }
+
+    public long getBaseOverheadBytes() {
+        return baseOverheadBytes;
+    }
+
+    private static double clamp(double factor) {
+        return Math.min(Math.max(factor, MIN_FACTOR), MAX_FACTOR);
+    }
+}
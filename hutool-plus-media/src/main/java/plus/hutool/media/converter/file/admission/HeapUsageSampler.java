@@ -0,0 +1,142 @@
+package plus.hutool.media.converter.file.admission;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 堆内存使用量采样（基于垃圾回收后的堆内存使用量）
+ * <p>
+ * 通过监听垃圾回收通知，记录采样期间每次垃圾回收后的堆内存使用量（即存活对象占用的内存，不包含未回收的垃圾），
+ * 取其最大值与开始采样前最近一次垃圾回收后的使用量之差作为观测到的内存占用。
+ * 采样不会重置内存池的峰值等 JVM 全局状态（不影响 JMX/APM 等监控指标），多个采样可以同时进行。
+ * 采样期间没有发生垃圾回收时无法得到观测值；当前 JVM 不支持垃圾回收通知时，退化为开始和结束时的堆内存使用量之差（偏保守）。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+abstract class HeapUsageSampler {
+    private static final Logger log = LoggerFactory.getLogger(HeapUsageSampler.class);
+
+    /**
+     * 无法得到观测值
+     */
+    static final long UNKNOWN = -1;
+
+    private static final Set<String> HEAP_POOL_NAMES = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isValid())
+            .map(MemoryPoolMXBean::getName)
+            .collect(Collectors.toSet());
+
+    private static final Set<Sample> ACTIVE_SAMPLES = ConcurrentHashMap.newKeySet();
+
+    private static volatile long lastUsedAfterGc = UNKNOWN;
+
+    private static final boolean GC_NOTIFICATION_SUPPORTED = registerGcNotificationListener();
+
+    private HeapUsageSampler() {}
+
+    /**
+     * 开始采样
+     *
+     * @return 采样（结束时调用 {@link Sample#stop()}）
+     */
+    static Sample start() {
+        long usedAfterGc = lastUsedAfterGc;
+        Sample sample = new Sample(usedAfterGc != UNKNOWN ? usedAfterGc : currentUsed());
+        if (GC_NOTIFICATION_SUPPORTED) {
+            ACTIVE_SAMPLES.add(sample);
+        }
+        return sample;
+    }
+
+    private static long currentUsed() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (HEAP_POOL_NAMES.contains(pool.getName())) {
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    private static boolean registerGcNotificationListener() {
+        try {
+            boolean registered = false;
+            for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (gcBean instanceof NotificationEmitter) {
+                    ((NotificationEmitter) gcBean).addNotificationListener((notification, handback) -> {
+                        if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                            onGarbageCollected(GarbageCollectionNotificationInfo.from(
+                                    (CompositeData) notification.getUserData()).getGcInfo().getMemoryUsageAfterGc());
+                        }
+                    }, null, null);
+                    registered = true;
+                }
+            }
+            return registered;
+        } catch (RuntimeException | LinkageError e) {
+            log.debug("当前 JVM 不支持垃圾回收通知，堆内存采样退化为使用量之差: {}", e.toString());
+            return false;
+        }
+    }
+
+    private static void onGarbageCollected(Map<String, MemoryUsage> usageAfterGc) {
+        long used = 0;
+        for (Map.Entry<String, MemoryUsage> entry : usageAfterGc.entrySet()) {
+            if (HEAP_POOL_NAMES.contains(entry.getKey())) {
+                used += entry.getValue().getUsed();
+            }
+        }
+        lastUsedAfterGc = used;
+        for (Sample sample : ACTIVE_SAMPLES) {
+            sample.recordUsedAfterGc(used);
+        }
+    }
+
+    /**
+     * 一次采样
+     */
+    static final class Sample {
+        private final long baselineBytes;
+        private long maxUsedAfterGc = UNKNOWN;
+
+        private Sample(long baselineBytes) {
+            this.baselineBytes = baselineBytes;
+        }
+
+        private synchronized void recordUsedAfterGc(long used) {
+            maxUsedAfterGc = Math.max(maxUsedAfterGc, used);
+        }
+
+        /**
+         * 结束采样
+         *
+         * @return 采样期间观测到的内存占用（字节数，无法得到观测值时返回 {@link #UNKNOWN}）
+         */
+        long stop() {
+            if (!GC_NOTIFICATION_SUPPORTED) {
+                return Math.max(currentUsed() - baselineBytes, 0);
+            }
+
+            ACTIVE_SAMPLES.remove(this);
+            synchronized (this) {
+                return maxUsedAfterGc == UNKNOWN ? UNKNOWN : Math.max(maxUsedAfterGc - baselineBytes, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+@NonNullApi
+@NonNullFields
+package plus.hutool.media.converter.file.admission;
+
+import plus.hutool.core.lang.annotation.NonNullApi;
+import plus.hutool.core.lang.annotation.NonNullFields;
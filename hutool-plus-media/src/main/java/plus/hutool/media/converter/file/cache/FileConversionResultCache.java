@@ -0,0 +1,292 @@
+package plus.hutool.media.converter.file.cache;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import plus.hutool.core.io.FileUtils;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.core.measure.util.FileSizeUtils;
+import plus.hutool.media.converter.file.FileConversionKey;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 文件转换结果的磁盘缓存（内容寻址）
+ * <p>
+ * 以 {@link FileConversionKey} 的摘要作为缓存文件名，将转换结果复制一份存储到受管理的缓存目录中；
+ * 缓存目录的总大小超过上限时，按 LRU（最近最久未使用）的顺序淘汰缓存文件。
+ * 缓存目录中已有的缓存文件在创建缓存实例时会被重新加载（按最后修改时间近似恢复 LRU 顺序）。
+ * </p>
+ * <p>
+ * 注意：{@link #get(FileConversionKey)} 命中时返回的是缓存目录中的文件本身，调用方不应修改或删除该文件，
+ * 并且该文件随时可能因淘汰而被删除；需要持有转换结果的调用方应使用 {@link #copyTo(FileConversionKey, File)}
+ * 将缓存的转换结果复制到自己的目标文件（文件转换器使用的就是这种方式）。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class FileConversionResultCache {
+    private static final Logger log = LoggerFactory.getLogger(FileConversionResultCache.class);
+
+    /**
+     * 默认的缓存目录名称（位于 java.io.tmpdir 变量指向的临时目录中）
+     */
+    public static final String DEFAULT_CACHE_DIRNAME = "hutool-plus-conversion-cache";
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int TEMP_FILE_RANDOM_PART_LENGTH = 6;
+
+    private final File cacheDir;
+    private final long maxSizeInBytes;
+
+    /**
+     * 缓存项（Key 为 {@link FileConversionKey#digest()}），按访问顺序排序
+     */
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSizeInBytes;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * 创建使用默认缓存目录的文件转换结果缓存
+     *
+     * @param maxSizeInBytes 缓存目录的总大小上限（字节数）
+     */
+    public FileConversionResultCache(long maxSizeInBytes) {
+        this(Paths.get(FileUtils.TEMP_DIR, DEFAULT_CACHE_DIRNAME).toFile(), maxSizeInBytes);
+    }
+
+    /**
+     * 创建文件转换结果缓存
+     *
+     * @param cacheDir       缓存目录
+     * @param maxSizeInBytes 缓存目录的总大小上限（字节数）
+     */
+    public FileConversionResultCache(File cacheDir, long maxSizeInBytes) {
+        Asserts.isTrue(maxSizeInBytes > 0, "缓存大小上限必须大于 0: {}", maxSizeInBytes);
+        Asserts.isFalse(cacheDir.exists() && !cacheDir.isDirectory(), "缓存路径不是目录: {}", cacheDir.getAbsolutePath());
+
+        this.cacheDir = FileUtil.mkdir(cacheDir);
+        this.maxSizeInBytes = maxSizeInBytes;
+        loadExistingEntries();
+    }
+
+    /**
+     * 查询缓存的转换结果
+     *
+     * @param key 文件转换的 Key
+     * @return 缓存的转换结果文件（未命中时返回 null）
+     */
+    @Nullable
+    public File get(FileConversionKey key) {
+        String digest = key.digest();
+
+        File cachedFile;
+        synchronized (this) {
+            CacheEntry entry = entries.get(digest);
+            if (entry == null || !entry.file.isFile()) {
+                if (entry != null) {
+                    // 缓存文件已被外部删除
+                    entries.remove(digest);
+                    totalSizeInBytes -= entry.sizeInBytes;
+                }
+                missCount.incrementAndGet();
+                return null;
+            }
+            cachedFile = entry.file;
+        }
+
+        hitCount.incrementAndGet();
+        //noinspection ResultOfMethodCallIgnored
+        cachedFile.setLastModified(System.currentTimeMillis());
+        return cachedFile;
+    }
+
+    /**
+     * 查询缓存的转换结果，命中时将其复制到指定的目标文件（目标文件已存在时会被覆盖）
+     * <p>
+     * 复制在缓存锁之外进行，复制期间缓存文件恰好被淘汰时视为未命中。
+     * </p>
+     *
+     * @param key      文件转换的 Key
+     * @param destFile 目标文件
+     * @return 是否命中缓存
+     */
+    public boolean copyTo(FileConversionKey key, File destFile) {
+        File cachedFile = get(key);
+        if (cachedFile == null) {
+            return false;
+        }
+
+        try {
+            Files.copy(cachedFile.toPath(), destFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (NoSuchFileException e) {
+            log.debug("缓存文件在复制前已被淘汰: {}", cachedFile.getAbsolutePath());
+            hitCount.decrementAndGet();
+            missCount.incrementAndGet();
+            return false;
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+    }
+
+    /**
+     * 将转换结果存入缓存（会复制一份到缓存目录中，不影响传入的转换结果文件）
+     *
+     * @param key           文件转换的 Key
+     * @param convertedFile 转换结果文件
+     * @return 缓存目录中的转换结果文件（转换结果文件大于缓存大小上限时不缓存，直接返回传入的文件）
+     */
+    public File put(FileConversionKey key, File convertedFile) {
+        long fileSize = convertedFile.length();
+        if (fileSize > maxSizeInBytes) {
+            log.debug("转换结果文件大小({})超过缓存大小上限({})，不进行缓存: {}",
+                    toReadableSize(fileSize), toReadableSize(maxSizeInBytes), convertedFile.getAbsolutePath());
+            return convertedFile;
+        }
+
+        String digest = key.digest();
+        File cachedFile = FileUtil.file(cacheDir, resolveCachedFilename(digest, convertedFile));
+        File tempFile = FileUtil.file(cacheDir, StrUtil.format("{}.{}{}",
+                digest, RandomUtil.randomString(TEMP_FILE_RANDOM_PART_LENGTH), TEMP_FILE_SUFFIX));
+
+        try {
+            Files.copy(convertedFile.toPath(), tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempFile.toPath(), cachedFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            FileUtil.del(tempFile);
+            throw new IORuntimeException(e);
+        }
+
+        synchronized (this) {
+            CacheEntry oldEntry = entries.put(digest, new CacheEntry(cachedFile, fileSize));
+            if (oldEntry != null) {
+                totalSizeInBytes -= oldEntry.sizeInBytes;
+            }
+            totalSizeInBytes += fileSize;
+            evictIfNecessary();
+        }
+        return cachedFile;
+    }
+
+    /**
+     * 清空缓存（删除缓存目录中的所有缓存文件）
+     */
+    public synchronized void clear() {
+        entries.values().forEach(entry -> FileUtil.del(entry.file));
+        entries.clear();
+        totalSizeInBytes = 0;
+    }
+
+    public File getCacheDir() {
+        return cacheDir;
+    }
+
+    public long getMaxSizeInBytes() {
+        return maxSizeInBytes;
+    }
+
+    public synchronized long getTotalSizeInBytes() {
+        return totalSizeInBytes;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return StrUtil.format("FileConversionResultCache[dir = {}, size = {}/{}, entries = {}, "
+                        + "hits = {}, misses = {}, evictions = {}]",
+                cacheDir.getAbsolutePath(), toReadableSize(getTotalSizeInBytes()), toReadableSize(maxSizeInBytes),
+                getEntryCount(), getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+    private void evictIfNecessary() {
+        Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator();
+        while (totalSizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+            CacheEntry eldest = iterator.next().getValue();
+            iterator.remove();
+            totalSizeInBytes -= eldest.sizeInBytes;
+            FileUtil.del(eldest.file);
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private void loadExistingEntries() {
+        File[] files = cacheDir.listFiles(File::isFile);
+        if (files == null) {
+            return;
+        }
+
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        synchronized (this) {
+            for (File file : files) {
+                if (file.getName().endsWith(TEMP_FILE_SUFFIX)) {
+                    // 上次进程异常退出时残留的临时文件
+                    FileUtil.del(file);
+                    continue;
+                }
+                long fileSize = file.length();
+                entries.put(FileUtils.removeFileExtension(file.getName()), new CacheEntry(file, fileSize));
+                totalSizeInBytes += fileSize;
+            }
+            evictIfNecessary();
+        }
+    }
+
+    private static String resolveCachedFilename(String digest, File convertedFile) {
+        String fileExtension = FileUtils.getFileExtension(convertedFile);
+        return StrUtil.isBlank(fileExtension) ? digest : digest + StrUtil.DOT + fileExtension;
+    }
+
+    private static String toReadableSize(long sizeInBytes) {
+        return FileSizeUtils.normalizeFileSizeToStr(sizeInBytes, FileSizeUtils.BYTE);
+    }
+
+    /**
+     * 缓存项
+     */
+    private static final class CacheEntry {
+        private final File file;
+        private final long sizeInBytes;
+
+        private CacheEntry(File file, long sizeInBytes) {
+            this.file = file;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+}
@@ -2,10 +2,17 @@ package plus.hutool.media.converter.file.impl;
 
 import plus.hutool.core.io.FileUtils;
 import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.lang.annotation.Nullable;
 import plus.hutool.media.content.type.MediaType;
-import plus.hutool.media.content.type.MediaTypeUtils;
+import plus.hutool.media.converter.file.FileConversionCoalescer;
+import plus.hutool.media.converter.file.FileConversionContext;
+import plus.hutool.media.converter.file.FileConversionKey;
 import plus.hutool.media.converter.file.FileConvertConfig;
 import plus.hutool.media.converter.file.FileConverter;
+import plus.hutool.media.converter.file.admission.ConversionAdmissionController;
+import plus.hutool.media.converter.file.cache.FileConversionResultCache;
+import plus.hutool.media.converter.file.metrics.FileConversionMetrics;
+import plus.hutool.media.converter.file.metrics.FileConversionMetricsKey;
 
 import java.io.File;
 
@@ -28,21 +35,127 @@ public abstract class AbstractFileConverter implements FileConverter {
     @SuppressWarnings("unused")
     protected abstract void doConvert(File srcFile, File destFile, FileConvertConfig config);
 
+    /**
+     * 文件转换器具体实现类的转换逻辑（可以从文件转换上下文中获取已探测的来源文件媒体类型）
+     * <p>
+     * 默认直接调用 {@link #doConvert(File, File, FileConvertConfig)}，需要使用上下文信息的子类可以覆盖本方法。
+     * </p>
+     *
+     * @param srcFile  来源文件
+     * @param destFile 目标文件
+     * @param config   文件转换配置
+     * @param context  文件转换上下文
+     */
+    protected void doConvert(File srcFile, File destFile, FileConvertConfig config, FileConversionContext context) {
+        doConvert(srcFile, destFile, config);
+    }
+
     @Override
     public File convert(File srcFile, FileConvertConfig config) {
+        return convert(srcFile, config, FileConversionContext.of(srcFile));
+    }
+
+    @Override
+    public File convert(File srcFile, FileConvertConfig config, FileConversionContext context) {
         Asserts.isTrue(FileUtils.fileExists(srcFile), "文件转换的来源文件不存在: {}", srcFile.getAbsolutePath());
 
-        MediaType srcMediaType = MediaTypeUtils.detectMediaType(srcFile);
+        MediaType srcMediaType = context.getSrcMediaType();
         MediaType destMediaType = getDestMediaType();
 
-        Asserts.isTrue(getSupportedSrcMediaTypes().contains(srcMediaType),
-                "本文件转换器[{}] 不支持来源文件的媒体类型: [{}]", this.getClass().getSimpleName(),  srcMediaType);
+        checkSrcMediaTypeSupported(srcMediaType);
 
         File destFile = config.resolveDestFileBeforeConversion(srcFile, destMediaType);
 
-        doConvert(srcFile, destFile, config);
+        FileConversionResultCache resultCache = config.getResultCache();
+        FileConversionKey conversionKey = null;
+        if (resultCache != null) {
+            // 命中时复制到解析出的目标文件，调用方得到的文件与未命中时一致，不会受缓存淘汰的影响
+            context.startStage(FileConversionContext.STAGE_LOOKUP_RESULT_CACHE);
+            conversionKey = FileConversionKey.of(srcFile, this, config);
+            boolean hit = resultCache.copyTo(conversionKey, destFile);
+            context.stopStage();
+            if (hit) {
+                return destFile;
+            }
+        }
+
+        if (!config.isCoalesceConcurrentConversions()) {
+            convertAndRecord(srcFile, srcMediaType, destFile, config, context, conversionKey);
+            return destFile;
+        }
 
+        if (conversionKey == null) {
+            context.startStage(FileConversionContext.STAGE_COMPUTE_CONVERSION_KEY);
+            conversionKey = FileConversionKey.of(srcFile, this, config);
+            context.stopStage();
+        }
+
+        FileConversionKey finalConversionKey = conversionKey;
+        try {
+            FileConversionCoalescer.execute(conversionKey, destFile,
+                    () -> convertAndRecord(srcFile, srcMediaType, destFile, config, context, finalConversionKey),
+                    () -> context.startStage(FileConversionContext.STAGE_WAIT_COALESCED_CONVERSION),
+                    config.getCoalescedConversionWaitTimeoutMillis(), config.getTempSpaceManager());
+        } finally {
+            context.stopStage();
+        }
         return destFile;
     }
 
+    /**
+     * 校验本文件转换器是否支持来源文件的媒体类型
+     *
+     * @param srcMediaType 来源文件的媒体类型
+     */
+    protected void checkSrcMediaTypeSupported(MediaType srcMediaType) {
+        Asserts.isTrue(getSupportedSrcMediaTypes().contains(srcMediaType),
+                "本文件转换器[{}] 不支持来源文件的媒体类型: [{}]", this.getClass().getSimpleName(),  srcMediaType);
+    }
+
+    /**
+     * 执行实际的转换并记录指标、写入结果缓存
+     * <p>
+     * 如果配置了准入控制器，在这里（合并转换时只有领头的转换会执行到这里）申请内存预算准入，
+     * 命中结果缓存或等待其他线程的同一转换结果时不会占用内存预算。
+     * </p>
+     */
+    private void convertAndRecord(File srcFile, MediaType srcMediaType, File destFile, FileConvertConfig config,
+                                  FileConversionContext context, @Nullable FileConversionKey cacheKey) {
+        ConversionAdmissionController admissionController = config.getAdmissionController();
+        if (admissionController == null) {
+            doConvertAndRecord(srcFile, srcMediaType, destFile, config, context, cacheKey);
+            return;
+        }
+        admissionController.callAdmitted(srcFile, srcMediaType, context, () -> {
+            doConvertAndRecord(srcFile, srcMediaType, destFile, config, context, cacheKey);
+            return null;
+        });
+    }
+
+    private void doConvertAndRecord(File srcFile, MediaType srcMediaType, File destFile, FileConvertConfig config,
+                                    FileConversionContext context, @Nullable FileConversionKey cacheKey) {
+        FileConversionMetricsKey metricsKey =
+                FileConversionMetricsKey.of(getClass().getName(), srcMediaType, getDestMediaType());
+        long srcFileSize = srcFile.length();
+        long startNanos = System.nanoTime();
+
+        context.startStage(FileConversionContext.STAGE_CONVERT);
+        try {
+            doConvert(srcFile, destFile, config, context);
+        } catch (RuntimeException | Error e) {
+            FileConversionMetrics.recordFailure(metricsKey, System.nanoTime() - startNanos, srcFileSize, e);
+            throw e;
+        } finally {
+            context.stopStage();
+        }
+        FileConversionMetrics.recordSuccess(metricsKey, System.nanoTime() - startNanos, srcFileSize, destFile.length());
+
+        FileConversionResultCache resultCache = config.getResultCache();
+        if (resultCache != null && cacheKey != null) {
+            context.startStage(FileConversionContext.STAGE_PUT_RESULT_CACHE);
+            resultCache.put(cacheKey, destFile);
+            context.stopStage();
+        }
+    }
+
 }
@@ -0,0 +1,87 @@
+package plus.hutool.media.converter.file.impl;
+
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.converter.file.FileConverterDescriptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 内置文件转换器声明的媒体类型
+ * <p>
+ * 内置转换器的 {@link plus.hutool.media.converter.file.FileConverter#getSupportedSrcMediaTypes()} 等方法
+ * 和 {@link BuiltInFileConverterProvider} 提供的描述符都以这里的声明为准。
+ * 本类不引用转换器的实现类，读取声明时不会加载 Aspose、pdfOffice 等第三方库的类。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public enum BuiltInFileConverter {
+
+    COMMON_DOC_TO_PDF("pdf.CommonDocToPdfConverter", MediaType.APPLICATION_PDF,
+            MediaType.TEXT_CSS,
+            MediaType.APPLICATION_DOC,
+            MediaType.APPLICATION_DOCX,
+            MediaType.TEXT_HTML,
+            MediaType.TEXT_JAVASCRIPT,
+            MediaType.APPLICATION_JSON,
+            MediaType.TEXT_MARKDOWN,
+            MediaType.APPLICATION_ODT,
+            MediaType.APPLICATION_RTF,
+            MediaType.APPLICATION_SH,
+            MediaType.APPLICATION_SQL,
+            MediaType.TEXT_PLAIN,
+            MediaType.APPLICATION_WPS,
+            MediaType.APPLICATION_XML),
+
+    MS_OFFICE_EXCEL_AND_POWERPOINT_TO_PDF("pdf.MsOfficeExcelAndPowerpointToPdfConverter", MediaType.APPLICATION_PDF,
+            MediaType.APPLICATION_XLS,
+            MediaType.APPLICATION_XLSX,
+            MediaType.APPLICATION_PPT,
+            MediaType.APPLICATION_PPTX,
+            MediaType.APPLICATION_PPS,
+            MediaType.APPLICATION_PPSX),
+
+    OFD_TO_PDF("pdf.OfdToPdfConverter", MediaType.APPLICATION_PDF,
+            MediaType.APPLICATION_OFD),
+
+    PDF_TO_PNG("image.PdfToPngConverter", MediaType.IMAGE_PNG,
+            MediaType.APPLICATION_PDF);
+
+    private static final String IMPL_PACKAGE = "plus.hutool.media.converter.file.impl.";
+
+    private final String converterClassName;
+    private final MediaType destMediaType;
+    private final Set<MediaType> srcMediaTypes;
+
+    BuiltInFileConverter(String relativeClassName, MediaType destMediaType, MediaType... srcMediaTypes) {
+        this.converterClassName = IMPL_PACKAGE + relativeClassName;
+        this.destMediaType = destMediaType;
+        this.srcMediaTypes = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(srcMediaTypes)));
+    }
+
+    public String getConverterClassName() {
+        return converterClassName;
+    }
+
+    public MediaType getDestMediaType() {
+        return destMediaType;
+    }
+
+    public Set<MediaType> getSrcMediaTypes() {
+        return srcMediaTypes;
+    }
+
+    /**
+     * 创建转换器的描述符（转换器在首次使用时才会实例化）
+     *
+     * @return 文件转换器描述符
+     */
+    public FileConverterDescriptor toDescriptor() {
+        return FileConverterDescriptor.of(converterClassName, destMediaType, srcMediaTypes.toArray(new MediaType[0]));
+    }
+}
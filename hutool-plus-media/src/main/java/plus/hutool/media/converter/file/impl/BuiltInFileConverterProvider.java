@@ -0,0 +1,29 @@
+package plus.hutool.media.converter.file.impl;
+
+import plus.hutool.media.converter.file.FileConverterDescriptor;
+import plus.hutool.media.converter.file.FileConverterProvider;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * 内置文件转换器的提供者
+ * <p>
+ * 描述符由 {@link BuiltInFileConverter} 中的声明生成，注册时不会加载 Aspose、pdfOffice 等第三方库的类。
+ * 新增内置转换器时，只需要在 {@link BuiltInFileConverter} 中添加相应的声明。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+public class BuiltInFileConverterProvider implements FileConverterProvider {
+
+    @Override
+    public Collection<FileConverterDescriptor> getConverterDescriptors() {
+        return Arrays.stream(BuiltInFileConverter.values())
+                .map(BuiltInFileConverter::toDescriptor)
+                .collect(Collectors.toList());
+    }
+}
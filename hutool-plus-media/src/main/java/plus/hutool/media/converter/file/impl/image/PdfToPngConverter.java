@@ -0,0 +1,90 @@
+package plus.hutool.media.converter.file.impl.image;
+
+import cn.hutool.core.convert.Convert;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.converter.file.StreamFileConverter;
+import plus.hutool.media.converter.file.impl.AbstractFileConverter;
+import plus.hutool.media.converter.file.impl.BuiltInFileConverter;
+import plus.hutool.media.exception.FileConversionException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Set;
+
+/**
+ * 文件转换器 - pdf ==> png（将 PDF 的某一页渲染为 PNG 图片，默认为第一页，可用于生成缩略图）
+ * <p>
+ * 支持的自定义配置项: {@link #CONFIG_KEY_PAGE_INDEX}（页码索引，从 0 开始）、{@link #CONFIG_KEY_DPI}（渲染的 DPI）。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class PdfToPngConverter extends AbstractFileConverter implements StreamFileConverter {
+
+    /**
+     * 自定义配置项: 要渲染的页码索引（从 0 开始，默认为 0）
+     */
+    public static final String CONFIG_KEY_PAGE_INDEX = "pdfToPng.pageIndex";
+
+    /**
+     * 自定义配置项: 渲染的 DPI（默认为 {@link #DEFAULT_DPI}）
+     */
+    public static final String CONFIG_KEY_DPI = "pdfToPng.dpi";
+
+    /**
+     * 默认渲染的 DPI
+     */
+    public static final float DEFAULT_DPI = 96;
+
+    private static final String IMAGE_FORMAT = "png";
+
+    @Override
+    public Set<MediaType> getSupportedSrcMediaTypes() {
+        return BuiltInFileConverter.PDF_TO_PNG.getSrcMediaTypes();
+    }
+
+    @Override
+    public MediaType getDestMediaType() {
+        return BuiltInFileConverter.PDF_TO_PNG.getDestMediaType();
+    }
+
+    @Override
+    protected void doConvert(File srcFile, File destFile, FileConvertConfig config) {
+        try (PDDocument document = PDDocument.load(srcFile)) {
+            ImageIO.write(renderPage(document, config), IMAGE_FORMAT, destFile);
+        } catch (Exception e) {
+            throw new FileConversionException("文件转换出错", e);
+        }
+    }
+
+    @Override
+    public void convert(InputStream srcStream, MediaType srcMediaType, OutputStream destStream,
+                        FileConvertConfig config) {
+        checkSrcMediaTypeSupported(srcMediaType);
+        try (PDDocument document = PDDocument.load(srcStream)) {
+            ImageIO.write(renderPage(document, config), IMAGE_FORMAT, destStream);
+        } catch (Exception e) {
+            throw new FileConversionException("文件转换出错", e);
+        }
+    }
+
+    private static BufferedImage renderPage(PDDocument document, FileConvertConfig config) throws IOException {
+        int pageIndex = Convert.toInt(config.getCustomConfig(CONFIG_KEY_PAGE_INDEX), 0);
+        float dpi = Convert.toFloat(config.getCustomConfig(CONFIG_KEY_DPI), DEFAULT_DPI);
+
+        int pageNum = document.getNumberOfPages();
+        Asserts.isTrue(pageIndex >= 0 && pageIndex < pageNum,
+                "页码索引超出范围: {}（PDF 总页数: {}）", pageIndex, pageNum);
+        return new PDFRenderer(document).renderImageWithDPI(pageIndex, dpi);
+    }
+}
@@ -1,7 +1,17 @@
 package plus.hutool.media.converter.file.impl.pdf;
 
+import cn.hutool.core.io.FileUtil;
+import plus.hutool.core.io.TempScope;
+import plus.hutool.core.lang.annotation.Nullable;
 import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.converter.file.PageSelection;
 import plus.hutool.media.converter.file.impl.AbstractFileConverter;
+import plus.hutool.media.document.pdf.PdfUtils;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 /**
  * 转换目标为 PDF文件 的文件转换器基类
@@ -16,4 +26,62 @@ public abstract class AbstractToPdfConverter extends AbstractFileConverter {
     public MediaType getDestMediaType() {
         return MediaType.APPLICATION_PDF;
     }
+
+    /**
+     * 按文件转换配置中的页码选择截取转换后的 PDF文件（用于转换引擎本身不支持页码选择的转换器）
+     *
+     * @param pdfFile 转换后的 PDF文件
+     * @param config  文件转换配置（未配置页码选择时不做任何处理）
+     */
+    protected static void applyPageSelection(File pdfFile, FileConvertConfig config) {
+        PageSelection pageSelection = config.getPageSelection();
+        if (pageSelection != null) {
+            PdfUtils.retainPages(pdfFile, pageSelection::contains, config.getTempSpaceManager());
+        }
+    }
+
+    /**
+     * 将转换结果写入目标输出流，并按文件转换配置中的页码选择截取（用于转换引擎本身不支持页码选择的转换器）
+     * <p>
+     * 配置了页码选择时，转换结果先写入临时文件，截取后再写入目标输出流。
+     * </p>
+     *
+     * @param destStream 目标输出流
+     * @param config     文件转换配置
+     * @param pdfWriter  转换结果的写入逻辑
+     * @throws Exception 转换出错时
+     */
+    protected static void writePdfWithPageSelection(OutputStream destStream, FileConvertConfig config,
+                                                    PdfStreamWriter pdfWriter) throws Exception {
+        PageSelection pageSelection = config.getPageSelection();
+        if (pageSelection == null) {
+            pdfWriter.write(destStream);
+            return;
+        }
+
+        try (TempScope scope = config.getTempSpaceManager().openScope("page-selection")) {
+            File tmpFile = scope.newFile("page-selection.pdf");
+            try (OutputStream out = FileUtil.getOutputStream(tmpFile)) {
+                pdfWriter.write(out);
+            }
+            try (InputStream in = FileUtil.getInputStream(tmpFile)) {
+                PdfUtils.retainPages(in, destStream, pageSelection::contains);
+            }
+        }
+    }
+
+    /**
+     * PDF 转换结果的写入逻辑
+     */
+    @FunctionalInterface
+    protected interface PdfStreamWriter {
+
+        /**
+         * 将转换结果写入输出流
+         *
+         * @param out 输出流
+         * @throws Exception 转换出错时
+         */
+        void write(OutputStream out) throws Exception;
+    }
 }
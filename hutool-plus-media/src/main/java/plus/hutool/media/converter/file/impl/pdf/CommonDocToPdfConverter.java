@@ -1,50 +1,76 @@
 package plus.hutool.media.converter.file.impl.pdf;
 
 import com.aspose.words.Document;
-import com.aspose.words.SaveFormat;
-import plus.hutool.core.iterable.collection.CollUtils;
+import com.aspose.words.PageRange;
+import com.aspose.words.PageSet;
+import com.aspose.words.PdfSaveOptions;
 import plus.hutool.media.content.type.MediaType;
 import plus.hutool.media.exception.FileConversionException;
 import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.converter.file.PageSelection;
+import plus.hutool.media.converter.file.StreamFileConverter;
+import plus.hutool.media.converter.file.impl.BuiltInFileConverter;
 
 import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Set;
 
 /**
  * 文件转换器 - (doc, docx, odt, rtf, txt, md, html) ==> pdf
+ * <p>
+ * 配置了页码选择时，由 Aspose 直接只渲染选择的页面。
+ * </p>
  *
  * @author bianyun
  * @date 2023/2/14
  */
 @SuppressWarnings({"unused", "JavadocDeclaration"})
-public class CommonDocToPdfConverter extends AbstractToPdfConverter {
+public class CommonDocToPdfConverter extends AbstractToPdfConverter implements StreamFileConverter {
     @Override
     public Set<MediaType> getSupportedSrcMediaTypes() {
-        return CollUtils.unmodifiableSet(
-                MediaType.TEXT_CSS,
-                MediaType.APPLICATION_DOC,
-                MediaType.APPLICATION_DOCX,
-                MediaType.TEXT_HTML,
-                MediaType.TEXT_JAVASCRIPT,
-                MediaType.APPLICATION_JSON,
-                MediaType.TEXT_MARKDOWN,
-                MediaType.APPLICATION_ODT,
-                MediaType.APPLICATION_RTF,
-                MediaType.APPLICATION_SH,
-                MediaType.APPLICATION_SQL,
-                MediaType.TEXT_PLAIN,
-                MediaType.APPLICATION_WPS,
-                MediaType.APPLICATION_XML
-        );
+        return BuiltInFileConverter.COMMON_DOC_TO_PDF.getSrcMediaTypes();
     }
 
     @Override
     protected void doConvert(File srcFile, File destFile, FileConvertConfig config) {
         try {
             Document doc = new Document(srcFile.getAbsolutePath());
-            doc.save(destFile.getAbsolutePath(), SaveFormat.PDF);
+            doc.save(destFile.getAbsolutePath(), buildPdfSaveOptions(config));
         } catch (Exception e) {
             throw new FileConversionException("文件转换出错", e);
         }
     }
+
+    @Override
+    public void convert(InputStream srcStream, MediaType srcMediaType, OutputStream destStream,
+                        FileConvertConfig config) {
+        checkSrcMediaTypeSupported(srcMediaType);
+        try {
+            Document doc = new Document(srcStream);
+            doc.save(destStream, buildPdfSaveOptions(config));
+        } catch (Exception e) {
+            throw new FileConversionException("文件转换出错", e);
+        }
+    }
+
+    /**
+     * 构建 PDF 保存选项（配置了页码选择时，只渲染选择的页面）
+     *
+     * @param config 文件转换配置
+     * @return PDF 保存选项
+     */
+    private static PdfSaveOptions buildPdfSaveOptions(FileConvertConfig config) {
+        PdfSaveOptions saveOptions = new PdfSaveOptions();
+        PageSelection pageSelection = config.getPageSelection();
+        if (pageSelection != null) {
+            // Aspose 的页码区间从 0 开始，Integer.MAX_VALUE 表示到最后一页
+            PageRange[] pageRanges = pageSelection.getRanges().stream()
+                    .map(range -> new PageRange(range.getFrom() - 1,
+                            range.isOpenEnded() ? Integer.MAX_VALUE : range.getTo() - 1))
+                    .toArray(PageRange[]::new);
+            saveOptions.setPageSet(new PageSet(pageRanges));
+        }
+        return saveOptions;
+    }
 }
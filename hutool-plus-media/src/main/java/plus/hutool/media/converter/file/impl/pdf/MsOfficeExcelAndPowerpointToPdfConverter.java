@@ -1,42 +1,74 @@
 package plus.hutool.media.converter.file.impl.pdf;
 
+import cn.hutool.core.io.FileUtil;
 import cn.hutool.core.util.ClassUtil;
 import com.itextpdf.commons.actions.ProductNameConstant;
+import com.itextpdf.kernel.font.PdfFont;
 import com.itextpdf.pdfoffice.OfficeConverter;
-import plus.hutool.core.iterable.collection.CollUtils;
+import plus.hutool.core.io.TempScope;
 import plus.hutool.core.lang.ReflectUtils;
 import plus.hutool.media.content.type.MediaType;
-import plus.hutool.media.content.type.MediaTypeUtils;
+import plus.hutool.media.converter.file.FileConversionContext;
 import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.converter.file.PageSelection;
+import plus.hutool.media.converter.file.StreamFileConverter;
+import plus.hutool.media.converter.file.impl.BuiltInFileConverter;
+import plus.hutool.media.document.excel.SpreadsheetRowHandler;
+import plus.hutool.media.document.excel.XlsxStreamingReader;
+import plus.hutool.media.document.pdf.StreamingTablePdfWriter;
 import plus.hutool.media.exception.FileConversionException;
 
 import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Field;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.IntPredicate;
 
 /**
  * 文件转换器 - (xls, xlsx, ppt, pptx) ==> pdf
+ * <p>
+ * pdfOffice 不支持页码选择，配置了页码选择时在转换完成后截取 PDF文件。
+ * </p>
+ * <p>
+ * pdfOffice 转换电子表格时会加载完整的工作簿模型，超大的 xlsx 文件容易导致内存溢出。此时可以使用流式转换模式
+ * （通过自定义配置项 {@link #CONFIG_KEY_SPREADSHEET_MODE} 设置，参见 {@link SpreadsheetToPdfMode}）：
+ * 使用 {@link XlsxStreamingReader} 逐行读取单元格文本，由 {@link StreamingTablePdfWriter} 增量排版输出 PDF 页面，
+ * 内存占用与行数无关，页码选择在排版时直接生效。流式转换只保留单元格的文本内容，不保留样式和打印设置，
+ * 因此默认使用完整转换，流式转换（{@link SpreadsheetToPdfMode#STREAMING} 或按文件大小选择的 {@link SpreadsheetToPdfMode#AUTO}）
+ * 需要显式启用。转换文件和转换输入流时的模式选择规则相同。
+ * </p>
  *
  * @author bianyun
  * @date 2023/2/14
  */
 @SuppressWarnings({"unused", "JavadocDeclaration"})
-public class MsOfficeExcelAndPowerpointToPdfConverter extends AbstractToPdfConverter {
+public class MsOfficeExcelAndPowerpointToPdfConverter extends AbstractToPdfConverter
+        implements StreamFileConverter {
+    /**
+     * 自定义配置项: 电子表格转换为 PDF 的模式（{@link SpreadsheetToPdfMode} 或其名称，默认为 {@link SpreadsheetToPdfMode#FULL}）
+     */
+    public static final String CONFIG_KEY_SPREADSHEET_MODE = "spreadsheetToPdfMode";
+
+    /**
+     * 自定义配置项: 流式转换使用的字体文件路径（ttf/otf/ttc，参见 {@link StreamingTablePdfWriter#createFont(String)}）
+     */
+    public static final String CONFIG_KEY_SPREADSHEET_FONT_PATH = "spreadsheetToPdfFontPath";
+
+    /**
+     * {@link SpreadsheetToPdfMode#AUTO} 模式下使用流式转换的 xlsx 文件大小阈值（字节数）
+     */
+    public static final long STREAMING_THRESHOLD_BYTES = 5L * 1024 * 1024;
+
     static {
         crackPdfOffice();
     }
 
     @Override
     public Set<MediaType> getSupportedSrcMediaTypes() {
-        return CollUtils.unmodifiableSet(
-                MediaType.APPLICATION_XLS,
-                MediaType.APPLICATION_XLSX,
-                MediaType.APPLICATION_PPT,
-                MediaType.APPLICATION_PPTX,
-                MediaType.APPLICATION_PPS,
-                MediaType.APPLICATION_PPSX
-        );
+        return BuiltInFileConverter.MS_OFFICE_EXCEL_AND_POWERPOINT_TO_PDF.getSrcMediaTypes();
     }
 
     private static void crackPdfOffice() {
@@ -50,16 +82,112 @@ public class MsOfficeExcelAndPowerpointToPdfConverter extends AbstractToPdfConve
 
     @Override
     protected void doConvert(File srcFile, File destFile, FileConvertConfig config) {
-        MediaType srcMediaType = MediaTypeUtils.detectMediaType(srcFile);
+        doConvert(srcFile, destFile, config, FileConversionContext.of(srcFile));
+    }
+
+    @Override
+    protected void doConvert(File srcFile, File destFile, FileConvertConfig config, FileConversionContext context) {
+        MediaType srcMediaType = context.getSrcMediaType();
         try {
-            if (srcMediaType.isAnyOf(MediaType.APPLICATION_XLS, MediaType.APPLICATION_XLSX)) {
+            if (useStreamingMode(srcMediaType, srcFile.length(), config)) {
+                try (OutputStream out = FileUtil.getOutputStream(destFile)) {
+                    convertXlsxByStreaming(srcFile, out, config);
+                }
+                return;
+            }
+            if (isSpreadsheet(srcMediaType)) {
                 OfficeConverter.convertOfficeSpreadsheetToPdf(srcFile, destFile);
             } else {
                 OfficeConverter.convertOfficePresentationToPdf(srcFile, destFile);
             }
+            applyPageSelection(destFile, config);
+        } catch (Exception e) {
+            throw new FileConversionException("文件转换出错", e);
+        }
+    }
+
+    @Override
+    public void convert(InputStream srcStream, MediaType srcMediaType, OutputStream destStream,
+                        FileConvertConfig config) {
+        checkSrcMediaTypeSupported(srcMediaType);
+        try {
+            if (srcMediaType.equals(MediaType.APPLICATION_XLSX) && getSpreadsheetMode(config) != SpreadsheetToPdfMode.FULL) {
+                // SAX 方式读取 xlsx 需要随机访问 zip 条目，AUTO 模式也需要知道文件大小，先将输入流写入临时文件
+                try (TempScope scope = config.getTempSpaceManager().openScope("xlsx-streaming")) {
+                    File srcTempFile = scope.newFile("src.xlsx");
+                    FileUtil.writeFromStream(srcStream, srcTempFile, false);
+                    if (useStreamingMode(srcMediaType, srcTempFile.length(), config)) {
+                        convertXlsxByStreaming(srcTempFile, destStream, config);
+                    } else {
+                        writePdfWithPageSelection(destStream, config, out -> {
+                            try (InputStream in = FileUtil.getInputStream(srcTempFile)) {
+                                OfficeConverter.convertOfficeSpreadsheetToPdf(in, out);
+                            }
+                        });
+                    }
+                }
+                return;
+            }
+            writePdfWithPageSelection(destStream, config, out -> {
+                if (isSpreadsheet(srcMediaType)) {
+                    OfficeConverter.convertOfficeSpreadsheetToPdf(srcStream, out);
+                } else {
+                    OfficeConverter.convertOfficePresentationToPdf(srcStream, out);
+                }
+            });
         } catch (Exception e) {
             throw new FileConversionException("文件转换出错", e);
         }
     }
 
+    private static boolean useStreamingMode(MediaType srcMediaType, long srcFileSize, FileConvertConfig config) {
+        if (!srcMediaType.equals(MediaType.APPLICATION_XLSX)) {
+            return false;
+        }
+        SpreadsheetToPdfMode mode = getSpreadsheetMode(config);
+        return mode == SpreadsheetToPdfMode.STREAMING
+                || (mode == SpreadsheetToPdfMode.AUTO && srcFileSize >= STREAMING_THRESHOLD_BYTES);
+    }
+
+    private static SpreadsheetToPdfMode getSpreadsheetMode(FileConvertConfig config) {
+        return SpreadsheetToPdfMode.of(config.getCustomConfig(CONFIG_KEY_SPREADSHEET_MODE));
+    }
+
+    private static void convertXlsxByStreaming(File xlsxFile, OutputStream destStream, FileConvertConfig config) {
+        PageSelection pageSelection = config.getPageSelection();
+        IntPredicate pageNumberPredicate = pageSelection == null ? pageNumber -> true : pageSelection::contains;
+        int maxPageNumber = pageSelection == null ? Integer.MAX_VALUE : pageSelection.getMaxPageNumber();
+
+        Object fontPath = config.getCustomConfig(CONFIG_KEY_SPREADSHEET_FONT_PATH);
+        PdfFont font = StreamingTablePdfWriter.createFont(fontPath == null ? null : fontPath.toString());
+        try (StreamingTablePdfWriter writer =
+                     new StreamingTablePdfWriter(destStream, font, pageNumberPredicate, maxPageNumber)) {
+            XlsxStreamingReader.read(xlsxFile, new SpreadsheetRowHandler() {
+                @Override
+                public void startSheet(int sheetIndex, String sheetName) {
+                    writer.startSection(sheetName);
+                }
+
+                @Override
+                public void handleDimension(int rowCount, int columnCount) {
+                    writer.setSectionColumnCount(columnCount);
+                }
+
+                @Override
+                public void handleRow(int rowIndex, List<String> cells) {
+                    writer.writeRow(cells);
+                }
+
+                @Override
+                public boolean isDone() {
+                    return writer.isDone();
+                }
+            });
+        }
+    }
+
+    private static boolean isSpreadsheet(MediaType srcMediaType) {
+        return srcMediaType.isAnyOf(MediaType.APPLICATION_XLS, MediaType.APPLICATION_XLSX);
+    }
+
 }
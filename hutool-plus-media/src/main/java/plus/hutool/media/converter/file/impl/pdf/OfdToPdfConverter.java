@@ -1,31 +1,49 @@
 package plus.hutool.media.converter.file.impl.pdf;
 
 import org.ofdrw.converter.ConvertHelper;
-import plus.hutool.core.iterable.collection.CollUtils;
 import plus.hutool.media.content.type.MediaType;
 import plus.hutool.media.exception.FileConversionException;
 import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.converter.file.StreamFileConverter;
+import plus.hutool.media.converter.file.impl.BuiltInFileConverter;
 
 import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Set;
 
 /**
  * 文件转换器 - ofd ==> pdf
+ * <p>
+ * OFD 转换引擎不支持页码选择，配置了页码选择时在转换完成后截取 PDF文件。
+ * </p>
  *
  * @author bianyun
  * @date 2023/2/14
  */
 @SuppressWarnings({"unused", "JavadocDeclaration"})
-public class OfdToPdfConverter extends AbstractToPdfConverter {
+public class OfdToPdfConverter extends AbstractToPdfConverter implements StreamFileConverter {
     @Override
     public Set<MediaType> getSupportedSrcMediaTypes() {
-        return CollUtils.unmodifiableSet(MediaType.APPLICATION_OFD);
+        return BuiltInFileConverter.OFD_TO_PDF.getSrcMediaTypes();
     }
 
     @Override
     protected void doConvert(File srcFile, File destFile, FileConvertConfig config) {
         try {
             ConvertHelper.toPdf(srcFile.toPath(), destFile);
+            applyPageSelection(destFile, config);
+        } catch (Exception e) {
+            throw new FileConversionException("文件转换出错", e);
+        }
+    }
+
+    @Override
+    public void convert(InputStream srcStream, MediaType srcMediaType, OutputStream destStream,
+                        FileConvertConfig config) {
+        checkSrcMediaTypeSupported(srcMediaType);
+        try {
+            writePdfWithPageSelection(destStream, config, out -> ConvertHelper.toPdf(srcStream, out));
         } catch (Exception e) {
             throw new FileConversionException("文件转换出错", e);
         }
@@ -0,0 +1,49 @@
+package plus.hutool.media.converter.file.impl.pdf;
+
+import cn.hutool.core.util.StrUtil;
+import plus.hutool.core.lang.ExceptionUtils;
+import plus.hutool.core.lang.annotation.Nullable;
+
+/**
+ * 电子表格转换为 PDF 的模式
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+public enum SpreadsheetToPdfMode {
+    /**
+     * 完整转换（默认）：加载完整的工作簿模型，保留单元格样式、合并单元格、打印设置等排版效果
+     */
+    FULL,
+    /**
+     * 自动选择：xlsx 文件大小不小于 {@link MsOfficeExcelAndPowerpointToPdfConverter#STREAMING_THRESHOLD_BYTES} 时使用流式转换，
+     * 否则使用完整转换（流式转换只保留文本内容，需要显式启用）
+     */
+    AUTO,
+    /**
+     * 流式转换（仅支持 xlsx）：逐行读取单元格文本并增量输出 PDF 页面，内存占用与行数无关，只保留单元格的文本内容
+     */
+    STREAMING;
+
+    /**
+     * 将自定义配置项的值解析为 {@link SpreadsheetToPdfMode}（枚举对象或者枚举名称的字符串，为 null 时返回 {@link #FULL}）
+     *
+     * @param value 自定义配置项的值
+     * @return 电子表格转换为 PDF 的模式
+     */
+    public static SpreadsheetToPdfMode of(@Nullable Object value) {
+        if (value == null) {
+            return FULL;
+        }
+        if (value instanceof SpreadsheetToPdfMode) {
+            return (SpreadsheetToPdfMode) value;
+        }
+        for (SpreadsheetToPdfMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(StrUtil.trim(value.toString()))) {
+                return mode;
+            }
+        }
+        throw ExceptionUtils.illegalArgumentException("不支持的电子表格转换模式: {}", value);
+    }
+}
@@ -0,0 +1,151 @@
+package plus.hutool.media.converter.file.metrics;
+
+import plus.hutool.media.exception.FileConversionException;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单个维度（文件转换器 + 来源媒体类型 + 目标媒体类型）的文件转换指标（线程安全）
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class ConverterMetrics {
+    private final FileConversionMetricsKey key;
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder inputBytes = new LongAdder();
+    private final LongAdder outputBytes = new LongAdder();
+    private final Map<String, LongAdder> failureCountsByType = new ConcurrentHashMap<>();
+
+    /**
+     * 失败原因的最大解包层数（避免异常链成环时无限循环）
+     */
+    private static final int MAX_UNWRAP_DEPTH = 16;
+
+    ConverterMetrics(FileConversionMetricsKey key) {
+        this.key = key;
+    }
+
+    void recordSuccess(long elapsedNanos, long inputBytes, long outputBytes) {
+        latencyHistogram.record(elapsedNanos);
+        this.inputBytes.add(Math.max(inputBytes, 0));
+        this.outputBytes.add(Math.max(outputBytes, 0));
+    }
+
+    void recordFailure(Throwable failure) {
+        failureCount.increment();
+        failureCountsByType.computeIfAbsent(resolveFailureType(failure), k -> new LongAdder()).increment();
+    }
+
+    /**
+     * 解析失败原因的异常类型：各转换器统一用 {@link FileConversionException} 包装实际的异常，
+     * 因此跳过这层包装，取异常链中第一个不是 {@link FileConversionException} 本身的异常（子类不跳过）
+     */
+    static String resolveFailureType(Throwable failure) {
+        Throwable cause = failure;
+        for (int depth = 0; depth < MAX_UNWRAP_DEPTH && cause.getClass() == FileConversionException.class
+                && cause.getCause() != null; depth++) {
+            cause = cause.getCause();
+        }
+        return cause.getClass().getName();
+    }
+
+    void reset() {
+        latencyHistogram.reset();
+        failureCount.reset();
+        inputBytes.reset();
+        outputBytes.reset();
+        failureCountsByType.clear();
+    }
+
+    public FileConversionMetricsKey getKey() {
+        return key;
+    }
+
+    /**
+     * 获取成功转换的耗时直方图（失败的转换不计入）
+     *
+     * @return 耗时直方图
+     */
+    public LatencyHistogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    public long getSuccessCount() {
+        return latencyHistogram.getCount();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    public long getTotalCount() {
+        return getSuccessCount() + getFailureCount();
+    }
+
+    /**
+     * 获取成功转换的来源数据总字节数
+     *
+     * @return 来源数据总字节数
+     */
+    public long getInputBytes() {
+        return inputBytes.sum();
+    }
+
+    /**
+     * 获取成功转换的目标数据总字节数
+     *
+     * @return 目标数据总字节数
+     */
+    public long getOutputBytes() {
+        return outputBytes.sum();
+    }
+
+    public double getP50Millis() {
+        return latencyHistogram.getPercentileMillis(50);
+    }
+
+    public double getP95Millis() {
+        return latencyHistogram.getPercentileMillis(95);
+    }
+
+    public double getP99Millis() {
+        return latencyHistogram.getPercentileMillis(99);
+    }
+
+    public double getMeanMillis() {
+        return LatencyHistogram.nanosToMillis(latencyHistogram.getMeanNanos());
+    }
+
+    public double getMaxMillis() {
+        return LatencyHistogram.nanosToMillis(latencyHistogram.getMaxNanos());
+    }
+
+    /**
+     * 获取吞吐量（每秒处理的来源数据字节数，按成功转换的累计耗时计算）
+     *
+     * @return 每秒处理的来源数据字节数
+     */
+    public double getBytesPerSecond() {
+        long totalNanos = latencyHistogram.getTotalNanos();
+        return totalNanos == 0 ? 0 : getInputBytes() * (double) TimeUnit.SECONDS.toNanos(1) / totalNanos;
+    }
+
+    /**
+     * 获取按异常类型（全限定类名）分组的失败次数（{@link FileConversionException} 包装的异常按被包装的异常类型分组）
+     *
+     * @return 按异常类型分组的失败次数（按类名排序）
+     */
+    public Map<String, Long> getFailureCountsByType() {
+        Map<String, Long> result = new TreeMap<>();
+        failureCountsByType.forEach((type, adder) -> result.put(type, adder.sum()));
+        return Collections.unmodifiableMap(result);
+    }
+}
@@ -0,0 +1,118 @@
+package plus.hutool.media.converter.file.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 文件转换指标
+ * <p>
+ * 所有继承自 AbstractFileConverter 的文件转换器在每次执行转换后，都会通过本类把转换的耗时、来源和目标数据的字节数、
+ * 失败的异常类型分发给已注册的 {@link FileConversionMetricsRecorder}。默认注册了一个
+ * {@link InMemoryFileConversionMetricsRecorder}，可通过 {@link #getInMemoryRecorder()} 查询指标，
+ * 或通过 {@link #getDetailedStats()} 获取格式化的指标报告；通过 {@link ServiceLoader} 声明的记录器会在首次使用时自动注册。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public abstract class FileConversionMetrics {
+    private static final Logger log = LoggerFactory.getLogger(FileConversionMetrics.class);
+
+    private static final InMemoryFileConversionMetricsRecorder IN_MEMORY_RECORDER = new InMemoryFileConversionMetricsRecorder();
+    private static final List<FileConversionMetricsRecorder> RECORDERS = new CopyOnWriteArrayList<>();
+
+    static {
+        RECORDERS.add(IN_MEMORY_RECORDER);
+        ServiceLoader.load(FileConversionMetricsRecorder.class, FileConversionMetrics.class.getClassLoader())
+                .forEach(RECORDERS::add);
+    }
+
+    private FileConversionMetrics() {}
+
+    /**
+     * 注册文件转换指标记录器
+     *
+     * @param recorder 文件转换指标记录器
+     */
+    public static void addRecorder(FileConversionMetricsRecorder recorder) {
+        RECORDERS.add(recorder);
+    }
+
+    /**
+     * 移除文件转换指标记录器
+     *
+     * @param recorder 文件转换指标记录器
+     */
+    public static void removeRecorder(FileConversionMetricsRecorder recorder) {
+        RECORDERS.remove(recorder);
+    }
+
+    /**
+     * 获取所有已注册的文件转换指标记录器
+     *
+     * @return 文件转换指标记录器列表
+     */
+    public static List<FileConversionMetricsRecorder> getRecorders() {
+        return Collections.unmodifiableList(RECORDERS);
+    }
+
+    /**
+     * 获取默认注册的内存指标记录器
+     *
+     * @return 内存指标记录器
+     */
+    public static InMemoryFileConversionMetricsRecorder getInMemoryRecorder() {
+        return IN_MEMORY_RECORDER;
+    }
+
+    /**
+     * 获取格式化的文件转换指标报告（内存指标记录器中的数据）
+     *
+     * @return 格式化的文件转换指标报告
+     */
+    public static List<String> getDetailedStats() {
+        return IN_MEMORY_RECORDER.getDetailedStats();
+    }
+
+    /**
+     * 记录一次成功的文件转换
+     *
+     * @param key          指标的维度
+     * @param elapsedNanos 转换耗时（纳秒数）
+     * @param inputBytes   来源数据的字节数（未知时为 -1）
+     * @param outputBytes  目标数据的字节数（未知时为 -1）
+     */
+    public static void recordSuccess(FileConversionMetricsKey key, long elapsedNanos, long inputBytes, long outputBytes) {
+        for (FileConversionMetricsRecorder recorder : RECORDERS) {
+            try {
+                recorder.recordSuccess(key, elapsedNanos, inputBytes, outputBytes);
+            } catch (RuntimeException e) {
+                log.warn("文件转换指标记录器[{}] 记录指标失败: {}", recorder.getClass().getName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 记录一次失败的文件转换
+     *
+     * @param key          指标的维度
+     * @param elapsedNanos 转换失败前的耗时（纳秒数）
+     * @param inputBytes   来源数据的字节数（未知时为 -1）
+     * @param failure      转换失败的异常
+     */
+    public static void recordFailure(FileConversionMetricsKey key, long elapsedNanos, long inputBytes, Throwable failure) {
+        for (FileConversionMetricsRecorder recorder : RECORDERS) {
+            try {
+                recorder.recordFailure(key, elapsedNanos, inputBytes, failure);
+            } catch (RuntimeException e) {
+                log.warn("文件转换指标记录器[{}] 记录指标失败: {}", recorder.getClass().getName(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package plus.hutool.media.converter.file.metrics;
+
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.StrUtil;
+import plus.hutool.media.content.type.MediaType;
+
+import java.util.Objects;
+
+/**
+ * 文件转换指标的维度（文件转换器 + 来源媒体类型 + 目标媒体类型）
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public final class FileConversionMetricsKey {
+    private final String converterClassName;
+    private final MediaType srcMediaType;
+    private final MediaType destMediaType;
+
+    private FileConversionMetricsKey(String converterClassName, MediaType srcMediaType, MediaType destMediaType) {
+        this.converterClassName = converterClassName;
+        this.srcMediaType = srcMediaType;
+        this.destMediaType = destMediaType;
+    }
+
+    public static FileConversionMetricsKey of(String converterClassName, MediaType srcMediaType,
+                                              MediaType destMediaType) {
+        return new FileConversionMetricsKey(converterClassName, srcMediaType, destMediaType);
+    }
+
+    public String getConverterClassName() {
+        return converterClassName;
+    }
+
+    /**
+     * 获取文件转换器的简单类名
+     *
+     * @return 文件转换器的简单类名
+     */
+    public String getConverterSimpleName() {
+        return StrUtil.subAfter(converterClassName, ClassUtil.PACKAGE_SEPARATOR, true);
+    }
+
+    public MediaType getSrcMediaType() {
+        return srcMediaType;
+    }
+
+    public MediaType getDestMediaType() {
+        return destMediaType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FileConversionMetricsKey)) {
+            return false;
+        }
+        FileConversionMetricsKey that = (FileConversionMetricsKey) o;
+        return converterClassName.equals(that.converterClassName)
+                && srcMediaType.equals(that.srcMediaType) && destMediaType.equals(that.destMediaType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(converterClassName, srcMediaType, destMediaType);
+    }
+
+    @Override
+    public String toString() {
+        return StrUtil.format("{} [{} ==> {}]", getConverterSimpleName(), srcMediaType, destMediaType);
+    }
+}
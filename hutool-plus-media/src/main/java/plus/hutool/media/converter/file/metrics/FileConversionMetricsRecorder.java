@@ -0,0 +1,39 @@
+package plus.hutool.media.converter.file.metrics;
+
+/**
+ * 文件转换指标记录器（SPI）
+ * <p>
+ * 每次文件转换结束后，{@link FileConversionMetrics} 会把本次转换的耗时、数据量等指标分发给所有已注册的记录器。
+ * 需要对接 Micrometer 等监控系统时，实现本接口并通过 {@link FileConversionMetrics#addRecorder(FileConversionMetricsRecorder)}
+ * 注册，或者在 META-INF/services 中声明实现类（通过 {@link java.util.ServiceLoader} 自动加载），本库不依赖任何监控库。
+ * </p>
+ * <p>
+ * 实现类必须是线程安全的，且不应执行耗时操作（指标在转换线程中同步记录）。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+public interface FileConversionMetricsRecorder {
+
+    /**
+     * 记录一次成功的文件转换
+     *
+     * @param key          指标的维度
+     * @param elapsedNanos 转换耗时（纳秒数）
+     * @param inputBytes   来源数据的字节数（未知时为 -1）
+     * @param outputBytes  目标数据的字节数（未知时为 -1）
+     */
+    void recordSuccess(FileConversionMetricsKey key, long elapsedNanos, long inputBytes, long outputBytes);
+
+    /**
+     * 记录一次失败的文件转换
+     *
+     * @param key          指标的维度
+     * @param elapsedNanos 转换失败前的耗时（纳秒数）
+     * @param inputBytes   来源数据的字节数（未知时为 -1）
+     * @param failure      转换失败的异常
+     */
+    void recordFailure(FileConversionMetricsKey key, long elapsedNanos, long inputBytes, Throwable failure);
+}
@@ -0,0 +1,128 @@
+package plus.hutool.media.converter.file.metrics;
+
+import cn.hutool.core.util.CharUtil;
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.StrUtil;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.core.measure.util.FileSizeUtils;
+import plus.hutool.core.text.string.StrUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 内存中的文件转换指标记录器（{@link FileConversionMetrics} 默认注册）
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class InMemoryFileConversionMetricsRecorder implements FileConversionMetricsRecorder {
+
+    private static final String METRICS_LINE_TEMPLATE = " {}. {}{}  => {} 次 | p50 {} | p95 {} | p99 {} | max {} | 输入 {} | 输出 {} | {}/秒";
+
+    private final Map<FileConversionMetricsKey, ConverterMetrics> metricsMap = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordSuccess(FileConversionMetricsKey key, long elapsedNanos, long inputBytes, long outputBytes) {
+        metricsMap.computeIfAbsent(key, ConverterMetrics::new).recordSuccess(elapsedNanos, inputBytes, outputBytes);
+    }
+
+    @Override
+    public void recordFailure(FileConversionMetricsKey key, long elapsedNanos, long inputBytes, Throwable failure) {
+        metricsMap.computeIfAbsent(key, ConverterMetrics::new).recordFailure(failure);
+    }
+
+    /**
+     * 获取所有维度的文件转换指标
+     *
+     * @return 所有维度的文件转换指标（按维度的字符串形式排序）
+     */
+    public List<ConverterMetrics> getMetrics() {
+        return metricsMap.values().stream()
+                .sorted(Comparator.comparing(metrics -> metrics.getKey().toString()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 获取指定维度的文件转换指标
+     *
+     * @param key 指标的维度
+     * @return 文件转换指标（没有记录时返回 null）
+     */
+    @Nullable
+    public ConverterMetrics getMetrics(FileConversionMetricsKey key) {
+        return metricsMap.get(key);
+    }
+
+    /**
+     * 清空所有指标
+     */
+    public void reset() {
+        metricsMap.values().forEach(ConverterMetrics::reset);
+        metricsMap.clear();
+    }
+
+    /**
+     * 获取格式化的文件转换指标报告（格式与 StopWatchUtils.getDetailedStatsWithBetterFormat 一致）
+     * <p>返回的结果样例如下:</p>
+     * <pre>
+     * ------------------------------------------------------------------------------------
+     * 【文件转换指标】- 转换次数: 12, 失败次数: 1
+     * ------------------------------------------------------------------------------------
+     *  1. CommonDocToPdfConverter [application/msword ==> application/pdf]  => 10 次 | ...
+     *  2. OfdToPdfConverter [application/ofd ==> application/pdf]           =>  3 次 | ...
+     *     - 失败: java.io.IOException x 1
+     * ------------------------------------------------------------------------------------
+     * </pre>
+     *
+     * @return 格式化的文件转换指标报告
+     */
+    public List<String> getDetailedStats() {
+        List<ConverterMetrics> metricsList = getMetrics();
+        long totalCount = metricsList.stream().mapToLong(ConverterMetrics::getTotalCount).sum();
+        long failureCount = metricsList.stream().mapToLong(ConverterMetrics::getFailureCount).sum();
+
+        List<String> outputLines = new ArrayList<>();
+        outputLines.add(StrUtil.format("【文件转换指标】- 转换次数: {}, 失败次数: {} ", totalCount, failureCount));
+
+        int maxLenOfKey = metricsList.stream()
+                .mapToInt(metrics -> StrUtils.lenOfHansStr(metrics.getKey().toString())).max().orElse(0);
+        int maxLenOfCount = metricsList.stream()
+                .mapToInt(metrics -> String.valueOf(metrics.getTotalCount()).length()).max().orElse(0);
+
+        for (int i = 0; i < metricsList.size(); i++) {
+            ConverterMetrics metrics = metricsList.get(i);
+            String keyStr = metrics.getKey().toString();
+            String padStr = StrUtil.repeat(StrUtils.SPACE, maxLenOfKey - StrUtils.lenOfHansStr(keyStr));
+
+            outputLines.add(StrUtil.format(METRICS_LINE_TEMPLATE, i + 1, keyStr, padStr,
+                    StrUtil.padPre(String.valueOf(metrics.getTotalCount()), maxLenOfCount, StrUtils.SPACE),
+                    formatMillis(metrics.getP50Millis()), formatMillis(metrics.getP95Millis()),
+                    formatMillis(metrics.getP99Millis()), formatMillis(metrics.getMaxMillis()),
+                    formatBytes(metrics.getInputBytes()), formatBytes(metrics.getOutputBytes()),
+                    formatBytes(metrics.getBytesPerSecond())));
+
+            metrics.getFailureCountsByType().forEach((type, count) ->
+                    outputLines.add(StrUtil.format("     - 失败: {} x {}", type, count)));
+        }
+
+        String separatorLine = StrUtil.repeat(CharUtil.DASHED, StrUtils.maxLenOfHansStr(outputLines));
+        outputLines.add(0, separatorLine);
+        outputLines.add(2, separatorLine);
+        outputLines.add(separatorLine);
+        return outputLines;
+    }
+
+    private static String formatMillis(double millis) {
+        return NumberUtil.roundStr(millis, 1) + "ms";
+    }
+
+    private static String formatBytes(double bytes) {
+        return FileSizeUtils.normalizeFileSizeToStr(bytes, FileSizeUtils.BYTE);
+    }
+}
@@ -0,0 +1,104 @@
+package plus.hutool.media.converter.file.route;
+
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.StrUtil;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.converter.file.FileConverterDescriptor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 文件转换路径（由一个或多个转换步骤首尾相连组成）
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public final class ConversionRoute {
+
+    private final List<Hop> hops;
+    private final double estimatedCost;
+
+    ConversionRoute(List<Hop> hops, double estimatedCost) {
+        this.hops = Collections.unmodifiableList(new ArrayList<>(hops));
+        this.estimatedCost = estimatedCost;
+    }
+
+    public List<Hop> getHops() {
+        return hops;
+    }
+
+    public int getHopCount() {
+        return hops.size();
+    }
+
+    public MediaType getSrcMediaType() {
+        return hops.get(0).getSrcMediaType();
+    }
+
+    public MediaType getDestMediaType() {
+        return hops.get(hops.size() - 1).getDestMediaType();
+    }
+
+    /**
+     * 获取路径经过的媒体类型列表（包括来源和目标媒体类型）
+     *
+     * @return 路径经过的媒体类型列表
+     */
+    public List<MediaType> getMediaTypePath() {
+        List<MediaType> result = new ArrayList<>(hops.size() + 1);
+        result.add(getSrcMediaType());
+        hops.forEach(hop -> result.add(hop.getDestMediaType()));
+        return result;
+    }
+
+    /**
+     * 获取路径的估计代价（各转换步骤的估计耗时之和，单位为毫秒）
+     *
+     * @return 路径的估计代价
+     */
+    public double getEstimatedCost() {
+        return estimatedCost;
+    }
+
+    @Override
+    public String toString() {
+        return StrUtil.format("{} (估计耗时: {}ms)", getMediaTypePath().stream().map(MediaType::toString)
+                .collect(Collectors.joining(" ==> ", "[", "]")), NumberUtil.roundStr(estimatedCost, 1));
+    }
+
+    /**
+     * 转换路径中的一个转换步骤
+     */
+    public static final class Hop {
+        private final MediaType srcMediaType;
+        private final MediaType destMediaType;
+        private final FileConverterDescriptor descriptor;
+
+        Hop(MediaType srcMediaType, MediaType destMediaType, FileConverterDescriptor descriptor) {
+            this.srcMediaType = srcMediaType;
+            this.destMediaType = destMediaType;
+            this.descriptor = descriptor;
+        }
+
+        public MediaType getSrcMediaType() {
+            return srcMediaType;
+        }
+
+        public MediaType getDestMediaType() {
+            return destMediaType;
+        }
+
+        public FileConverterDescriptor getDescriptor() {
+            return descriptor;
+        }
+
+        @Override
+        public String toString() {
+            return StrUtil.format("[{} ==> {}]: {}", srcMediaType, destMediaType, descriptor.getConverterClassName());
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package plus.hutool.media.converter.file.route;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import plus.hutool.core.io.TempScope;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.converter.file.FileConversionContext;
+import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.converter.file.FileConverter;
+import plus.hutool.media.converter.file.FileConverterDescriptor;
+import plus.hutool.media.converter.file.FileConverterRegistry;
+import plus.hutool.media.converter.file.FileConverterRegistry.FileConverterRegistryKey;
+import plus.hutool.media.converter.file.StreamFileConverter;
+import plus.hutool.media.converter.file.admission.ConversionAdmissionController;
+import plus.hutool.media.converter.file.impl.AbstractFileConverter;
+import plus.hutool.media.converter.file.route.ConversionRoute.Hop;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 文件转换路由器（多步转换）
+ * <p>
+ * 将注册表中的转换器建模为以媒体类型为节点、以转换器为边的有向图，边的权重为转换器的估计耗时
+ * （参见 {@link ConverterLatencyTracker}），使用 Dijkstra 算法计算两个媒体类型之间代价最小的转换路径。
+ * 计算结果会被缓存，注册表内容发生变化或者缓存超过 {@link #ROUTE_CACHE_TTL_MILLIS} 后重新计算。
+ * </p>
+ * <p>
+ * 执行多步转换时，如果中间结果的来源数据不超过 {@link #IN_MEMORY_THRESHOLD_BYTES}，且相关转换器支持流式转换，
+ * 中间结果直接保存在内存中传递给下一步，否则写入临时文件；流式转换输出的中间结果超过 {@link #IN_MEMORY_THRESHOLD_BYTES} 时，
+ * 也会转为写入临时文件。中间临时文件使用 {@link FileConvertConfig#getTempSpaceManager() 临时空间管理器} 创建，
+ * 在转换完成后删除。
+ * </p>
+ * <p>
+ * 如果配置了 {@link FileConvertConfig#getAdmissionController() 准入控制器}，每一步转换按这一步的来源数据分别申请准入，
+ * 转换路径中的各步不会同时占用内存预算。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public abstract class ConversionRouter {
+    private static final Logger log = LoggerFactory.getLogger(ConversionRouter.class);
+
+    /**
+     * 中间结果保存在内存中的数据大小上限（字节数，同时限制每一步转换的输入和输出）
+     */
+    public static final long IN_MEMORY_THRESHOLD_BYTES = 16L * 1024 * 1024;
+
+    /**
+     * 转换路径缓存的有效时长（毫秒数，过期后根据最新的耗时统计重新计算）
+     */
+    public static final long ROUTE_CACHE_TTL_MILLIS = 60_000;
+
+    private static final Map<FileConverterRegistryKey, CachedRoute> ROUTE_CACHE = new ConcurrentHashMap<>();
+
+    private ConversionRouter() {}
+
+    /**
+     * 查询两个媒体类型之间代价最小的转换路径
+     *
+     * @param srcMediaType  来源媒体类型
+     * @param destMediaType 目标媒体类型
+     * @return 代价最小的转换路径（不存在转换路径时返回 null）
+     */
+    @Nullable
+    public static ConversionRoute findRoute(MediaType srcMediaType, MediaType destMediaType) {
+        FileConverterRegistryKey key = FileConverterRegistryKey.of(srcMediaType, destMediaType);
+        long registryVersion = FileConverterRegistry.getVersion();
+        long now = System.currentTimeMillis();
+
+        CachedRoute cached = ROUTE_CACHE.get(key);
+        if (cached != null && cached.registryVersion == registryVersion
+                && now - cached.createdAtMillis < ROUTE_CACHE_TTL_MILLIS) {
+            return cached.route;
+        }
+
+        ConversionRoute route = computeRoute(srcMediaType, destMediaType);
+        ROUTE_CACHE.put(key, new CachedRoute(route, registryVersion, now));
+        log.debug("计算文件转换路径: {} => {}", key, route);
+        return route;
+    }
+
+    /**
+     * 清空转换路径缓存
+     */
+    public static void invalidateRouteCache() {
+        ROUTE_CACHE.clear();
+    }
+
+    /**
+     * 按转换路径执行多步转换
+     *
+     * @param srcFile 来源文件（媒体类型必须与转换路径的来源媒体类型一致）
+     * @param route   转换路径
+     * @param config  文件转换配置（只有最后一步转换会使用其中的目标文件存放位置和结果缓存配置，准入控制器用于每一步转换）
+     * @return 转换后的目标文件
+     */
+    public static File convert(File srcFile, ConversionRoute route, FileConvertConfig config) {
+        FileConvertConfig intermediateConfig = new FileConvertConfig(false);
+        intermediateConfig.setCustomConfigs(config.getCustomConfigs());
+        intermediateConfig.setAdmissionController(config.getAdmissionController());
+        intermediateConfig.setTempSpaceManager(config.getTempSpaceManager());
+
+        // 路由器自己写入的中间文件位于临时文件作用域中，转换器输出的中间文件所在的目录单独删除
+        List<File> tempDirs = new ArrayList<>();
+        try (TempScope scope = config.getTempSpaceManager().openScope("conversion-route")) {
+            Artifact current = Artifact.ofFile(srcFile);
+            List<Hop> hops = route.getHops();
+            for (int i = 0; i < hops.size(); i++) {
+                Hop hop = hops.get(i);
+                boolean isLastHop = i == hops.size() - 1;
+                FileConverter converter = hop.getDescriptor().getConverter();
+
+                long startMillis = System.currentTimeMillis();
+                if (isLastHop) {
+                    File destFile = runLastHop(srcFile, current, hop, converter, config, scope, tempDirs);
+                    recordLatency(hop.getDescriptor(), startMillis);
+                    return destFile;
+                }
+                current = runIntermediateHop(current, hop, converter, intermediateConfig, scope, tempDirs);
+                recordLatency(hop.getDescriptor(), startMillis);
+            }
+            throw new IllegalStateException("转换路径不能为空");
+        } finally {
+            tempDirs.forEach(FileUtil::del);
+        }
+    }
+
+    private static Artifact runIntermediateHop(Artifact current, Hop hop, FileConverter converter,
+                                               FileConvertConfig intermediateConfig, TempScope scope,
+                                               List<File> tempDirs) {
+        if (converter instanceof StreamFileConverter && current.size() <= IN_MEMORY_THRESHOLD_BYTES) {
+            SpillingOutputStream out = new SpillingOutputStream(IN_MEMORY_THRESHOLD_BYTES, scope,
+                    "intermediate." + hop.getDestMediaType().getDefaultFileExtension());
+            try {
+                convertStream((StreamFileConverter) converter, current, hop, out, intermediateConfig);
+                out.close();
+            } catch (IOException e) {
+                throw new IORuntimeException(e);
+            } finally {
+                IoUtil.close(out);
+            }
+            return out.isSpilled() ? Artifact.ofFile(out.getFile()) : Artifact.ofBytes(out.toByteArray());
+        }
+
+        File intermediateFile = convertFile(converter, current.toFile(hop.getSrcMediaType(), scope), hop,
+                intermediateConfig);
+        tempDirs.add(intermediateFile.getParentFile());
+        return Artifact.ofFile(intermediateFile);
+    }
+
+    private static File runLastHop(File srcFile, Artifact current, Hop hop, FileConverter converter,
+                                   FileConvertConfig config, TempScope scope, List<File> tempDirs) {
+        if (current.file == srcFile) {
+            return convertFile(converter, srcFile, hop, config);
+        }
+
+        File destFile = config.resolveDestFileBeforeConversion(srcFile, hop.getDestMediaType());
+        if (converter instanceof StreamFileConverter && current.bytes != null) {
+            try (OutputStream out = FileUtil.getOutputStream(destFile)) {
+                convertStream((StreamFileConverter) converter, current, hop, out, config);
+            } catch (IOException e) {
+                throw new IORuntimeException(e);
+            }
+            return destFile;
+        }
+
+        File convertedFile = convertFile(converter, current.toFile(hop.getSrcMediaType(), scope), hop, config);
+        FileUtil.move(convertedFile, destFile, true);
+        tempDirs.add(convertedFile.getParentFile());
+        return destFile;
+    }
+
+    /**
+     * 转换一步的来源文件（来源文件的媒体类型就是这一步的来源媒体类型，转换器无需重复探测）
+     */
+    private static File convertFile(FileConverter converter, File srcFile, Hop hop, FileConvertConfig config) {
+        FileConversionContext context = FileConversionContext.of(srcFile, hop.getSrcMediaType());
+        ConversionAdmissionController admissionController = config.getAdmissionController();
+        if (admissionController == null || converter instanceof AbstractFileConverter) {
+            // AbstractFileConverter 在实际执行转换时自行申请准入
+            return converter.convert(srcFile, config, context);
+        }
+        return admissionController.callAdmitted(srcFile, hop.getSrcMediaType(), context,
+                () -> converter.convert(srcFile, config, context));
+    }
+
+    /**
+     * 流式转换一步的中间结果（配置了准入控制器时按中间结果的大小申请准入）
+     */
+    private static void convertStream(StreamFileConverter converter, Artifact current, Hop hop, OutputStream out,
+                                      FileConvertConfig config) {
+        ConversionAdmissionController admissionController = config.getAdmissionController();
+        if (admissionController == null) {
+            doConvertStream(converter, current, hop, out, config);
+            return;
+        }
+        admissionController.callAdmitted(current.size(), hop.getSrcMediaType(), null, () -> {
+            doConvertStream(converter, current, hop, out, config);
+            return null;
+        });
+    }
+
+    private static void doConvertStream(StreamFileConverter converter, Artifact current, Hop hop, OutputStream out,
+                                        FileConvertConfig config) {
+        try (InputStream in = current.openStream()) {
+            converter.convert(in, hop.getSrcMediaType(), out, config);
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+    }
+
+    private static void recordLatency(FileConverterDescriptor descriptor, long startMillis) {
+        ConverterLatencyTracker.record(descriptor.getConverterClassName(), System.currentTimeMillis() - startMillis);
+    }
+
+    @Nullable
+    private static ConversionRoute computeRoute(MediaType srcMediaType, MediaType destMediaType) {
+        Map<MediaType, List<Hop>> graph = buildGraph();
+        Map<MediaType, Double> costs = new HashMap<>();
+        Map<MediaType, Hop> previousHops = new HashMap<>();
+        PriorityQueue<Node> queue = new PriorityQueue<>();
+
+        costs.put(srcMediaType, 0.0);
+        queue.add(new Node(srcMediaType, 0.0));
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            if (node.cost > costs.getOrDefault(node.mediaType, Double.MAX_VALUE)) {
+                continue;
+            }
+            if (node.mediaType.equals(destMediaType)) {
+                break;
+            }
+
+            for (Hop hop : graph.getOrDefault(node.mediaType, Collections.emptyList())) {
+                double newCost = node.cost
+                        + ConverterLatencyTracker.getEstimatedMillis(hop.getDescriptor().getConverterClassName());
+                if (newCost < costs.getOrDefault(hop.getDestMediaType(), Double.MAX_VALUE)) {
+                    costs.put(hop.getDestMediaType(), newCost);
+                    previousHops.put(hop.getDestMediaType(), hop);
+                    queue.add(new Node(hop.getDestMediaType(), newCost));
+                }
+            }
+        }
+
+        if (!previousHops.containsKey(destMediaType)) {
+            return null;
+        }
+
+        List<Hop> hops = new ArrayList<>();
+        for (MediaType mediaType = destMediaType; !mediaType.equals(srcMediaType); ) {
+            Hop hop = previousHops.get(mediaType);
+            hops.add(hop);
+            mediaType = hop.getSrcMediaType();
+        }
+        Collections.reverse(hops);
+        return new ConversionRoute(hops, costs.get(destMediaType));
+    }
+
+    private static Map<MediaType, List<Hop>> buildGraph() {
+        Map<MediaType, List<Hop>> graph = new HashMap<>();
+        for (MediaType destMediaType : FileConverterRegistry.getSupportedDestMediaTypes()) {
+            for (MediaType srcMediaType : FileConverterRegistry.getSupportedSrcMediaTypesByDestType(destMediaType)) {
+                FileConverterDescriptor descriptor = FileConverterRegistry.lookupDescriptor(srcMediaType, destMediaType);
+                if (descriptor != null) {
+                    graph.computeIfAbsent(srcMediaType, k -> new ArrayList<>())
+                            .add(new Hop(srcMediaType, destMediaType, descriptor));
+                }
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Dijkstra 算法的优先队列节点
+     */
+    private static final class Node implements Comparable<Node> {
+        private final MediaType mediaType;
+        private final double cost;
+
+        private Node(MediaType mediaType, double cost) {
+            this.mediaType = mediaType;
+            this.cost = cost;
+        }
+
+        @Override
+        public int compareTo(Node o) {
+            return Double.compare(cost, o.cost);
+        }
+    }
+
+    /**
+     * 缓存的转换路径
+     */
+    private static final class CachedRoute {
+        @Nullable
+        private final ConversionRoute route;
+        private final long registryVersion;
+        private final long createdAtMillis;
+
+        private CachedRoute(@Nullable ConversionRoute route, long registryVersion, long createdAtMillis) {
+            this.route = route;
+            this.registryVersion = registryVersion;
+            this.createdAtMillis = createdAtMillis;
+        }
+    }
+
+    /**
+     * 转换的中间结果（文件或内存中的字节数组）
+     */
+    private static final class Artifact {
+        @Nullable
+        private final File file;
+        @Nullable
+        private final byte[] bytes;
+
+        private Artifact(@Nullable File file, @Nullable byte[] bytes) {
+            this.file = file;
+            this.bytes = bytes;
+        }
+
+        private static Artifact ofFile(File file) {
+            return new Artifact(file, null);
+        }
+
+        private static Artifact ofBytes(byte[] bytes) {
+            return new Artifact(null, bytes);
+        }
+
+        private long size() {
+            return bytes != null ? bytes.length : file.length();
+        }
+
+        private InputStream openStream() {
+            return bytes != null ? new ByteArrayInputStream(bytes) : FileUtil.getInputStream(file);
+        }
+
+        private File toFile(MediaType mediaType, TempScope scope) {
+            if (file != null) {
+                return file;
+            }
+            File tempFile = scope.newFile("intermediate." + mediaType.getDefaultFileExtension());
+            FileUtil.writeBytes(bytes, tempFile);
+            return tempFile;
+        }
+    }
+}
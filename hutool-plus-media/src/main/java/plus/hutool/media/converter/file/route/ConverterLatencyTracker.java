@@ -0,0 +1,73 @@
+package plus.hutool.media.converter.file.route;
+
+import plus.hutool.core.lang.Asserts;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 文件转换器耗时统计（用于估算转换路径的代价）
+ * <p>
+ * 以转换器类名为 Key，记录每个转换器单次转换耗时的指数加权移动平均值（EWMA），
+ * 近期的测量值权重更大，能够适应运行环境的变化；尚无测量值的转换器使用 {@link #DEFAULT_ESTIMATED_MILLIS} 作为估计值。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public abstract class ConverterLatencyTracker {
+
+    /**
+     * 尚无测量值的转换器的默认估计耗时（毫秒数）
+     */
+    public static final double DEFAULT_ESTIMATED_MILLIS = 1000;
+
+    /**
+     * 指数加权移动平均的平滑系数（新测量值的权重）
+     */
+    public static final double EWMA_ALPHA = 0.2;
+
+    private static final Map<String, Double> ESTIMATED_MILLIS_MAP = new ConcurrentHashMap<>();
+
+    private ConverterLatencyTracker() {}
+
+    /**
+     * 记录转换器的一次转换耗时
+     *
+     * @param converterClassName 转换器类名
+     * @param elapsedMillis      转换耗时（毫秒数）
+     */
+    public static void record(String converterClassName, long elapsedMillis) {
+        Asserts.isTrue(elapsedMillis >= 0, "转换耗时不能小于 0: {}", elapsedMillis);
+        ESTIMATED_MILLIS_MAP.merge(converterClassName, (double) elapsedMillis,
+                (oldValue, newValue) -> oldValue + EWMA_ALPHA * (newValue - oldValue));
+    }
+
+    /**
+     * 获取转换器的估计耗时（毫秒数）
+     *
+     * @param converterClassName 转换器类名
+     * @return 估计耗时（尚无测量值时返回 {@link #DEFAULT_ESTIMATED_MILLIS}）
+     */
+    public static double getEstimatedMillis(String converterClassName) {
+        return ESTIMATED_MILLIS_MAP.getOrDefault(converterClassName, DEFAULT_ESTIMATED_MILLIS);
+    }
+
+    /**
+     * 判断转换器是否已有耗时测量值
+     *
+     * @param converterClassName 转换器类名
+     * @return 是否已有耗时测量值
+     */
+    public static boolean hasMeasurement(String converterClassName) {
+        return ESTIMATED_MILLIS_MAP.containsKey(converterClassName);
+    }
+
+    /**
+     * 清空所有转换器的耗时统计
+     */
+    public static void reset() {
+        ESTIMATED_MILLIS_MAP.clear();
+    }
+}
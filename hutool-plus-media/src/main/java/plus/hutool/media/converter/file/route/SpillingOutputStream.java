@@ -0,0 +1,118 @@
+package plus.hutool.media.converter.file.route;
+
+import cn.hutool.core.io.FileUtil;
+import plus.hutool.core.io.TempScope;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.lang.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 超过阈值后转为写入临时文件的输出流
+ * <p>
+ * 写入的数据不超过阈值时保存在内存中，超过阈值时在指定的临时文件作用域中创建临时文件，
+ * 将已写入内存的数据写入临时文件，之后的数据直接写入临时文件。临时文件在作用域关闭时删除。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+final class SpillingOutputStream extends OutputStream {
+
+    private final long thresholdBytes;
+    private final TempScope tempScope;
+    private final String tempFilename;
+
+    @Nullable
+    private ByteArrayOutputStream memoryOut = new ByteArrayOutputStream();
+    @Nullable
+    private File file;
+    @Nullable
+    private OutputStream fileOut;
+
+    /**
+     * 创建输出流
+     *
+     * @param thresholdBytes 保存在内存中的数据大小上限（字节数）
+     * @param tempScope      超过阈值时创建临时文件的作用域
+     * @param tempFilename   超过阈值时创建的临时文件的文件名
+     */
+    SpillingOutputStream(long thresholdBytes, TempScope tempScope, String tempFilename) {
+        Asserts.isTrue(thresholdBytes >= 0, "阈值不能小于 0: {}", thresholdBytes);
+        this.thresholdBytes = thresholdBytes;
+        this.tempScope = tempScope;
+        this.tempFilename = tempFilename;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        prepareWrite(1).write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        prepareWrite(len).write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (fileOut != null) {
+            fileOut.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (fileOut != null) {
+            fileOut.close();
+        }
+    }
+
+    /**
+     * 数据是否已写入临时文件
+     *
+     * @return 是否已写入临时文件
+     */
+    boolean isSpilled() {
+        return file != null;
+    }
+
+    /**
+     * 获取临时文件（未超过阈值时返回 null）
+     *
+     * @return 临时文件
+     */
+    @Nullable
+    File getFile() {
+        return file;
+    }
+
+    /**
+     * 获取保存在内存中的数据（只能在未超过阈值时调用）
+     *
+     * @return 保存在内存中的数据
+     */
+    byte[] toByteArray() {
+        Asserts.isTrue(memoryOut != null, "数据已写入临时文件: {}", file);
+        return memoryOut.toByteArray();
+    }
+
+    private OutputStream prepareWrite(int len) throws IOException {
+        if (fileOut != null) {
+            return fileOut;
+        }
+        if (memoryOut.size() + (long) len <= thresholdBytes) {
+            return memoryOut;
+        }
+
+        file = tempScope.newFile(tempFilename);
+        fileOut = FileUtil.getOutputStream(file);
+        memoryOut.writeTo(fileOut);
+        memoryOut = null;
+        return fileOut;
+    }
+}
@@ -0,0 +1,107 @@
+package plus.hutool.media.converter.file.service;
+
+import cn.hutool.core.util.StrUtil;
+import plus.hutool.core.lang.annotation.Nullable;
+
+import java.io.File;
+
+/**
+ * 批量文件转换中单个文件的转换结果
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public final class BatchFileConversionResult {
+
+    /**
+     * 单个文件的转换状态
+     */
+    public enum Status {
+        /**
+         * 转换成功
+         */
+        CONVERTED,
+        /**
+         * 目标文件已是最新（目标文件的最后修改时间不早于来源文件），跳过转换
+         */
+        SKIPPED_UP_TO_DATE,
+        /**
+         * 转换失败
+         */
+        FAILED
+    }
+
+    private final File srcFile;
+    private final File destFile;
+    private final Status status;
+    private final long elapsedMillis;
+
+    @Nullable
+    private final Throwable failure;
+
+    private BatchFileConversionResult(File srcFile, File destFile, Status status,
+                                      long elapsedMillis, @Nullable Throwable failure) {
+        this.srcFile = srcFile;
+        this.destFile = destFile;
+        this.status = status;
+        this.elapsedMillis = elapsedMillis;
+        this.failure = failure;
+    }
+
+    static BatchFileConversionResult converted(File srcFile, File destFile, long elapsedMillis) {
+        return new BatchFileConversionResult(srcFile, destFile, Status.CONVERTED, elapsedMillis, null);
+    }
+
+    static BatchFileConversionResult skipped(File srcFile, File destFile) {
+        return new BatchFileConversionResult(srcFile, destFile, Status.SKIPPED_UP_TO_DATE, 0, null);
+    }
+
+    static BatchFileConversionResult failed(File srcFile, File destFile, long elapsedMillis, Throwable failure) {
+        return new BatchFileConversionResult(srcFile, destFile, Status.FAILED, elapsedMillis, failure);
+    }
+
+    public boolean isConverted() {
+        return status == Status.CONVERTED;
+    }
+
+    public boolean isSkipped() {
+        return status == Status.SKIPPED_UP_TO_DATE;
+    }
+
+    public boolean isFailed() {
+        return status == Status.FAILED;
+    }
+
+    public File getSrcFile() {
+        return srcFile;
+    }
+
+    /**
+     * 获取目标文件（转换失败时，该文件可能不存在）
+     *
+     * @return 目标文件
+     */
+    public File getDestFile() {
+        return destFile;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Nullable
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return StrUtil.format("[{}] {} ==> {} ({}ms){}", status, srcFile.getAbsolutePath(),
+                destFile.getAbsolutePath(), elapsedMillis, failure == null ? "" : " - " + failure);
+    }
+}
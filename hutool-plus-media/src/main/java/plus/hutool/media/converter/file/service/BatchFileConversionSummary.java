@@ -0,0 +1,102 @@
+package plus.hutool.media.converter.file.service;
+
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.StrUtil;
+import plus.hutool.core.datetime.DateTimeUtils;
+import plus.hutool.core.measure.util.FileSizeUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 批量文件转换的汇总结果
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public final class BatchFileConversionSummary {
+
+    private final long totalCount;
+    private final long convertedCount;
+    private final long skippedCount;
+    private final List<BatchFileConversionResult> failedResults;
+    private final long convertedSrcBytes;
+    private final long elapsedMillis;
+
+    BatchFileConversionSummary(long totalCount, long convertedCount, long skippedCount,
+                               List<BatchFileConversionResult> failedResults, long convertedSrcBytes, long elapsedMillis) {
+        this.totalCount = totalCount;
+        this.convertedCount = convertedCount;
+        this.skippedCount = skippedCount;
+        this.failedResults = Collections.unmodifiableList(failedResults);
+        this.convertedSrcBytes = convertedSrcBytes;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * 获取转换失败的文件的转换结果（按转换完成的先后顺序排列；每个文件的转换结果可以通过结果监听器获取）
+     *
+     * @return 转换失败的文件的转换结果
+     */
+    public List<BatchFileConversionResult> getFailedResults() {
+        return failedResults;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getConvertedCount() {
+        return convertedCount;
+    }
+
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    public long getFailedCount() {
+        return failedResults.size();
+    }
+
+    /**
+     * 获取转换成功的来源文件的总字节数
+     *
+     * @return 转换成功的来源文件的总字节数
+     */
+    public long getConvertedSrcBytes() {
+        return convertedSrcBytes;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 获取吞吐量（每秒处理的文件数，包括转换成功、跳过和失败的文件）
+     *
+     * @return 每秒处理的文件数
+     */
+    public double getFilesPerSecond() {
+        return elapsedMillis == 0 ? 0 : getTotalCount() * 1000.0 / elapsedMillis;
+    }
+
+    /**
+     * 获取吞吐量（每秒转换成功的来源文件字节数）
+     *
+     * @return 每秒转换成功的来源文件字节数
+     */
+    public double getBytesPerSecond() {
+        return elapsedMillis == 0 ? 0 : convertedSrcBytes * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return StrUtil.format("批量文件转换完成: 总数 = {}, 成功 = {}, 跳过 = {}, 失败 = {}, 耗时 = {}, "
+                        + "吞吐量 = {} 个/秒 ({}/秒)",
+                getTotalCount(), getConvertedCount(), getSkippedCount(), getFailedCount(),
+                DateTimeUtils.millisToMoreReadableFormat(elapsedMillis),
+                NumberUtil.roundStr(getFilesPerSecond(), 2),
+                FileSizeUtils.normalizeFileSizeToStr(getBytesPerSecond(), FileSizeUtils.BYTE));
+    }
+}
@@ -0,0 +1,455 @@
+package plus.hutool.media.converter.file.service;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.thread.NamedThreadFactory;
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.StrUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import plus.hutool.core.io.FileUtils;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.extra.log.LogUtils;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.content.type.MediaTypeUtils;
+import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.converter.file.FileConvertUtils;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 批量文件转换器
+ * <p>
+ * 以指定的并发数并行转换一个目录树（或一组文件）中的所有文件，单个文件转换失败不会中断整个批次；
+ * 转换目录树时先遍历得到来源文件列表（转换过程中新生成的目标文件不会被当作来源文件），再依次提交转换任务，
+ * 同时在途的转换任务数不超过 并发数 × {@link #IN_FLIGHT_TASKS_PER_WORKER}。
+ * 每个文件的转换结果在转换完成时（按完成的先后顺序）回调给结果监听器，汇总结果只保留统计信息和转换失败的结果。
+ * 转换一组文件时的转换进度描述的格式与 {@link LogUtils#resolveProgressDesc(String, long, long)} 一致。
+ * </p>
+ * <p>
+ * 目标文件的路径是确定的: 转换目录树时，在目标目录中保持与来源目录相同的子目录结构；
+ * 未指定目标目录时，目标文件存放在来源文件的相同目录下。
+ * 同一批次中多个来源文件对应同一个目标文件时（如同一目录下的 a.doc 和 a.docx，或者转换一组文件到同一个目标目录时
+ * 不同目录下的同名文件），先提交的来源文件使用原本的目标文件名，之后的依次在文件名后追加序号（如 a (1).pdf），
+ * 实际的目标文件可以从转换结果中获取。
+ * 目标文件与来源文件位于同一目录时，媒体类型已经是目标类型的来源文件（如之前转换生成的 PDF）、
+ * 以及本批次中其他来源文件的目标文件，都直接视为跳过，不会再被复制为带序号的新文件；
+ * 目标目录位于来源目录中时，目标目录中的文件不会被当作来源文件。
+ * 开启 {@link #setSkipUpToDate(boolean)} 后，如果目标文件已存在且最后修改时间不早于来源文件，则跳过该文件。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class BatchFileConverter {
+    private static final Logger log = LoggerFactory.getLogger(BatchFileConverter.class);
+
+    /**
+     * 默认每处理多少个文件输出一次进度日志
+     */
+    public static final int DEFAULT_PROGRESS_LOG_INTERVAL = 100;
+
+    /**
+     * 每个工作线程最多对应的在途转换任务数（提交的任务数达到上限后，先等待已完成的任务再继续提交）
+     */
+    public static final int IN_FLIGHT_TASKS_PER_WORKER = 4;
+
+    private static final String LOG_PREFIX = "【批量文件转换】";
+    private static final String THREAD_NAME_PREFIX = "batch-file-conversion-";
+
+    private final int concurrency;
+
+    private MediaType destMediaType = MediaType.APPLICATION_PDF;
+    private FileConvertConfig convertConfig = new FileConvertConfig();
+    private FileFilter fileFilter = file -> true;
+    private boolean skipUpToDate = false;
+    private int progressLogInterval = DEFAULT_PROGRESS_LOG_INTERVAL;
+
+    @Nullable
+    private Consumer<BatchFileConversionResult> resultListener;
+
+    /**
+     * 创建批量文件转换器（并发数为 CPU 核数）
+     */
+    public BatchFileConverter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 创建批量文件转换器
+     *
+     * @param concurrency 并发数（同时进行转换的文件数）
+     */
+    public BatchFileConverter(int concurrency) {
+        Asserts.isTrue(concurrency > 0, "并发数必须大于 0: {}", concurrency);
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * 转换目录树中的所有文件（包括子目录中的文件，不跟随符号链接）
+     *
+     * @param srcDir  来源目录
+     * @param destDir 目标目录（保持与来源目录相同的子目录结构；为 null 时目标文件存放在来源文件的相同目录下）
+     * @return 批量转换的汇总结果
+     */
+    public BatchFileConversionSummary convertDir(File srcDir, @Nullable File destDir) {
+        Asserts.isTrue(FileUtils.dirExists(srcDir), "批量转换的来源目录不存在: {}", srcDir.getAbsolutePath());
+
+        // 先遍历得到来源文件列表，避免转换过程中生成的目标文件被遍历到并当作来源文件
+        List<File> srcFiles = new ArrayList<>();
+        List<BatchFileConversionResult> visitFailedResults = new ArrayList<>();
+        Path destDirPath = destDir == null ? null : destDir.getAbsoluteFile().toPath().normalize();
+        try {
+            Files.walkFileTree(srcDir.toPath(), new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    return destDirPath != null && dir.toAbsolutePath().normalize().equals(destDirPath)
+                            ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path path, BasicFileAttributes attrs) {
+                    File srcFile = path.toFile();
+                    if (attrs.isRegularFile() && fileFilter.accept(srcFile)) {
+                        srcFiles.add(srcFile);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path path, IOException e) {
+                    File srcFile = path.toFile();
+                    visitFailedResults.add(BatchFileConversionResult.failed(srcFile,
+                            resolveDestFile(srcFile, resolveDestParentDir(srcDir, srcFile, destDir)), 0, e));
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+
+        return execute(srcFiles.size() + visitFailedResults.size(), execution -> {
+            visitFailedResults.forEach(execution::handle);
+            srcFiles.forEach(srcFile -> execution.submit(srcFile, resolveDestParentDir(srcDir, srcFile, destDir)));
+        });
+    }
+
+    /**
+     * 转换一组文件
+     *
+     * @param srcFiles 来源文件集合
+     * @param destDir  目标目录（所有目标文件直接存放在该目录下；为 null 时目标文件存放在来源文件的相同目录下）
+     * @return 批量转换的汇总结果
+     */
+    public BatchFileConversionSummary convertFiles(Collection<File> srcFiles, @Nullable File destDir) {
+        return execute(srcFiles.size(), execution -> srcFiles.forEach(srcFile ->
+                execution.submit(srcFile, destDir == null ? srcFile.getParentFile() : destDir)));
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public MediaType getDestMediaType() {
+        return destMediaType;
+    }
+
+    public void setDestMediaType(MediaType destMediaType) {
+        this.destMediaType = destMediaType;
+    }
+
+    public FileConvertConfig getConvertConfig() {
+        return convertConfig;
+    }
+
+    public void setConvertConfig(FileConvertConfig convertConfig) {
+        this.convertConfig = convertConfig;
+    }
+
+    public FileFilter getFileFilter() {
+        return fileFilter;
+    }
+
+    /**
+     * 设置来源文件过滤器（只对转换目录树生效，用于排除不需要转换的文件）
+     *
+     * @param fileFilter 来源文件过滤器
+     */
+    public void setFileFilter(FileFilter fileFilter) {
+        this.fileFilter = fileFilter;
+    }
+
+    public boolean isSkipUpToDate() {
+        return skipUpToDate;
+    }
+
+    public void setSkipUpToDate(boolean skipUpToDate) {
+        this.skipUpToDate = skipUpToDate;
+    }
+
+    public int getProgressLogInterval() {
+        return progressLogInterval;
+    }
+
+    public void setProgressLogInterval(int progressLogInterval) {
+        Asserts.isTrue(progressLogInterval > 0, "进度日志的输出间隔必须大于 0: {}", progressLogInterval);
+        this.progressLogInterval = progressLogInterval;
+    }
+
+    /**
+     * 设置单个文件转换结果的监听器（在调用批量转换方法的线程中按完成的先后顺序回调）
+     *
+     * @param resultListener 转换结果的监听器
+     */
+    public void setResultListener(@Nullable Consumer<BatchFileConversionResult> resultListener) {
+        this.resultListener = resultListener;
+    }
+
+    private BatchFileConversionSummary execute(long total, Consumer<Execution> taskProducer) {
+        LogUtils.logInfo(log, LOG_PREFIX, "开始转换: 文件数 = {}, 并发数 = {}, 目标类型 = {}",
+                total < 0 ? "未知" : total, concurrency, destMediaType);
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+                new NamedThreadFactory(THREAD_NAME_PREFIX, true));
+        Execution execution = new Execution(executor, total);
+        try {
+            taskProducer.accept(execution);
+            execution.awaitAll();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        BatchFileConversionSummary summary = execution.toSummary();
+        LogUtils.logInfo(log, LOG_PREFIX, "{}", summary);
+        return summary;
+    }
+
+    private BatchFileConversionResult convertOne(ConversionTask task) {
+        File srcFile = task.srcFile;
+        File destFile = task.destFile;
+        if (skipUpToDate && isUpToDate(srcFile, destFile)) {
+            return BatchFileConversionResult.skipped(srcFile, destFile);
+        }
+
+        long startMillis = System.currentTimeMillis();
+        try {
+            File convertedFile = FileConvertUtils.convertFile(srcFile, destMediaType, convertConfig);
+            moveToDestFile(srcFile, convertedFile, destFile);
+            return BatchFileConversionResult.converted(srcFile, destFile, System.currentTimeMillis() - startMillis);
+        } catch (Throwable e) {
+            // 包括转换器抛出的 Error（如 OutOfMemoryError、NoClassDefFoundError、StackOverflowError），只影响当前文件
+            return BatchFileConversionResult.failed(srcFile, destFile, System.currentTimeMillis() - startMillis, e);
+        }
+    }
+
+    /**
+     * 将转换结果放到确定的目标文件路径上（转换结果是来源文件本身时复制，否则移动并清理临时目录）
+     */
+    private void moveToDestFile(File srcFile, File convertedFile, File destFile) {
+        if (FileUtil.equals(convertedFile, destFile)) {
+            return;
+        }
+
+        FileUtil.mkParentDirs(destFile);
+        if (FileUtil.equals(convertedFile, srcFile)) {
+            FileUtil.copyFile(convertedFile, destFile, StandardCopyOption.REPLACE_EXISTING);
+            return;
+        }
+
+        FileUtil.move(convertedFile, destFile, true);
+        File tempDir = convertedFile.getParentFile();
+        if (!FileUtil.equals(tempDir, srcFile.getParentFile()) && FileUtil.isDirEmpty(tempDir)) {
+            FileUtil.del(tempDir);
+        }
+    }
+
+    private File resolveDestFile(File srcFile, File destParentDir) {
+        return FileUtil.file(destParentDir, resolveDestFilename(FileUtils.getFilenameWithoutExtension(srcFile), 0));
+    }
+
+    private String resolveDestFilename(String baseName, int sequence) {
+        return sequence == 0 ? StrUtil.format("{}.{}", baseName, destMediaType.getDefaultFileExtension())
+                : StrUtil.format("{} ({}).{}", baseName, sequence, destMediaType.getDefaultFileExtension());
+    }
+
+    private static File resolveDestParentDir(File srcDir, File srcFile, @Nullable File destDir) {
+        return destDir == null ? srcFile.getParentFile()
+                : FileUtil.file(destDir, FileUtil.subPath(srcDir.getAbsolutePath(), srcFile.getParentFile()));
+    }
+
+    private static boolean isUpToDate(File srcFile, File destFile) {
+        return destFile.isFile() && destFile.lastModified() >= srcFile.lastModified();
+    }
+
+    private void notifyResultListener(BatchFileConversionResult result) {
+        if (resultListener != null) {
+            try {
+                resultListener.accept(result);
+            } catch (Exception e) {
+                LogUtils.logWarn(log, LOG_PREFIX, "转换结果监听器执行出错: {}", e.toString());
+            }
+        }
+    }
+
+    /**
+     * 一次批量转换的执行过程（提交任务、分配目标文件、回收结果和聚合统计信息都在调用批量转换方法的线程中进行）
+     */
+    private final class Execution {
+        private final CompletionService<BatchFileConversionResult> completionService;
+        private final int maxInFlightTasks = concurrency * IN_FLIGHT_TASKS_PER_WORKER;
+        private final long total;
+        private final long startMillis = System.currentTimeMillis();
+        /**
+         * 本批次已分配的目标文件路径（统一转为小写，避免在不区分大小写的文件系统上冲突）
+         */
+        private final Set<String> assignedDestPaths = new HashSet<>();
+        private final List<BatchFileConversionResult> failedResults = new ArrayList<>();
+
+        private int inFlightTasks;
+        private long handledCount;
+        private long convertedCount;
+        private long skippedCount;
+        private long convertedSrcBytes;
+
+        private Execution(ExecutorService executor, long total) {
+            this.completionService = new ExecutorCompletionService<>(executor);
+            this.total = total;
+        }
+
+        private void submit(File srcFile, File destParentDir) {
+            if (isExistingDestFile(srcFile, destParentDir)) {
+                handle(BatchFileConversionResult.skipped(srcFile, srcFile));
+                return;
+            }
+            while (inFlightTasks >= maxInFlightTasks) {
+                handle(take());
+            }
+            ConversionTask task = new ConversionTask(srcFile, assignDestFile(srcFile, destParentDir));
+            completionService.submit(() -> convertOne(task));
+            inFlightTasks++;
+        }
+
+        /**
+         * 来源文件是否本身就是目标文件：本批次中其他来源文件的目标文件，
+         * 或者目标文件存放在来源文件的相同目录下时，媒体类型已经是目标类型的文件（如之前转换生成的目标文件）
+         */
+        private boolean isExistingDestFile(File srcFile, File destParentDir) {
+            if (assignedDestPaths.contains(srcFile.getAbsolutePath().toLowerCase(Locale.ROOT))) {
+                return true;
+            }
+            if (!FileUtil.equals(destParentDir, srcFile.getParentFile())) {
+                return false;
+            }
+            try {
+                return destMediaType.equals(MediaTypeUtils.detectMediaType(srcFile));
+            } catch (RuntimeException e) {
+                // 探测失败时照常提交转换任务，由转换任务报告失败原因
+                return false;
+            }
+        }
+
+        /**
+         * 分配目标文件：与本批次中已分配的目标文件冲突时，在文件名后追加序号
+         */
+        private File assignDestFile(File srcFile, File destParentDir) {
+            String baseName = FileUtils.getFilenameWithoutExtension(srcFile);
+            for (int sequence = 0; ; sequence++) {
+                File destFile = FileUtil.file(destParentDir, resolveDestFilename(baseName, sequence));
+                if (assignedDestPaths.add(destFile.getAbsolutePath().toLowerCase(Locale.ROOT))) {
+                    if (sequence > 0) {
+                        LogUtils.logWarn(log, LOG_PREFIX, "目标文件名与同批次的其他文件冲突，改为: {} => {}",
+                                srcFile.getAbsolutePath(), destFile.getAbsolutePath());
+                    }
+                    return destFile;
+                }
+            }
+        }
+
+        private void awaitAll() {
+            while (inFlightTasks > 0) {
+                handle(take());
+            }
+        }
+
+        private BatchFileConversionResult take() {
+            try {
+                BatchFileConversionResult result = completionService.take().get();
+                inFlightTasks--;
+                return result;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("批量文件转换被中断", e);
+            } catch (ExecutionException e) {
+                // convertOne 内部已捕获所有 Throwable，不会执行到这里
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        private void handle(BatchFileConversionResult result) {
+            handledCount++;
+            if (result.isConverted()) {
+                convertedCount++;
+                convertedSrcBytes += result.getSrcFile().length();
+            } else if (result.isSkipped()) {
+                skippedCount++;
+            } else {
+                failedResults.add(result);
+                LogUtils.logWarn(log, LOG_PREFIX, "文件转换失败: {} - {}",
+                        result.getSrcFile().getAbsolutePath(), result.getFailure());
+            }
+            notifyResultListener(result);
+
+            if (handledCount % progressLogInterval == 0 || handledCount == total) {
+                logProgress(handledCount, total, startMillis);
+            }
+        }
+
+        private BatchFileConversionSummary toSummary() {
+            return new BatchFileConversionSummary(handledCount, convertedCount, skippedCount, failedResults,
+                    convertedSrcBytes, System.currentTimeMillis() - startMillis);
+        }
+    }
+
+    private static void logProgress(long handled, long total, long startMillis) {
+        long elapsedMillis = Math.max(System.currentTimeMillis() - startMillis, 1);
+        String filesPerSecond = NumberUtil.roundStr(handled * 1000.0 / elapsedMillis, 2);
+        String progressDesc = total < 0 ? StrUtil.format("已处理 {} 个文件", handled)
+                : LogUtils.resolveProgressDesc("转换进度", handled, total);
+        LogUtils.logInfo(log, LOG_PREFIX, "{} | 吞吐量: {} 个/秒", progressDesc, filesPerSecond);
+    }
+
+    /**
+     * 单个文件的转换任务
+     */
+    private static final class ConversionTask {
+        private final File srcFile;
+        private final File destFile;
+
+        private ConversionTask(File srcFile, File destFile) {
+            this.srcFile = srcFile;
+            this.destFile = destFile;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package plus.hutool.media.converter.file.service;
+
+import plus.hutool.media.converter.file.worker.ConversionWorkerPool;
+
+/**
+ * 文件转换服务的执行模式
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+public enum FileConversionExecutionMode {
+
+    /**
+     * 在当前进程内执行转换
+     */
+    IN_PROCESS,
+
+    /**
+     * 在 {@link ConversionWorkerPool} 的工作进程中执行转换（转换出错、超时或 OOM 不会影响当前进程）
+     */
+    WORKER_PROCESS
+}
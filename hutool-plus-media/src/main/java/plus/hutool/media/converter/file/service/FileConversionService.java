@@ -0,0 +1,257 @@
+package plus.hutool.media.converter.file.service;
+
+import cn.hutool.core.thread.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.lang.annotation.Nullable;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.converter.file.FileConvertUtils;
+import plus.hutool.media.converter.file.FileConverterRegistry;
+import plus.hutool.media.converter.file.worker.ConversionWorkerPool;
+import plus.hutool.media.exception.FileConversionRejectedException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 异步文件转换服务
+ * <p>
+ * 将文件转换任务提交到一个线程数和队列长度均有上限的工作线程池中执行，转换器仍然通过
+ * {@link FileConverterRegistry#lookup(MediaType, MediaType)} 查询，已有的转换器无需任何改动。
+ * 当线程池和队列都已占满时，新提交的任务会被直接拒绝，
+ * 返回的 {@link CompletableFuture} 以 {@link FileConversionRejectedException} 异常结束。
+ * </p>
+ * <p>
+ * 指定了 {@link ConversionWorkerPool} 时（{@link FileConversionExecutionMode#WORKER_PROCESS} 模式），
+ * 工作线程把转换交给工作进程执行并等待结果，此时工作线程数一般不需要超过工作进程数与队列容量之和。
+ * 工作进程池由调用方负责关闭，关闭转换服务时不会关闭工作进程池。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class FileConversionService implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(FileConversionService.class);
+
+    /**
+     * 默认的任务队列容量
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    private static final String THREAD_NAME_PREFIX = "file-conversion-";
+
+    private final int poolSize;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+    @Nullable
+    private final ConversionWorkerPool workerPool;
+
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    /**
+     * 使用默认配置创建文件转换服务（工作线程数为 CPU 核数，任务队列容量为 {@link #DEFAULT_QUEUE_CAPACITY}）
+     */
+    public FileConversionService() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * 创建文件转换服务
+     *
+     * @param poolSize      工作线程数
+     * @param queueCapacity 任务队列容量（为 0 时表示不排队，没有空闲的工作线程时直接拒绝）
+     */
+    public FileConversionService(int poolSize, int queueCapacity) {
+        this(poolSize, queueCapacity, null);
+    }
+
+    /**
+     * 创建文件转换服务
+     *
+     * @param poolSize      工作线程数
+     * @param queueCapacity 任务队列容量（为 0 时表示不排队，没有空闲的工作线程时直接拒绝）
+     * @param workerPool    转换工作进程池（为 null 时在当前进程内执行转换）
+     */
+    public FileConversionService(int poolSize, int queueCapacity, @Nullable ConversionWorkerPool workerPool) {
+        Asserts.isTrue(poolSize > 0, "工作线程数必须大于 0: {}", poolSize);
+        Asserts.isTrue(queueCapacity >= 0, "任务队列容量不能小于 0: {}", queueCapacity);
+
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+        this.workerPool = workerPool;
+
+        BlockingQueue<Runnable> workQueue = queueCapacity == 0
+                ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(queueCapacity);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, workQueue,
+                new NamedThreadFactory(THREAD_NAME_PREFIX, true), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 异步将文件转换为 PDF 文件
+     *
+     * @param srcFile 来源文件
+     * @return 转换后的 PDF 文件的 {@link CompletableFuture}
+     */
+    public CompletableFuture<File> convertFileToPdf(File srcFile) {
+        return convertFileToPdf(srcFile, new FileConvertConfig(false));
+    }
+
+    /**
+     * 异步将文件转换为 PDF 文件
+     *
+     * @param srcFile 来源文件
+     * @param config  文件转换配置
+     * @return 转换后的 PDF 文件的 {@link CompletableFuture}
+     */
+    public CompletableFuture<File> convertFileToPdf(File srcFile, FileConvertConfig config) {
+        return convertFile(srcFile, MediaType.APPLICATION_PDF, config);
+    }
+
+    /**
+     * 异步将文件转换为指定媒体类型的文件
+     *
+     * @param srcFile       来源文件
+     * @param destMediaType 目标文件的媒体类型
+     * @param config        文件转换配置
+     * @return 转换后的目标文件的 {@link CompletableFuture}
+     */
+    public CompletableFuture<File> convertFile(File srcFile, MediaType destMediaType, FileConvertConfig config) {
+        if (workerPool != null) {
+            return submit(() -> workerPool.convertFile(srcFile, destMediaType, config));
+        }
+        return submit(() -> FileConvertUtils.convertFile(srcFile, destMediaType, config));
+    }
+
+    /**
+     * 获取当前在队列中等待执行的任务数
+     *
+     * @return 队列中等待执行的任务数
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 获取当前正在执行中的任务数
+     *
+     * @return 正在执行中的任务数
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+
+    /**
+     * 判断转换服务是否已饱和（工作线程全部繁忙，且任务队列已满）
+     *
+     * @return 转换服务是否已饱和
+     */
+    public boolean isSaturated() {
+        return getInFlightCount() >= poolSize && executor.getQueue().remainingCapacity() == 0;
+    }
+
+    public FileConversionExecutionMode getExecutionMode() {
+        return workerPool != null ? FileConversionExecutionMode.WORKER_PROCESS : FileConversionExecutionMode.IN_PROCESS;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * 关闭转换服务（不再接收新任务，已提交的任务会继续执行完）
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 关闭转换服务，并等待已提交的任务执行完毕
+     *
+     * @param timeout 最长等待时长
+     * @param unit    时长的单位
+     * @return 在等待时长内所有任务是否都已执行完毕
+     */
+    public boolean shutdownAndAwait(long timeout, TimeUnit unit) {
+        executor.shutdown();
+        try {
+            return executor.awaitTermination(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        shutdown();
+    }
+
+    /**
+     * 提交转换任务
+     *
+     * @param task 转换任务
+     * @return 转换结果的 {@link CompletableFuture}
+     */
+    CompletableFuture<File> submit(Supplier<File> task) {
+        CompletableFuture<File> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> runTask(task, future));
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            String reason = executor.isShutdown() ? "转换服务已关闭" : "转换服务已饱和";
+            log.warn("文件转换任务被拒绝({}): 工作线程数 = {}, 队列容量 = {}", reason, poolSize, queueCapacity);
+            future.completeExceptionally(new FileConversionRejectedException("文件转换任务被拒绝: " + reason, e));
+        }
+        return future;
+    }
+
+    private void runTask(Supplier<File> task, CompletableFuture<File> future) {
+        if (future.isDone()) {
+            // 任务在排队期间已被调用方取消
+            return;
+        }
+
+        inFlightCount.incrementAndGet();
+        try {
+            future.complete(task.get());
+            completedCount.incrementAndGet();
+        } catch (Throwable t) {
+            failedCount.incrementAndGet();
+            future.completeExceptionally(t);
+        } finally {
+            inFlightCount.decrementAndGet();
+        }
+    }
+}
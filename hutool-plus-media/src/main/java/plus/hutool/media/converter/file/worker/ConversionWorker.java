@@ -0,0 +1,231 @@
+package plus.hutool.media.converter.file.worker;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import plus.hutool.media.exception.FileConversionException;
+import plus.hutool.media.exception.FileConversionTimeoutException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static plus.hutool.media.converter.file.worker.ConversionWorkerProtocol.*;
+
+/**
+ * 转换工作进程（主进程一侧的句柄）
+ * <p>
+ * 每个工作进程同一时刻只处理一个请求，由 {@link ConversionWorkerPool} 保证不会被并发使用。
+ * 工作进程的标准输出由一个守护线程持续读取，协议响应行放入队列，其余内容作为日志输出；
+ * 工作进程的标准错误输出直接继承主进程的标准错误输出。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+class ConversionWorker {
+    private static final Logger log = LoggerFactory.getLogger(ConversionWorker.class);
+
+    /**
+     * 等待响应期间检查工作进程是否存活的间隔（毫秒数）
+     */
+    private static final long ALIVE_CHECK_INTERVAL_MILLIS = 100;
+
+    /**
+     * 工作进程的标准输出已关闭的标记
+     */
+    private static final String EOF_MARKER = "";
+
+    private final int id;
+    private final Process process;
+    private final BufferedWriter requestWriter;
+    private final BlockingQueue<String> responseLines = new LinkedBlockingQueue<>();
+
+    private volatile int pid = -1;
+    private int conversionCount = 0;
+
+    private ConversionWorker(int id, Process process) {
+        this.id = id;
+        this.process = process;
+        this.requestWriter = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+
+        Thread readerThread = new Thread(this::readResponses, "conversion-worker-" + id + "-reader");
+        readerThread.setDaemon(true);
+        readerThread.start();
+    }
+
+    /**
+     * 启动工作进程，并等待其预热完成（预热出错时只输出警告日志）
+     *
+     * @param id     工作进程编号
+     * @param config 工作进程池配置
+     * @return 已就绪的工作进程
+     */
+    static ConversionWorker start(int id, ConversionWorkerConfig config) {
+        List<String> command = new ArrayList<>();
+        command.add(config.getJavaExecutable());
+        command.add("-Xmx" + config.getMaxHeapSize());
+        command.add("-XX:+ExitOnOutOfMemoryError");
+        command.add("-Djava.awt.headless=true");
+        command.add("-Djava.io.tmpdir=" + System.getProperty("java.io.tmpdir"));
+        command.addAll(config.getExtraJvmArgs());
+        command.add("-cp");
+        command.add(config.getClasspath());
+        command.add(ConversionWorkerMain.class.getName());
+
+        Process process;
+        try {
+            process = new ProcessBuilder(command)
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start();
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+
+        ConversionWorker worker = new ConversionWorker(id, process);
+        try {
+            JSONObject response = worker.call(JSONUtil.createObj()
+                    .set(FIELD_TYPE, TYPE_PING)
+                    .set(FIELD_WARM_UP, config.isWarmUpEnabled()), config.getStartupTimeoutMillis());
+            worker.pid = response.getInt(FIELD_PID, -1);
+            JSONArray warmUpErrors = response.getJSONArray(FIELD_WARM_UP_ERRORS);
+            if (warmUpErrors != null && !warmUpErrors.isEmpty()) {
+                log.warn("转换工作进程 #{} 预热出错（不影响使用，首次转换会较慢）: {}", id, warmUpErrors);
+            }
+        } catch (RuntimeException e) {
+            worker.destroy();
+            throw e;
+        }
+        log.debug("转换工作进程 #{} 已启动: pid = {}", id, worker.pid);
+        return worker;
+    }
+
+    /**
+     * 发送请求并等待响应（超时后强制结束工作进程）
+     *
+     * @param request       请求
+     * @param timeoutMillis 超时时长（毫秒数）
+     * @return 响应
+     * @throws FileConversionTimeoutException 如果等待响应超时
+     * @throws FileConversionException        如果工作进程在响应之前异常退出
+     */
+    JSONObject call(JSONObject request, long timeoutMillis) {
+        try {
+            requestWriter.write(request.toString());
+            requestWriter.newLine();
+            requestWriter.flush();
+        } catch (IOException e) {
+            throw new FileConversionException(StrUtil.format("向转换工作进程 #{} 发送请求失败", id), e);
+        }
+
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            while (true) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    destroy();
+                    throw new FileConversionTimeoutException(StrUtil.format(
+                            "转换工作进程 #{} 在 {}ms 内没有响应，已强制结束该进程", id, timeoutMillis));
+                }
+
+                String line = responseLines.poll(Math.min(remainingMillis, ALIVE_CHECK_INTERVAL_MILLIS),
+                        TimeUnit.MILLISECONDS);
+                if (line == null) {
+                    continue;
+                }
+                if (EOF_MARKER.equals(line)) {
+                    throw new FileConversionException(StrUtil.format(
+                            "转换工作进程 #{} 异常退出: exitCode = {}", id, waitForExitCode()));
+                }
+                return JSONUtil.parseObj(line);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            destroy();
+            throw new FileConversionException(StrUtil.format("等待转换工作进程 #{} 的响应时被中断", id), e);
+        }
+    }
+
+    /**
+     * 结束工作进程（先尝试正常退出，等待片刻后强制结束）
+     */
+    void destroy() {
+        if (process.isAlive()) {
+            try {
+                requestWriter.write(JSONUtil.createObj().set(FIELD_TYPE, TYPE_SHUTDOWN).toString());
+                requestWriter.newLine();
+                requestWriter.flush();
+                process.waitFor(1, TimeUnit.SECONDS);
+            } catch (IOException ignored) {
+                // 工作进程已经关闭了标准输入，直接强制结束
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            process.destroyForcibly();
+        }
+        IoUtil.close(requestWriter);
+    }
+
+    boolean isAlive() {
+        return process.isAlive();
+    }
+
+    void incrementConversionCount() {
+        conversionCount++;
+    }
+
+    int getConversionCount() {
+        return conversionCount;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    int getPid() {
+        return pid;
+    }
+
+    private void readResponses() {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESPONSE_LINE_PREFIX)) {
+                    responseLines.add(line.substring(RESPONSE_LINE_PREFIX.length()));
+                } else if (StrUtil.isNotBlank(line)) {
+                    log.debug("[conversion-worker #{}] {}", id, line);
+                }
+            }
+        } catch (IOException ignored) {
+            // 工作进程被强制结束时，读取会失败，按标准输出已关闭处理
+        } finally {
+            responseLines.add(EOF_MARKER);
+        }
+    }
+
+    private int waitForExitCode() {
+        try {
+            if (process.waitFor(1, TimeUnit.SECONDS)) {
+                return process.exitValue();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return -1;
+    }
+}
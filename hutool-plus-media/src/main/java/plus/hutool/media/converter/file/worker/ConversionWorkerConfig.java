@@ -0,0 +1,142 @@
+package plus.hutool.media.converter.file.worker;
+
+import plus.hutool.core.lang.Asserts;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 转换工作进程池的配置
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class ConversionWorkerConfig {
+
+    /**
+     * 默认的工作进程数
+     */
+    public static final int DEFAULT_POOL_SIZE = 2;
+
+    /**
+     * 默认的工作进程最大堆内存（JVM -Xmx 参数格式）
+     */
+    public static final String DEFAULT_MAX_HEAP_SIZE = "512m";
+
+    /**
+     * 默认的单次转换超时时长（毫秒数）
+     */
+    public static final long DEFAULT_CONVERSION_TIMEOUT_MILLIS = 5 * 60 * 1000L;
+
+    /**
+     * 默认的工作进程启动超时时长（毫秒数，包括预热的时间）
+     */
+    public static final long DEFAULT_STARTUP_TIMEOUT_MILLIS = 60 * 1000L;
+
+    /**
+     * 默认的每个工作进程最多执行的转换次数（达到后回收该工作进程，并启动新的工作进程）
+     */
+    public static final int DEFAULT_MAX_CONVERSIONS_PER_WORKER = 100;
+
+    private int poolSize = DEFAULT_POOL_SIZE;
+
+    private String maxHeapSize = DEFAULT_MAX_HEAP_SIZE;
+
+    private long conversionTimeoutMillis = DEFAULT_CONVERSION_TIMEOUT_MILLIS;
+
+    private long startupTimeoutMillis = DEFAULT_STARTUP_TIMEOUT_MILLIS;
+
+    private int maxConversionsPerWorker = DEFAULT_MAX_CONVERSIONS_PER_WORKER;
+
+    private boolean warmUpEnabled = true;
+
+    private String javaExecutable = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+
+    private String classpath = System.getProperty("java.class.path");
+
+    private List<String> extraJvmArgs = new ArrayList<>();
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        Asserts.isTrue(poolSize > 0, "工作进程数必须大于 0: {}", poolSize);
+        this.poolSize = poolSize;
+    }
+
+    public String getMaxHeapSize() {
+        return maxHeapSize;
+    }
+
+    public void setMaxHeapSize(String maxHeapSize) {
+        Asserts.notBlank(maxHeapSize, "工作进程的最大堆内存不能为空");
+        this.maxHeapSize = maxHeapSize;
+    }
+
+    public long getConversionTimeoutMillis() {
+        return conversionTimeoutMillis;
+    }
+
+    public void setConversionTimeoutMillis(long conversionTimeoutMillis) {
+        Asserts.isTrue(conversionTimeoutMillis > 0, "转换超时时长必须大于 0: {}", conversionTimeoutMillis);
+        this.conversionTimeoutMillis = conversionTimeoutMillis;
+    }
+
+    public long getStartupTimeoutMillis() {
+        return startupTimeoutMillis;
+    }
+
+    public void setStartupTimeoutMillis(long startupTimeoutMillis) {
+        Asserts.isTrue(startupTimeoutMillis > 0, "工作进程启动超时时长必须大于 0: {}", startupTimeoutMillis);
+        this.startupTimeoutMillis = startupTimeoutMillis;
+    }
+
+    public int getMaxConversionsPerWorker() {
+        return maxConversionsPerWorker;
+    }
+
+    public void setMaxConversionsPerWorker(int maxConversionsPerWorker) {
+        Asserts.isTrue(maxConversionsPerWorker > 0, "每个工作进程最多执行的转换次数必须大于 0: {}", maxConversionsPerWorker);
+        this.maxConversionsPerWorker = maxConversionsPerWorker;
+    }
+
+    public boolean isWarmUpEnabled() {
+        return warmUpEnabled;
+    }
+
+    /**
+     * 设置工作进程启动时是否预热（用内置的小文件执行一次各转换引擎的转换，预热时间计入启动超时时长）
+     *
+     * @param warmUpEnabled 是否预热
+     */
+    public void setWarmUpEnabled(boolean warmUpEnabled) {
+        this.warmUpEnabled = warmUpEnabled;
+    }
+
+    public String getJavaExecutable() {
+        return javaExecutable;
+    }
+
+    public void setJavaExecutable(String javaExecutable) {
+        this.javaExecutable = javaExecutable;
+    }
+
+    public String getClasspath() {
+        return classpath;
+    }
+
+    public void setClasspath(String classpath) {
+        this.classpath = classpath;
+    }
+
+    public List<String> getExtraJvmArgs() {
+        return extraJvmArgs;
+    }
+
+    public void setExtraJvmArgs(List<String> extraJvmArgs) {
+        this.extraJvmArgs = extraJvmArgs;
+    }
+}
@@ -0,0 +1,153 @@
+package plus.hutool.media.converter.file.worker;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.NullOutputStream;
+import cn.hutool.core.util.RuntimeUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.content.type.MediaTypeUtils;
+import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.converter.file.FileConvertUtils;
+import plus.hutool.media.converter.file.FileConverterRegistry;
+import plus.hutool.media.converter.file.PageSelection;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static plus.hutool.media.converter.file.worker.ConversionWorkerProtocol.*;
+
+/**
+ * 转换工作进程的入口类（由 {@link ConversionWorkerPool} 在子 JVM 中启动）
+ * <p>
+ * 从标准输入逐行读取请求，在当前进程内执行转换后，向标准输出逐行写回响应。
+ * 启动时的 PING 请求会触发预热（参见 {@link ConversionWorkerConfig#setWarmUpEnabled(boolean)}）。
+ * 启动时会把 {@link System#out} 重定向到标准错误输出，避免日志或第三方库的输出混入协议数据。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+public final class ConversionWorkerMain {
+
+    private ConversionWorkerMain() {}
+
+    public static void main(String[] args) throws IOException {
+        PrintWriter protocolOut = new PrintWriter(
+                new OutputStreamWriter(System.out, StandardCharsets.UTF_8), true);
+        System.setOut(System.err);
+
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (StrUtil.isBlank(line)) {
+                continue;
+            }
+
+            JSONObject response;
+            String type = null;
+            try {
+                JSONObject request = JSONUtil.parseObj(line);
+                type = request.getStr(FIELD_TYPE);
+                response = handle(type, request);
+            } catch (Throwable e) {
+                response = errorResponse(e);
+            }
+
+            protocolOut.println(RESPONSE_LINE_PREFIX + response.toString());
+            if (TYPE_SHUTDOWN.equals(type)) {
+                break;
+            }
+        }
+    }
+
+    private static JSONObject handle(String type, JSONObject request) {
+        if (TYPE_PING.equals(type)) {
+            FileConverterRegistry.getVersion();
+            JSONObject response = okResponse();
+            if (request.getBool(FIELD_WARM_UP, false)) {
+                response.set(FIELD_WARM_UP_ERRORS, warmUp());
+            }
+            return response;
+        } else if (TYPE_CONVERT.equals(type)) {
+            File srcFile = new File(request.getStr(FIELD_SRC_FILE));
+            MediaType destMediaType = MediaTypeUtils.parseMediaType(request.getStr(FIELD_DEST_MEDIA_TYPE));
+
+            FileConvertConfig config = new FileConvertConfig(
+                    request.getBool(FIELD_SAVE_DEST_FILE_IN_SAME_DIR_AS_SRC_FILE, false));
+            JSONObject customConfigs = request.getJSONObject(FIELD_CUSTOM_CONFIGS);
+            if (customConfigs != null) {
+                customConfigs.forEach(config::addCustomConfig);
+            }
+            String pageSelection = request.getStr(FIELD_PAGE_SELECTION);
+            if (StrUtil.isNotBlank(pageSelection)) {
+                config.setPageSelection(PageSelection.parse(pageSelection));
+            }
+
+            File destFile = FileConvertUtils.convertFile(srcFile, destMediaType, config);
+            return okResponse().set(FIELD_DEST_FILE, destFile.getAbsolutePath());
+        } else if (TYPE_SHUTDOWN.equals(type)) {
+            return okResponse();
+        }
+        throw new IllegalArgumentException(StrUtil.format("不支持的请求类型: {}", type));
+    }
+
+    /**
+     * 预热：用内存中生成的小文件分别执行一次 Aspose（文本转 PDF）和 pdfOffice（xlsx 转 PDF）的转换，
+     * 提前完成类加载、字体扫描和 JIT 编译等一次性的开销
+     *
+     * @return 各转换引擎预热时出现的错误（预热全部成功时为空）
+     */
+    private static List<String> warmUp() {
+        List<String> errors = new ArrayList<>();
+        warmUp("Aspose", "warm-up.txt", () -> "warm-up".getBytes(StandardCharsets.UTF_8), errors);
+        warmUp("pdfOffice", "warm-up.xlsx", ConversionWorkerMain::createWarmUpXlsx, errors);
+        return errors;
+    }
+
+    private static void warmUp(String engine, String srcFilename, Supplier<byte[]> srcBytesSupplier,
+                               List<String> errors) {
+        try {
+            FileConvertUtils.convertToPdf(new ByteArrayInputStream(srcBytesSupplier.get()), srcFilename,
+                    NullOutputStream.NULL_OUTPUT_STREAM);
+        } catch (Throwable e) {
+            errors.add(StrUtil.format("{}: {}", engine, e));
+        }
+    }
+
+    private static byte[] createWarmUpXlsx() {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            workbook.createSheet().createRow(0).createCell(0).setCellValue("warm-up");
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+    }
+
+    private static JSONObject okResponse() {
+        return JSONUtil.createObj().set(FIELD_OK, true).set(FIELD_PID, RuntimeUtil.getPid());
+    }
+
+    private static JSONObject errorResponse(Throwable e) {
+        return JSONUtil.createObj()
+                .set(FIELD_OK, false)
+                .set(FIELD_PID, RuntimeUtil.getPid())
+                .set(FIELD_ERROR_TYPE, e.getClass().getName())
+                .set(FIELD_ERROR_MESSAGE, StrUtil.nullToEmpty(e.getMessage()));
+    }
+}
@@ -0,0 +1,275 @@
+package plus.hutool.media.converter.file.worker;
+
+import cn.hutool.core.thread.NamedThreadFactory;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.exception.FileConversionException;
+import plus.hutool.media.exception.FileConversionRejectedException;
+import plus.hutool.media.exception.FileConversionTimeoutException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static plus.hutool.media.converter.file.worker.ConversionWorkerProtocol.*;
+
+/**
+ * 转换工作进程池（在独立的子 JVM 中执行文件转换）
+ * <p>
+ * 某些畸形文件会让 Aspose、pdfOffice 等第三方库分配大量内存或长时间空转，在主进程内执行转换时，
+ * 由此引发的 GC 停顿会影响同一进程内的所有其他请求。工作进程池把转换放到预先启动并预热过的子 JVM 中执行：
+ * <ul>
+ *     <li>每个工作进程有独立的堆内存上限（-Xmx），发生 OOM 时工作进程立即退出（-XX:+ExitOnOutOfMemoryError）</li>
+ *     <li>每次转换都有硬性的超时时长，超时后强制结束工作进程</li>
+ *     <li>每个工作进程执行 {@link ConversionWorkerConfig#getMaxConversionsPerWorker()} 次转换后被回收</li>
+ *     <li>被回收、超时或异常退出的工作进程会在后台启动新的工作进程补充</li>
+ * </ul>
+ * 主进程与工作进程之间通过标准输入、标准输出管道通信（参见 {@link ConversionWorkerProtocol}），不依赖网络。
+ * 来源文件和目标文件通过本地文件路径传递，文件转换结果缓存等只存在于主进程内存中的配置不会传递给工作进程。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class ConversionWorkerPool implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(ConversionWorkerPool.class);
+
+    private final ConversionWorkerConfig config;
+    private final Semaphore permits;
+    private final Deque<ConversionWorker> idleWorkers = new ConcurrentLinkedDeque<>();
+    private final ExecutorService launcher;
+    private final AtomicInteger workerIdGenerator = new AtomicInteger();
+
+    private final AtomicLong startedCount = new AtomicLong();
+    private final AtomicLong recycledCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong crashedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private volatile boolean closed = false;
+
+    /**
+     * 使用默认配置创建转换工作进程池
+     */
+    public ConversionWorkerPool() {
+        this(new ConversionWorkerConfig());
+    }
+
+    /**
+     * 创建转换工作进程池，并预先启动全部工作进程
+     *
+     * @param config 工作进程池配置
+     */
+    public ConversionWorkerPool(ConversionWorkerConfig config) {
+        this.config = config;
+        this.permits = new Semaphore(config.getPoolSize(), true);
+        this.launcher = Executors.newSingleThreadExecutor(new NamedThreadFactory("conversion-worker-launcher-", true));
+
+        for (int i = 0; i < config.getPoolSize(); i++) {
+            idleWorkers.add(startWorker());
+        }
+    }
+
+    /**
+     * 在工作进程中将文件转换为 PDF 文件
+     *
+     * @param srcFile 来源文件
+     * @param config  文件转换配置
+     * @return 转换后的 PDF 文件
+     */
+    public File convertFileToPdf(File srcFile, FileConvertConfig config) {
+        return convertFile(srcFile, MediaType.APPLICATION_PDF, config);
+    }
+
+    /**
+     * 在工作进程中将文件转换为指定媒体类型的文件（没有空闲的工作进程时阻塞等待）
+     *
+     * @param srcFile       来源文件
+     * @param destMediaType 目标文件的媒体类型
+     * @param config        文件转换配置
+     * @return 转换后的目标文件
+     * @throws FileConversionTimeoutException  如果转换超时
+     * @throws FileConversionRejectedException 如果工作进程池已关闭
+     * @throws FileConversionException         如果转换出错，或者工作进程异常退出（如 OOM）
+     */
+    public File convertFile(File srcFile, MediaType destMediaType, FileConvertConfig config) {
+        JSONObject request = JSONUtil.createObj()
+                .set(FIELD_TYPE, TYPE_CONVERT)
+                .set(FIELD_SRC_FILE, srcFile.getAbsolutePath())
+                .set(FIELD_DEST_MEDIA_TYPE, destMediaType.toString())
+                .set(FIELD_SAVE_DEST_FILE_IN_SAME_DIR_AS_SRC_FILE, config.isSaveDestFileInSameDirAsSrcFile())
+                .set(FIELD_CUSTOM_CONFIGS, config.getCustomConfigs());
+        if (config.getPageSelection() != null) {
+            request.set(FIELD_PAGE_SELECTION, config.getPageSelection().toString());
+        }
+
+        ConversionWorker worker = borrowWorker();
+        boolean reusable = false;
+        try {
+            JSONObject response = worker.call(request, this.config.getConversionTimeoutMillis());
+            worker.incrementConversionCount();
+            reusable = true;
+
+            if (!response.getBool(FIELD_OK, false)) {
+                failedCount.incrementAndGet();
+                throw new FileConversionException(StrUtil.format("文件转换出错: [{}] {}",
+                        response.getStr(FIELD_ERROR_TYPE), response.getStr(FIELD_ERROR_MESSAGE)));
+            }
+            completedCount.incrementAndGet();
+            return new File(response.getStr(FIELD_DEST_FILE));
+        } catch (FileConversionTimeoutException e) {
+            timeoutCount.incrementAndGet();
+            failedCount.incrementAndGet();
+            log.warn("文件转换超时: {}, {}", srcFile.getAbsolutePath(), e.getMessage());
+            throw e;
+        } catch (FileConversionException e) {
+            if (!reusable) {
+                crashedCount.incrementAndGet();
+                failedCount.incrementAndGet();
+                log.warn("文件转换失败: {}, {}", srcFile.getAbsolutePath(), e.getMessage());
+            }
+            throw e;
+        } finally {
+            releaseWorker(worker, reusable);
+        }
+    }
+
+    public ConversionWorkerConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * 获取当前空闲的工作进程数
+     *
+     * @return 空闲的工作进程数
+     */
+    public int getIdleWorkerCount() {
+        return idleWorkers.size();
+    }
+
+    public long getStartedCount() {
+        return startedCount.get();
+    }
+
+    public long getRecycledCount() {
+        return recycledCount.get();
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    public long getCrashedCount() {
+        return crashedCount.get();
+    }
+
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * 关闭工作进程池，并结束所有空闲的工作进程（正在执行转换的工作进程在转换结束后结束）
+     */
+    @Override
+    public void close() {
+        closed = true;
+        launcher.shutdownNow();
+
+        ConversionWorker worker;
+        while ((worker = idleWorkers.poll()) != null) {
+            worker.destroy();
+        }
+    }
+
+    private ConversionWorker borrowWorker() {
+        if (closed) {
+            throw new FileConversionRejectedException("转换工作进程池已关闭");
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileConversionRejectedException("等待空闲的转换工作进程时被中断", e);
+        }
+
+        try {
+            ConversionWorker worker;
+            while ((worker = idleWorkers.poll()) != null) {
+                if (worker.isAlive()) {
+                    return worker;
+                }
+                crashedCount.incrementAndGet();
+                worker.destroy();
+            }
+            // 后台补充的工作进程还没有就绪，直接在当前线程启动
+            return startWorker();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void releaseWorker(ConversionWorker worker, boolean reusable) {
+        try {
+            if (closed) {
+                worker.destroy();
+            } else if (!reusable || !worker.isAlive()) {
+                worker.destroy();
+                replenishInBackground();
+            } else if (worker.getConversionCount() >= config.getMaxConversionsPerWorker()) {
+                log.debug("转换工作进程 #{} 已执行 {} 次转换，回收该进程", worker.getId(), worker.getConversionCount());
+                recycledCount.incrementAndGet();
+                worker.destroy();
+                replenishInBackground();
+            } else {
+                idleWorkers.addFirst(worker);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void replenishInBackground() {
+        try {
+            launcher.execute(() -> {
+                if (closed || idleWorkers.size() >= config.getPoolSize()) {
+                    return;
+                }
+                try {
+                    idleWorkers.addLast(startWorker());
+                } catch (RuntimeException e) {
+                    log.warn("启动转换工作进程失败（将在下次转换时重试）: {}", e.getMessage());
+                }
+                if (closed) {
+                    close();
+                }
+            });
+        } catch (RejectedExecutionException ignored) {
+            // 工作进程池已关闭
+        }
+    }
+
+    private ConversionWorker startWorker() {
+        ConversionWorker worker = ConversionWorker.start(workerIdGenerator.incrementAndGet(), config);
+        startedCount.incrementAndGet();
+        return worker;
+    }
+}
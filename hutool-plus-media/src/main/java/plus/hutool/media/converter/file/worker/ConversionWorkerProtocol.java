@@ -0,0 +1,38 @@
+package plus.hutool.media.converter.file.worker;
+
+/**
+ * 主进程与转换工作进程之间的通信协议
+ * <p>
+ * 通过工作进程的标准输入、标准输出管道通信，每条请求、响应都是单行的 JSON 字符串，
+ * 工作进程输出的响应行以 {@link #RESPONSE_LINE_PREFIX} 开头，以便与第三方库直接打印到标准输出的内容区分开。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+abstract class ConversionWorkerProtocol {
+
+    static final String RESPONSE_LINE_PREFIX = "@@conversion-worker@@ ";
+
+    static final String TYPE_PING = "PING";
+    static final String TYPE_CONVERT = "CONVERT";
+    static final String TYPE_SHUTDOWN = "SHUTDOWN";
+
+    static final String FIELD_TYPE = "type";
+    static final String FIELD_SRC_FILE = "srcFile";
+    static final String FIELD_DEST_MEDIA_TYPE = "destMediaType";
+    static final String FIELD_SAVE_DEST_FILE_IN_SAME_DIR_AS_SRC_FILE = "saveDestFileInSameDirAsSrcFile";
+    static final String FIELD_CUSTOM_CONFIGS = "customConfigs";
+    static final String FIELD_PAGE_SELECTION = "pageSelection";
+    static final String FIELD_WARM_UP = "warmUp";
+
+    static final String FIELD_OK = "ok";
+    static final String FIELD_PID = "pid";
+    static final String FIELD_DEST_FILE = "destFile";
+    static final String FIELD_ERROR_TYPE = "errorType";
+    static final String FIELD_ERROR_MESSAGE = "errorMessage";
+    static final String FIELD_WARM_UP_ERRORS = "warmUpErrors";
+
+    private ConversionWorkerProtocol() {}
+}
@@ -0,0 +1,47 @@
+package plus.hutool.media.document.excel;
+
+import java.util.List;
+
+/**
+ * 流式读取电子表格时的行处理器
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+public interface SpreadsheetRowHandler {
+
+    /**
+     * 开始读取一个工作表
+     *
+     * @param sheetIndex 工作表的索引（从 0 开始）
+     * @param sheetName  工作表的名称
+     */
+    void startSheet(int sheetIndex, String sheetName);
+
+    /**
+     * 读取到工作表的尺寸信息（在该工作表的第一行数据之前回调，工作表没有尺寸信息时不会回调）
+     *
+     * @param rowCount    行数（从第一行到已使用的最后一行）
+     * @param columnCount 列数（从第一列到已使用的最后一列）
+     */
+    default void handleDimension(int rowCount, int columnCount) {
+    }
+
+    /**
+     * 处理一行数据（空行不会回调）
+     *
+     * @param rowIndex 行索引（从 0 开始）
+     * @param cells    按列排列的单元格格式化后的文本（缺失的单元格为空字符串，列表在回调结束后会被复用）
+     */
+    void handleRow(int rowIndex, List<String> cells);
+
+    /**
+     * 是否已经不再需要后续数据（返回 true 时停止读取剩余的行和工作表）
+     *
+     * @return 是否停止读取
+     */
+    default boolean isDone() {
+        return false;
+    }
+}
@@ -0,0 +1,186 @@
+package plus.hutool.media.document.excel;
+
+import cn.hutool.core.io.IORuntimeException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.XMLFilterImpl;
+import plus.hutool.core.io.FileUtils;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.text.string.StrUtils;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * xlsx 文件的流式读取工具（基于 POI 的 SAX 事件模型）
+ * <p>
+ * 逐行解析工作表的 XML，不构建完整的工作簿对象模型，内存占用只与共享字符串表和单行的列数有关，与行数无关。
+ * 单元格的值按照其数字格式格式化（与 Excel 中显示的文本一致），公式单元格读取缓存的计算结果。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public abstract class XlsxStreamingReader {
+
+    /**
+     * 单行读取的最大列数（超出的列被忽略，避免异常文件导致内存占用失控）
+     */
+    public static final int MAX_COLUMNS = 1024;
+
+    private XlsxStreamingReader() {}
+
+    /**
+     * 按顺序流式读取 xlsx 文件中所有工作表的数据
+     *
+     * @param xlsxFile xlsx 文件
+     * @param handler  行处理器
+     */
+    public static void read(File xlsxFile, SpreadsheetRowHandler handler) {
+        Asserts.isTrue(FileUtils.fileExists(xlsxFile), "xlsx 文件不存在: {}", xlsxFile.getAbsolutePath());
+
+        try {
+            OPCPackage pkg = OPCPackage.open(xlsxFile, PackageAccess.READ);
+            try {
+                readSheets(pkg, handler);
+            } finally {
+                // 只读方式打开的包不能调用 close()（会尝试保存），使用 revert() 释放资源
+                pkg.revert();
+            }
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IORuntimeException(e.getMessage(), e);
+        }
+    }
+
+    private static void readSheets(OPCPackage pkg, SpreadsheetRowHandler handler)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+        XSSFReader xssfReader = new XSSFReader(pkg);
+        StylesTable styles = xssfReader.getStylesTable();
+        DataFormatter formatter = new DataFormatter();
+
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+        for (int sheetIndex = 0; sheets.hasNext() && !handler.isDone(); sheetIndex++) {
+            try (InputStream sheetStream = sheets.next()) {
+                handler.startSheet(sheetIndex, sheets.getSheetName());
+
+                XMLReader parser = new DimensionFilter(XMLHelper.newXMLReader(), handler);
+                parser.setContentHandler(new XSSFSheetXMLHandler(styles, sharedStrings, new RowCollector(handler),
+                        formatter, false));
+                parser.parse(new InputSource(sheetStream));
+            } catch (StopReadingException e) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 将工作表的 {@code <dimension ref="A1:Z100"/>} 元素转换为 {@link SpreadsheetRowHandler#handleDimension(int, int)} 回调
+     * （dimension 元素位于 sheetData 之前），其余 SAX 事件原样传递
+     */
+    private static final class DimensionFilter extends XMLFilterImpl {
+        private final SpreadsheetRowHandler handler;
+
+        private DimensionFilter(XMLReader parent, SpreadsheetRowHandler handler) {
+            super(parent);
+            this.handler = handler;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes atts) throws SAXException {
+            if ("dimension".equals(localName)) {
+                String ref = atts.getValue("ref");
+                if (ref != null) {
+                    try {
+                        CellRangeAddress range = CellRangeAddress.valueOf(ref);
+                        handler.handleDimension(range.getLastRow() + 1,
+                                Math.min(range.getLastColumn() + 1, MAX_COLUMNS));
+                    } catch (IllegalArgumentException e) {
+                        // 尺寸信息只是提示，格式异常时忽略
+                    }
+                }
+            }
+            super.startElement(uri, localName, qName, atts);
+        }
+    }
+
+    /**
+     * 将 SAX 事件中的单元格收集为按列排列的行数据
+     */
+    private static final class RowCollector implements SheetContentsHandler {
+        private final SpreadsheetRowHandler handler;
+        private final List<String> cells = new ArrayList<>();
+        private int nextColumn = 0;
+
+        private RowCollector(SpreadsheetRowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+            nextColumn = 0;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (!cells.isEmpty()) {
+                handler.handleRow(rowNum, cells);
+            }
+            if (handler.isDone()) {
+                throw new StopReadingException();
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference == null ? nextColumn : new CellReference(cellReference).getCol();
+            nextColumn = column + 1;
+            if (column >= MAX_COLUMNS) {
+                return;
+            }
+            String value = formattedValue == null ? StrUtils.EMPTY : formattedValue;
+            if (column < cells.size()) {
+                cells.set(column, value);
+                return;
+            }
+            while (cells.size() < column) {
+                cells.add(StrUtils.EMPTY);
+            }
+            cells.add(value);
+        }
+    }
+
+    /**
+     * 行处理器不再需要后续数据时，用于中断 SAX 解析
+     */
+    private static final class StopReadingException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private StopReadingException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package plus.hutool.media.document.pdf;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.thread.NamedThreadFactory;
+import cn.hutool.core.util.StrUtil;
+import org.apache.pdfbox.pdfparser.PDFParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import plus.hutool.core.io.FileUtils;
+import plus.hutool.core.lang.Asserts;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 按页并行的 PDF 文本提取器
+ * <p>
+ * 将 PDF 的页分成若干个连续的页范围，由多个工作线程并行提取文本，再按页的顺序拼接（写出）：
+ * PDF 文件以只读方式映射到内存，每个工作线程基于同一个映射缓冲区加载各自的 {@link PDDocument}
+ * （{@link PDDocument} 和 {@link PDFTextStripper} 都不是线程安全的），各线程只解析自己负责的页，
+ * 页范围的数量多于工作线程数，先完成的线程会继续领取下一个页范围，以平衡各页解析耗时的差异。
+ * </p>
+ * <p>
+ * 页数不超过 {@link #getMinPagesPerRange()} 的文档直接在当前线程中提取。
+ * 并行提取的结果与 {@link PDFTextStripper#getText(PDDocument)} 逐页输出的文本相同，
+ * 只是每个线程都需要加载一次文档结构（交叉引用表等），页数越多、单页越复杂，并行的收益越大。
+ * 任何页范围提取失败（包括 {@link Error}）时整个提取失败；等待提取结果可以被中断，
+ * 整个提取超过 {@link #getTimeoutMillis()} 时也以失败结束。
+ * </p>
+ * <p>
+ * 只有大于 {@link #MEMORY_MAP_THRESHOLD_BYTES} 的文件才会映射到内存，较小的文件直接读入堆内存。
+ * 注意：Java 8 没有主动解除内存映射的 API，映射区域要等到缓冲区对象被垃圾回收后才会释放，
+ * 在此之前映射区域仍计入进程的虚拟内存，并且在 Windows 上该文件无法被删除或覆盖。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class ParallelPdfTextExtractor {
+
+    /**
+     * 默认每个页范围至少包含的页数
+     */
+    public static final int DEFAULT_MIN_PAGES_PER_RANGE = 16;
+
+    /**
+     * 每个工作线程平均分到的页范围数
+     */
+    public static final int RANGES_PER_WORKER = 4;
+
+    /**
+     * 映射到内存的 PDF文件大小阈值（字节数），不超过该大小的文件直接读入堆内存
+     */
+    public static final long MEMORY_MAP_THRESHOLD_BYTES = 16L * 1024 * 1024;
+
+    /**
+     * 默认的提取超时时间（毫秒）
+     */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 5 * 60 * 1000L;
+
+    private static final String THREAD_NAME_PREFIX = "parallel-pdf-text-extraction-";
+
+    private final int concurrency;
+    private int minPagesPerRange = DEFAULT_MIN_PAGES_PER_RANGE;
+    private long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+
+    /**
+     * 创建按页并行的 PDF 文本提取器（并发数为 CPU 核数）
+     */
+    public ParallelPdfTextExtractor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 创建按页并行的 PDF 文本提取器
+     *
+     * @param concurrency 并发数（同时提取文本的线程数）
+     */
+    public ParallelPdfTextExtractor(int concurrency) {
+        Asserts.isTrue(concurrency > 0, "并发数必须大于 0: {}", concurrency);
+        this.concurrency = concurrency;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public int getMinPagesPerRange() {
+        return minPagesPerRange;
+    }
+
+    /**
+     * 设置每个页范围至少包含的页数（页范围太小时，加载文档结构的开销会抵消并行的收益）
+     *
+     * @param minPagesPerRange 每个页范围至少包含的页数
+     */
+    public void setMinPagesPerRange(int minPagesPerRange) {
+        Asserts.isTrue(minPagesPerRange > 0, "每个页范围至少包含的页数必须大于 0: {}", minPagesPerRange);
+        this.minPagesPerRange = minPagesPerRange;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * 设置并行提取的超时时间（从开始并行提取时计时，超时后放弃提取并中断工作线程）
+     *
+     * @param timeoutMillis 超时时间（毫秒）
+     */
+    public void setTimeoutMillis(long timeoutMillis) {
+        Asserts.isTrue(timeoutMillis > 0, "超时时间必须大于 0: {}", timeoutMillis);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 提取 PDF文件的文本
+     *
+     * @param pdfFile PDF文件
+     * @return 提取出的文本
+     */
+    public String extractText(File pdfFile) {
+        StringWriter writer = new StringWriter();
+        extractText(pdfFile, writer);
+        return writer.toString();
+    }
+
+    /**
+     * 提取 PDF文件的文本，按页的顺序写入 {@link Writer}（不会关闭 Writer）
+     *
+     * @param pdfFile PDF文件
+     * @param writer  写入提取出的文本的 Writer
+     */
+    public void extractText(File pdfFile, Writer writer) {
+        Asserts.isTrue(FileUtils.fileExists(pdfFile), "PDF文件不存在或者不是文件: {}", pdfFile.getAbsolutePath());
+
+        try (FileChannel channel = FileChannel.open(pdfFile.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            Asserts.isTrue(size <= Integer.MAX_VALUE, "PDF文件超过 2GB，无法映射到内存: {}", pdfFile.getAbsolutePath());
+            ByteBuffer buffer = size > MEMORY_MAP_THRESHOLD_BYTES
+                    ? channel.map(FileChannel.MapMode.READ_ONLY, 0, size)
+                    : readFully(channel, (int) size);
+
+            int pageCount;
+            try (PDDocument document = load(buffer)) {
+                pageCount = document.getNumberOfPages();
+                if (concurrency == 1 || pageCount <= minPagesPerRange) {
+                    newStripper(1, pageCount).writeText(document, writer);
+                    writer.flush();
+                    return;
+                }
+            }
+            extractInParallel(buffer, pageCount, writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+    }
+
+    private void extractInParallel(ByteBuffer buffer, int pageCount, Writer writer) throws IOException {
+        int rangeCount = Math.min(concurrency * RANGES_PER_WORKER,
+                (pageCount + minPagesPerRange - 1) / minPagesPerRange);
+        int[] rangeStartPages = new int[rangeCount + 1];
+        for (int i = 0; i <= rangeCount; i++) {
+            rangeStartPages[i] = 1 + (int) ((long) pageCount * i / rangeCount);
+        }
+
+        @SuppressWarnings("unchecked")
+        CompletableFuture<String>[] rangeTexts = new CompletableFuture[rangeCount];
+        for (int i = 0; i < rangeCount; i++) {
+            rangeTexts[i] = new CompletableFuture<>();
+        }
+
+        int workerCount = Math.min(concurrency, rangeCount);
+        AtomicInteger nextRange = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount,
+                new NamedThreadFactory(THREAD_NAME_PREFIX, true));
+        long deadlineMillis = System.currentTimeMillis() + timeoutMillis;
+        try {
+            for (int i = 0; i < workerCount; i++) {
+                executor.execute(() -> extractRanges(buffer, rangeStartPages, rangeTexts, nextRange));
+            }
+
+            // 按页的顺序写出，每个页范围的文本写出后立即释放
+            for (int i = 0; i < rangeCount; i++) {
+                long waitMillis = Math.max(deadlineMillis - System.currentTimeMillis(), 0);
+                writer.write(rangeTexts[i].get(waitMillis, TimeUnit.MILLISECONDS));
+                rangeTexts[i] = null;
+            }
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IORuntimeException(StrUtil.format("PDF 文本提取超时（{} 毫秒）", timeoutMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IORuntimeException("PDF 文本提取被中断", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 工作线程：加载自己的 PDDocument，不断领取下一个页范围并提取文本
+     */
+    private static void extractRanges(ByteBuffer buffer, int[] rangeStartPages,
+                                      CompletableFuture<String>[] rangeTexts, AtomicInteger nextRange) {
+        int rangeCount = rangeTexts.length;
+        int range = rangeCount;
+        try (PDDocument document = load(buffer)) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            while ((range = nextRange.getAndIncrement()) < rangeCount) {
+                stripper.setStartPage(rangeStartPages[range]);
+                stripper.setEndPage(rangeStartPages[range + 1] - 1);
+                rangeTexts[range].complete(stripper.getText(document));
+            }
+        } catch (Throwable e) {
+            // 任何失败（包括 Error）都让当前领取的页范围和尚未被领取的页范围以失败结束，避免调用方一直等待
+            if (range < rangeCount) {
+                rangeTexts[range].completeExceptionally(e);
+            }
+            while ((range = nextRange.getAndIncrement()) < rangeCount) {
+                rangeTexts[range].completeExceptionally(e);
+            }
+        }
+    }
+
+    private static RuntimeException propagate(Throwable failure) {
+        if (failure instanceof IOException) {
+            return new IORuntimeException(failure);
+        }
+        if (failure instanceof RuntimeException) {
+            return (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return new IORuntimeException(failure);
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // 读取到缓冲区写满或者文件结束
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static PDDocument load(ByteBuffer buffer) throws IOException {
+        PDFParser parser = new PDFParser(new ByteBufferRandomAccessRead(buffer));
+        parser.parse();
+        return parser.getPDDocument();
+    }
+
+    private static PDFTextStripper newStripper(int startPage, int endPage) throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper();
+        stripper.setStartPage(startPage);
+        stripper.setEndPage(endPage);
+        return stripper;
+    }
+}
@@ -8,6 +8,8 @@ import org.apache.pdfbox.multipdf.Splitter;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.rendering.PDFRenderer;
 import plus.hutool.core.io.FileUtils;
+import plus.hutool.core.io.TempScope;
+import plus.hutool.core.io.TempSpaceManager;
 import plus.hutool.core.lang.Asserts;
 import plus.hutool.core.lang.ExceptionUtils;
 
@@ -23,6 +25,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.IntPredicate;
 import java.util.stream.IntStream;
 
 /**
@@ -108,9 +111,23 @@ public abstract class PdfUtils {
      * @return 图片原始数据列表
      */
     public static List<byte[]> extractPdfPagesToRawImageDataList(InputStream pdfInputStream) {
+        return extractPdfPagesToRawImageDataList(pdfInputStream, TempSpaceManager.getDefault());
+    }
+
+    /**
+     * 将 PDF文件的每一页提取成图片原始数据（byte[]格式），分割出的单页临时文件存放在指定临时空间管理器的临时作用域中
+     *
+     * @param pdfInputStream   PDF文件输入流
+     * @param tempSpaceManager 临时空间管理器
+     * @return 图片原始数据列表
+     */
+    public static List<byte[]> extractPdfPagesToRawImageDataList(InputStream pdfInputStream,
+                                                                 TempSpaceManager tempSpaceManager) {
         Asserts.notNull(pdfInputStream, "PDF文件输入流不能为 null");
+        Asserts.notNull(tempSpaceManager, "临时空间管理器不能为 null");
 
-        try (PDDocument document = PDDocument.load(pdfInputStream)) {
+        try (PDDocument document = PDDocument.load(pdfInputStream);
+             TempScope scope = tempSpaceManager.openScope("pdf-split")) {
             int pageNum = document.getNumberOfPages();
 
             List<byte[]> resultList = new ArrayList<>(pageNum);
@@ -118,7 +135,7 @@ public abstract class PdfUtils {
                 resultList.add(null);
             }
 
-            final List<File> singlePageFiles = splitToSinglePageFiles(document);
+            final List<File> singlePageFiles = splitToSinglePageFiles(document, new Splitter(), scope.getDir());
 
             IntStream.range(0, pageNum).parallel().forEach(index -> {
                 File singlePageFile = singlePageFiles.get(index);
@@ -149,20 +166,32 @@ public abstract class PdfUtils {
     }
 
     /**
-     * 将 PDF 文档分割成单页的 PDF文件列表
+     * 将 PDF 文档分割成单页的 PDF文件列表（所有单页文件位于同一个随机命名的临时目录中，由调用方负责删除）
      *
      * @param document PDF 文档
      * @param splitter 分割器
      * @return 单页的 PDF文件列表
      */
     public static List<File> splitToSinglePageFiles(PDDocument document, Splitter splitter) {
+        return splitToSinglePageFiles(document, splitter, FileUtils.createDirUnderRandomTempDir("pdf-split"));
+    }
+
+    /**
+     * 将 PDF 文档分割成单页的 PDF文件列表，单页文件（文件名为从 0 开始的页面索引）保存到指定目录
+     *
+     * @param document  PDF 文档
+     * @param splitter  分割器
+     * @param outputDir 单页文件的保存目录
+     * @return 单页的 PDF文件列表
+     */
+    public static List<File> splitToSinglePageFiles(PDDocument document, Splitter splitter, File outputDir) {
         List<File> resultList = new ArrayList<>();
 
         try {
             List<PDDocument> docs = splitter.split(document);
             for (int i = 0; i < docs.size(); i++) {
                 PDDocument doc = docs.get(i);
-                File tmpFile = FileUtils.createFileUnderRandomTempDir(i + PDF_FILE_SUFFIX);
+                File tmpFile = FileUtil.file(outputDir, i + PDF_FILE_SUFFIX);
                 doc.save(tmpFile);
                 resultList.add(tmpFile);
                 doc.close();
@@ -174,6 +203,71 @@ public abstract class PdfUtils {
         return resultList;
     }
 
+    /**
+     * 只保留 PDF文件中满足条件的页面（直接修改原文件）
+     *
+     * @param pdfFile             PDF文件
+     * @param pageNumberPredicate 页码（从 1 开始）的保留条件
+     * @return 保留的页数
+     */
+    public static int retainPages(File pdfFile, IntPredicate pageNumberPredicate) {
+        return retainPages(pdfFile, pageNumberPredicate, TempSpaceManager.getDefault());
+    }
+
+    /**
+     * 只保留 PDF文件中满足条件的页面（直接修改原文件），中间文件存放在指定临时空间管理器的临时作用域中
+     *
+     * @param pdfFile             PDF文件
+     * @param pageNumberPredicate 页码（从 1 开始）的保留条件
+     * @param tempSpaceManager    临时空间管理器
+     * @return 保留的页数
+     */
+    public static int retainPages(File pdfFile, IntPredicate pageNumberPredicate, TempSpaceManager tempSpaceManager) {
+        Asserts.isTrue(FileUtils.fileExists(pdfFile), "PDF文件不存在: {}", pdfFile.getAbsolutePath());
+        Asserts.notNull(tempSpaceManager, "临时空间管理器不能为 null");
+
+        try (TempScope scope = tempSpaceManager.openScope("pdf-retain-pages")) {
+            File tmpFile = scope.newFile(pdfFile.getName());
+            int retainedPageNum;
+            try (PDDocument document = PDDocument.load(pdfFile)) {
+                retainedPageNum = removePagesNotRetained(document, pageNumberPredicate);
+                document.save(tmpFile);
+            }
+            FileUtil.move(tmpFile, pdfFile, true);
+            return retainedPageNum;
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+    }
+
+    /**
+     * 只保留 PDF 输入流中满足条件的页面，并写入到输出流
+     *
+     * @param pdfInputStream      PDF文件输入流
+     * @param pdfOutputStream     PDF文件输出流
+     * @param pageNumberPredicate 页码（从 1 开始）的保留条件
+     * @return 保留的页数
+     */
+    public static int retainPages(InputStream pdfInputStream, OutputStream pdfOutputStream,
+                                  IntPredicate pageNumberPredicate) {
+        try (PDDocument document = PDDocument.load(pdfInputStream)) {
+            int retainedPageNum = removePagesNotRetained(document, pageNumberPredicate);
+            document.save(pdfOutputStream);
+            return retainedPageNum;
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+    }
+
+    private static int removePagesNotRetained(PDDocument document, IntPredicate pageNumberPredicate) {
+        for (int index = document.getNumberOfPages() - 1; index >= 0; index--) {
+            if (!pageNumberPredicate.test(index + 1)) {
+                document.removePage(index);
+            }
+        }
+        return document.getNumberOfPages();
+    }
+
     private static void writeRawImageDataToFiles(List<byte[]> rawData, File targetDir) {
         if (!targetDir.exists()) {
             FileUtil.mkdir(targetDir);
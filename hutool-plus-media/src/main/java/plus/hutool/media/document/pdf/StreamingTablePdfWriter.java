@@ -0,0 +1,379 @@
+package plus.hutool.media.document.pdf;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.util.StrUtil;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import plus.hutool.core.lang.Asserts;
+import plus.hutool.core.lang.ExceptionUtils;
+import plus.hutool.core.lang.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * 流式表格 PDF 写入器
+ * <p>
+ * 逐行接收表格数据并增量排版：当前页写满后立即将其内容写出到输出流并释放（{@link PdfPage#flush()}），
+ * 内存占用与总行数无关。每个分节（如电子表格的工作表）从新的一页开始，页眉显示分节标题和页码，
+ * 分节的首行作为表头在后续页面中重复显示；列宽按分节的列数均分页面宽度，列数超过 {@link #getMaxColumnsPerLine()}
+ * 时，一行数据折成多行显示，单元格内容超出列宽时截断。分节的列数优先使用 {@link #setSectionColumnCount(int)} 设置的值
+ * （如电子表格工作表的尺寸信息），并随着写入的最宽一行增大。
+ * </p>
+ * <p>
+ * 字体中没有字形的字符输出为 '?'，并在完成写入时记录警告日志（参见 {@link #getMissingGlyphCount()}），
+ * 输出中文等内容时需要使用包含相应字形的字体（参见 {@link #createFont(String)}）。
+ * </p>
+ * <p>
+ * 可以指定页码（从 1 开始）的保留条件，不保留的页面只参与分页计算而不会输出；
+ * 页码超过 {@code maxPageNumber} 后 {@link #isDone()} 返回 true，调用方可以据此提前结束读取。
+ * </p>
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+public class StreamingTablePdfWriter implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(StreamingTablePdfWriter.class);
+
+    /**
+     * 默认的字号
+     */
+    public static final float DEFAULT_FONT_SIZE = 8;
+
+    /**
+     * 默认的每行最大列数
+     */
+    public static final int DEFAULT_MAX_COLUMNS_PER_LINE = 12;
+
+    private static final PageSize PAGE_SIZE = PageSize.A4.rotate();
+    private static final float MARGIN = 28;
+    private static final float CELL_PADDING = 2;
+    private static final float LINE_SPACING = 1.5f;
+    private static final float GRID_LINE_WIDTH = 0.2f;
+    private static final String ELLIPSIS = "...";
+    private static final String CJK_FONT_NAME = "STSongStd-Light";
+    private static final String CJK_FONT_ENCODING = "UniGB-UCS2-H";
+
+    private final PdfDocument pdfDocument;
+    private final PdfFont font;
+    private final float fontSize;
+    private final float lineHeight;
+    private final int maxColumnsPerLine;
+    private final IntPredicate pageNumberPredicate;
+    private final int maxPageNumber;
+
+    private String sectionTitle = "";
+    @Nullable
+    private List<String> sectionHeader;
+    private int sectionColumns = 1;
+    private boolean sectionStarted = false;
+
+    private int pageNumber = 0;
+    private int writtenPageCount = 0;
+    private long missingGlyphCount = 0;
+    private boolean pageOpen = false;
+    @Nullable
+    private PdfPage currentPage;
+    @Nullable
+    private PdfCanvas canvas;
+    private float cursorY;
+
+    /**
+     * 创建流式表格 PDF 写入器（输出全部页面）
+     *
+     * @param out  PDF 输出流（由调用方负责关闭）
+     * @param font 字体
+     */
+    public StreamingTablePdfWriter(OutputStream out, PdfFont font) {
+        this(out, font, pageNumber -> true, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 创建流式表格 PDF 写入器
+     *
+     * @param out                 PDF 输出流（由调用方负责关闭）
+     * @param font                字体
+     * @param pageNumberPredicate 页码（从 1 开始）的保留条件
+     * @param maxPageNumber       需要输出的最大页码
+     */
+    public StreamingTablePdfWriter(OutputStream out, PdfFont font, IntPredicate pageNumberPredicate,
+                                   int maxPageNumber) {
+        this(out, font, DEFAULT_FONT_SIZE, DEFAULT_MAX_COLUMNS_PER_LINE, pageNumberPredicate, maxPageNumber);
+    }
+
+    /**
+     * 创建流式表格 PDF 写入器
+     *
+     * @param out                 PDF 输出流（由调用方负责关闭）
+     * @param font                字体
+     * @param fontSize            字号
+     * @param maxColumnsPerLine   每行最大列数
+     * @param pageNumberPredicate 页码（从 1 开始）的保留条件
+     * @param maxPageNumber       需要输出的最大页码
+     */
+    public StreamingTablePdfWriter(OutputStream out, PdfFont font, float fontSize, int maxColumnsPerLine,
+                                   IntPredicate pageNumberPredicate, int maxPageNumber) {
+        Asserts.isTrue(fontSize > 0, "字号必须大于 0: {}", fontSize);
+        Asserts.isTrue(maxColumnsPerLine > 0, "每行最大列数必须大于 0: {}", maxColumnsPerLine);
+
+        PdfWriter writer = new PdfWriter(out);
+        writer.setCloseStream(false);
+        this.pdfDocument = new PdfDocument(writer);
+        this.font = font;
+        this.fontSize = fontSize;
+        this.lineHeight = fontSize * LINE_SPACING;
+        this.maxColumnsPerLine = maxColumnsPerLine;
+        this.pageNumberPredicate = pageNumberPredicate;
+        this.maxPageNumber = maxPageNumber;
+    }
+
+    /**
+     * 创建字体：优先使用指定的字体文件（ttf/otf/ttc），否则使用 iText 的中文字体 STSongStd-Light（由 font-asian 提供）
+     *
+     * @param fontPath 字体文件路径（可为 null）
+     * @return 字体
+     * @throws IllegalStateException 未指定字体文件且中文字体不可用时
+     */
+    public static PdfFont createFont(@Nullable String fontPath) {
+        try {
+            if (StrUtil.isNotBlank(fontPath)) {
+                return StrUtil.endWithIgnoreCase(fontPath, ".ttc")
+                        ? PdfFontFactory.createTtcFont(fontPath, 0, PdfEncodings.IDENTITY_H, true, false)
+                        : PdfFontFactory.createFont(fontPath, PdfEncodings.IDENTITY_H);
+            }
+            try {
+                return PdfFontFactory.createFont(CJK_FONT_NAME, CJK_FONT_ENCODING);
+            } catch (Exception e) {
+                IllegalStateException ex = ExceptionUtils.illegalStateException(
+                        "中文字体 [{}] 不可用（需要 com.itextpdf:font-asian），请指定包含所需字形的字体文件", CJK_FONT_NAME);
+                ex.initCause(e);
+                throw ex;
+            }
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+    }
+
+    /**
+     * 开始一个新的分节（从新的一页开始）
+     *
+     * @param title 分节标题（显示在页眉中）
+     */
+    public void startSection(String title) {
+        closeCurrentPage();
+        this.sectionTitle = title;
+        this.sectionHeader = null;
+        this.sectionColumns = 1;
+        this.sectionStarted = true;
+    }
+
+    /**
+     * 设置当前分节的列数（通常来自电子表格工作表的尺寸信息），应在写入分节的第一行之前调用
+     *
+     * @param columnCount 列数（超过每行最大列数时按每行最大列数折行）
+     */
+    public void setSectionColumnCount(int columnCount) {
+        sectionColumns = Math.max(sectionColumns, Math.min(columnCount, maxColumnsPerLine));
+    }
+
+    /**
+     * 写入一行数据
+     *
+     * @param cells 按列排列的单元格文本
+     */
+    public void writeRow(List<String> cells) {
+        if (isDone()) {
+            return;
+        }
+        if (sectionHeader == null) {
+            if (!sectionStarted) {
+                startSection(sectionTitle);
+            }
+            sectionHeader = new ArrayList<>(cells);
+        }
+        setSectionColumnCount(cells.size());
+
+        float rowHeight = lineCount(cells) * lineHeight;
+        if (!pageOpen || cursorY - rowHeight < MARGIN) {
+            openNewPage();
+            if (isDone()) {
+                return;
+            }
+        }
+        drawRow(cells);
+    }
+
+    /**
+     * 是否已经超过需要输出的最大页码（之后写入的行都会被忽略）
+     *
+     * @return 是否已经完成
+     */
+    public boolean isDone() {
+        return pageNumber > maxPageNumber;
+    }
+
+    /**
+     * 获取当前的页码（包括没有输出的页面）
+     *
+     * @return 当前的页码
+     */
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    /**
+     * 获取已输出的页数
+     *
+     * @return 已输出的页数
+     */
+    public int getWrittenPageCount() {
+        return writtenPageCount;
+    }
+
+    public int getMaxColumnsPerLine() {
+        return maxColumnsPerLine;
+    }
+
+    /**
+     * 获取因字体中没有字形而输出为 '?' 的字符数
+     *
+     * @return 缺少字形的字符数
+     */
+    public long getMissingGlyphCount() {
+        return missingGlyphCount;
+    }
+
+    /**
+     * 完成写入（没有输出任何页面时输出一个空白页），不会关闭输出流
+     */
+    @Override
+    public void close() {
+        closeCurrentPage();
+        if (writtenPageCount == 0) {
+            pdfDocument.addNewPage(PAGE_SIZE);
+        }
+        pdfDocument.close();
+        if (missingGlyphCount > 0) {
+            log.warn("字体 [{}] 中没有 {} 个字符的字形，这些字符已输出为 '?'，请使用包含所需字形的字体",
+                    font.getFontProgram().getFontNames().getFontName(), missingGlyphCount);
+        }
+    }
+
+    private void openNewPage() {
+        closeCurrentPage();
+        pageOpen = true;
+        pageNumber++;
+        cursorY = PAGE_SIZE.getTop() - MARGIN;
+        if (pageNumber > maxPageNumber || !pageNumberPredicate.test(pageNumber)) {
+            currentPage = null;
+            canvas = null;
+        } else {
+            currentPage = pdfDocument.addNewPage(PAGE_SIZE);
+            canvas = new PdfCanvas(currentPage);
+            writtenPageCount++;
+            drawText(StrUtil.format("{}    - {} -", sectionTitle, pageNumber), MARGIN, cursorY - fontSize,
+                    PAGE_SIZE.getWidth() - 2 * MARGIN);
+        }
+        cursorY -= 2 * lineHeight;
+
+        boolean isContinuationPage = sectionHeader != null && !sectionStarted;
+        sectionStarted = false;
+        if (isContinuationPage) {
+            drawRow(sectionHeader);
+        }
+    }
+
+    private void closeCurrentPage() {
+        if (currentPage != null) {
+            canvas.release();
+            currentPage.flush();
+            currentPage = null;
+            canvas = null;
+        }
+        pageOpen = false;
+    }
+
+    private int lineCount(List<String> cells) {
+        return Math.max(1, (cells.size() + sectionColumns - 1) / sectionColumns);
+    }
+
+    private void drawRow(List<String> cells) {
+        int lines = lineCount(cells);
+        float columnWidth = (PAGE_SIZE.getWidth() - 2 * MARGIN) / sectionColumns;
+        if (canvas != null) {
+            for (int i = 0; i < cells.size(); i++) {
+                int line = i / sectionColumns;
+                int column = i % sectionColumns;
+                float x = MARGIN + column * columnWidth + CELL_PADDING;
+                float y = cursorY - (line + 1) * lineHeight + (lineHeight - fontSize) / 2;
+                drawText(cells.get(i), x, y, columnWidth - 2 * CELL_PADDING);
+            }
+            float bottom = cursorY - lines * lineHeight;
+            canvas.setLineWidth(GRID_LINE_WIDTH)
+                    .moveTo(MARGIN, bottom)
+                    .lineTo(PAGE_SIZE.getWidth() - MARGIN, bottom)
+                    .stroke();
+        }
+        cursorY -= lines * lineHeight;
+    }
+
+    private void drawText(String text, float x, float y, float maxWidth) {
+        String fittedText = fitText(text, maxWidth);
+        if (fittedText.isEmpty() || canvas == null) {
+            return;
+        }
+        canvas.beginText()
+                .setFontAndSize(font, fontSize)
+                .moveText(x, y)
+                .showText(fittedText)
+                .endText();
+    }
+
+    private String fitText(String text, float maxWidth) {
+        String sanitized = sanitize(text);
+        if (sanitized.isEmpty() || font.getWidth(sanitized, fontSize) <= maxWidth) {
+            return sanitized;
+        }
+
+        float ellipsisWidth = font.getWidth(ELLIPSIS, fontSize);
+        int low = 0;
+        int high = sanitized.length();
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (font.getWidth(sanitized.substring(0, mid), fontSize) + ellipsisWidth <= maxWidth) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low == 0 ? "" : sanitized.substring(0, low) + ELLIPSIS;
+    }
+
+    private String sanitize(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        text.codePoints().forEach(codePoint -> {
+            if (Character.isWhitespace(codePoint) || Character.isISOControl(codePoint)) {
+                sb.append(' ');
+            } else if (font.containsGlyph(codePoint)) {
+                sb.appendCodePoint(codePoint);
+            } else {
+                missingGlyphCount++;
+                sb.append('?');
+            }
+        });
+        return sb.toString().trim();
+    }
+}
@@ -12,6 +12,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class FileConversionException extends RuntimeException {
 
+    public FileConversionException(String message) {
+        super(message);
+    }
+
     public FileConversionException(String message, Throwable cause) {
         super(message, cause);
     }
@@ -0,0 +1,23 @@
+package plus.hutool.media.exception;
+
+import lombok.NoArgsConstructor;
+
+/**
+ * 文件转换任务被拒绝的异常（转换服务已饱和或已关闭）
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings({"unused", "JavadocDeclaration"})
+@NoArgsConstructor
+public class FileConversionRejectedException extends RuntimeException {
+
+    public FileConversionRejectedException(String message) {
+        super(message);
+    }
+
+    public FileConversionRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,19 @@
+package plus.hutool.media.exception;
+
+import lombok.NoArgsConstructor;
+
+/**
+ * 文件转换超时异常
+ *
+ * @author bianyun
+ * @date 2026/10/17
+ */
+@SuppressWarnings("JavadocDeclaration")
+@NoArgsConstructor
+public class FileConversionTimeoutException extends FileConversionException {
+
+    public FileConversionTimeoutException(String message) {
+        super(message);
+    }
+
+}
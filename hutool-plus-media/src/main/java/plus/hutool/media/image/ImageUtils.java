@@ -6,6 +6,8 @@ import org.imgscalr.Scalr;
 import org.imgscalr.Scalr.Method;
 import org.imgscalr.Scalr.Mode;
 import plus.hutool.core.io.FileUtils;
+import plus.hutool.core.io.TempScope;
+import plus.hutool.core.io.TempSpaceManager;
 import plus.hutool.core.lang.Asserts;
 import plus.hutool.core.lang.ExceptionUtils;
 import plus.hutool.media.content.type.MediaType;
@@ -32,6 +34,8 @@ import static plus.hutool.media.content.type.MediaType.IMAGE_WBMP;
  */
 @SuppressWarnings("JavadocDeclaration")
 public abstract class ImageUtils {
+    private static final int RANDOM_FILENAME_LENGTH = 16;
+
     private ImageUtils() {}
 
     /**
@@ -115,17 +119,42 @@ public abstract class ImageUtils {
 
     /**
      * 读取图片文件内容，调整大小后输出到新的图片文件（后缀名不变，且不修改原始图片）
+     * <p>
+     * 新的图片文件位于默认临时空间管理器的根目录中，由调用方负责删除；生命周期明确时建议使用
+     * {@link #resizeImage(File, Integer, TempScope)}。
+     * </p>
      *
      * @param imageFile  图片文件
      * @param targetSize 调整的目标大小（新的图片的宽和高的最大值）
      * @return 调整大小后的图片文件
      */
     public static File resizeImage(File imageFile, Integer targetSize) {
+        String filenameExtension = getImageFileExtension(imageFile);
+        File outputFile = TempSpaceManager.getDefault().createRandomNamedFile(filenameExtension, RANDOM_FILENAME_LENGTH);
+        return resizeImage(imageFile, targetSize, filenameExtension, outputFile);
+    }
+
+    /**
+     * 读取图片文件内容，调整大小后输出到临时文件作用域中的新的图片文件（后缀名不变，且不修改原始图片）
+     *
+     * @param imageFile  图片文件
+     * @param targetSize 调整的目标大小（新的图片的宽和高的最大值）
+     * @param scope      临时文件作用域（关闭作用域时删除新的图片文件）
+     * @return 调整大小后的图片文件
+     */
+    public static File resizeImage(File imageFile, Integer targetSize, TempScope scope) {
+        String filenameExtension = getImageFileExtension(imageFile);
+        File outputFile = scope.newRandomNamedFile(filenameExtension);
+        return resizeImage(imageFile, targetSize, filenameExtension, outputFile);
+    }
+
+    private static String getImageFileExtension(File imageFile) {
         String filenameExtension = FileUtils.getFileExtension(imageFile.getName());
         Asserts.notBlank(filenameExtension, "图片文件的扩展名不能为空: {}", imageFile.getAbsolutePath());
+        return filenameExtension;
+    }
 
-        File outputFile = FileUtils.createRandomNamedTempFile(filenameExtension);
-
+    private static File resizeImage(File imageFile, Integer targetSize, String filenameExtension, File outputFile) {
         BufferedImage img = getBufferedImage(imageFile);
 
         BufferedImage resizedImage;
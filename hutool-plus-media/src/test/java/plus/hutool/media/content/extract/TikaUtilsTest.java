@@ -5,10 +5,14 @@ import org.apache.commons.io.input.BrokenInputStream;
 import org.apache.commons.io.input.NullInputStream;
 import org.apache.tika.exception.ZeroByteFileException;
 import org.junit.jupiter.api.Test;
+import org.xml.sax.helpers.AttributesImpl;
 import plus.hutool.media.exception.TikaParseException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -84,4 +88,171 @@ class TikaUtilsTest {
         assertThat(TikaUtils.parseToString(resolveTestFile("test.xlsx"))).isNotBlank();
         assertThat(TikaUtils.parseToString(resolveTestFile("test.xml"))).isNotBlank();
     }
+
+    @Test
+    void testParseToWriter() {
+        StringWriter writer = new StringWriter();
+        StreamingParseResult result = TikaUtils.parseTo(resolveTestFile("test_short.txt"), writer,
+                TikaUtils.NO_CHAR_LIMIT);
+
+        assertThat(writer.toString().trim()).isEqualTo(SHORT_TEXT_FILE_CONTENT);
+        assertThat(result.getCharCount()).isEqualTo(writer.toString().length());
+        assertThat(result.isTruncated()).isFalse();
+    }
+
+    @Test
+    void testParseToWriter_CharLimit() {
+        StringWriter writer = new StringWriter();
+        StreamingParseResult result = TikaUtils.parseTo(resolveTestFile("test.docx").toPath(), writer, 10);
+
+        assertThat(writer.toString()).hasSize(10);
+        assertThat(result.getCharCount()).isEqualTo(10);
+        assertThat(result.isTruncated()).isTrue();
+        assertThat(TikaUtils.parseToString(resolveTestFile("test.docx"))).startsWith(writer.toString());
+    }
+
+    @Test
+    void testParseToWriter_BrokenStream() {
+        assertThatThrownBy(() -> TikaUtils.parseTo(new BrokenInputStream(), new StringWriter()))
+                .isInstanceOf(TikaParseException.class)
+                .hasMessage("文档解析出错")
+                .hasRootCauseMessage("Broken input stream");
+    }
+
+    @Test
+    void testParseToChunkConsumer() {
+        List<String> chunks = new ArrayList<>();
+        StreamingParseResult result = TikaUtils.parseTo(resolveTestFile("test.txt"),
+                chunk -> chunks.add(chunk.toString()), TikaUtils.NO_CHAR_LIMIT);
+
+        StringWriter writer = new StringWriter();
+        TikaUtils.parseTo(FileUtil.getInputStream(resolveTestFile("test.txt")), writer);
+
+        assertThat(String.join("", chunks)).isEqualTo(writer.toString());
+        assertThat(result.getCharCount()).isEqualTo(writer.toString().length());
+        assertThat(chunks).allMatch(chunk -> !chunk.isEmpty() && chunk.length() <= TikaUtils.CHUNK_SIZE);
+    }
+
+    @Test
+    void testParseToChunkConsumer_CharLimit() {
+        StringBuilder sb = new StringBuilder();
+        StreamingParseResult result = TikaUtils.parseTo(resolveTestFile("test.txt"), sb::append,
+                TikaUtils.CHUNK_SIZE + 1);
+
+        assertThat(sb).hasSize(TikaUtils.CHUNK_SIZE + 1);
+        assertThat(result.isTruncated()).isTrue();
+    }
+
+    @Test
+    void testParseToChunks_Paragraph() {
+        String fullText = parseToFullText("test.docx");
+        List<TextChunk> chunks = new ArrayList<>();
+        int chunkCount = TikaUtils.parseToChunks(resolveTestFile("test.docx"), TextChunkMode.PARAGRAPH, chunks::add);
+
+        assertThat(chunkCount).isEqualTo(chunks.size()).isGreaterThan(1);
+        assertChunksMatchFullText(chunks, fullText);
+        assertThat(chunks).allMatch(chunk -> chunk.getPageNumber() == 0);
+    }
+
+    @Test
+    void testParseToChunks_Page() {
+        String fullText = parseToFullText("test.pdf");
+        List<TextChunk> pageChunks = new ArrayList<>();
+        TikaUtils.parseToChunks(resolveTestFile("test.pdf").toPath(), TextChunkMode.PAGE, pageChunks::add);
+
+        assertThat(pageChunks).isNotEmpty();
+        assertChunksMatchFullText(pageChunks, fullText);
+        for (int i = 1; i < pageChunks.size(); i++) {
+            assertThat(pageChunks.get(i).getPageNumber()).isGreaterThan(pageChunks.get(i - 1).getPageNumber());
+        }
+
+        List<TextChunk> paragraphChunks = new ArrayList<>();
+        TikaUtils.parseToChunks(resolveTestFile("test.pdf"), TextChunkMode.PARAGRAPH, paragraphChunks::add);
+        assertChunksMatchFullText(paragraphChunks, fullText);
+        assertThat(paragraphChunks.size()).isGreaterThanOrEqualTo(pageChunks.size());
+        assertThat(paragraphChunks).allMatch(chunk -> chunk.getPageNumber() >= 1);
+    }
+
+    @Test
+    void testParseToChunks_NoPageInfo() {
+        List<TextChunk> chunks = new ArrayList<>();
+        TikaUtils.parseToChunks(FileUtil.getInputStream(resolveTestFile("test_short.txt")), TextChunkMode.PAGE,
+                chunks::add);
+
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0).getText()).isEqualTo(SHORT_TEXT_FILE_CONTENT);
+        assertThat(chunks.get(0).getPageNumber()).isZero();
+    }
+
+    @Test
+    void testParseToChunks_MaxChunkLength() {
+        String fullText = parseToFullText("test_short.txt");
+        List<TextChunk> chunks = new ArrayList<>();
+        TikaUtils.parseToChunks(FileUtil.getInputStream(resolveTestFile("test_short.txt")), TextChunkMode.PAGE, 10,
+                chunks::add);
+
+        assertThat(chunks).hasSizeGreaterThan(1).allMatch(chunk -> chunk.getText().length() <= 10);
+        assertThat(chunks).allMatch(chunk -> chunk.getPageNumber() == 0);
+        assertChunksMatchFullText(chunks, fullText);
+        assertThat(chunks.get(0).getText()).startsWith("This is").doesNotEndWith(" ");
+
+        assertThatThrownBy(() -> new TextChunkContentHandler(TextChunkMode.PAGE, 1, chunks::add))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testTextChunkContentHandler_IgnoresPagesOfEmbeddedDocuments() {
+        List<TextChunk> chunks = new ArrayList<>();
+        TextChunkContentHandler handler = new TextChunkContentHandler(TextChunkMode.PAGE,
+                TikaUtils.DEFAULT_MAX_CHUNK_LENGTH, chunks::add);
+
+        startDiv(handler, "page");
+        characters(handler, "page one");
+        startDiv(handler, "package-entry");
+        startDiv(handler, "page");
+        characters(handler, " embedded page");
+        endDiv(handler);
+        endDiv(handler);
+        endDiv(handler);
+        startDiv(handler, "page");
+        characters(handler, "page two");
+        endDiv(handler);
+        handler.finish();
+
+        assertThat(chunks).extracting(TextChunk::getText).containsExactly("page one embedded page", "page two");
+        assertThat(chunks).extracting(TextChunk::getPageNumber).containsExactly(1, 2);
+    }
+
+    private static void startDiv(TextChunkContentHandler handler, String divClass) {
+        AttributesImpl attributes = new AttributesImpl();
+        attributes.addAttribute("", "class", "class", "CDATA", divClass);
+        handler.startElement("", "div", "div", attributes);
+    }
+
+    private static void endDiv(TextChunkContentHandler handler) {
+        handler.endElement("", "div", "div");
+    }
+
+    private static void characters(TextChunkContentHandler handler, String text) {
+        handler.characters(text.toCharArray(), 0, text.length());
+    }
+
+    private static String parseToFullText(String testFilename) {
+        StringWriter writer = new StringWriter();
+        TikaUtils.parseTo(resolveTestFile(testFilename), writer, TikaUtils.NO_CHAR_LIMIT);
+        return writer.toString();
+    }
+
+    private static void assertChunksMatchFullText(List<TextChunk> chunks, String fullText) {
+        for (int i = 0; i < chunks.size(); i++) {
+            TextChunk chunk = chunks.get(i);
+            assertThat(chunk.getIndex()).isEqualTo(i);
+            assertThat(chunk.getText()).isNotBlank();
+            assertThat(fullText.substring((int) chunk.getStartOffset(), (int) chunk.getEndOffset()))
+                    .isEqualTo(chunk.getText());
+            if (i > 0) {
+                assertThat(chunk.getStartOffset()).isGreaterThanOrEqualTo(chunks.get(i - 1).getEndOffset());
+            }
+        }
+    }
 }
@@ -0,0 +1,186 @@
+package plus.hutool.media.content.extract.batch;
+
+import org.apache.commons.io.input.BrokenInputStream;
+import org.junit.jupiter.api.Test;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.exception.TikaParseException;
+
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFile;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFileInputStream;
+
+class BatchTextExtractorTest {
+
+    private static final String SHORT_TEXT_FILE_CONTENT = "This is a short text file for test.";
+
+    @Test
+    void testExtractFiles() {
+        List<BatchTextExtractionResult> listenedResults = new ArrayList<>();
+        BatchTextExtractor extractor = new BatchTextExtractor(2);
+        extractor.setResultListener(listenedResults::add);
+
+        List<Path> paths = Arrays.asList(resolveTestFile("test_short.txt").toPath(),
+                resolveTestFile("test.docx").toPath(), resolveTestFile("test.pdf").toPath(),
+                resolveTestFile("test.png").toPath());
+        BatchTextExtractionSummary summary = extractor.extractFiles(paths);
+
+        assertThat(summary.getTotalCount()).isEqualTo(4);
+        assertThat(summary.getSucceededCount()).isEqualTo(3);
+        assertThat(summary.getSkippedCount()).isEqualTo(1);
+        assertThat(summary.getFailedCount()).isZero();
+        assertThat(summary.getTotalBytes()).isEqualTo(paths.stream().mapToLong(path -> path.toFile().length()).sum());
+        assertThat(summary.getTotalChars()).isPositive();
+
+        assertThat(listenedResults).hasSize(4);
+        BatchTextExtractionResult pngResult = findResult(listenedResults, "test.png");
+        assertThat(pngResult.getStatus()).isEqualTo(BatchTextExtractionResult.Status.SKIPPED);
+        assertThat(pngResult.getMediaType()).isEqualTo(MediaType.IMAGE_PNG);
+        assertThat(pngResult.getText()).isNull();
+
+        BatchTextExtractionResult txtResult = findResult(listenedResults, "test_short.txt");
+        assertThat(txtResult.isSucceeded()).isTrue();
+        assertThat(txtResult.getText()).isNotNull();
+        assertThat(txtResult.getText().trim()).isEqualTo(SHORT_TEXT_FILE_CONTENT);
+    }
+
+    @Test
+    void testExtract_StreamSources() {
+        List<BatchTextExtractionResult> listenedResults = new ArrayList<>();
+        BatchTextExtractor extractor = new BatchTextExtractor(2);
+        extractor.setMaxChars(10);
+        extractor.setResultListener(listenedResults::add);
+
+        BatchTextExtractionSummary summary = extractor.extract(Arrays.asList(
+                BatchTextExtractionSource.of("test_short.txt", () -> resolveTestFileInputStream("test_short.txt")),
+                BatchTextExtractionSource.of("broken.txt", BrokenInputStream::new)));
+
+        assertThat(summary.getSucceededCount()).isEqualTo(1);
+        assertThat(summary.getFailedCount()).isEqualTo(1);
+
+        BatchTextExtractionResult txtResult = findResult(listenedResults, "test_short.txt");
+        assertThat(txtResult.getText()).hasSize(10);
+        assertThat(txtResult.isTruncated()).isTrue();
+        assertThat(txtResult.getSize()).isEqualTo(resolveTestFile("test_short.txt").length());
+
+        BatchTextExtractionResult brokenResult = findResult(listenedResults, "broken.txt");
+        assertThat(brokenResult.getStatus()).isEqualTo(BatchTextExtractionResult.Status.FAILED);
+        assertThat(brokenResult.getFailure()).isInstanceOf(TikaParseException.class)
+                .hasRootCauseMessage("Broken input stream");
+    }
+
+    @Test
+    void testExtract_Timeout() {
+        List<BatchTextExtractionResult> listenedResults = new ArrayList<>();
+        BatchTextExtractor extractor = new BatchTextExtractor(1);
+        extractor.setTimeoutMillis(200);
+        extractor.setResultListener(listenedResults::add);
+
+        long startMillis = System.currentTimeMillis();
+        BatchTextExtractionSummary summary = extractor.extract(Arrays.asList(
+                BatchTextExtractionSource.of("hanging.txt", BlockingInputStream::new),
+                BatchTextExtractionSource.of("test_short.txt", () -> resolveTestFileInputStream("test_short.txt"))));
+
+        assertThat(System.currentTimeMillis() - startMillis).isLessThan(10_000);
+        assertThat(summary.getTimedOutCount()).isEqualTo(1);
+        assertThat(summary.getSucceededCount()).isEqualTo(1);
+
+        BatchTextExtractionResult hangingResult = findResult(listenedResults, "hanging.txt");
+        assertThat(hangingResult.getStatus()).isEqualTo(BatchTextExtractionResult.Status.TIMED_OUT);
+        assertThat(hangingResult.getFailure()).isInstanceOf(TikaParseException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void testExtract_ErrorIsReportedAsFailed() {
+        List<BatchTextExtractionResult> listenedResults = new ArrayList<>();
+        BatchTextExtractor extractor = new BatchTextExtractor(1);
+        extractor.setResultListener(listenedResults::add);
+
+        BatchTextExtractionSummary summary = extractor.extract(Collections.singletonList(
+                BatchTextExtractionSource.of("error.txt", () -> {
+                    throw new StackOverflowError("parser error");
+                })));
+
+        assertThat(summary.getFailedCount()).isEqualTo(1);
+        assertThat(summary.getTimedOutCount()).isZero();
+        assertThat(findResult(listenedResults, "error.txt").getFailure())
+                .isInstanceOf(TikaParseException.class)
+                .hasCauseInstanceOf(StackOverflowError.class);
+    }
+
+    @Test
+    void testExtract_AbandonedWorkersLimit() {
+        CountDownLatch release = new CountDownLatch(1);
+        BatchTextExtractor extractor = new BatchTextExtractor(1);
+        extractor.setTimeoutMillis(100);
+        try {
+            // 无法被中断的文档：被放弃的工作线程占满名额后，整个批次失败，而不是无限创建新线程
+            assertThatThrownBy(() -> extractor.extract(Arrays.asList(
+                    BatchTextExtractionSource.of("stuck1.txt", () -> new UninterruptibleInputStream(release)),
+                    BatchTextExtractionSource.of("stuck2.txt", () -> new UninterruptibleInputStream(release)),
+                    BatchTextExtractionSource.of("stuck3.txt", () -> new UninterruptibleInputStream(release)))))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("被放弃的工作线程数达到上限");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static BatchTextExtractionResult findResult(List<BatchTextExtractionResult> results, String name) {
+        return results.stream()
+                .filter(result -> result.getSource().getName().endsWith(name))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * 读取时一直阻塞（直到线程被中断）的输入流
+     */
+    private static final class BlockingInputStream extends InputStream {
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        @Override
+        public int read() throws InterruptedIOException {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * 读取时一直阻塞并且忽略中断（直到被释放）的输入流
+     */
+    private static final class UninterruptibleInputStream extends InputStream {
+        private final CountDownLatch release;
+
+        private UninterruptibleInputStream(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public int read() {
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    // 模拟不响应中断的解析器
+                }
+            }
+            return -1;
+        }
+    }
+}
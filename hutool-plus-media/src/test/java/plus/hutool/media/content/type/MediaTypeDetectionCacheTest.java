@@ -0,0 +1,105 @@
+package plus.hutool.media.content.type;
+
+import cn.hutool.core.io.FileUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import plus.hutool.core.io.FileUtils;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFile;
+
+class MediaTypeDetectionCacheTest {
+
+    private File tempDir;
+
+    @BeforeEach
+    void setUp() {
+        tempDir = FileUtils.createDirUnderRandomTempDir("detection-cache");
+    }
+
+    @AfterEach
+    void tearDown() {
+        FileUtil.del(tempDir.getParentFile());
+    }
+
+    @Test
+    void testDetect_FileCachedUntilChanged() {
+        File file = FileUtil.copy(resolveTestFile("test.pdf"), FileUtil.file(tempDir, "test.pdf"), true);
+        MediaTypeDetectionCache cache = new MediaTypeDetectionCache();
+        AtomicInteger detectCount = new AtomicInteger();
+        Function<File, MediaType> detector = f -> {
+            detectCount.incrementAndGet();
+            return MediaType.APPLICATION_PDF;
+        };
+
+        assertThat(cache.detect(file, detector)).isEqualTo(MediaType.APPLICATION_PDF);
+        assertThat(cache.detect(FileUtil.file(tempDir, "./test.pdf"), detector)).isEqualTo(MediaType.APPLICATION_PDF);
+        assertThat(detectCount).hasValue(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+
+        FileUtil.appendUtf8String("appended", file);
+        assertThat(cache.detect(file, detector)).isEqualTo(MediaType.APPLICATION_PDF);
+        assertThat(detectCount).hasValue(2);
+
+        cache.invalidate(file);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testDetect_CapacityAndTtl() throws InterruptedException {
+        MediaTypeDetectionCache cache = new MediaTypeDetectionCache(1, 50);
+        AtomicInteger detectCount = new AtomicInteger();
+        Function<File, MediaType> detector = f -> {
+            detectCount.incrementAndGet();
+            return MediaType.TEXT_PLAIN;
+        };
+        File file1 = FileUtil.writeUtf8String("1", FileUtil.file(tempDir, "1.txt"));
+        File file2 = FileUtil.writeUtf8String("2", FileUtil.file(tempDir, "2.txt"));
+
+        cache.detect(file1, detector);
+        cache.detect(file2, detector);
+        assertThat(cache.size()).isEqualTo(1);
+        cache.detect(file1, detector);
+        assertThat(detectCount).hasValue(3);
+
+        Thread.sleep(60);
+        cache.detect(file1, detector);
+        assertThat(detectCount).hasValue(4);
+    }
+
+    @Test
+    void testMediaTypeUtilsUsesCache() {
+        MediaTypeDetectionCache cache = new MediaTypeDetectionCache();
+        try {
+            MediaTypeUtils.setDetectionCache(cache);
+            assertThat(MediaTypeUtils.getDetectionCache()).isSameAs(cache);
+
+            File pdfFile = resolveTestFile("test.pdf");
+            assertThat(MediaTypeUtils.detectMediaType(pdfFile)).isEqualTo(MediaType.APPLICATION_PDF);
+            assertThat(MediaTypeUtils.detectMediaType(pdfFile)).isEqualTo(MediaType.APPLICATION_PDF);
+            assertThat(cache.getHitCount()).isEqualTo(1);
+
+            // 输入流的探测结果不缓存
+            assertThat(MediaTypeUtils.detectMediaType(FileUtil.getInputStream(pdfFile), pdfFile.getName()))
+                    .isEqualTo(MediaType.APPLICATION_PDF);
+            assertThat(cache.getHitCount()).isEqualTo(1);
+            assertThat(cache.getMissCount()).isEqualTo(1);
+            assertThat(cache.size()).isEqualTo(1);
+        } finally {
+            MediaTypeUtils.setDetectionCache(null);
+        }
+    }
+
+    @Test
+    void testConstructor_IllegalArguments() {
+        assertThatThrownBy(() -> new MediaTypeDetectionCache(0, 1000)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MediaTypeDetectionCache(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
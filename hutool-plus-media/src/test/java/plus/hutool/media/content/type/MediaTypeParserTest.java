@@ -0,0 +1,69 @@
+package plus.hutool.media.content.type;
+
+import org.junit.jupiter.api.Test;
+import plus.hutool.media.content.type.internal.MainMediaType;
+import plus.hutool.media.exception.IllegalFullMediaTypeStrException;
+import plus.hutool.media.exception.IllegalMainMediaTypeException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class MediaTypeParserTest {
+
+    @Test
+    void testParse() {
+        assertThat(MediaTypeParser.parse("application/pdf")).isSameAs(MediaType.APPLICATION_PDF);
+        assertThat(MediaTypeParser.parse("Application/PDF")).isSameAs(MediaType.APPLICATION_PDF);
+        assertThat(MediaTypeParser.parse("  text/plain ; charset=UTF-8")).isSameAs(MediaType.TEXT_PLAIN);
+        assertThat(MediaTypeParser.parse("text/plain;charset=UTF-8")).isSameAs(MediaType.TEXT_PLAIN);
+        assertThat(MediaTypeParser.parse(new StringBuilder("image/png"))).isSameAs(MediaType.IMAGE_PNG);
+    }
+
+    @Test
+    void testParseAlias() {
+        assertThat(MediaTypeParser.parse("application/x-gzip")).isSameAs(MediaType.APPLICATION_GZIP);
+        assertThat(MediaTypeParser.parse("Application/X-GZIP; foo=bar")).isSameAs(MediaType.APPLICATION_GZIP);
+        assertThat(MediaTypeParser.parseExact("application/x-gzip").toString()).isEqualTo("application/x-gzip");
+    }
+
+    @Test
+    void testParseUnregistered() {
+        MediaType result = MediaTypeParser.parse("text/X-Parser-Test; charset=GBK");
+        assertThat(result.getMainType()).isEqualTo(MainMediaType.TEXT);
+        assertThat(result.getSubTypeStr()).isEqualTo("x-parser-test");
+        assertThat(result.getId()).isNotNegative();
+        assertThat(MediaTypeParser.parse("text/x-parser-test")).isSameAs(result);
+    }
+
+    @Test
+    void testParseIllegal() {
+        assertThatThrownBy(() -> MediaTypeParser.parse("text"))
+                .isExactlyInstanceOf(IllegalFullMediaTypeStrException.class);
+        assertThatThrownBy(() -> MediaTypeParser.parse("text/ ; charset=UTF-8"))
+                .isExactlyInstanceOf(IllegalFullMediaTypeStrException.class);
+        assertThatThrownBy(() -> MediaTypeParser.parse("text; a=b/c"))
+                .isExactlyInstanceOf(IllegalFullMediaTypeStrException.class);
+        assertThatThrownBy(() -> MediaTypeParser.parse(""))
+                .isExactlyInstanceOf(IllegalFullMediaTypeStrException.class);
+        assertThatThrownBy(() -> MediaTypeParser.parse("abc/def"))
+                .isExactlyInstanceOf(IllegalMainMediaTypeException.class);
+    }
+
+    @Test
+    void testParseWithParameters() {
+        ParsedMediaType result = MediaTypeParser.parseWithParameters(
+                "text/html; Charset=UTF-8;level=1; title=\"a \\\"b\\\"; c\" ;; flag");
+        assertThat(result.getMediaType()).isSameAs(MediaType.TEXT_HTML);
+        assertThat(result.getCharset()).isEqualTo("UTF-8");
+        assertThat(result.getParameter("LEVEL")).isEqualTo("1");
+        assertThat(result.getParameter("title")).isEqualTo("a \"b\"; c");
+        assertThat(result.getParameter("flag")).isNull();
+        assertThat(result.getParameters()).containsExactly(
+                entry("charset", "UTF-8"), entry("level", "1"), entry("title", "a \"b\"; c"));
+
+        ParsedMediaType withoutParameters = MediaTypeParser.parseWithParameters("application/pdf");
+        assertThat(withoutParameters.getParameters()).isEmpty();
+        assertThat(withoutParameters.getCharset()).isNull();
+    }
+}
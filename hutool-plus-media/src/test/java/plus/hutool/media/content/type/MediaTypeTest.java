@@ -5,8 +5,14 @@ import org.junit.jupiter.api.Test;
 import plus.hutool.media.content.type.internal.MainMediaType;
 import plus.hutool.media.content.type.internal.SubMediaType;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static plus.hutool.media.content.type.MediaType.APPLICATION_OOXML_DOCUMENT;
@@ -15,6 +21,63 @@ import static plus.hutool.media.content.type.MediaType.getOneByFileExtension;
 
 class MediaTypeTest {
 
+    @Test
+    void testLookup() {
+        assertThat(MediaType.lookup("application/pdf")).isSameAs(APPLICATION_PDF);
+        assertThat(MediaType.lookup("Application/PDF")).isSameAs(APPLICATION_PDF);
+        assertThat(MediaType.lookup("application/not-registered-type")).isNull();
+        assertThat(MediaType.lookup("aaa")).isNull();
+    }
+
+    @Test
+    void testGetById() {
+        assertThat(APPLICATION_PDF.getId()).isBetween(0, MediaType.registeredCount() - 1);
+        assertThat(MediaType.getById(APPLICATION_PDF.getId())).isSameAs(APPLICATION_PDF);
+        assertThat(MediaType.getById(-1)).isNull();
+        assertThat(MediaType.getById(Integer.MAX_VALUE)).isNull();
+
+        int count = MediaType.registeredCount();
+        MediaType registered = MediaType.of(MainMediaType.EXAMPLE, "id-test-" + count);
+        assertThat(registered.getId()).isEqualTo(count);
+        assertThat(MediaType.registeredCount()).isEqualTo(count + 1);
+        assertThat(MediaType.getById(count)).isSameAs(registered);
+    }
+
+    @Test
+    void testConcurrentRegistration() throws Exception {
+        int threadCount = 8;
+        int typeCount = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Callable<List<MediaType>>> tasks = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                tasks.add(() -> {
+                    List<MediaType> result = new ArrayList<>();
+                    for (int j = 0; j < typeCount; j++) {
+                        result.add(MediaType.of(MainMediaType.EXAMPLE, "concurrent-" + j, "concurrent_ext" + j));
+                    }
+                    return result;
+                });
+            }
+
+            List<Future<List<MediaType>>> futures = executor.invokeAll(tasks);
+            List<MediaType> expected = futures.get(0).get();
+            for (Future<List<MediaType>> future : futures) {
+                List<MediaType> actual = future.get();
+                for (int j = 0; j < typeCount; j++) {
+                    assertThat(actual.get(j)).isSameAs(expected.get(j));
+                }
+            }
+            for (int j = 0; j < typeCount; j++) {
+                MediaType mediaType = expected.get(j);
+                assertThat(MediaType.getById(mediaType.getId())).isSameAs(mediaType);
+                assertThat(getOneByFileExtension("concurrent_ext" + j)).isSameAs(mediaType);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void testOf() {
         final MediaType result = MediaType.of(MainMediaType.EXAMPLE, "subtype", "ext1", "ext1", "ext2");
@@ -120,7 +183,11 @@ class MediaTypeTest {
         assertThat(MediaType.of(MainMediaType.EXAMPLE, "aaa")).isNotEqualTo(MediaType.of(MainMediaType.TEXT, "bbb"));
 
         MediaType mediaType = ReflectUtil.newInstance(MediaType.class, MainMediaType.EXAMPLE, "aaa", Collections.emptyList());
+        assertThat(mediaType.getId()).isEqualTo(-1);
         assertThat(MediaType.of(MainMediaType.EXAMPLE, "aaa")).isEqualTo(mediaType);
+        assertThat(mediaType).isEqualTo(MediaType.of(MainMediaType.EXAMPLE, "aaa"));
+        assertThat(mediaType.hashCode()).isEqualTo(MediaType.of(MainMediaType.EXAMPLE, "aaa").hashCode());
+        assertThat(mediaType.toString()).isEqualTo("example/aaa");
     }
 
     @Test
@@ -4,12 +4,19 @@ import cn.hutool.core.io.IORuntimeException;
 import org.apache.commons.io.input.BrokenInputStream;
 import org.apache.commons.io.input.NullInputStream;
 import org.junit.jupiter.api.Test;
+import plus.hutool.media.content.type.detect.MagicBytesMediaTypeDetector;
+import plus.hutool.media.content.type.detect.MediaTypeDetector;
+import plus.hutool.media.content.type.detect.TikaMediaTypeDetector;
+import plus.hutool.media.content.type.detect.ZipContainerMediaTypeDetector;
 import plus.hutool.media.content.type.internal.MainMediaType;
 import plus.hutool.media.exception.IllegalFullMediaTypeStrException;
 import plus.hutool.media.exception.IllegalMainMediaTypeException;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -233,4 +240,45 @@ class MediaTypeUtilsTest {
                 .isEqualTo(MediaType.TEXT_PLAIN);
     }
 
+    @Test
+    void testNormalizeMediaType() {
+        assertThat(MediaTypeUtils.normalizeMediaType("text/plain; charset=UTF-8")).isEqualTo(MediaType.TEXT_PLAIN);
+        assertThat(MediaTypeUtils.normalizeMediaType("Application/X-GZIP")).isEqualTo(MediaType.APPLICATION_GZIP);
+        assertThat(MediaTypeUtils.normalizeMediaType("application/pdf")).isEqualTo(MediaType.APPLICATION_PDF);
+    }
+
+    @Test
+    void testSetDetectors() {
+        MediaTypeDetector alwaysMarkdown = new MediaTypeDetector() {
+            @Override
+            public MediaType detect(File file) {
+                return MediaType.TEXT_MARKDOWN;
+            }
+
+            @Override
+            public MediaType detect(InputStream markableStream, String filename) {
+                return MediaType.TEXT_MARKDOWN;
+            }
+        };
+
+        try {
+            MediaTypeUtils.setDetectors(Arrays.asList(alwaysMarkdown, TikaMediaTypeDetector.INSTANCE));
+            assertThat(MediaTypeUtils.getDetectors()).containsExactly(alwaysMarkdown, TikaMediaTypeDetector.INSTANCE);
+            assertThat(MediaTypeUtils.detectMediaType(resolveTestFile("test.pdf"))).isEqualTo(MediaType.TEXT_MARKDOWN);
+
+            MediaTypeUtils.setDetectors(Collections.singletonList(MagicBytesMediaTypeDetector.INSTANCE));
+            assertThat(MediaTypeUtils.detectMediaType(resolveTestFile("test.pdf"))).isEqualTo(MediaType.APPLICATION_PDF);
+            // 所有探测器都无法确定时为 application/octet-stream，再根据文件名后缀修正
+            assertThat(MediaTypeUtils.detectMediaType(resolveTestFile("test.doc"))).isEqualTo(MediaType.APPLICATION_DOC);
+        } finally {
+            MediaTypeUtils.resetDetectors();
+        }
+
+        assertThat(MediaTypeUtils.getDetectors())
+                .containsExactly(MagicBytesMediaTypeDetector.INSTANCE, ZipContainerMediaTypeDetector.INSTANCE,
+                        TikaMediaTypeDetector.INSTANCE);
+        assertThatThrownBy(() -> MediaTypeUtils.setDetectors(Collections.emptyList()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
 }
@@ -0,0 +1,117 @@
+package plus.hutool.media.content.type.batch;
+
+import cn.hutool.core.io.FileUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import plus.hutool.core.io.FileUtils;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.content.type.MediaTypeUtils;
+import plus.hutool.media.content.type.detect.MediaTypeDetector;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFile;
+
+class BatchMediaTypeDetectorTest {
+
+    private File dir;
+
+    @BeforeEach
+    void setUp() {
+        dir = FileUtils.createDirUnderRandomTempDir("batch-detection");
+
+        FileUtil.copy(resolveTestFile("test.pdf"), FileUtil.file(dir, "test.pdf"), true);
+        FileUtil.copy(resolveTestFile("test.pdf"), FileUtil.file(dir, "sub/another.pdf"), true);
+        FileUtil.copy(resolveTestFile("test.docx"), FileUtil.file(dir, "sub/test.docx"), true);
+        FileUtil.copy(resolveTestFile("test.txt"), FileUtil.file(dir, "sub/deeper/test.txt"), true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        FileUtil.del(dir.getParentFile());
+    }
+
+    @Test
+    void testDetectDir() {
+        List<BatchMediaTypeDetectionResult> listenedResults = new ArrayList<>();
+        BatchMediaTypeDetector detector = new BatchMediaTypeDetector(2);
+        detector.setResultListener(listenedResults::add);
+
+        BatchMediaTypeDetectionSummary summary = detector.detectDir(dir);
+
+        assertThat(summary.getTotalCount()).isEqualTo(4);
+        assertThat(summary.getFailedCount()).isZero();
+        assertThat(summary.getTotalBytes()).isEqualTo(FileUtil.size(dir));
+        assertThat(listenedResults).hasSize(4);
+        assertThat(listenedResults).allMatch(result -> !result.isFailed());
+
+        Map<MediaType, BatchMediaTypeDetectionSummary.MediaTypeStats> statsMap = summary.getMediaTypeStatsMap();
+        assertThat(statsMap.keySet()).containsExactly(
+                MediaType.APPLICATION_PDF, MediaType.APPLICATION_DOCX, MediaType.TEXT_PLAIN);
+        assertThat(statsMap.get(MediaType.APPLICATION_PDF).getCount()).isEqualTo(2);
+        assertThat(statsMap.get(MediaType.APPLICATION_PDF).getTotalBytes())
+                .isEqualTo(2 * resolveTestFile("test.pdf").length());
+        assertThat(summary.getMediaTypeStatsDesc()).contains("application/pdf: 2 个");
+    }
+
+    @Test
+    void testDetectDir_FileFilter() {
+        BatchMediaTypeDetector detector = new BatchMediaTypeDetector(1);
+        detector.setFileFilter(file -> FileUtils.hasExtension(file, "pdf"));
+
+        BatchMediaTypeDetectionSummary summary = detector.detectDir(dir);
+
+        assertThat(summary.getTotalCount()).isEqualTo(2);
+        assertThat(summary.getMediaTypeStatsMap()).containsOnlyKeys(MediaType.APPLICATION_PDF);
+    }
+
+    @Test
+    void testDetectFiles_MissingFile() {
+        BatchMediaTypeDetector detector = new BatchMediaTypeDetector(2);
+
+        BatchMediaTypeDetectionSummary summary = detector.detectFiles(Arrays.asList(
+                FileUtil.file(dir, "test.pdf"), FileUtil.file(dir, "not-exists.pdf")));
+
+        assertThat(summary.getTotalCount()).isEqualTo(2);
+        assertThat(summary.getDetectedCount()).isEqualTo(1);
+        assertThat(summary.getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testDetectDir_DetectorThrowsError() {
+        List<MediaTypeDetector> defaultDetectors = MediaTypeUtils.getDetectors();
+        List<MediaTypeDetector> detectors = new ArrayList<>();
+        detectors.add(new MediaTypeDetector() {
+            @Override
+            public MediaType detect(File file) {
+                if (FileUtils.hasExtension(file, "docx")) {
+                    throw new StackOverflowError();
+                }
+                return null;
+            }
+
+            @Override
+            public MediaType detect(InputStream markableStream, String filename) {
+                return null;
+            }
+        });
+        detectors.addAll(defaultDetectors);
+        MediaTypeUtils.setDetectors(detectors);
+        try {
+            BatchMediaTypeDetectionSummary summary = new BatchMediaTypeDetector(2).detectDir(dir);
+
+            assertThat(summary.getTotalCount()).isEqualTo(4);
+            assertThat(summary.getDetectedCount()).isEqualTo(3);
+            assertThat(summary.getFailedCount()).isEqualTo(1);
+        } finally {
+            MediaTypeUtils.resetDetectors();
+        }
+    }
+}
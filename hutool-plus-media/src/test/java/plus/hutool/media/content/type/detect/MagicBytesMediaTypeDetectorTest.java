@@ -0,0 +1,87 @@
+package plus.hutool.media.content.type.detect;
+
+import cn.hutool.core.io.FileUtil;
+import org.junit.jupiter.api.Test;
+import plus.hutool.media.content.type.MediaType;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFile;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFileInputStream;
+
+class MagicBytesMediaTypeDetectorTest {
+
+    private final MagicBytesMediaTypeDetector detector = MagicBytesMediaTypeDetector.INSTANCE;
+
+    @Test
+    void testDetect_CommonFormats() throws IOException {
+        assertThat(detector.detect(resolveTestFile("test.pdf"))).isEqualTo(MediaType.APPLICATION_PDF);
+        assertThat(detector.detect(resolveTestFile("test.png"))).isEqualTo(MediaType.IMAGE_PNG);
+        assertThat(detector.detect(resolveTestFile("test.jpg"))).isEqualTo(MediaType.IMAGE_JPEG);
+        assertThat(detector.detect(resolveTestFile("test.gif"))).isEqualTo(MediaType.IMAGE_GIF);
+        assertThat(detector.detect(resolveTestFile("test.psd"))).isEqualTo(MediaType.IMAGE_PSD);
+        assertThat(detector.detect(resolveTestFile("test.rtf"))).isEqualTo(MediaType.APPLICATION_RTF);
+        assertThat(detector.detect(resolveTestFile("test.7z"))).isEqualTo(MediaType.APPLICATION_7Z);
+    }
+
+    @Test
+    void testDetect_ZipBasedDocuments() throws IOException {
+        assertThat(detector.detect(resolveTestFile("test.docx"))).isEqualTo(MediaType.APPLICATION_DOCX);
+        assertThat(detector.detect(resolveTestFile("test.xlsx"))).isEqualTo(MediaType.APPLICATION_XLSX);
+        assertThat(detector.detect(resolveTestFile("test.pptx"))).isEqualTo(MediaType.APPLICATION_PPTX);
+        assertThat(detector.detect(resolveTestFile("test.ppsx"))).isEqualTo(MediaType.APPLICATION_PPSX);
+        assertThat(detector.detect(resolveTestFile("test.odt"))).isEqualTo(MediaType.APPLICATION_ODT);
+        assertThat(detector.detect(resolveTestFile("test.ods"))).isEqualTo(MediaType.APPLICATION_ODS);
+        assertThat(detector.detect(resolveTestFile("test.odp"))).isEqualTo(MediaType.APPLICATION_ODP);
+    }
+
+    @Test
+    void testDetect_Inconclusive() throws IOException {
+        assertThat(detector.detect(resolveTestFile("test.txt"))).isNull();
+        assertThat(detector.detect(resolveTestFile("test.doc"))).isNull();
+        assertThat(detector.detect(resolveTestFile("test.zip"))).isNull();
+        assertThat(detector.detect(resolveTestFile("test.ofd"))).isNull();
+        assertThat(detector.detect(resolveTestFile("damaged.docx"))).isNull();
+        assertThat(detector.detect(new ByteArrayInputStream(new byte[0]), "")).isNull();
+    }
+
+    @Test
+    void testDetect_FromStreamResetsStream() throws IOException {
+        File pdfFile = resolveTestFile("test.pdf");
+        byte[] head = Arrays.copyOf(FileUtil.readBytes(pdfFile), 16);
+
+        try (InputStream in = new BufferedInputStream(resolveTestFileInputStream("test.pdf"))) {
+            assertThat(detector.detect(in, "test.pdf")).isEqualTo(MediaType.APPLICATION_PDF);
+
+            byte[] actual = new byte[head.length];
+            assertThat(in.read(actual)).isEqualTo(head.length);
+            assertThat(actual).isEqualTo(head);
+        }
+    }
+
+    @Test
+    void testDetect_ConsistentWithTika() throws IOException {
+        for (String filename : Arrays.asList("test.pdf", "test.png", "test.jpg", "test.gif", "test.psd", "test.rtf",
+                "test.7z", "test.docx", "test.xlsx", "test.pptx", "test.odt", "test.ods", "test.odp")) {
+            File file = resolveTestFile(filename);
+            assertThat(detector.detect(file)).as(filename).isEqualTo(TikaMediaTypeDetector.INSTANCE.detect(file));
+        }
+    }
+
+    @Test
+    void testSniff_HeaderOnly() {
+        byte[] riffWebp = {'R', 'I', 'F', 'F', 0, 0, 0, 0, 'W', 'E', 'B', 'P'};
+        assertThat(MagicBytesMediaTypeDetector.sniff(riffWebp, riffWebp.length)).isEqualTo(MediaType.IMAGE_WEBP);
+        assertThat(MagicBytesMediaTypeDetector.sniff(riffWebp, 8)).isNull();
+
+        byte[] bzip2 = {'B', 'Z', 'h', '9'};
+        assertThat(MagicBytesMediaTypeDetector.sniff(bzip2, bzip2.length)).isEqualTo(MediaType.APPLICATION_BZIP2);
+        assertThat(MagicBytesMediaTypeDetector.sniff(bzip2, 3)).isNull();
+    }
+}
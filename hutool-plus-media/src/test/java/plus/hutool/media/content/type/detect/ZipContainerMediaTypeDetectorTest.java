@@ -0,0 +1,149 @@
+package plus.hutool.media.content.type.detect;
+
+import cn.hutool.core.io.FileUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import plus.hutool.core.io.FileUtils;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.content.type.MediaTypeUtils;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFile;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFileInputStream;
+
+class ZipContainerMediaTypeDetectorTest {
+
+    private final ZipContainerMediaTypeDetector detector = ZipContainerMediaTypeDetector.INSTANCE;
+
+    private File dir;
+
+    @BeforeEach
+    void setUp() {
+        dir = FileUtils.createDirUnderRandomTempDir("zip-container");
+    }
+
+    @AfterEach
+    void tearDown() {
+        FileUtil.del(dir.getParentFile());
+    }
+
+    @Test
+    void testDetect_ZipBasedDocuments() throws IOException {
+        assertThat(detector.detect(resolveTestFile("test.ofd"))).isEqualTo(MediaType.APPLICATION_OFD);
+        assertThat(detector.detect(resolveTestFile("test.docx"))).isEqualTo(MediaType.APPLICATION_DOCX);
+        assertThat(detector.detect(resolveTestFile("test.xlsx"))).isEqualTo(MediaType.APPLICATION_XLSX);
+        assertThat(detector.detect(resolveTestFile("test.pptx"))).isEqualTo(MediaType.APPLICATION_PPTX);
+        assertThat(detector.detect(resolveTestFile("test.ppsx")))
+                .isEqualTo(MediaType.APPLICATION_OOXML_PRESENTATION_SLIDESHOW);
+        assertThat(detector.detect(resolveTestFile("test.odt"))).isEqualTo(MediaType.APPLICATION_ODT);
+        assertThat(detector.detect(resolveTestFile("test.ods"))).isEqualTo(MediaType.APPLICATION_ODS);
+        assertThat(detector.detect(resolveTestFile("test.odp"))).isEqualTo(MediaType.APPLICATION_ODP);
+    }
+
+    @Test
+    void testDetect_IndependentOfFilename() throws IOException {
+        File mislabeledOfd = FileUtil.copy(resolveTestFile("test.ofd"), FileUtil.file(dir, "test.zip"), true);
+        assertThat(detector.detect(mislabeledOfd)).isEqualTo(MediaType.APPLICATION_OFD);
+        assertThat(MediaTypeUtils.detectMediaType(mislabeledOfd)).isEqualTo(MediaType.APPLICATION_OFD);
+
+        File mislabeledDocx = FileUtil.copy(resolveTestFile("test.docx"), FileUtil.file(dir, "test.pdf"), true);
+        assertThat(detector.detect(mislabeledDocx)).isEqualTo(MediaType.APPLICATION_DOCX);
+
+        // 同一类文档的变体只能根据文件名后缀区分
+        File docm = FileUtil.copy(resolveTestFile("test.docx"), FileUtil.file(dir, "test.docm"), true);
+        assertThat(detector.detect(docm)).isEqualTo(MediaType.APPLICATION_MS_WORD_MACRO_ENABLED_DOCUMENT);
+    }
+
+    @Test
+    void testDetect_EntriesNotInConventionalOrder() throws IOException {
+        File ooxml = FileUtil.file(dir, "late-content-types.bin");
+        writeZip(ooxml, "_rels/.rels", "xl/workbook.xml", "[Content_Types].xml");
+        assertThat(detector.detect(ooxml)).isEqualTo(MediaType.APPLICATION_XLSX);
+        assertThat(MagicBytesMediaTypeDetector.INSTANCE.detect(ooxml)).isNull();
+        // 条目使用数据描述符（本地文件头中没有压缩大小）
+        try (InputStream in = new BufferedInputStream(FileUtil.getInputStream(ooxml))) {
+            assertThat(detector.detect(in, ooxml.getName())).isEqualTo(MediaType.APPLICATION_XLSX);
+        }
+
+        File odf = FileUtil.file(dir, "late-mimetype.bin");
+        try (ZipOutputStream out = new ZipOutputStream(FileUtil.getOutputStream(odf))) {
+            out.putNextEntry(new ZipEntry("content.xml"));
+            out.write("<office:document-content/>".getBytes(StandardCharsets.UTF_8));
+            putStoredEntry(out, "mimetype", MediaType.APPLICATION_ODS.strValue().getBytes(StandardCharsets.US_ASCII));
+        }
+        assertThat(detector.detect(odf)).isEqualTo(MediaType.APPLICATION_ODS);
+        try (InputStream in = new BufferedInputStream(FileUtil.getInputStream(odf))) {
+            assertThat(detector.detect(in, odf.getName())).isEqualTo(MediaType.APPLICATION_ODS);
+        }
+    }
+
+    @Test
+    void testDetect_Inconclusive() throws IOException {
+        assertThat(detector.detect(resolveTestFile("test.zip"))).isNull();
+        assertThat(detector.detect(resolveTestFile("test.jar"))).isNull();
+        assertThat(detector.detect(resolveTestFile("test.pdf"))).isNull();
+        assertThat(detector.detect(resolveTestFile("damaged.docx"))).isNull();
+        assertThat(detector.detect(new ByteArrayInputStream(new byte[0]), "")).isNull();
+        try (InputStream in = new BufferedInputStream(resolveTestFileInputStream("test.zip"))) {
+            assertThat(detector.detect(in, "test.zip")).isNull();
+        }
+
+        File withoutContentTypes = FileUtil.file(dir, "test.docx");
+        writeZip(withoutContentTypes, "word/document.xml");
+        assertThat(detector.detect(withoutContentTypes)).isNull();
+    }
+
+    @Test
+    void testDetect_FromStream() throws IOException {
+        for (String filename : Arrays.asList("test.docx", "test.xlsx", "test.pptx", "test.odt")) {
+            try (InputStream in = new BufferedInputStream(resolveTestFileInputStream(filename))) {
+                assertThat(detector.detect(in, filename)).isEqualTo(detector.detect(resolveTestFile(filename)));
+            }
+        }
+    }
+
+    @Test
+    void testDetect_FromStreamResetsStream() throws IOException {
+        File ofdFile = resolveTestFile("test.ofd");
+        byte[] head = Arrays.copyOf(FileUtil.readBytes(ofdFile), 16);
+
+        try (InputStream in = new BufferedInputStream(resolveTestFileInputStream("test.ofd"))) {
+            assertThat(detector.detect(in, "test.zip")).isEqualTo(MediaType.APPLICATION_OFD);
+            byte[] actualHead = new byte[16];
+            assertThat(in.read(actualHead)).isEqualTo(16);
+            assertThat(actualHead).isEqualTo(head);
+        }
+    }
+
+    private static void writeZip(File file, String... entryNames) throws IOException {
+        try (ZipOutputStream out = new ZipOutputStream(FileUtil.getOutputStream(file))) {
+            for (String entryName : entryNames) {
+                out.putNextEntry(new ZipEntry(entryName));
+                out.write("<x/>".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private static void putStoredEntry(ZipOutputStream out, String name, byte[] content) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(content.length);
+        entry.setCrc(crc.getValue());
+        out.putNextEntry(entry);
+        out.write(content);
+    }
+}
@@ -0,0 +1,174 @@
+package plus.hutool.media.converter.file;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Test;
+import plus.hutool.core.io.FileUtils;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.exception.FileConversionTimeoutException;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileConversionCoalescerTest {
+
+    private static final int CALLER_COUNT = 4;
+
+    @Test
+    void testExecute_ConcurrentIdenticalConversions() throws Exception {
+        FileConversionKey key = newUniqueKey();
+        AtomicInteger conversionCount = new AtomicInteger();
+        CountDownLatch followersWaiting = new CountDownLatch(CALLER_COUNT - 1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLER_COUNT);
+        List<File> destFiles = new ArrayList<>();
+        List<Future<Boolean>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < CALLER_COUNT; i++) {
+                File destFile = FileUtils.createFileUnderRandomTempDir("dest.txt");
+                destFiles.add(destFile);
+                futures.add(executor.submit(() -> FileConversionCoalescer.execute(key, destFile, () -> {
+                    conversionCount.incrementAndGet();
+                    await(followersWaiting);
+                    FileUtil.writeString("converted", destFile, StandardCharsets.UTF_8);
+                }, followersWaiting::countDown)));
+            }
+
+            int executedCount = 0;
+            for (Future<Boolean> future : futures) {
+                executedCount += future.get(10, TimeUnit.SECONDS) ? 1 : 0;
+            }
+
+            assertThat(executedCount).isEqualTo(1);
+            assertThat(conversionCount).hasValue(1);
+            assertThat(destFiles).allSatisfy(destFile -> assertThat(destFile).hasContent("converted"));
+            assertThat(FileConversionCoalescer.getCoalescedCount()).isGreaterThanOrEqualTo(CALLER_COUNT - 1);
+        } finally {
+            executor.shutdownNow();
+            destFiles.forEach(destFile -> FileUtil.del(destFile.getParentFile()));
+        }
+    }
+
+    @Test
+    void testExecute_FailurePropagatesToAllWaiters() throws Exception {
+        FileConversionKey key = newUniqueKey();
+        CountDownLatch followersWaiting = new CountDownLatch(CALLER_COUNT - 1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLER_COUNT);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < CALLER_COUNT; i++) {
+                futures.add(executor.submit(() -> FileConversionCoalescer.execute(key, new File("never-written"), () -> {
+                    await(followersWaiting);
+                    throw new IllegalStateException("conversion failed");
+                }, followersWaiting::countDown)));
+            }
+
+            for (Future<Boolean> future : futures) {
+                assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                        .hasCauseExactlyInstanceOf(IllegalStateException.class)
+                        .hasRootCauseMessage("conversion failed");
+            }
+            assertThat(FileConversionCoalescer.getInFlightCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testExecute_SameDestFileIsNotCopied() throws Exception {
+        FileConversionKey key = newUniqueKey();
+        AtomicInteger conversionCount = new AtomicInteger();
+        CountDownLatch followersWaiting = new CountDownLatch(CALLER_COUNT - 1);
+        File destFile = FileUtils.createFileUnderRandomTempDir("dest.txt");
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLER_COUNT);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < CALLER_COUNT; i++) {
+                futures.add(executor.submit(() -> FileConversionCoalescer.execute(key, destFile, () -> {
+                    conversionCount.incrementAndGet();
+                    await(followersWaiting);
+                    FileUtil.writeString("converted", destFile, StandardCharsets.UTF_8);
+                }, followersWaiting::countDown)));
+            }
+            for (Future<Boolean> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+
+            assertThat(conversionCount).hasValue(1);
+            assertThat(destFile).hasContent("converted");
+            // 只有一个目标文件，没有产生共享快照
+            assertThat(destFile.getParentFile().list()).containsExactly("dest.txt");
+        } finally {
+            executor.shutdownNow();
+            FileUtil.del(destFile.getParentFile());
+        }
+    }
+
+    @Test
+    void testExecute_WaitTimeout() throws Exception {
+        FileConversionKey key = newUniqueKey();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        File leaderDestFile = FileUtils.createFileUnderRandomTempDir("dest.txt");
+        File followerDestFile = FileUtils.createFileUnderRandomTempDir("dest.txt");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> leader = executor.submit(() -> FileConversionCoalescer.execute(key, leaderDestFile, () -> {
+                leaderStarted.countDown();
+                await(releaseLeader);
+            }));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> FileConversionCoalescer.execute(key, followerDestFile, () -> { }, () -> { }, 50))
+                    .isInstanceOf(FileConversionTimeoutException.class);
+
+            releaseLeader.countDown();
+            assertThat(leader.get(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(FileConversionCoalescer.getInFlightCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+            FileUtil.del(leaderDestFile.getParentFile());
+            FileUtil.del(followerDestFile.getParentFile());
+        }
+    }
+
+    @Test
+    void testExecute_SequentialConversionsAreNotCoalesced() {
+        FileConversionKey key = newUniqueKey();
+        AtomicInteger conversionCount = new AtomicInteger();
+        File destFile = FileUtils.createFileUnderRandomTempDir("dest.txt");
+
+        assertThat(FileConversionCoalescer.execute(key, destFile, conversionCount::incrementAndGet)).isTrue();
+        assertThat(FileConversionCoalescer.execute(key, destFile, conversionCount::incrementAndGet)).isTrue();
+        assertThat(conversionCount).hasValue(2);
+
+        FileUtil.del(destFile.getParentFile());
+    }
+
+    private static FileConversionKey newUniqueKey() {
+        return FileConversionKey.of(StrUtil.uuid(), "TestConverter", MediaType.APPLICATION_PDF, "");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
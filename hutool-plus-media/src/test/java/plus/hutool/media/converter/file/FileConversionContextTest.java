@@ -0,0 +1,64 @@
+package plus.hutool.media.converter.file;
+
+import cn.hutool.core.io.FileUtil;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.content.type.MediaTypeUtils;
+import plus.hutool.media.test.UnitTestUtils;
+
+import java.io.File;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFile;
+
+class FileConversionContextTest {
+
+    @Test
+    void testGetSrcMediaType_DetectedOnlyOnce() {
+        final File srcFile = resolveTestFile("test.xlsx");
+
+        try (MockedStatic<MediaTypeUtils> staticMediaTypeUtils =
+                     Mockito.mockStatic(MediaTypeUtils.class, Mockito.CALLS_REAL_METHODS)) {
+            FileConversionContext context = FileConversionContext.of(srcFile);
+            assertThat(context.getSrcMediaType()).isEqualTo(MediaType.APPLICATION_XLSX);
+            assertThat(context.getSrcMediaType()).isEqualTo(MediaType.APPLICATION_XLSX);
+
+            staticMediaTypeUtils.verify(() -> MediaTypeUtils.detectMediaType(any(File.class)), Mockito.times(1));
+        }
+    }
+
+    @Test
+    void testGetSrcMediaType_KnownByCaller() {
+        final File srcFile = resolveTestFile("test.txt");
+
+        FileConversionContext context = FileConversionContext.of(srcFile, MediaType.TEXT_PLAIN);
+        assertThat(context.getSrcMediaType()).isEqualTo(MediaType.TEXT_PLAIN);
+        assertThat(context.getSrcSizeInBytes()).isEqualTo(srcFile.length());
+        assertThat(context.getStageTimeMillis()).isEmpty();
+    }
+
+    @Test
+    void testConvertFileWithContext() {
+        final File srcFile = resolveTestFile("test.xlsx");
+        final FileConversionContext context = FileConversionContext.of(srcFile);
+
+        File destFile;
+        try (MockedStatic<MediaTypeUtils> staticMediaTypeUtils =
+                     Mockito.mockStatic(MediaTypeUtils.class, Mockito.CALLS_REAL_METHODS)) {
+            destFile = FileConvertUtils.convertFile(srcFile, MediaType.APPLICATION_PDF, new FileConvertConfig(), context);
+            staticMediaTypeUtils.verify(() -> MediaTypeUtils.detectMediaType(any(File.class)), Mockito.times(1));
+        }
+
+        assertThat(destFile).isFile().hasExtension("pdf");
+        assertThat(context.getStageTimeMillis()).containsOnlyKeys(FileConversionContext.STAGE_DETECT_MEDIA_TYPE,
+                FileConversionContext.STAGE_COMPUTE_CONVERSION_KEY, FileConversionContext.STAGE_CONVERT);
+        assertThat(context.getDetailedStats()).anyMatch(line -> line.contains(FileConversionContext.STAGE_CONVERT));
+
+        if (UnitTestUtils.CLEAN_UP_RESULT_FILE) {
+            FileUtil.del(destFile);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
 
 class FileConvertConfigTest {
@@ -51,4 +52,29 @@ class FileConvertConfigTest {
 
     }
 
+    @Test
+    void testFingerprint() {
+        FileConvertConfig config1 = new FileConvertConfig();
+        config1.addCustomConfig("a", "b, c=d");
+        FileConvertConfig config2 = new FileConvertConfig();
+        config2.addCustomConfig("a", "b");
+        config2.addCustomConfig("c", "d");
+        assertThat(config1.fingerprint()).isNotEqualTo(config2.fingerprint());
+
+        FileConvertConfig config3 = new FileConvertConfig();
+        config3.addCustomConfig("dpi", 300);
+        FileConvertConfig config4 = new FileConvertConfig();
+        config4.addCustomConfig("dpi", "300");
+        assertThat(config3.fingerprint()).isNotEqualTo(config4.fingerprint());
+
+        FileConvertConfig config5 = new FileConvertConfig(true);
+        config5.addCustomConfig("dpi", 300);
+        assertThat(config5.fingerprint()).isEqualTo(config3.fingerprint());
+
+        config5.addCustomConfig("object", new Object());
+        assertThatThrownBy(config5::fingerprint)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("object");
+    }
+
 }
@@ -1,14 +1,30 @@
 package plus.hutool.media.converter.file;
 
 import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.thread.ThreadUtil;
 import org.junit.jupiter.api.Test;
 import plus.hutool.core.io.FileUtils;
+import plus.hutool.core.iterable.collection.CollUtils;
 import plus.hutool.media.content.type.MediaType;
 import plus.hutool.media.content.type.MediaTypeUtils;
+import plus.hutool.media.converter.file.admission.ConversionAdmissionController;
+import plus.hutool.media.converter.file.impl.AbstractFileConverter;
 import plus.hutool.media.exception.UnsupportedFileConversionSrcMediaTypeException;
 import plus.hutool.media.test.UnitTestUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -66,6 +82,133 @@ class FileConvertUtilsTest {
         FileUtil.del(pdfFileNotInSameDir);
     }
 
+    @Test
+    void testConvertFile_UnsupportedDestMediaType() {
+        final File srcFile = resolveTestFile("test.txt");
+
+        assertThatThrownBy(() -> FileConvertUtils.convertFile(srcFile, MediaType.APPLICATION_XLS, new FileConvertConfig()))
+                .isInstanceOf(UnsupportedFileConversionSrcMediaTypeException.class)
+                .hasMessage("不支持如下格式的文件转换: [%s => %s]", MediaType.TEXT_PLAIN, MediaType.APPLICATION_XLS);
+    }
+
+    @Test
+    void testConvertToPdf_Stream() {
+        assertStreamConversionToPdfSuccessful(resolveTestFile("test.docx"));
+        assertStreamConversionToPdfSuccessful(resolveTestFile("test.txt"));
+        assertStreamConversionToPdfSuccessful(resolveTestFile("test.xlsx"));
+        assertStreamConversionToPdfSuccessful(resolveTestFile("test.pptx"));
+        assertStreamConversionToPdfSuccessful(resolveTestFile("test.ofd"));
+    }
+
+    @Test
+    void testConvertToPdf_Stream_SrcIsPdf() {
+        final File srcFile = resolveTestFile("test.pdf");
+        final ByteArrayOutputStream destStream = new ByteArrayOutputStream();
+
+        FileConvertUtils.convertToPdf(FileUtil.getInputStream(srcFile), srcFile.getName(), destStream);
+        assertThat(destStream.toByteArray()).isEqualTo(FileUtil.readBytes(srcFile));
+    }
+
+    @Test
+    void testConvertToPdf_Stream_UnsupportedSrcMediaType() {
+        final File srcFile = resolveTestFile("test.csv");
+        final InputStream srcStream = FileUtil.getInputStream(srcFile);
+
+        assertThatThrownBy(() -> FileConvertUtils.convertToPdf(srcStream, srcFile.getName(), new ByteArrayOutputStream()))
+                .isInstanceOf(UnsupportedFileConversionSrcMediaTypeException.class)
+                .hasMessage("不支持如下格式的文件转换: [%s => %s]", MediaType.TEXT_CSV, MediaType.APPLICATION_PDF);
+    }
+
+    @Test
+    void testConvert_Stream_ViaTempFile_MediaTypeDetectedOnce() {
+        IniToCnfFileConverter converter = new IniToCnfFileConverter();
+        FileConverterDescriptor descriptor = FileConverterDescriptor.of(converter);
+        FileConverterRegistry.register(descriptor);
+        try {
+            ByteArrayOutputStream destStream = new ByteArrayOutputStream();
+            FileConvertUtils.convert(new ByteArrayInputStream("[section]\nkey=value\n".getBytes(StandardCharsets.UTF_8)),
+                    "test.ini", MediaType.TEXT_CNF, destStream, new FileConvertConfig());
+
+            assertThat(destStream.toString()).contains("key=value");
+            assertThat(converter.contexts).hasSize(1);
+            FileConversionContext context = converter.contexts.get(0);
+            assertThat(context.getSrcMediaType()).isEqualTo(MediaType.TEXT_INI);
+            assertThat(context.getStageTimeMillis()).doesNotContainKey(FileConversionContext.STAGE_DETECT_MEDIA_TYPE);
+        } finally {
+            FileConverterRegistry.unregister(descriptor);
+        }
+    }
+
+    @Test
+    void testConvertToPdf_Stream_AdmissionAcquired() throws Exception {
+        File srcFile = resolveTestFile("test.docx");
+        ConversionAdmissionController admissionController = new ConversionAdmissionController();
+        FileConvertConfig config = new FileConvertConfig(false);
+        config.setAdmissionController(admissionController);
+
+        // 已知大小的输入流直接按大小申请准入，大小未知的输入流先写入临时文件再申请准入
+        FileConvertUtils.convertToPdf(new ByteArrayInputStream(FileUtil.readBytes(srcFile)), srcFile.getName(),
+                new ByteArrayOutputStream(), config);
+        try (InputStream srcStream = FileUtil.getInputStream(srcFile)) {
+            FileConvertUtils.convertToPdf(srcStream, srcFile.getName(), new ByteArrayOutputStream(), config);
+        }
+
+        assertThat(admissionController.getAdmittedTotal()).isEqualTo(2);
+        assertThat(admissionController.getReservedBytes()).isZero();
+    }
+
+    @Test
+    void testConvertFile_CoalescedConversionsAdmittedOnce() throws Exception {
+        int callerCount = 4;
+        CoalescedIniToCnfConverter converter =
+                new CoalescedIniToCnfConverter(FileConversionCoalescer.getCoalescedCount() + callerCount - 1);
+        FileConverterDescriptor descriptor = FileConverterDescriptor.of(converter);
+        FileConverterRegistry.register(descriptor);
+
+        File srcFile = FileUtils.createFileUnderRandomTempDir("test.ini");
+        FileUtil.writeString("[section]\nkey=value\n", srcFile, StandardCharsets.UTF_8);
+        ConversionAdmissionController admissionController = new ConversionAdmissionController();
+        FileConvertConfig config = new FileConvertConfig(false);
+        config.setCoalesceConcurrentConversions(true);
+        config.setAdmissionController(admissionController);
+
+        ExecutorService executor = Executors.newFixedThreadPool(callerCount);
+        List<Future<File>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < callerCount; i++) {
+                futures.add(executor.submit(() -> FileConvertUtils.convertFile(srcFile, MediaType.TEXT_CNF, config)));
+            }
+            for (Future<File> future : futures) {
+                File destFile = future.get(10, TimeUnit.SECONDS);
+                assertThat(destFile).hasContent("[section]\nkey=value\n");
+                FileUtil.del(destFile.getParentFile());
+            }
+
+            // 只有实际执行转换的调用方占用内存预算，合并到该转换的调用方不申请准入
+            assertThat(converter.conversionCount).hasValue(1);
+            assertThat(admissionController.getAdmittedTotal()).isEqualTo(1);
+            assertThat(admissionController.getReservedBytes()).isZero();
+        } finally {
+            executor.shutdownNow();
+            FileConverterRegistry.unregister(descriptor);
+            FileUtil.del(srcFile.getParentFile());
+        }
+    }
+
+    private static void assertStreamConversionToPdfSuccessful(File srcFile) {
+        final ByteArrayOutputStream destStream = new ByteArrayOutputStream();
+        try (InputStream srcStream = FileUtil.getInputStream(srcFile)) {
+            FileConvertUtils.convertToPdf(srcStream, srcFile.getName(), destStream);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+
+        final byte[] pdfBytes = destStream.toByteArray();
+        assertThat(pdfBytes).isNotEmpty();
+        assertThat(MediaTypeUtils.detectMediaType(new ByteArrayInputStream(pdfBytes), "result.pdf"))
+                .isEqualTo(MediaType.APPLICATION_PDF);
+    }
+
     private static void assertConversionToPdfFailed(File srcFile) {
         MediaType srcMediaType = MediaTypeUtils.detectMediaType(srcFile);
         MediaType destMediaType = MediaType.APPLICATION_PDF;
@@ -89,4 +232,66 @@ class FileConvertUtilsTest {
             }
         }
     }
+
+    /**
+     * 不支持流式转换的转换器（记录收到的文件转换上下文）
+     */
+    static class IniToCnfFileConverter implements FileConverter {
+        private final List<FileConversionContext> contexts = new ArrayList<>();
+
+        @Override
+        public Set<MediaType> getSupportedSrcMediaTypes() {
+            return CollUtils.unmodifiableSet(MediaType.TEXT_INI);
+        }
+
+        @Override
+        public MediaType getDestMediaType() {
+            return MediaType.TEXT_CNF;
+        }
+
+        @Override
+        public File convert(File srcFile, FileConvertConfig config) {
+            return convert(srcFile, config, FileConversionContext.of(srcFile));
+        }
+
+        @Override
+        public File convert(File srcFile, FileConvertConfig config, FileConversionContext context) {
+            contexts.add(context);
+            File destFile = config.resolveDestFileBeforeConversion(srcFile, getDestMediaType());
+            return FileUtil.copy(srcFile, destFile, true);
+        }
+    }
+
+    /**
+     * 等待其他调用方合并到本次转换后才完成的转换器
+     */
+    static class CoalescedIniToCnfConverter extends AbstractFileConverter {
+        private final AtomicInteger conversionCount = new AtomicInteger();
+        private final long coalescedCountToWait;
+
+        CoalescedIniToCnfConverter(long coalescedCountToWait) {
+            this.coalescedCountToWait = coalescedCountToWait;
+        }
+
+        @Override
+        public Set<MediaType> getSupportedSrcMediaTypes() {
+            return CollUtils.unmodifiableSet(MediaType.TEXT_INI);
+        }
+
+        @Override
+        public MediaType getDestMediaType() {
+            return MediaType.TEXT_CNF;
+        }
+
+        @Override
+        protected void doConvert(File srcFile, File destFile, FileConvertConfig config) {
+            conversionCount.incrementAndGet();
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (FileConversionCoalescer.getCoalescedCount() < coalescedCountToWait
+                    && System.currentTimeMillis() < deadline) {
+                ThreadUtil.sleep(10);
+            }
+            FileUtil.copy(srcFile, destFile, true);
+        }
+    }
 }
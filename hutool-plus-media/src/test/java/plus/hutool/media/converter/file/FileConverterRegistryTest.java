@@ -2,16 +2,20 @@ package plus.hutool.media.converter.file;
 
 import cn.hutool.core.util.ReflectUtil;
 import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import plus.hutool.core.iterable.collection.CollUtils;
 import plus.hutool.media.content.type.MediaType;
 import plus.hutool.media.converter.file.FileConverterRegistry.FileConverterRegistryKey;
+import plus.hutool.media.converter.file.impl.BuiltInFileConverter;
 import plus.hutool.media.converter.file.impl.pdf.CommonDocToPdfConverter;
 import plus.hutool.media.exception.FileConverterRegistryKeyNotFoundException;
 
 import java.io.File;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,6 +23,13 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class FileConverterRegistryTest {
 
+    private final List<FileConverterDescriptor> registeredDescriptors = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        registeredDescriptors.forEach(FileConverterRegistry::unregister);
+    }
+
     @Test
     void testLookup() {
         final MediaType srcMediaType = MediaType.APPLICATION_DOC;
@@ -63,6 +74,75 @@ class FileConverterRegistryTest {
         assertThat(key).isNotEqualTo(new HashMap<>());
     }
 
+    @Test
+    void testRegister_LazyInstantiation() {
+        final FileConverterDescriptor descriptor = FileConverterDescriptor.of(
+                VcardToCalendarConverter.class.getName(), MediaType.TEXT_CALENDAR, MediaType.TEXT_VCARD);
+
+        FileConverterRegistry.register(descriptor);
+        registeredDescriptors.add(descriptor);
+        assertThat(descriptor.isInstantiated()).isFalse();
+        assertThat(FileConverterRegistry.getSupportedSrcMediaTypesByDestType(MediaType.TEXT_CALENDAR))
+                .containsExactly(MediaType.TEXT_VCARD);
+        assertThat(FileConverterRegistry.getConverterDescriptors()).contains(descriptor);
+        assertThat(FileConverterRegistry.getInitTimeMillis()).isNotNegative();
+
+        final FileConverter converter = FileConverterRegistry.lookup(MediaType.TEXT_VCARD, MediaType.TEXT_CALENDAR);
+        assertThat(converter).isExactlyInstanceOf(VcardToCalendarConverter.class);
+        assertThat(descriptor.isInstantiated()).isTrue();
+        assertThat(FileConverterRegistry.lookup(MediaType.TEXT_VCARD, MediaType.TEXT_CALENDAR)).isSameAs(converter);
+    }
+
+    @Test
+    void testUnregister() {
+        final FileConverterDescriptor descriptor = FileConverterDescriptor.of(
+                VcardToCalendarConverter.class.getName(), MediaType.TEXT_CALENDAR, MediaType.TEXT_VCARD);
+        FileConverterRegistry.register(descriptor);
+        long version = FileConverterRegistry.getVersion();
+
+        final FileConverterDescriptor otherDescriptor = FileConverterDescriptor.of(
+                VcardToCalendarConverter.class.getName(), MediaType.TEXT_CALENDAR, MediaType.TEXT_VCARD);
+        assertThat(FileConverterRegistry.unregister(otherDescriptor)).isFalse();
+        assertThat(FileConverterRegistry.lookupDescriptor(MediaType.TEXT_VCARD, MediaType.TEXT_CALENDAR))
+                .isSameAs(descriptor);
+
+        assertThat(FileConverterRegistry.unregister(descriptor)).isTrue();
+        assertThat(FileConverterRegistry.getVersion()).isGreaterThan(version);
+        assertThat(FileConverterRegistry.getSupportedDestMediaTypes()).doesNotContain(MediaType.TEXT_CALENDAR);
+        assertThatThrownBy(() -> FileConverterRegistry.lookup(MediaType.TEXT_VCARD, MediaType.TEXT_CALENDAR))
+                .isInstanceOf(FileConverterRegistryKeyNotFoundException.class);
+    }
+
+    @Test
+    void testBuiltInFileConverterDeclarations() {
+        for (BuiltInFileConverter builtInConverter : BuiltInFileConverter.values()) {
+            final FileConverterDescriptor descriptor = FileConverterRegistry.lookupDescriptor(
+                    builtInConverter.getSrcMediaTypes().iterator().next(), builtInConverter.getDestMediaType());
+            assertThat(descriptor).isNotNull();
+            assertThat(descriptor.getConverterClassName()).isEqualTo(builtInConverter.getConverterClassName());
+
+            final FileConverter converter = descriptor.getConverter();
+            assertThat(converter.getClass().getName()).isEqualTo(builtInConverter.getConverterClassName());
+            assertThat(converter.getDestMediaType()).isEqualTo(builtInConverter.getDestMediaType());
+            assertThat(converter.getSupportedSrcMediaTypes()).isEqualTo(builtInConverter.getSrcMediaTypes());
+        }
+    }
+
+    @Test
+    void testFileConverterDescriptor_InvalidDeclaration() {
+        final FileConverterDescriptor notConverterDescriptor = FileConverterDescriptor.of(
+                String.class.getName(), MediaType.TEXT_CALENDAR, MediaType.TEXT_VCARD);
+        assertThatThrownBy(notConverterDescriptor::getConverter)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("没有实现文件转换器接口");
+
+        final FileConverterDescriptor wrongDestDescriptor = FileConverterDescriptor.of(
+                VcardToCalendarConverter.class.getName(), MediaType.APPLICATION_PDF, MediaType.TEXT_VCARD);
+        assertThatThrownBy(wrongDestDescriptor::getConverter)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("与描述符声明的");
+    }
+
     @Test
     void testInit() {
         Method registerMethod = ReflectUtil.getMethod(FileConverterRegistry.class, "init");
@@ -96,4 +176,22 @@ class FileConverterRegistryTest {
         ReflectUtil.invoke(FileConverterRegistry.class, registerMethod, keyDuplicatedConverter);
     }
 
+    public static class VcardToCalendarConverter implements FileConverter {
+
+        @Override
+        public Set<MediaType> getSupportedSrcMediaTypes() {
+            return CollUtils.unmodifiableSet(MediaType.TEXT_VCARD);
+        }
+
+        @Override
+        public MediaType getDestMediaType() {
+            return MediaType.TEXT_CALENDAR;
+        }
+
+        @Override
+        public File convert(File srcFile, FileConvertConfig config) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
 }
@@ -0,0 +1,57 @@
+package plus.hutool.media.converter.file;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageSelectionTest {
+
+    @Test
+    void testParse() {
+        PageSelection selection = PageSelection.parse(" 8-, 5, 1-3, 2-4 ");
+
+        assertThat(selection.toString()).isEqualTo("1-5,8-");
+        assertThat(selection.getRanges()).hasSize(2);
+        assertThat(selection.getMaxPageNumber()).isEqualTo(PageSelection.LAST_PAGE);
+        assertThat(selection.contains(1)).isTrue();
+        assertThat(selection.contains(5)).isTrue();
+        assertThat(selection.contains(6)).isFalse();
+        assertThat(selection.contains(7)).isFalse();
+        assertThat(selection.contains(1000)).isTrue();
+        assertThat(selection).isEqualTo(PageSelection.parse("1-5,8-"));
+    }
+
+    @Test
+    void testFirstPages() {
+        PageSelection selection = PageSelection.firstPages(3);
+
+        assertThat(selection.toString()).isEqualTo("1-3");
+        assertThat(selection.getMaxPageNumber()).isEqualTo(3);
+        assertThat(selection.contains(3)).isTrue();
+        assertThat(selection.contains(4)).isFalse();
+        assertThat(PageSelection.of(2, 2).toString()).isEqualTo("2");
+    }
+
+    @Test
+    void testParse_IllegalExpression() {
+        assertThatThrownBy(() -> PageSelection.parse("1-a"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("页码选择表达式的格式不正确");
+        assertThatThrownBy(() -> PageSelection.parse("0-3"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageSelection.parse("5-3"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testFingerprint() {
+        FileConvertConfig config = new FileConvertConfig();
+        String fingerprintWithoutPageSelection = config.fingerprint();
+
+        config.setPreviewPageCount(2);
+        assertThat(config.getPageSelection()).isEqualTo(PageSelection.firstPages(2));
+        assertThat(config.fingerprint()).isNotEqualTo(fingerprintWithoutPageSelection).contains("1-2");
+    }
+
+}
@@ -0,0 +1,202 @@
+package plus.hutool.media.converter.file.admission;
+
+import cn.hutool.core.io.FileUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import plus.hutool.core.io.FileUtils;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.converter.file.FileConversionContext;
+import plus.hutool.media.converter.file.admission.ConversionAdmissionController.Permit;
+import plus.hutool.media.exception.FileConversionRejectedException;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConversionAdmissionControllerTest {
+
+    private static final long SMALL_FILE_SIZE = 1024;
+    private static final long LARGE_FILE_SIZE = 10 * 1024;
+
+    private File tempDir;
+
+    @BeforeEach
+    void setUp() {
+        tempDir = FileUtils.createDirUnderRandomTempDir("admission");
+    }
+
+    @AfterEach
+    void tearDown() {
+        FileUtil.del(tempDir.getParentFile());
+    }
+
+    @Test
+    void testAcquire_SmallJobsFlowWhileLargeJobWaits() throws Exception {
+        ConversionAdmissionController controller = newController(150 * 1024);
+        File smallFile = newFile("small.txt", SMALL_FILE_SIZE);
+        File largeFile = newFile("large.txt", LARGE_FILE_SIZE);
+
+        Permit firstLarge = controller.acquire(largeFile, MediaType.TEXT_PLAIN);
+        assertThat(firstLarge.getEstimatedBytes()).isEqualTo(100 * 1024);
+
+        CompletableFuture<Permit> secondLarge =
+                CompletableFuture.supplyAsync(() -> controller.acquire(largeFile, MediaType.TEXT_PLAIN));
+        waitUntilWaiting(controller, 1);
+        assertThat(secondLarge).isNotDone();
+
+        try (Permit small1 = controller.acquire(smallFile, MediaType.TEXT_PLAIN, 1000);
+             Permit small2 = controller.acquire(smallFile, MediaType.TEXT_PLAIN, 1000)) {
+            assertThat(controller.getAdmittedCount()).isEqualTo(3);
+            assertThat(controller.getReservedBytes()).isEqualTo(120 * 1024);
+        }
+
+        firstLarge.close();
+        firstLarge.close();
+        Permit permit = secondLarge.get(10, TimeUnit.SECONDS);
+        assertThat(controller.getReservedBytes()).isEqualTo(100 * 1024);
+        permit.close();
+
+        assertThat(controller.getReservedBytes()).isZero();
+        assertThat(controller.getAdmittedTotal()).isEqualTo(4);
+        assertThat(controller.getQueuedTotal()).isEqualTo(1);
+        assertThat(controller.toString()).contains("排队中 = 0");
+    }
+
+    @Test
+    void testAcquire_TimeoutRejected() {
+        ConversionAdmissionController controller = newController(150 * 1024);
+        File largeFile = newFile("large.txt", LARGE_FILE_SIZE);
+
+        try (Permit ignored = controller.acquire(largeFile, MediaType.TEXT_PLAIN)) {
+            assertThatThrownBy(() -> controller.acquire(largeFile, MediaType.TEXT_PLAIN, 50))
+                    .isInstanceOf(FileConversionRejectedException.class)
+                    .hasMessageContaining("等待内存预算超时");
+        }
+        assertThat(controller.getRejectedTotal()).isEqualTo(1);
+        assertThat(controller.getWaitingCount()).isZero();
+    }
+
+    @Test
+    void testAcquire_OversizedJobRunsAlone() throws Exception {
+        ConversionAdmissionController controller = newController(50 * 1024);
+        File smallFile = newFile("small.txt", SMALL_FILE_SIZE);
+        File largeFile = newFile("large.txt", LARGE_FILE_SIZE);
+
+        Permit small = controller.acquire(smallFile, MediaType.TEXT_PLAIN);
+        CompletableFuture<Permit> oversized =
+                CompletableFuture.supplyAsync(() -> controller.acquire(largeFile, MediaType.TEXT_PLAIN));
+        waitUntilWaiting(controller, 1);
+        assertThat(oversized).isNotDone();
+
+        small.close();
+        try (Permit permit = oversized.get(10, TimeUnit.SECONDS)) {
+            assertThat(controller.getReservedBytes()).isEqualTo(controller.getBudgetBytes());
+            assertThatThrownBy(() -> controller.acquire(smallFile, MediaType.TEXT_PLAIN, 50))
+                    .isInstanceOf(FileConversionRejectedException.class);
+        }
+    }
+
+    @Test
+    void testAcquire_StarvationGuard() throws Exception {
+        ConversionAdmissionController controller =
+                new ConversionAdmissionController(150 * 1024, newEstimator(), 100);
+        File smallFile = newFile("small.txt", SMALL_FILE_SIZE);
+        File largeFile = newFile("large.txt", LARGE_FILE_SIZE);
+
+        Permit firstLarge = controller.acquire(largeFile, MediaType.TEXT_PLAIN);
+        CompletableFuture<Permit> secondLarge =
+                CompletableFuture.supplyAsync(() -> controller.acquire(largeFile, MediaType.TEXT_PLAIN));
+        waitUntilWaiting(controller, 1);
+        TimeUnit.MILLISECONDS.sleep(200);
+
+        // 排队最久的大任务等待超过阈值后，小任务也需要排队
+        assertThatThrownBy(() -> controller.acquire(smallFile, MediaType.TEXT_PLAIN, 50))
+                .isInstanceOf(FileConversionRejectedException.class);
+
+        firstLarge.close();
+        secondLarge.get(10, TimeUnit.SECONDS).close();
+        controller.acquire(smallFile, MediaType.TEXT_PLAIN, 1000).close();
+    }
+
+    @Test
+    void testAcquire_BySrcBytes() {
+        ConversionAdmissionController controller = newController(150 * 1024);
+
+        try (Permit permit = controller.acquire(LARGE_FILE_SIZE, MediaType.TEXT_PLAIN)) {
+            assertThat(permit.getEstimatedBytes()).isEqualTo(100 * 1024);
+            assertThatThrownBy(() -> controller.acquire(LARGE_FILE_SIZE, MediaType.TEXT_PLAIN, 50))
+                    .isInstanceOf(FileConversionRejectedException.class)
+                    .hasMessageContaining(MediaType.TEXT_PLAIN.toString());
+        }
+        assertThat(controller.getReservedBytes()).isZero();
+        assertThatThrownBy(() -> controller.acquire(-1, MediaType.TEXT_PLAIN))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testCallAdmitted_PermitReleasedAfterConversion() {
+        ConversionAdmissionController controller = newController(150 * 1024);
+        File largeFile = newFile("large.txt", LARGE_FILE_SIZE);
+        FileConversionContext context = FileConversionContext.of(largeFile, MediaType.TEXT_PLAIN);
+
+        long reservedBytes = controller.callAdmitted(largeFile, MediaType.TEXT_PLAIN, context,
+                controller::getReservedBytes);
+        assertThat(reservedBytes).isEqualTo(100 * 1024);
+        assertThat(context.getStageTimeMillis()).containsKey(FileConversionContext.STAGE_WAIT_ADMISSION);
+
+        assertThatThrownBy(() -> controller.callAdmitted(SMALL_FILE_SIZE, MediaType.TEXT_PLAIN, null, () -> {
+            throw new IllegalStateException("conversion failed");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(controller.getReservedBytes()).isZero();
+        assertThat(controller.getAdmittedTotal()).isEqualTo(2);
+    }
+
+    @Test
+    void testCalibrationFromSoloConversion() {
+        ConversionMemoryEstimator estimator = newEstimator();
+        ConversionAdmissionController controller = new ConversionAdmissionController(
+                Long.MAX_VALUE, estimator, ConversionAdmissionController.DEFAULT_STARVATION_THRESHOLD_MILLIS);
+        File largeFile = newFile("large.docx", LARGE_FILE_SIZE);
+        estimator.setFactor(MediaType.APPLICATION_DOCX, 1);
+
+        try (Permit ignored = controller.acquire(largeFile, MediaType.APPLICATION_DOCX)) {
+            byte[][] allocations = new byte[16][];
+            for (int i = 0; i < allocations.length; i++) {
+                allocations[i] = new byte[1024 * 1024];
+            }
+            assertThat(allocations[allocations.length - 1]).hasSize(1024 * 1024);
+        }
+
+        assertThat(estimator.getFactor(MediaType.APPLICATION_DOCX)).isGreaterThan(1);
+    }
+
+    private static ConversionAdmissionController newController(long budgetBytes) {
+        return new ConversionAdmissionController(budgetBytes, newEstimator(),
+                ConversionAdmissionController.DEFAULT_STARVATION_THRESHOLD_MILLIS);
+    }
+
+    private static ConversionMemoryEstimator newEstimator() {
+        ConversionMemoryEstimator estimator = new ConversionMemoryEstimator(0);
+        estimator.setFactor(MediaType.TEXT_PLAIN, 10);
+        return estimator;
+    }
+
+    private File newFile(String filename, long size) {
+        File file = new File(tempDir, filename);
+        FileUtil.writeBytes(new byte[(int) size], file);
+        return file;
+    }
+
+    private static void waitUntilWaiting(ConversionAdmissionController controller, int waitingCount)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (controller.getWaitingCount() < waitingCount && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertThat(controller.getWaitingCount()).isEqualTo(waitingCount);
+    }
+}
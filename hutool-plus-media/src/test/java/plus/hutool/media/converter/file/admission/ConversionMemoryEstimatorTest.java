@@ -0,0 +1,40 @@
+package plus.hutool.media.converter.file.admission;
+
+import org.junit.jupiter.api.Test;
+import plus.hutool.media.content.type.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ConversionMemoryEstimatorTest {
+
+    @Test
+    void testEstimate() {
+        ConversionMemoryEstimator estimator = new ConversionMemoryEstimator(1000);
+
+        assertThat(estimator.estimate(MediaType.APPLICATION_XLSX, 100)).isEqualTo(1000 + 100 * 40);
+        assertThat(estimator.estimate(MediaType.APPLICATION_XLSX, 0)).isEqualTo(1000);
+        assertThat(estimator.getFactor(MediaType.IMAGE_PNG)).isEqualTo(ConversionMemoryEstimator.DEFAULT_FACTOR);
+        assertThat(estimator.estimate(MediaType.IMAGE_PNG, 100)).isEqualTo(2000);
+    }
+
+    @Test
+    void testCalibrate() {
+        ConversionMemoryEstimator estimator = new ConversionMemoryEstimator(0);
+        estimator.setFactor(MediaType.APPLICATION_DOCX, 10);
+
+        estimator.calibrate(MediaType.APPLICATION_DOCX, 1000, 20_000);
+        assertThat(estimator.getFactor(MediaType.APPLICATION_DOCX))
+                .isCloseTo(10 + ConversionMemoryEstimator.CALIBRATION_ALPHA * (20 - 10), within(1e-9));
+
+        // 无效的观测值被忽略
+        double factor = estimator.getFactor(MediaType.APPLICATION_DOCX);
+        estimator.calibrate(MediaType.APPLICATION_DOCX, 0, 20_000);
+        estimator.calibrate(MediaType.APPLICATION_DOCX, 1000, -1);
+        assertThat(estimator.getFactor(MediaType.APPLICATION_DOCX)).isEqualTo(factor);
+
+        // 膨胀系数被限制在合理范围内
+        estimator.setFactor(MediaType.APPLICATION_PDF, 100_000);
+        assertThat(estimator.getFactor(MediaType.APPLICATION_PDF)).isEqualTo(200);
+    }
+}
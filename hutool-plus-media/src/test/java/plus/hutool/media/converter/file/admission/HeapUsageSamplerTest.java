@@ -0,0 +1,35 @@
+package plus.hutool.media.converter.file.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeapUsageSamplerTest {
+
+    @Test
+    void testSample_DoesNotResetPeakUsage() {
+        Map<MemoryPoolMXBean, Long> peaksBefore = new LinkedHashMap<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                peaksBefore.put(pool, pool.getPeakUsage().getUsed());
+            }
+        }
+
+        HeapUsageSampler.Sample first = HeapUsageSampler.start();
+        HeapUsageSampler.Sample second = HeapUsageSampler.start();
+        System.gc();
+        long firstObserved = first.stop();
+        long secondObserved = second.stop();
+
+        assertThat(firstObserved).isGreaterThanOrEqualTo(HeapUsageSampler.UNKNOWN);
+        assertThat(secondObserved).isGreaterThanOrEqualTo(HeapUsageSampler.UNKNOWN);
+        peaksBefore.forEach((pool, peakBefore) ->
+                assertThat(pool.getPeakUsage().getUsed()).as(pool.getName()).isGreaterThanOrEqualTo(peakBefore));
+    }
+}
@@ -0,0 +1,145 @@
+package plus.hutool.media.converter.file.cache;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import plus.hutool.core.io.FileUtils;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.converter.file.FileConversionKey;
+import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.converter.file.FileConvertUtils;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFile;
+
+class FileConversionResultCacheTest {
+
+    private File cacheDir;
+
+    @BeforeEach
+    void setUp() {
+        cacheDir = FileUtils.createDirUnderRandomTempDir("conversion-cache");
+    }
+
+    @AfterEach
+    void tearDown() {
+        FileUtil.del(cacheDir.getParentFile());
+    }
+
+    @Test
+    void testGetAndPut() {
+        FileConversionResultCache cache = new FileConversionResultCache(cacheDir, 1024);
+        FileConversionKey key = newKey("hash1");
+
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+
+        File cachedFile = cache.put(key, newResultFile(100));
+        assertThat(cachedFile).exists().hasParent(cacheDir).hasExtension("pdf");
+        assertThat(cache.get(key)).isEqualTo(cachedFile);
+        assertThat(cache.get(newKey("hash1"))).isEqualTo(cachedFile);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getEntryCount()).isEqualTo(1);
+        assertThat(cache.getTotalSizeInBytes()).isEqualTo(100);
+    }
+
+    @Test
+    void testLruEviction() {
+        FileConversionResultCache cache = new FileConversionResultCache(cacheDir, 250);
+        FileConversionKey key1 = newKey("hash1");
+        FileConversionKey key2 = newKey("hash2");
+        FileConversionKey key3 = newKey("hash3");
+
+        File cachedFile1 = cache.put(key1, newResultFile(100));
+        cache.put(key2, newResultFile(100));
+        assertThat(cache.get(key1)).isNotNull();
+
+        cache.put(key3, newResultFile(100));
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.get(key2)).isNull();
+        assertThat(cache.get(key1)).isEqualTo(cachedFile1);
+        assertThat(cache.get(key3)).isNotNull();
+        assertThat(cache.getTotalSizeInBytes()).isEqualTo(200);
+    }
+
+    @Test
+    void testPut_FileLargerThanMaxSize() {
+        FileConversionResultCache cache = new FileConversionResultCache(cacheDir, 10);
+        File resultFile = newResultFile(100);
+
+        assertThat(cache.put(newKey("hash1"), resultFile)).isEqualTo(resultFile);
+        assertThat(cache.getEntryCount()).isZero();
+    }
+
+    @Test
+    void testReloadExistingEntries() {
+        FileConversionResultCache cache = new FileConversionResultCache(cacheDir, 1024);
+        File cachedFile = cache.put(newKey("hash1"), newResultFile(100));
+
+        FileConversionResultCache reloadedCache = new FileConversionResultCache(cacheDir, 1024);
+        assertThat(reloadedCache.getEntryCount()).isEqualTo(1);
+        assertThat(reloadedCache.get(newKey("hash1"))).isEqualTo(cachedFile);
+    }
+
+    @Test
+    void testGet_CachedFileDeletedExternally() {
+        FileConversionResultCache cache = new FileConversionResultCache(cacheDir, 1024);
+        FileUtil.del(cache.put(newKey("hash1"), newResultFile(100)));
+
+        assertThat(cache.get(newKey("hash1"))).isNull();
+        assertThat(cache.getEntryCount()).isZero();
+        assertThat(cache.getTotalSizeInBytes()).isZero();
+    }
+
+    @Test
+    void testConversionWithResultCache() {
+        FileConvertConfig config = new FileConvertConfig();
+        config.setResultCache(new FileConversionResultCache(cacheDir, 64 * 1024 * 1024));
+
+        File firstResult = FileConvertUtils.convertFileToPdf(resolveTestFile("test.txt"), config);
+        File secondResult = FileConvertUtils.convertFileToPdf(resolveTestFile("test.txt"), config);
+
+        // 命中时得到的是复制到目标文件路径的副本，调用方删除它不会影响缓存
+        assertThat(secondResult.getParentFile()).isNotEqualTo(cacheDir);
+        assertThat(secondResult).hasSameBinaryContentAs(firstResult);
+        assertThat(config.getResultCache().getHitCount()).isEqualTo(1);
+        assertThat(config.getResultCache().getMissCount()).isEqualTo(1);
+        FileUtil.del(firstResult.getParentFile());
+        FileUtil.del(secondResult.getParentFile());
+        assertThat(config.getResultCache().getEntryCount()).isEqualTo(1);
+        assertThat(cacheDir.listFiles()).hasSize(1);
+    }
+
+    @Test
+    void testCopyTo() {
+        FileConversionResultCache cache = new FileConversionResultCache(cacheDir, 1024);
+        FileConversionKey key = newKey("hash1");
+        File destFile = FileUtils.createRandomNamedTempFile("pdf");
+        try {
+            assertThat(cache.copyTo(key, destFile)).isFalse();
+
+            File cachedFile = cache.put(key, newResultFile(100));
+            assertThat(cache.copyTo(key, destFile)).isTrue();
+            assertThat(destFile).hasSameBinaryContentAs(cachedFile);
+            assertThat(cache.getHitCount()).isEqualTo(1);
+            assertThat(cache.getMissCount()).isEqualTo(1);
+        } finally {
+            FileUtil.del(destFile);
+        }
+    }
+
+    private static FileConversionKey newKey(String srcContentHash) {
+        return FileConversionKey.of(srcContentHash, "TestConverter", MediaType.APPLICATION_PDF, "{}");
+    }
+
+    private static File newResultFile(int sizeInBytes) {
+        File result = FileUtils.createRandomNamedTempFile("pdf");
+        FileUtil.writeString(StrUtil.repeat('a', sizeInBytes), result, StandardCharsets.UTF_8);
+        return result;
+    }
+}
@@ -1,12 +1,17 @@
 package plus.hutool.media.converter.file.impl.pdf;
 
+import cn.hutool.core.io.FileUtil;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.junit.jupiter.api.Test;
 import plus.hutool.media.converter.file.FileConvertConfig;
 import plus.hutool.media.exception.FileConversionException;
 
 import java.io.File;
+import java.io.IOException;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFile;
 
 class CommonDocToPdfConverterTest {
 
@@ -20,4 +25,18 @@ class CommonDocToPdfConverterTest {
         assertThatThrownBy(() -> converter.doConvert(srcFile, destFile, config))
                 .isExactlyInstanceOf(FileConversionException.class);
     }
+
+    @Test
+    void testConvert_WithPageSelection() throws IOException {
+        final FileConvertConfig config = new FileConvertConfig(false);
+        config.setPreviewPageCount(1);
+
+        CommonDocToPdfConverter converter = new CommonDocToPdfConverter();
+        File destFile = converter.convert(resolveTestFile("test.docx"), config);
+        try (PDDocument document = PDDocument.load(destFile)) {
+            assertThat(document.getNumberOfPages()).isEqualTo(1);
+        } finally {
+            FileUtil.del(destFile.getParentFile());
+        }
+    }
 }
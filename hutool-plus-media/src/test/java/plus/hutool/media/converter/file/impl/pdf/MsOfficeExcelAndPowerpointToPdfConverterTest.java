@@ -1,16 +1,29 @@
 package plus.hutool.media.converter.file.impl.pdf;
 
+import cn.hutool.core.io.FileUtil;
 import com.itextpdf.pdfoffice.OfficeConverter;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import plus.hutool.core.io.FileUtils;
+import plus.hutool.media.content.type.MediaType;
 import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.converter.file.PageSelection;
 import plus.hutool.media.exception.FileConversionException;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static plus.hutool.media.test.UnitTestUtils.resolveTestFile;
@@ -36,4 +49,77 @@ class MsOfficeExcelAndPowerpointToPdfConverterTest {
                     .hasMessage("文件转换出错");
         }
     }
+
+    @Test
+    void testDoConvert_StreamingSpreadsheet() throws IOException {
+        File xlsxFile = createLargeXlsxFile(3000);
+        File pdfFile = FileUtils.createRandomNamedTempFile("pdf");
+        try {
+            FileConvertConfig config = new FileConvertConfig();
+            config.addCustomConfig(MsOfficeExcelAndPowerpointToPdfConverter.CONFIG_KEY_SPREADSHEET_MODE, "streaming");
+
+            try (MockedStatic<OfficeConverter> staticOfficeConverter = Mockito.mockStatic(OfficeConverter.class)) {
+                testedConverter.doConvert(xlsxFile, pdfFile, config);
+                staticOfficeConverter.verifyNoInteractions();
+            }
+
+            try (PDDocument document = PDDocument.load(pdfFile)) {
+                assertThat(document.getNumberOfPages()).isGreaterThan(10);
+                PDFTextStripper stripper = new PDFTextStripper();
+                stripper.setEndPage(1);
+                assertThat(stripper.getText(document)).contains("large-sheet", "header0", "cell-1-0");
+            }
+        } finally {
+            FileUtil.del(xlsxFile.getParentFile());
+            FileUtil.del(pdfFile);
+        }
+    }
+
+    @Test
+    void testConvertStream_StreamingSpreadsheetWithPageSelection() throws IOException {
+        File xlsxFile = createLargeXlsxFile(3000);
+        try (InputStream in = FileUtil.getInputStream(xlsxFile)) {
+            FileConvertConfig config = new FileConvertConfig();
+            config.addCustomConfig(MsOfficeExcelAndPowerpointToPdfConverter.CONFIG_KEY_SPREADSHEET_MODE,
+                    SpreadsheetToPdfMode.STREAMING);
+            config.setPageSelection(PageSelection.of(2, 3));
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            testedConverter.convert(in, MediaType.APPLICATION_XLSX, out, config);
+
+            try (PDDocument document = PDDocument.load(out.toByteArray())) {
+                assertThat(document.getNumberOfPages()).isEqualTo(2);
+                assertThat(new PDFTextStripper().getText(document)).contains("- 2 -", "- 3 -");
+            }
+        } finally {
+            FileUtil.del(xlsxFile.getParentFile());
+        }
+    }
+
+    @Test
+    void testSpreadsheetToPdfMode() {
+        assertThat(SpreadsheetToPdfMode.of(null)).isEqualTo(SpreadsheetToPdfMode.FULL);
+        assertThat(SpreadsheetToPdfMode.of("auto")).isEqualTo(SpreadsheetToPdfMode.AUTO);
+        assertThat(SpreadsheetToPdfMode.of(" Full ")).isEqualTo(SpreadsheetToPdfMode.FULL);
+        assertThat(SpreadsheetToPdfMode.of(SpreadsheetToPdfMode.STREAMING)).isEqualTo(SpreadsheetToPdfMode.STREAMING);
+        assertThatThrownBy(() -> SpreadsheetToPdfMode.of("unknown"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("不支持的电子表格转换模式");
+    }
+
+    private static File createLargeXlsxFile(int rowCount) throws IOException {
+        File xlsxFile = FileUtils.createFileUnderRandomTempDir("large.xlsx");
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(); OutputStream out = FileUtil.getOutputStream(xlsxFile)) {
+            Sheet sheet = workbook.createSheet("large-sheet");
+            for (int i = 0; i <= rowCount; i++) {
+                Row row = sheet.createRow(i);
+                for (int j = 0; j < 5; j++) {
+                    row.createCell(j).setCellValue(i == 0 ? "header" + j : "cell-" + i + "-" + j);
+                }
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+        return xlsxFile;
+    }
 }
@@ -0,0 +1,137 @@
+package plus.hutool.media.converter.file.metrics;
+
+import cn.hutool.core.io.FileUtil;
+import org.junit.jupiter.api.Test;
+import plus.hutool.core.iterable.collection.CollUtils;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.converter.file.FileConvertUtils;
+import plus.hutool.media.converter.file.impl.AbstractFileConverter;
+import plus.hutool.media.converter.file.impl.pdf.CommonDocToPdfConverter;
+import plus.hutool.media.exception.FileConversionException;
+import plus.hutool.media.exception.FileConversionTimeoutException;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFile;
+
+class FileConversionMetricsTest {
+
+    @Test
+    void testRecordConversionMetrics() {
+        List<FileConversionMetricsKey> recordedKeys = new ArrayList<>();
+        FileConversionMetricsRecorder recorder = new FileConversionMetricsRecorder() {
+            @Override
+            public void recordSuccess(FileConversionMetricsKey key, long elapsedNanos, long inputBytes, long outputBytes) {
+                recordedKeys.add(key);
+            }
+
+            @Override
+            public void recordFailure(FileConversionMetricsKey key, long elapsedNanos, long inputBytes, Throwable failure) {
+                recordedKeys.add(key);
+            }
+        };
+
+        FileConversionMetrics.addRecorder(recorder);
+        try {
+            File srcFile = resolveTestFile("test.txt");
+            File destFile = FileConvertUtils.convertFileToPdf(srcFile);
+            FileUtil.del(destFile.getParentFile());
+
+            FileConversionMetricsKey key = FileConversionMetricsKey.of(
+                    CommonDocToPdfConverter.class.getName(), MediaType.TEXT_PLAIN, MediaType.APPLICATION_PDF);
+            assertThat(recordedKeys).containsExactly(key);
+
+            ConverterMetrics metrics = FileConversionMetrics.getInMemoryRecorder().getMetrics(key);
+            assertThat(metrics).isNotNull();
+            assertThat(metrics.getSuccessCount()).isPositive();
+            assertThat(metrics.getInputBytes()).isGreaterThanOrEqualTo(srcFile.length());
+            assertThat(metrics.getOutputBytes()).isPositive();
+            assertThat(metrics.getP99Millis()).isGreaterThanOrEqualTo(metrics.getP50Millis()).isPositive();
+            assertThat(metrics.getBytesPerSecond()).isPositive();
+        } finally {
+            FileConversionMetrics.removeRecorder(recorder);
+        }
+    }
+
+    @Test
+    void testDetailedStats() {
+        InMemoryFileConversionMetricsRecorder recorder = new InMemoryFileConversionMetricsRecorder();
+        FileConversionMetricsKey docKey = FileConversionMetricsKey.of(
+                CommonDocToPdfConverter.class.getName(), MediaType.APPLICATION_DOC, MediaType.APPLICATION_PDF);
+        recorder.recordSuccess(docKey, 120_000_000L, 2048, 4096);
+        recorder.recordSuccess(docKey, 80_000_000L, 1024, 2048);
+        recorder.recordFailure(docKey, 10_000_000L, 1024, new IllegalStateException("test"));
+
+        ConverterMetrics metrics = recorder.getMetrics(docKey);
+        assertThat(metrics).isNotNull();
+        assertThat(metrics.getTotalCount()).isEqualTo(3);
+        assertThat(metrics.getFailureCount()).isEqualTo(1);
+        assertThat(metrics.getInputBytes()).isEqualTo(3072);
+        assertThat(metrics.getFailureCountsByType()).containsEntry(IllegalStateException.class.getName(), 1L);
+
+        List<String> stats = recorder.getDetailedStats();
+        assertThat(stats).hasSize(6);
+        assertThat(stats.get(1)).contains("转换次数: 3, 失败次数: 1");
+        assertThat(stats.get(3)).contains("CommonDocToPdfConverter [application/msword ==> application/pdf]", "3 次");
+        assertThat(stats.get(4)).contains(IllegalStateException.class.getName());
+        assertThat(stats.get(0)).isEqualTo(stats.get(2)).isEqualTo(stats.get(5)).matches("-+");
+
+        recorder.reset();
+        assertThat(recorder.getMetrics()).isEmpty();
+    }
+
+    @Test
+    void testFailureCountsByType_UnwrapFileConversionException() {
+        FileConversionMetricsKey key = FileConversionMetricsKey.of(
+                WrappingTxtToPdfConverter.class.getName(), MediaType.TEXT_PLAIN, MediaType.APPLICATION_PDF);
+        File srcFile = resolveTestFile("test.txt");
+        assertThatThrownBy(() -> new WrappingTxtToPdfConverter().convert(srcFile, new FileConvertConfig()))
+                .isInstanceOf(FileConversionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        ConverterMetrics metrics = FileConversionMetrics.getInMemoryRecorder().getMetrics(key);
+        assertThat(metrics).isNotNull();
+        assertThat(metrics.getFailureCountsByType())
+                .containsEntry(IllegalStateException.class.getName(), 1L)
+                .doesNotContainKey(FileConversionException.class.getName());
+
+        // 没有被包装的异常，以及 FileConversionException 的子类，按自身的类型分组
+        assertThat(ConverterMetrics.resolveFailureType(new FileConversionException("test")))
+                .isEqualTo(FileConversionException.class.getName());
+        assertThat(ConverterMetrics.resolveFailureType(new FileConversionException("test",
+                new FileConversionException("test", new OutOfMemoryError())))).isEqualTo(OutOfMemoryError.class.getName());
+        assertThat(ConverterMetrics.resolveFailureType(new FileConversionTimeoutException("test")))
+                .isEqualTo(FileConversionTimeoutException.class.getName());
+    }
+
+    /**
+     * 与内置转换器一样用 FileConversionException 包装实际异常的转换器
+     */
+    static class WrappingTxtToPdfConverter extends AbstractFileConverter {
+
+        @Override
+        public Set<MediaType> getSupportedSrcMediaTypes() {
+            return CollUtils.unmodifiableSet(MediaType.TEXT_PLAIN);
+        }
+
+        @Override
+        public MediaType getDestMediaType() {
+            return MediaType.APPLICATION_PDF;
+        }
+
+        @Override
+        protected void doConvert(File srcFile, File destFile, FileConvertConfig config) {
+            try {
+                throw new IllegalStateException("test");
+            } catch (Exception e) {
+                throw new FileConversionException("文件转换出错", e);
+            }
+        }
+    }
+}
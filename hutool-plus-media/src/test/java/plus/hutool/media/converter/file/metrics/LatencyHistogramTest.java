@@ -0,0 +1,43 @@
+package plus.hutool.media.converter.file.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(1000);
+        assertThat(histogram.getMaxNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1000));
+        assertThat(histogram.getPercentileMillis(50)).isCloseTo(500, within(500 * 0.125));
+        assertThat(histogram.getPercentileMillis(95)).isCloseTo(950, within(950 * 0.125));
+        assertThat(histogram.getPercentileMillis(99)).isCloseTo(990, within(990 * 0.125));
+        assertThat(histogram.getPercentileMillis(100)).isEqualTo(1000);
+        assertThat(LatencyHistogram.nanosToMillis(histogram.getMeanNanos())).isCloseTo(500.5, within(0.001));
+
+        histogram.reset();
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getPercentileNanos(99)).isZero();
+    }
+
+    @Test
+    void testBucketBounds() {
+        for (long value : new long[]{0, 1, 7, 8, 15, 16, 1000, 123_456_789L, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertThat(LatencyHistogram.bucketUpperBound(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.bucketUpperBound(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+}
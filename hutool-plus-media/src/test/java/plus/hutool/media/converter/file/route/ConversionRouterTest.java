@@ -0,0 +1,195 @@
+package plus.hutool.media.converter.file.route;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IoUtil;
+import org.junit.jupiter.api.Test;
+import plus.hutool.core.io.FileUtils;
+import plus.hutool.core.io.TempSpaceManager;
+import plus.hutool.core.iterable.collection.CollUtils;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.content.type.MediaTypeUtils;
+import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.converter.file.FileConvertUtils;
+import plus.hutool.media.converter.file.FileConverter;
+import plus.hutool.media.converter.file.FileConverterDescriptor;
+import plus.hutool.media.converter.file.FileConverterRegistry;
+import plus.hutool.media.converter.file.StreamFileConverter;
+import plus.hutool.media.test.UnitTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFile;
+
+class ConversionRouterTest {
+
+    @Test
+    void testFindRoute() {
+        ConversionRoute route = ConversionRouter.findRoute(MediaType.APPLICATION_DOCX, MediaType.IMAGE_PNG);
+
+        assertThat(route).isNotNull();
+        assertThat(route.getHopCount()).isEqualTo(2);
+        assertThat(route.getMediaTypePath()).containsExactly(
+                MediaType.APPLICATION_DOCX, MediaType.APPLICATION_PDF, MediaType.IMAGE_PNG);
+        assertThat(route.getEstimatedCost()).isPositive();
+        assertThat(ConversionRouter.findRoute(MediaType.APPLICATION_DOCX, MediaType.IMAGE_PNG)).isSameAs(route);
+    }
+
+    @Test
+    void testFindRoute_NoRoute() {
+        assertThat(ConversionRouter.findRoute(MediaType.TEXT_CSV, MediaType.IMAGE_PNG)).isNull();
+    }
+
+    @Test
+    void testFindRoute_CacheInvalidatedOnRegistration() {
+        ConversionRoute route = ConversionRouter.findRoute(MediaType.APPLICATION_OFD, MediaType.IMAGE_PNG);
+        assertThat(route).isNotNull();
+
+        FileConverterDescriptor descriptor = FileConverterDescriptor.of(new IniToCnfConverter());
+        FileConverterRegistry.register(descriptor);
+        try {
+            ConversionRoute recomputedRoute = ConversionRouter.findRoute(MediaType.APPLICATION_OFD, MediaType.IMAGE_PNG);
+            assertThat(recomputedRoute).isNotSameAs(route);
+            assertThat(recomputedRoute.getMediaTypePath()).isEqualTo(route.getMediaTypePath());
+        } finally {
+            FileConverterRegistry.unregister(descriptor);
+        }
+    }
+
+    @Test
+    void testConverterLatencyTracker() {
+        final String converterClassName = "test.NotExistingConverter";
+        assertThat(ConverterLatencyTracker.hasMeasurement(converterClassName)).isFalse();
+        assertThat(ConverterLatencyTracker.getEstimatedMillis(converterClassName))
+                .isEqualTo(ConverterLatencyTracker.DEFAULT_ESTIMATED_MILLIS);
+
+        ConverterLatencyTracker.record(converterClassName, 100);
+        ConverterLatencyTracker.record(converterClassName, 200);
+        assertThat(ConverterLatencyTracker.getEstimatedMillis(converterClassName)).isCloseTo(120, within(0.001));
+    }
+
+    @Test
+    void testConvertFile_MultiHop() {
+        File destFile = FileConvertUtils.convertFile(resolveTestFile("test.docx"), MediaType.IMAGE_PNG,
+                new FileConvertConfig());
+
+        assertThat(destFile).isFile().hasExtension("png");
+        assertThat(MediaTypeUtils.detectMediaType(destFile)).isEqualTo(MediaType.IMAGE_PNG);
+
+        if (UnitTestUtils.CLEAN_UP_RESULT_FILE) {
+            FileUtil.del(destFile.getParentFile());
+        }
+    }
+
+    @Test
+    void testConvert_Stream_MultiHop() {
+        File srcFile = resolveTestFile("test.txt");
+        ByteArrayOutputStream destStream = new ByteArrayOutputStream();
+
+        FileConvertUtils.convert(FileUtil.getInputStream(srcFile), srcFile.getName(), MediaType.IMAGE_PNG,
+                destStream, new FileConvertConfig());
+        assertThat(destStream.toByteArray()).startsWith((byte) 0x89, (byte) 'P', (byte) 'N', (byte) 'G');
+    }
+
+    @Test
+    void testConvertFile_MultiHop_TempFilesUnderConfiguredTempSpaceManager() {
+        File baseDir = FileUtils.createDirUnderRandomTempDir("router");
+        File srcFile = FileUtil.writeUtf8String("[section]\nkey=value\n", new File(baseDir, "test.ini"));
+        StreamIniToCnfConverter iniToCnfConverter = new StreamIniToCnfConverter();
+        CnfToCsvConverter cnfToCsvConverter = new CnfToCsvConverter();
+        FileConverterDescriptor iniToCnfDescriptor = FileConverterDescriptor.of(iniToCnfConverter);
+        FileConverterDescriptor cnfToCsvDescriptor = FileConverterDescriptor.of(cnfToCsvConverter);
+        FileConverterRegistry.register(iniToCnfDescriptor);
+        FileConverterRegistry.register(cnfToCsvDescriptor);
+
+        try (TempSpaceManager tempSpaceManager = new TempSpaceManager(baseDir)) {
+            FileConvertConfig config = new FileConvertConfig(false);
+            config.setTempSpaceManager(tempSpaceManager);
+            File destFile = FileConvertUtils.convertFile(srcFile, MediaType.TEXT_CSV, config);
+
+            // 内存中的中间结果落盘时使用配置的临时空间管理器，转换完成后只保留目标文件
+            assertThat(destFile).hasContent("[section]\nkey=value\n");
+            assertThat(cnfToCsvConverter.srcFile.getAbsolutePath())
+                    .startsWith(tempSpaceManager.getRootDir().getAbsolutePath());
+            assertThat(cnfToCsvConverter.srcFile).doesNotExist();
+            assertThat(FileUtil.loopFiles(tempSpaceManager.getRootDir()))
+                    .extracting(File::getAbsolutePath)
+                    .containsExactly(destFile.getAbsolutePath());
+            assertThat(tempSpaceManager.getActiveScopeCount()).isZero();
+        } finally {
+            FileConverterRegistry.unregister(iniToCnfDescriptor);
+            FileConverterRegistry.unregister(cnfToCsvDescriptor);
+            FileUtil.del(baseDir.getParentFile());
+        }
+    }
+
+    static class IniToCnfConverter implements FileConverter {
+
+        @Override
+        public Set<MediaType> getSupportedSrcMediaTypes() {
+            return CollUtils.unmodifiableSet(MediaType.TEXT_INI);
+        }
+
+        @Override
+        public MediaType getDestMediaType() {
+            return MediaType.TEXT_CNF;
+        }
+
+        @Override
+        public File convert(File srcFile, FileConvertConfig config) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    static class StreamIniToCnfConverter implements StreamFileConverter {
+
+        @Override
+        public Set<MediaType> getSupportedSrcMediaTypes() {
+            return CollUtils.unmodifiableSet(MediaType.TEXT_INI);
+        }
+
+        @Override
+        public MediaType getDestMediaType() {
+            return MediaType.TEXT_CNF;
+        }
+
+        @Override
+        public File convert(File srcFile, FileConvertConfig config) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void convert(InputStream srcStream, MediaType srcMediaType, OutputStream destStream,
+                            FileConvertConfig config) {
+            IoUtil.copy(srcStream, destStream);
+        }
+    }
+
+    /**
+     * 不支持流式转换的转换器（记录收到的来源文件）
+     */
+    static class CnfToCsvConverter implements FileConverter {
+        private File srcFile;
+
+        @Override
+        public Set<MediaType> getSupportedSrcMediaTypes() {
+            return CollUtils.unmodifiableSet(MediaType.TEXT_CNF);
+        }
+
+        @Override
+        public MediaType getDestMediaType() {
+            return MediaType.TEXT_CSV;
+        }
+
+        @Override
+        public File convert(File srcFile, FileConvertConfig config) {
+            this.srcFile = srcFile;
+            return FileUtil.copy(srcFile, config.resolveDestFileBeforeConversion(srcFile, getDestMediaType()), true);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package plus.hutool.media.converter.file.route;
+
+import cn.hutool.core.io.FileUtil;
+import org.junit.jupiter.api.Test;
+import plus.hutool.core.io.TempScope;
+import plus.hutool.core.io.TempSpaceManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpillingOutputStreamTest {
+
+    @Test
+    void testWrite_InMemory() throws IOException {
+        try (TempScope scope = TempSpaceManager.getDefault().openScope("spilling-test")) {
+            SpillingOutputStream out = new SpillingOutputStream(8, scope, "test.txt");
+            out.write("12345".getBytes(StandardCharsets.UTF_8));
+            out.write('6');
+            out.close();
+
+            assertThat(out.isSpilled()).isFalse();
+            assertThat(out.getFile()).isNull();
+            assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("123456");
+            assertThat(scope.getDir().list()).isEmpty();
+        }
+    }
+
+    @Test
+    void testWrite_SpillToTempFile() throws IOException {
+        File file;
+        try (TempScope scope = TempSpaceManager.getDefault().openScope("spilling-test")) {
+            SpillingOutputStream out = new SpillingOutputStream(8, scope, "test.txt");
+            out.write("12345".getBytes(StandardCharsets.UTF_8));
+            out.write("6789".getBytes(StandardCharsets.UTF_8));
+            out.write('0');
+            out.close();
+
+            file = out.getFile();
+            assertThat(out.isSpilled()).isTrue();
+            assertThat(file).isFile().hasName("test.txt").hasParent(scope.getDir());
+            assertThat(FileUtil.readUtf8String(file)).isEqualTo("1234567890");
+        }
+        // 临时文件随作用域一并删除
+        assertThat(file).doesNotExist();
+    }
+}
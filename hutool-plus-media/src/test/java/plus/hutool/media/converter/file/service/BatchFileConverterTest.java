@@ -0,0 +1,183 @@
+package plus.hutool.media.converter.file.service;
+
+import cn.hutool.core.io.FileUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import plus.hutool.core.io.FileUtils;
+import plus.hutool.core.iterable.collection.CollUtils;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.converter.file.FileConverter;
+import plus.hutool.media.converter.file.FileConverterDescriptor;
+import plus.hutool.media.converter.file.FileConverterRegistry;
+import plus.hutool.media.exception.UnsupportedFileConversionSrcMediaTypeException;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFile;
+
+class BatchFileConverterTest {
+
+    private File srcDir;
+    private File destDir;
+
+    @BeforeEach
+    void setUp() {
+        srcDir = FileUtils.createDirUnderRandomTempDir("batch-src");
+        destDir = FileUtil.file(srcDir.getParentFile(), "batch-dest");
+
+        FileUtil.copy(resolveTestFile("test.txt"), FileUtil.file(srcDir, "test.txt"), true);
+        FileUtil.copy(resolveTestFile("test.docx"), FileUtil.file(srcDir, "sub/test.docx"), true);
+        FileUtil.copy(resolveTestFile("test.csv"), FileUtil.file(srcDir, "sub/deeper/test.csv"), true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        FileUtil.del(srcDir.getParentFile());
+    }
+
+    @Test
+    void testConvertDir() {
+        List<BatchFileConversionResult> listenedResults = new ArrayList<>();
+        BatchFileConverter converter = new BatchFileConverter(2);
+        converter.setResultListener(listenedResults::add);
+
+        BatchFileConversionSummary summary = converter.convertDir(srcDir, destDir);
+
+        assertThat(summary.getTotalCount()).isEqualTo(3);
+        assertThat(summary.getConvertedCount()).isEqualTo(2);
+        assertThat(summary.getFailedCount()).isEqualTo(1);
+        assertThat(summary.getFailedResults().get(0).getFailure())
+                .isInstanceOf(UnsupportedFileConversionSrcMediaTypeException.class);
+        assertThat(summary.getConvertedSrcBytes()).isPositive();
+        assertThat(listenedResults).hasSize(3).containsAll(summary.getFailedResults());
+
+        assertThat(FileUtil.file(destDir, "test.pdf")).isFile();
+        assertThat(FileUtil.file(destDir, "sub/test.pdf")).isFile();
+        assertThat(FileUtil.file(destDir, "sub/deeper/test.pdf")).doesNotExist();
+    }
+
+    @Test
+    void testConvertDir_SkipUpToDate() {
+        BatchFileConverter converter = new BatchFileConverter(2);
+        converter.setSkipUpToDate(true);
+        converter.setFileFilter(file -> !FileUtils.hasExtension(file, "csv"));
+
+        BatchFileConversionSummary firstSummary = converter.convertDir(srcDir, destDir);
+        assertThat(firstSummary.getConvertedCount()).isEqualTo(2);
+
+        BatchFileConversionSummary secondSummary = converter.convertDir(srcDir, destDir);
+        assertThat(secondSummary.getSkippedCount()).isEqualTo(2);
+        assertThat(secondSummary.getConvertedCount()).isZero();
+
+        File txtFile = FileUtil.file(srcDir, "test.txt");
+        assertThat(txtFile.setLastModified(FileUtil.file(destDir, "test.pdf").lastModified() + 2000)).isTrue();
+        BatchFileConversionSummary thirdSummary = converter.convertDir(srcDir, destDir);
+        assertThat(thirdSummary.getConvertedCount()).isEqualTo(1);
+        assertThat(thirdSummary.getSkippedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testConvertDir_SameDirAsSrcFile() {
+        BatchFileConverter converter = new BatchFileConverter(2);
+        converter.setFileFilter(file -> !FileUtils.hasExtension(file, "csv"));
+
+        BatchFileConversionSummary firstSummary = converter.convertDir(srcDir, null);
+        assertThat(firstSummary.getTotalCount()).isEqualTo(2);
+        assertThat(firstSummary.getConvertedCount()).isEqualTo(2);
+
+        // 之前生成的目标文件不会被当作来源文件复制为带序号的新文件
+        BatchFileConversionSummary secondSummary = converter.convertDir(srcDir, null);
+        assertThat(secondSummary.getTotalCount()).isEqualTo(4);
+        assertThat(secondSummary.getConvertedCount()).isEqualTo(2);
+        assertThat(secondSummary.getSkippedCount()).isEqualTo(2);
+        assertThat(FileUtil.file(srcDir, "test.pdf")).isFile();
+        assertThat(FileUtil.file(srcDir, "sub/test.pdf")).isFile();
+        assertThat(FileUtil.loopFiles(srcDir, file -> file.getName().contains("("))).isEmpty();
+    }
+
+    @Test
+    void testConvertDir_DestDirInsideSrcDir() {
+        BatchFileConverter converter = new BatchFileConverter(2);
+        converter.setFileFilter(file -> !FileUtils.hasExtension(file, "csv"));
+        File innerDestDir = FileUtil.file(srcDir, "out");
+
+        assertThat(converter.convertDir(srcDir, innerDestDir).getConvertedCount()).isEqualTo(2);
+        BatchFileConversionSummary secondSummary = converter.convertDir(srcDir, innerDestDir);
+        assertThat(secondSummary.getTotalCount()).isEqualTo(2);
+        assertThat(FileUtil.file(innerDestDir, "out")).doesNotExist();
+    }
+
+    @Test
+    void testConvertFiles_SameDirAsSrcFile() {
+        File txtFile = FileUtil.file(srcDir, "test.txt");
+        File docxFile = FileUtil.file(srcDir, "sub/test.docx");
+
+        BatchFileConversionSummary summary = new BatchFileConverter(2)
+                .convertFiles(Arrays.asList(txtFile, docxFile), null);
+
+        assertThat(summary.getConvertedCount()).isEqualTo(2);
+        assertThat(FileUtil.file(srcDir, "test.pdf")).isFile();
+        assertThat(FileUtil.file(srcDir, "sub/test.pdf")).isFile();
+    }
+
+    @Test
+    void testConvertFiles_DestFilenameCollision() {
+        File docxFile = FileUtil.file(srcDir, "sub/test.docx");
+        File otherDocxFile = FileUtil.copy(docxFile, FileUtil.file(srcDir, "other/test.docx"), true);
+
+        List<BatchFileConversionResult> listenedResults = new ArrayList<>();
+        BatchFileConverter converter = new BatchFileConverter(2);
+        converter.setResultListener(listenedResults::add);
+        BatchFileConversionSummary summary = converter.convertFiles(Arrays.asList(docxFile, otherDocxFile), destDir);
+
+        assertThat(summary.getConvertedCount()).isEqualTo(2);
+        assertThat(listenedResults).extracting(result -> result.getDestFile().getName())
+                .containsExactlyInAnyOrder("test.pdf", "test (1).pdf");
+        assertThat(FileUtil.file(destDir, "test.pdf")).isFile();
+        assertThat(FileUtil.file(destDir, "test (1).pdf")).isFile();
+    }
+
+    @Test
+    void testConvertFiles_ConverterThrowsError() {
+        File iniFile = FileUtil.writeUtf8String("[section]\nkey=value\n", FileUtil.file(srcDir, "test.ini"));
+        FileConverterDescriptor descriptor = FileConverterDescriptor.of(new ErrorThrowingIniToCnfConverter());
+        FileConverterRegistry.register(descriptor);
+        try {
+            BatchFileConverter converter = new BatchFileConverter(2);
+            converter.setDestMediaType(MediaType.TEXT_CNF);
+            BatchFileConversionSummary summary = converter.convertFiles(Collections.singletonList(iniFile), destDir);
+
+            assertThat(summary.getTotalCount()).isEqualTo(1);
+            assertThat(summary.getFailedCount()).isEqualTo(1);
+            assertThat(summary.getFailedResults().get(0).getFailure()).isInstanceOf(NoClassDefFoundError.class);
+        } finally {
+            FileConverterRegistry.unregister(descriptor);
+        }
+    }
+
+    static class ErrorThrowingIniToCnfConverter implements FileConverter {
+
+        @Override
+        public Set<MediaType> getSupportedSrcMediaTypes() {
+            return CollUtils.unmodifiableSet(MediaType.TEXT_INI);
+        }
+
+        @Override
+        public MediaType getDestMediaType() {
+            return MediaType.TEXT_CNF;
+        }
+
+        @Override
+        public File convert(File srcFile, FileConvertConfig config) {
+            throw new NoClassDefFoundError("com/example/MissingDependency");
+        }
+    }
+}
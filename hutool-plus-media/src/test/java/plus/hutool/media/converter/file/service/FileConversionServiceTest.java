@@ -0,0 +1,120 @@
+package plus.hutool.media.converter.file.service;
+
+import cn.hutool.core.io.FileUtil;
+import org.junit.jupiter.api.Test;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.content.type.MediaTypeUtils;
+import plus.hutool.media.converter.file.worker.ConversionWorkerConfig;
+import plus.hutool.media.converter.file.worker.ConversionWorkerPool;
+import plus.hutool.media.exception.FileConversionRejectedException;
+import plus.hutool.media.exception.UnsupportedFileConversionSrcMediaTypeException;
+import plus.hutool.media.test.UnitTestUtils;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFile;
+
+class FileConversionServiceTest {
+
+    @Test
+    void testConvertFileToPdf() throws Exception {
+        try (FileConversionService service = new FileConversionService(2, 4)) {
+            assertThat(service.getExecutionMode()).isEqualTo(FileConversionExecutionMode.IN_PROCESS);
+            File destFile = service.convertFileToPdf(resolveTestFile("test.txt")).get(60, TimeUnit.SECONDS);
+
+            assertThat(destFile).isFile().exists().hasExtension("pdf");
+            assertThat(MediaTypeUtils.detectMediaType(destFile)).isEqualTo(MediaType.APPLICATION_PDF);
+            assertThat(service.getCompletedCount()).isEqualTo(1);
+            assertThat(service.getInFlightCount()).isZero();
+
+            if (UnitTestUtils.CLEAN_UP_RESULT_FILE) {
+                FileUtil.del(destFile.getParentFile());
+            }
+        }
+    }
+
+    @Test
+    void testConvertFileToPdf_WorkerProcessMode() throws Exception {
+        ConversionWorkerConfig workerConfig = new ConversionWorkerConfig();
+        workerConfig.setPoolSize(1);
+
+        try (ConversionWorkerPool workerPool = new ConversionWorkerPool(workerConfig);
+             FileConversionService service = new FileConversionService(1, 1, workerPool)) {
+            assertThat(service.getExecutionMode()).isEqualTo(FileConversionExecutionMode.WORKER_PROCESS);
+
+            File destFile = service.convertFileToPdf(resolveTestFile("test.txt")).get(60, TimeUnit.SECONDS);
+            assertThat(MediaTypeUtils.detectMediaType(destFile)).isEqualTo(MediaType.APPLICATION_PDF);
+            assertThat(workerPool.getCompletedCount()).isEqualTo(1);
+            assertThat(service.getCompletedCount()).isEqualTo(1);
+
+            if (UnitTestUtils.CLEAN_UP_RESULT_FILE) {
+                FileUtil.del(destFile.getParentFile());
+            }
+        }
+    }
+
+    @Test
+    void testConvertFileToPdf_UnsupportedSrcMediaType() {
+        try (FileConversionService service = new FileConversionService(1, 1)) {
+            CompletableFuture<File> future = service.convertFileToPdf(resolveTestFile("test.csv"));
+
+            assertThatThrownBy(() -> future.get(60, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(UnsupportedFileConversionSrcMediaTypeException.class);
+            assertThat(service.getFailedCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testSubmit_RejectedWhenSaturated() throws Exception {
+        try (FileConversionService service = new FileConversionService(1, 1)) {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            File dummyResult = resolveTestFile("test.pdf");
+
+            CompletableFuture<File> running = service.submit(() -> {
+                started.countDown();
+                awaitQuietly(release);
+                return dummyResult;
+            });
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<File> queued = service.submit(() -> dummyResult);
+            CompletableFuture<File> rejected = service.submit(() -> dummyResult);
+
+            assertThat(service.getInFlightCount()).isEqualTo(1);
+            assertThat(service.getQueueDepth()).isEqualTo(1);
+            assertThat(service.isSaturated()).isTrue();
+            assertThat(service.getRejectedCount()).isEqualTo(1);
+            assertThatThrownBy(rejected::join).hasCauseInstanceOf(FileConversionRejectedException.class);
+
+            release.countDown();
+            assertThat(running.get(10, TimeUnit.SECONDS)).isSameAs(dummyResult);
+            assertThat(queued.get(10, TimeUnit.SECONDS)).isSameAs(dummyResult);
+        }
+    }
+
+    @Test
+    void testSubmit_RejectedAfterShutdown() {
+        FileConversionService service = new FileConversionService(1, 0);
+        assertThat(service.shutdownAndAwait(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> service.convertFileToPdf(resolveTestFile("test.txt")).join())
+                .hasCauseInstanceOf(FileConversionRejectedException.class)
+                .hasMessageContaining("转换服务已关闭");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package plus.hutool.media.converter.file.worker;
+
+import cn.hutool.core.io.FileUtil;
+import org.junit.jupiter.api.Test;
+import plus.hutool.core.io.FileUtils;
+import plus.hutool.media.content.type.MediaType;
+import plus.hutool.media.content.type.MediaTypeUtils;
+import plus.hutool.media.converter.file.FileConvertConfig;
+import plus.hutool.media.exception.FileConversionException;
+import plus.hutool.media.exception.FileConversionRejectedException;
+import plus.hutool.media.exception.FileConversionTimeoutException;
+import plus.hutool.media.exception.UnsupportedFileConversionSrcMediaTypeException;
+
+import java.io.File;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFile;
+
+class ConversionWorkerPoolTest {
+
+    @Test
+    void testConvertFileToPdf_RecycleAfterMaxConversions() {
+        ConversionWorkerConfig workerConfig = new ConversionWorkerConfig();
+        workerConfig.setPoolSize(1);
+        workerConfig.setMaxConversionsPerWorker(1);
+
+        try (ConversionWorkerPool pool = new ConversionWorkerPool(workerConfig)) {
+            File firstResult = pool.convertFileToPdf(resolveTestFile("test.txt"), new FileConvertConfig(false));
+            File secondResult = pool.convertFileToPdf(resolveTestFile("test.txt"), new FileConvertConfig(false));
+
+            assertThat(firstResult).isFile();
+            assertThat(MediaTypeUtils.detectMediaType(firstResult)).isEqualTo(MediaType.APPLICATION_PDF);
+            assertThat(secondResult).isFile();
+            assertThat(pool.getCompletedCount()).isEqualTo(2);
+            assertThat(pool.getRecycledCount()).isEqualTo(2);
+            assertThat(pool.getStartedCount()).isGreaterThanOrEqualTo(2);
+
+            FileUtil.del(firstResult.getParentFile());
+            FileUtil.del(secondResult.getParentFile());
+        }
+    }
+
+    @Test
+    void testConvertFile_ErrorInWorker() {
+        ConversionWorkerConfig workerConfig = new ConversionWorkerConfig();
+        workerConfig.setPoolSize(1);
+
+        try (ConversionWorkerPool pool = new ConversionWorkerPool(workerConfig)) {
+            assertThatThrownBy(() -> pool.convertFileToPdf(resolveTestFile("test.csv"), new FileConvertConfig(false)))
+                    .isExactlyInstanceOf(FileConversionException.class)
+                    .hasMessageContaining(UnsupportedFileConversionSrcMediaTypeException.class.getName());
+
+            assertThat(pool.getFailedCount()).isEqualTo(1);
+            assertThat(pool.getCrashedCount()).isZero();
+            assertThat(pool.getIdleWorkerCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testConvertFile_Timeout() {
+        ConversionWorkerConfig workerConfig = new ConversionWorkerConfig();
+        workerConfig.setPoolSize(1);
+        workerConfig.setConversionTimeoutMillis(1);
+
+        File srcFile = FileUtils.createFileUnderRandomTempDir("test.docx");
+        FileUtil.copy(resolveTestFile("test.docx"), srcFile, true);
+
+        try (ConversionWorkerPool pool = new ConversionWorkerPool(workerConfig)) {
+            assertThatThrownBy(() -> pool.convertFileToPdf(srcFile, new FileConvertConfig(true)))
+                    .isInstanceOf(FileConversionTimeoutException.class);
+            assertThat(pool.getTimeoutCount()).isEqualTo(1);
+
+            workerConfig.setConversionTimeoutMillis(ConversionWorkerConfig.DEFAULT_CONVERSION_TIMEOUT_MILLIS);
+            File result = pool.convertFileToPdf(srcFile, new FileConvertConfig(true));
+            assertThat(result).isFile().hasParent(srcFile.getParentFile());
+        } finally {
+            FileUtil.del(srcFile.getParentFile());
+        }
+    }
+
+    @Test
+    void testConvertFile_AfterClose() {
+        ConversionWorkerConfig workerConfig = new ConversionWorkerConfig();
+        workerConfig.setPoolSize(1);
+
+        ConversionWorkerPool pool = new ConversionWorkerPool(workerConfig);
+        pool.close();
+
+        assertThat(pool.getIdleWorkerCount()).isZero();
+        assertThatThrownBy(() -> pool.convertFileToPdf(resolveTestFile("test.txt"), new FileConvertConfig(false)))
+                .isInstanceOf(FileConversionRejectedException.class);
+    }
+
+}
@@ -0,0 +1,97 @@
+package plus.hutool.media.document.excel;
+
+import cn.hutool.core.io.FileUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import plus.hutool.core.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFile;
+
+class XlsxStreamingReaderTest {
+
+    @Test
+    void testRead() {
+        List<String> sheetNames = new ArrayList<>();
+        List<List<String>> rows = new ArrayList<>();
+        List<Integer> columnCounts = new ArrayList<>();
+
+        XlsxStreamingReader.read(resolveTestFile("user.xlsx"), new SpreadsheetRowHandler() {
+            @Override
+            public void startSheet(int sheetIndex, String sheetName) {
+                assertThat(sheetIndex).isEqualTo(sheetNames.size());
+                sheetNames.add(sheetName);
+            }
+
+            @Override
+            public void handleDimension(int rowCount, int columnCount) {
+                columnCounts.add(columnCount);
+            }
+
+            @Override
+            public void handleRow(int rowIndex, List<String> cells) {
+                rows.add(new ArrayList<>(cells));
+            }
+        });
+
+        assertThat(sheetNames).containsExactly("工作表1", "工作表2");
+        assertThat(rows).isNotEmpty();
+        assertThat(columnCounts).isNotEmpty().allMatch(columnCount -> columnCount > 0);
+        assertThat(rows.get(0).size()).isLessThanOrEqualTo(columnCounts.get(0));
+    }
+
+    @Test
+    void testRead_SparseCellsAndEarlyStop() throws IOException {
+        File xlsxFile = FileUtils.createFileUnderRandomTempDir("sparse.xlsx");
+        try {
+            try (SXSSFWorkbook workbook = new SXSSFWorkbook(); OutputStream out = FileUtil.getOutputStream(xlsxFile)) {
+                Sheet sheet = workbook.createSheet("data");
+                for (int i = 0; i < 100; i++) {
+                    Row row = sheet.createRow(i * 2);
+                    row.createCell(0).setCellValue("row" + i);
+                    row.createCell(3).setCellValue(i);
+                }
+                workbook.createSheet("never-read").createRow(0).createCell(0).setCellValue("x");
+                workbook.write(out);
+                workbook.dispose();
+            }
+
+            List<Integer> rowIndexes = new ArrayList<>();
+            List<List<String>> rows = new ArrayList<>();
+            List<String> sheetNames = new ArrayList<>();
+            XlsxStreamingReader.read(xlsxFile, new SpreadsheetRowHandler() {
+                @Override
+                public void startSheet(int sheetIndex, String sheetName) {
+                    sheetNames.add(sheetName);
+                }
+
+                @Override
+                public void handleRow(int rowIndex, List<String> cells) {
+                    rowIndexes.add(rowIndex);
+                    rows.add(new ArrayList<>(cells));
+                }
+
+                @Override
+                public boolean isDone() {
+                    return rows.size() >= 10;
+                }
+            });
+
+            assertThat(sheetNames).containsExactly("data");
+            assertThat(rows).hasSize(10);
+            assertThat(rowIndexes).startsWith(0, 2, 4);
+            assertThat(rows.get(1)).isEqualTo(Arrays.asList("row1", "", "", "1"));
+        } finally {
+            FileUtil.del(xlsxFile.getParentFile());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package plus.hutool.media.document.pdf;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.StrUtil;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static plus.hutool.media.test.UnitTestUtils.resolveTestFile;
+
+class ParallelPdfTextExtractorTest {
+
+    @Test
+    void testExtractText_SameAsSequentialExtraction() throws IOException {
+        File pdfFile = resolveTestFile("test.pdf");
+        String expectedText;
+        try (PDDocument document = PDDocument.load(pdfFile)) {
+            expectedText = new PDFTextStripper().getText(document);
+        }
+
+        ParallelPdfTextExtractor extractor = new ParallelPdfTextExtractor(4);
+        extractor.setMinPagesPerRange(1);
+        assertThat(extractor.extractText(pdfFile)).isNotBlank().isEqualTo(expectedText);
+
+        StringWriter writer = new StringWriter();
+        extractor.extractText(pdfFile, writer);
+        assertThat(writer.toString()).isEqualTo(expectedText);
+
+        // 默认的页范围大小（22 页分为 2 个页范围）以及单线程提取
+        assertThat(new ParallelPdfTextExtractor(4).extractText(pdfFile)).isEqualTo(expectedText);
+        assertThat(new ParallelPdfTextExtractor(1).extractText(pdfFile)).isEqualTo(expectedText);
+    }
+
+    @Test
+    void testExtractText_IllegalArguments() {
+        File notExistFile = FileUtil.file(resolveTestFile("test.pdf").getParentFile(), "not-exists.pdf");
+        assertThatThrownBy(() -> new ParallelPdfTextExtractor().extractText(notExistFile))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(StrUtil.format("PDF文件不存在或者不是文件: {}", notExistFile.getAbsolutePath()));
+
+        assertThatThrownBy(() -> new ParallelPdfTextExtractor(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("并发数必须大于 0: 0");
+
+        assertThatThrownBy(() -> new ParallelPdfTextExtractor().setTimeoutMillis(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("超时时间必须大于 0: 0");
+    }
+}
@@ -15,8 +15,10 @@ import plus.hutool.media.image.ImageUtils;
 
 import javax.imageio.ImageIO;
 import java.awt.image.RenderedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.List;
@@ -172,4 +174,28 @@ class PdfUtilsTest {
                     .hasRootCauseMessage(null);
         }
     }
+
+    @Test
+    void testRetainPages() throws IOException {
+        final File pdfFile = FileUtils.createFileUnderRandomTempDir("test.pdf");
+        FileUtil.copy(resolveTestFile("test.pdf"), pdfFile, true);
+
+        assertThat(PdfUtils.retainPages(pdfFile, pageNumber -> pageNumber <= 3 || pageNumber == 22)).isEqualTo(4);
+        try (PDDocument document = PDDocument.load(pdfFile)) {
+            assertThat(document.getNumberOfPages()).isEqualTo(4);
+        }
+
+        FileUtil.del(pdfFile.getParentFile());
+    }
+
+    @Test
+    void testRetainPages_Stream() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = FileUtil.getInputStream(resolveTestFile("test.pdf"))) {
+            assertThat(PdfUtils.retainPages(in, out, pageNumber -> pageNumber == 1)).isEqualTo(1);
+        }
+        try (PDDocument document = PDDocument.load(out.toByteArray())) {
+            assertThat(document.getNumberOfPages()).isEqualTo(1);
+        }
+    }
 }
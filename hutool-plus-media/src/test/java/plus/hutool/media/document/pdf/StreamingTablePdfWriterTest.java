@@ -0,0 +1,120 @@
+package plus.hutool.media.document.pdf;
+
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingTablePdfWriterTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    @Test
+    void testWriteRows() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int pageCount;
+        try (StreamingTablePdfWriter writer = new StreamingTablePdfWriter(out,
+                PdfFontFactory.createFont(StandardFonts.HELVETICA))) {
+            writer.startSection("Sheet1");
+            writer.writeRow(Arrays.asList("id", "name", "value"));
+            for (int i = 1; i <= ROW_COUNT; i++) {
+                writer.writeRow(Arrays.asList(String.valueOf(i), "name" + i, "value" + i));
+            }
+            writer.startSection("Sheet2");
+            writer.writeRow(Arrays.asList("only", "one", "row"));
+            pageCount = writer.getWrittenPageCount();
+        }
+
+        try (PDDocument document = PDDocument.load(out.toByteArray())) {
+            assertThat(pageCount).isGreaterThan(2);
+            assertThat(document.getNumberOfPages()).isEqualTo(pageCount);
+
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setStartPage(2);
+            stripper.setEndPage(2);
+            String secondPageText = stripper.getText(document);
+            // 续页重复显示表头
+            assertThat(secondPageText).contains("Sheet1", "id", "name", "value");
+
+            stripper.setStartPage(pageCount);
+            stripper.setEndPage(pageCount);
+            assertThat(stripper.getText(document)).contains("Sheet2", "only");
+        }
+    }
+
+    @Test
+    void testWriteRows_PageSelectionAndWideRows() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<String> wideRow = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            wideRow.add("a very long cell value that will never fit into a single column " + i);
+        }
+
+        StreamingTablePdfWriter writer = new StreamingTablePdfWriter(out,
+                PdfFontFactory.createFont(StandardFonts.HELVETICA), pageNumber -> pageNumber == 2, 2);
+        try {
+            for (int i = 0; i < ROW_COUNT && !writer.isDone(); i++) {
+                writer.writeRow(wideRow);
+            }
+            assertThat(writer.isDone()).isTrue();
+            assertThat(writer.getPageNumber()).isEqualTo(3);
+        } finally {
+            writer.close();
+        }
+
+        try (PDDocument document = PDDocument.load(out.toByteArray())) {
+            assertThat(document.getNumberOfPages()).isEqualTo(1);
+            assertThat(new PDFTextStripper().getText(document)).contains("- 2 -", "...");
+        }
+    }
+
+    @Test
+    void testWriteRows_SectionColumnsFromWidestRow() throws IOException {
+        List<String> wideRow = Arrays.asList("c0", "c1", "c2", "c3", "c4", "c5");
+        int narrowHeaderPageCount = writeRowsAfterHeader(Arrays.asList("id", "name"), wideRow);
+        int wideHeaderPageCount = writeRowsAfterHeader(wideRow, wideRow);
+
+        // 表头只有 2 列时，后续 6 列的行也不会被折成 3 行显示
+        assertThat(narrowHeaderPageCount).isEqualTo(wideHeaderPageCount);
+    }
+
+    @Test
+    void testWriteRows_MissingGlyphs() throws IOException {
+        StreamingTablePdfWriter writer = new StreamingTablePdfWriter(new ByteArrayOutputStream(),
+                PdfFontFactory.createFont(StandardFonts.HELVETICA));
+        writer.writeRow(Arrays.asList("name", "中文"));
+        writer.close();
+
+        assertThat(writer.getMissingGlyphCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testClose_EmptyDocument() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new StreamingTablePdfWriter(out, StreamingTablePdfWriter.createFont(null)).close();
+
+        try (PDDocument document = PDDocument.load(out.toByteArray())) {
+            assertThat(document.getNumberOfPages()).isEqualTo(1);
+        }
+    }
+
+    private static int writeRowsAfterHeader(List<String> header, List<String> row) throws IOException {
+        try (StreamingTablePdfWriter writer = new StreamingTablePdfWriter(new ByteArrayOutputStream(),
+                PdfFontFactory.createFont(StandardFonts.HELVETICA))) {
+            writer.writeRow(header);
+            for (int i = 0; i < ROW_COUNT; i++) {
+                writer.writeRow(row);
+            }
+            return writer.getPageNumber();
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import plus.hutool.core.io.FileUtils;
+import plus.hutool.core.io.TempSpaceManager;
 import plus.hutool.media.content.type.MediaType;
 import plus.hutool.media.content.type.MediaTypeUtils;
 import plus.hutool.media.exception.ImageResizeFailureException;
@@ -78,7 +79,8 @@ class ImageUtilsTest {
         final File originalFile = resolveTestFile("test_550x734.jpg");
         final File resizedImageFile = ImageUtils.resizeImage(originalFile, 123);
 
-        assertThat(resizedImageFile).exists().hasExtension("jpg").isFile();
+        assertThat(resizedImageFile).exists().hasExtension("jpg").isFile()
+                .hasParent(TempSpaceManager.getDefault().getRootDir());
         assertThat(ImageUtils.getMaxSizeOfWidthAndHeight(resizedImageFile)).isEqualTo(123);
         FileUtil.del(resizedImageFile);
     }